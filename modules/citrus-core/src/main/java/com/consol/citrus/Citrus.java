@@ -264,6 +264,18 @@ public final class Citrus {
     public static final String DEFAULT_MESSAGE_TYPE = System.getProperty(DEFAULT_MESSAGE_TYPE_PROPERTY,  System.getenv(DEFAULT_MESSAGE_TYPE_ENV) != null ?
             System.getenv(DEFAULT_MESSAGE_TYPE_ENV) : MessageType.XML.toString());
 
+    /** Enables caching of parsed bean definitions when loading XML tests */
+    public static final String XML_TEST_DEFINITION_CACHE_PROPERTY = "citrus.xml.test.definition.cache";
+    public static final String XML_TEST_DEFINITION_CACHE_ENV = "CITRUS_XML_TEST_DEFINITION_CACHE";
+    public static final String XML_TEST_DEFINITION_CACHE = System.getProperty(XML_TEST_DEFINITION_CACHE_PROPERTY,  System.getenv(XML_TEST_DEFINITION_CACHE_ENV) != null ?
+            System.getenv(XML_TEST_DEFINITION_CACHE_ENV) : Boolean.FALSE.toString());
+
+    /** Memory limit in bytes of test context message store, when set messages exceeding the limit are spilled to file */
+    public static final String MESSAGE_STORE_MEMORY_LIMIT_PROPERTY = "citrus.message.store.memory.limit";
+    public static final String MESSAGE_STORE_MEMORY_LIMIT_ENV = "CITRUS_MESSAGE_STORE_MEMORY_LIMIT";
+    public static final String MESSAGE_STORE_MEMORY_LIMIT = System.getProperty(MESSAGE_STORE_MEMORY_LIMIT_PROPERTY,  System.getenv(MESSAGE_STORE_MEMORY_LIMIT_ENV) != null ?
+            System.getenv(MESSAGE_STORE_MEMORY_LIMIT_ENV) : "");
+
     /** Test context factory **/
     private TestContextFactory testContextFactory;
     private TestSuiteListeners testSuiteListener;
@@ -27,6 +27,8 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.BeanNameAware;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.io.Closeable;
+import java.io.IOException;
 import java.util.*;
 import java.util.Map.Entry;
 
@@ -288,6 +290,22 @@ public class TestCase extends AbstractActionContainer implements BeanNameAware {
             }
 
             afterTest(context);
+            closeMessageStore(context);
+        }
+    }
+
+    /**
+     * Closes message store of given test context when store holds resources such as spill files. This operation does not
+     * raise any errors as the test result has already been determined.
+     * @param context
+     */
+    private void closeMessageStore(final TestContext context) {
+        if (context.getMessageStore() instanceof Closeable) {
+            try {
+                ((Closeable) context.getMessageStore()).close();
+            } catch (final IOException e) {
+                log.warn("Failed to close message store", e);
+            }
         }
     }
 
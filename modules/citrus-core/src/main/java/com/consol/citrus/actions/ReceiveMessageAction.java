@@ -202,9 +202,8 @@ public class ReceiveMessageAction extends AbstractTestAction {
                     messageValidator.validateMessage(receivedMessage, controlMessage, context, validationContexts);
                 }
 
-                if (validators.parallelStream()
-                                .map(Object::getClass)
-                                .noneMatch(DefaultMessageHeaderValidator.class::isAssignableFrom)) {
+                if (validators.stream()
+                                .noneMatch(validator -> validator instanceof DefaultMessageHeaderValidator)) {
                     MessageValidator defaultMessageHeaderValidator = context.getMessageValidatorRegistry().getDefaultMessageHeaderValidator();
                     if (defaultMessageHeaderValidator != null) {
                         defaultMessageHeaderValidator.validateMessage(receivedMessage, controlMessage, context, validationContexts);
@@ -0,0 +1,387 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.channel;
+
+import com.consol.citrus.channel.selector.DispatchingMessageSelector;
+import com.consol.citrus.channel.selector.HeaderMatchingMessageSelector;
+import com.consol.citrus.validation.matcher.ValidationMatcherUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.integration.core.MessageSelector;
+import org.springframework.messaging.Message;
+import org.springframework.util.Assert;
+import org.springframework.util.CollectionUtils;
+
+import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Message selecting queue channel that does not poll the queue when waiting for selective receive operations. Receivers
+ * register their message selector and wait to be signaled. Each message sent to the channel is tested only against
+ * the registered message selectors and directly handed over to the first accepting receiver. Messages not accepted by any waiting
+ * receiver are added to the queue.
+ *
+ * Channel optionally keeps an index of queued messages for a set of header names. Selective receive operations
+ * using a header matching selector on one of these headers are resolved with a simple index lookup instead of
+ * evaluating the selector on all queued messages.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class SignalingMessageSelectingQueueChannel extends MessageSelectingQueueChannel {
+
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(SignalingMessageSelectingQueueChannel.class);
+
+    /** Blocking in memory message store */
+    private final BlockingQueue<Message<?>> queue;
+
+    /** Lock guarding queue modifications, index and waiting receivers */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /** Selective receivers waiting for messages in registration order */
+    private final List<Receiver> receivers = new LinkedList<>();
+
+    /** Queued messages indexed by header name and header value */
+    private final Map<String, Map<String, Deque<Message<?>>>> headerIndex = new HashMap<>();
+
+    /**
+     * Create a channel with the specified queue.
+     */
+    public SignalingMessageSelectingQueueChannel(BlockingQueue<Message<?>> queue) {
+        super(queue);
+        this.queue = queue;
+    }
+
+    /**
+     * Create a channel with the specified queue capacity.
+     */
+    public SignalingMessageSelectingQueueChannel(int capacity) {
+        this(new LinkedBlockingQueue<Message<?>>(capacity));
+
+        Assert.isTrue(capacity > 0, "The capacity must be a positive integer. " +
+                "For a zero-capacity alternative, consider using a 'RendezvousChannel'.");
+    }
+
+    /**
+     * Default constructor.
+     */
+    public SignalingMessageSelectingQueueChannel() {
+        this(new LinkedBlockingQueue<Message<?>>());
+    }
+
+    @Override
+    protected boolean doSend(Message<?> message, long timeout) {
+        lock.lock();
+        try {
+            if (handOver(message)) {
+                return true;
+            }
+
+            if (queue.offer(message)) {
+                addToIndex(message);
+                return true;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        // queue capacity exceeded - wait for free space outside of lock
+        if (!super.doSend(message, timeout)) {
+            return false;
+        }
+
+        lock.lock();
+        try {
+            if (queue.contains(message)) {
+                if (hasAcceptingReceiver(message) && queue.remove(message)) {
+                    handOver(message);
+                } else {
+                    addToIndex(message);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        return true;
+    }
+
+    @Override
+    protected Message<?> doReceive(long timeout) {
+        Message<?> message = super.doReceive(timeout);
+
+        if (message != null) {
+            lock.lock();
+            try {
+                removeFromIndex(message);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        return message;
+    }
+
+    @Override
+    public Message<?> receive(MessageSelector selector) {
+        lock.lock();
+        try {
+            return select(selector);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Message<?> receive(MessageSelector selector, long timeout) {
+        lock.lock();
+        try {
+            Message<?> message = select(selector);
+            if (message != null || timeout <= 0) {
+                return message;
+            }
+
+            Receiver receiver = new Receiver(selector, lock.newCondition());
+            receivers.add(receiver);
+
+            try {
+                long nanosLeft = TimeUnit.MILLISECONDS.toNanos(timeout);
+                while (receiver.message == null && nanosLeft > 0) {
+                    nanosLeft = receiver.condition.awaitNanos(nanosLeft);
+                }
+            } catch (InterruptedException e) {
+                log.warn("Thread interrupted while waiting for message", e);
+                Thread.currentThread().interrupt();
+            } finally {
+                receivers.remove(receiver);
+            }
+
+            return receiver.message;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public List<Message<?>> clear() {
+        lock.lock();
+        try {
+            headerIndex.values().forEach(Map::clear);
+            return super.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public List<Message<?>> purge(MessageSelector selector) {
+        lock.lock();
+        try {
+            List<Message<?>> purged = super.purge(selector);
+            purged.forEach(this::removeFromIndex);
+            return purged;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Selects first queued message accepted by given selector and removes it from the queue. Uses header index
+     * when possible. Caller must hold the lock.
+     * @param selector
+     * @return
+     */
+    private Message<?> select(MessageSelector selector) {
+        Collection<Message<?>> candidates = getIndexCandidates(selector);
+        if (candidates == null) {
+            candidates = queue;
+        }
+
+        for (Message<?> candidate : candidates) {
+            if (selector.accept(candidate) && queue.remove(candidate)) {
+                removeFromIndex(candidate);
+                return candidate;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Hands over message to first waiting receiver that accepts the message. Caller must hold the lock.
+     * @param message
+     * @return true when message has been handed over to a receiver.
+     */
+    private boolean handOver(Message<?> message) {
+        for (Receiver receiver : receivers) {
+            if (receiver.message == null && receiver.selector.accept(message)) {
+                receiver.message = message;
+                receiver.condition.signal();
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Checks if any of the waiting receivers accepts the message. Caller must hold the lock.
+     * @param message
+     * @return
+     */
+    private boolean hasAcceptingReceiver(Message<?> message) {
+        return receivers.stream().anyMatch(receiver -> receiver.message == null && receiver.selector.accept(message));
+    }
+
+    /**
+     * Gets indexed candidate messages for given selector. Returns null in case selector can not be resolved
+     * with the header index.
+     * @param selector
+     * @return
+     */
+    private Collection<Message<?>> getIndexCandidates(MessageSelector selector) {
+        if (headerIndex.isEmpty()) {
+            return null;
+        }
+
+        Map<String, String> matchingHeaders;
+        if (selector instanceof HeaderMatchingMessageSelector) {
+            matchingHeaders = Collections.singletonMap(((HeaderMatchingMessageSelector) selector).getSelectKey(),
+                    ((HeaderMatchingMessageSelector) selector).getMatchingValue());
+        } else if (selector instanceof DispatchingMessageSelector) {
+            matchingHeaders = ((DispatchingMessageSelector) selector).getMatchingHeaders();
+        } else {
+            return null;
+        }
+
+        for (Map.Entry<String, String> matchingHeader : matchingHeaders.entrySet()) {
+            String headerName = matchingHeader.getKey();
+            if (headerName.startsWith(HeaderMatchingMessageSelector.SELECTOR_PREFIX)) {
+                headerName = headerName.substring(HeaderMatchingMessageSelector.SELECTOR_PREFIX.length());
+            }
+
+            if (headerIndex.containsKey(headerName) && !ValidationMatcherUtils.isValidationMatcherExpression(matchingHeader.getValue())) {
+                return headerIndex.get(headerName).getOrDefault(matchingHeader.getValue(), new ArrayDeque<>(0));
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Adds message to header index. Caller must hold the lock.
+     * @param message
+     */
+    private void addToIndex(Message<?> message) {
+        for (Map.Entry<String, Map<String, Deque<Message<?>>>> index : headerIndex.entrySet()) {
+            Object value = getHeaderValue(message, index.getKey());
+            if (value != null) {
+                index.getValue().computeIfAbsent(value.toString(), key -> new ArrayDeque<>()).add(message);
+            }
+        }
+    }
+
+    /**
+     * Removes message from header index. Caller must hold the lock.
+     * @param message
+     */
+    private void removeFromIndex(Message<?> message) {
+        if (headerIndex.isEmpty()) {
+            return;
+        }
+
+        for (Map.Entry<String, Map<String, Deque<Message<?>>>> index : headerIndex.entrySet()) {
+            Object value = getHeaderValue(message, index.getKey());
+            if (value != null) {
+                Deque<Message<?>> indexed = index.getValue().get(value.toString());
+                if (indexed != null) {
+                    indexed.remove(message);
+                    if (indexed.isEmpty()) {
+                        index.getValue().remove(value.toString());
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads header value from nested Citrus message or from message headers the same way as header matching selector does.
+     * @param message
+     * @param headerName
+     * @return
+     */
+    private Object getHeaderValue(Message<?> message, String headerName) {
+        if (message.getPayload() instanceof com.consol.citrus.message.Message) {
+            Object value = ((com.consol.citrus.message.Message) message.getPayload()).getHeader(headerName);
+            if (value != null) {
+                return value;
+            }
+        }
+
+        return message.getHeaders().get(headerName);
+    }
+
+    /**
+     * Sets the header names to index queued messages with.
+     * @param indexedHeaders
+     */
+    public void setIndexedHeaders(List<String> indexedHeaders) {
+        lock.lock();
+        try {
+            headerIndex.clear();
+
+            if (!CollectionUtils.isEmpty(indexedHeaders)) {
+                indexedHeaders.forEach(headerName -> headerIndex.put(headerName, new HashMap<>()));
+                queue.forEach(this::addToIndex);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the indexed header names.
+     * @return
+     */
+    public List<String> getIndexedHeaders() {
+        lock.lock();
+        try {
+            return new ArrayList<>(headerIndex.keySet());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Selective receiver waiting for a message to arrive.
+     */
+    private static class Receiver {
+        private final MessageSelector selector;
+        private final Condition condition;
+        private Message<?> message;
+
+        Receiver(MessageSelector selector, Condition condition) {
+            this.selector = selector;
+            this.condition = condition;
+        }
+    }
+}
@@ -18,9 +18,11 @@ package com.consol.citrus.channel.selector;
 
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.ValidationException;
+import com.consol.citrus.util.XMLUtils;
 import com.consol.citrus.validation.matcher.ValidationMatcherUtils;
 import org.springframework.integration.core.MessageSelector;
 import org.springframework.messaging.Message;
+import org.w3c.dom.Document;
 
 /**
  * @author Christoph Deppisch
@@ -60,6 +62,21 @@ public abstract class AbstractMessageSelector implements MessageSelector {
         }
     }
 
+    /**
+     * Reads message payload as parsed XML document either from message object directly or from nested Citrus message representation.
+     * Parsed document is cached with the message and shared with other selectors and validators. Callers must not modify
+     * the document.
+     * @param message
+     * @return
+     */
+    Document getPayloadAsDocument(Message<?> message) {
+        if (message.getPayload() instanceof com.consol.citrus.message.Message) {
+            return XMLUtils.parseMessagePayload((com.consol.citrus.message.Message) message.getPayload());
+        } else {
+            return XMLUtils.parseMessagePayload(message, message.getPayload().toString());
+        }
+    }
+
     /**
      * Evaluates given value to match this selectors matching condition. Automatically supports validation matcher expressions.
      * @param value
@@ -77,4 +94,20 @@ public abstract class AbstractMessageSelector implements MessageSelector {
             return value.equals(matchingValue);
         }
     }
+
+    /**
+     * Gets the select key.
+     * @return
+     */
+    public String getSelectKey() {
+        return selectKey;
+    }
+
+    /**
+     * Gets the matching value.
+     * @return
+     */
+    public String getMatchingValue() {
+        return matchingValue;
+    }
 }
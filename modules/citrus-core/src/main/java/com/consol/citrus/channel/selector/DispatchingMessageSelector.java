@@ -101,4 +101,11 @@ public class DispatchingMessageSelector implements MessageSelector {
         this.factories.add(factory);
     }
 
+    /**
+     * Gets the matching headers.
+     * @return
+     */
+    public Map<String, String> getMatchingHeaders() {
+        return Collections.unmodifiableMap(matchingHeaders);
+    }
 }
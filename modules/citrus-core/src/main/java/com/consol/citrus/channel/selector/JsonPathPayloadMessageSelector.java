@@ -54,7 +54,7 @@ public class JsonPathPayloadMessageSelector extends AbstractMessageSelector {
         }
 
         try {
-            return evaluate(JsonPathUtils.evaluateAsString(payload, selectKey));
+            return evaluate(JsonPathUtils.evaluateAsString(JsonPathUtils.parseMessagePayload(message, payload), selectKey));
         } catch (CitrusRuntimeException e) {
             return false;
         }
@@ -16,16 +16,17 @@
 package com.consol.citrus.channel.selector;
 
 import com.consol.citrus.context.TestContext;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.util.XMLUtils;
 import com.consol.citrus.xml.xpath.XPathUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.messaging.Message;
-import org.springframework.xml.xpath.XPathExpressionFactory;
-import org.springframework.xml.xpath.XPathParseException;
 import org.w3c.dom.Document;
 import org.w3c.dom.ls.LSException;
 
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.xpath.XPathConstants;
 import java.util.Map;
 
 /**
@@ -58,30 +59,41 @@ public class XpathPayloadMessageSelector extends AbstractMessageSelector {
         Document doc;
 
         try {
-            doc = XMLUtils.parseMessagePayload(getPayloadAsString(message));
+            doc = getPayloadAsDocument(message);
         } catch (LSException e) {
             log.warn("Ignoring non XML message for XPath message selector (" + e.getClass().getName() + ")");
             return false; // non XML message - not accepted
         }
         
+        // parsed document is shared with other selectors - DOM implementations are not thread safe on read access
+        synchronized (doc) {
+            return evaluateXPath(doc);
+        }
+    }
+
+    /**
+     * Evaluates select key XPath expression on given document.
+     * @param doc
+     * @return
+     */
+    private boolean evaluateXPath(Document doc) {
         try {
             Map<String, String> namespaces = XMLUtils.lookupNamespaces(doc);
             
             // add default namespace mappings
             namespaces.putAll(context.getNamespaceContextBuilder().getNamespaceMappings());
 
-            String value;
+            String expression = selectKey;
             if (XPathUtils.hasDynamicNamespaces(selectKey)) {
                 namespaces.putAll(XPathUtils.getDynamicNamespaces(selectKey));
-                value = XPathExpressionFactory.createXPathExpression(XPathUtils.replaceDynamicNamespaces(selectKey, namespaces), namespaces)
-                        .evaluateAsString(doc);
-            } else {
-                value = XPathExpressionFactory.createXPathExpression(selectKey, namespaces)
-                        .evaluateAsString(doc);
+                expression = XPathUtils.replaceDynamicNamespaces(selectKey, namespaces);
             }
 
+            NamespaceContext namespaceContext = context.getNamespaceContextBuilder().getNamespaceContext(namespaces);
+            String value = (String) XPathUtils.evaluateExpression(doc, expression, namespaceContext, XPathConstants.STRING);
+
             return evaluate(value);
-        } catch (XPathParseException e) {
+        } catch (CitrusRuntimeException e) {
             log.warn("Could not evaluate XPath expression for message selector - ignoring message (" + e.getClass().getName() + ")");
             return false; // wrong XML message - not accepted
         }
@@ -16,31 +16,63 @@
 
 package com.consol.citrus.common;
 
+import com.consol.citrus.Citrus;
 import com.consol.citrus.TestCase;
 import com.consol.citrus.context.TestContextFactory;
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.xml.*;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.support.ClassPathXmlApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.util.ClassUtils;
 import org.springframework.util.StringUtils;
 
 import java.io.File;
+import java.util.*;
 
 /**
  * Loads test case as Spring bean from XML application context file. Loader holds application context file
  * for test case and a parent application context. At runtime this class loads the Spring application context and gets
  * test case bean instance from context.
  *
+ * When definition cache is enabled the loader parses each context file only once and caches the resulting bean
+ * definitions. Test cases are then instantiated in a lightweight generic child application context that is refreshed
+ * with copies of the cached bean definitions, so XML parsing and bean definition parser work is not repeated.
+ *
  * @author Christoph Deppisch
  * @since 2.1
  */
 public class XmlTestLoader implements TestLoader {
 
+    /** Spring context file enabling annotation config in test application context */
+    private static final String ANNOTATION_CONFIG_CONTEXT = "com/consol/citrus/spring/annotation-config-ctx.xml";
+
+    /** Maximum number of cached context file bean definitions */
+    private static final int DEFINITION_CACHE_SIZE = 1024;
+
+    /** Parsed bean definitions by context file location in least recently used order */
+    private static final Map<String, ParsedDefinitions> parsedDefinitions = Collections.synchronizedMap(
+            new LinkedHashMap<String, ParsedDefinitions>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, ParsedDefinitions> eldest) {
+                    return size() > DEFINITION_CACHE_SIZE;
+                }
+            });
+
+    /** Namespace handler resolver shared by all bean definition readers */
+    private static NamespaceHandlerResolver namespaceHandlerResolver;
+
     private TestCase testCase;
     private Class<?> testClass;
     private String testName;
     private String packageName;
     private ApplicationContext parentContext;
     private String contextFile;
+    private boolean cacheDefinitions = Boolean.valueOf(Citrus.XML_TEST_DEFINITION_CACHE);
 
     /**
      * Default constructor with context file and parent application context field.
@@ -59,7 +91,7 @@ public class XmlTestLoader implements TestLoader {
     @Override
     public TestCase load() {
         if (testCase == null) {
-            ApplicationContext ctx = loadApplicationContext();
+            ApplicationContext ctx = cacheDefinitions ? loadCachedApplicationContext() : loadApplicationContext();
 
             try {
                 testCase = ctx.getBean(testName, TestCase.class);
@@ -84,7 +116,7 @@ public class XmlTestLoader implements TestLoader {
             return new ClassPathXmlApplicationContext(
                     new String[]{
                             getContextFile(),
-                            "com/consol/citrus/spring/annotation-config-ctx.xml"},
+                            ANNOTATION_CONFIG_CONTEXT},
                     true, parentContext);
         } catch (Exception e) {
             throw parentContext.getBean(TestContextFactory.class).getObject()
@@ -92,6 +124,75 @@ public class XmlTestLoader implements TestLoader {
         }
     }
 
+    /**
+     * Create new generic child application context with cached bean definitions of test case XML file
+     * and helper context file.
+     * @return
+     */
+    private ApplicationContext loadCachedApplicationContext() {
+        try {
+            return createCachedApplicationContext(getContextFile(), parentContext);
+        } catch (Exception e) {
+            throw parentContext.getBean(TestContextFactory.class).getObject()
+                    .handleError(testName, packageName, "Failed to load test case", e);
+        }
+    }
+
+    /**
+     * Create new generic child application context with cached bean definitions of given context file and helper
+     * context file. Context file is parsed only once for all application contexts created.
+     * @param contextFile
+     * @param parentContext
+     * @return
+     */
+    public static GenericApplicationContext createCachedApplicationContext(String contextFile, ApplicationContext parentContext) {
+        GenericApplicationContext ctx = new GenericApplicationContext(parentContext);
+        getParsedDefinitions(contextFile, parentContext).registerWith(ctx);
+        getParsedDefinitions(ANNOTATION_CONFIG_CONTEXT, parentContext).registerWith(ctx);
+        ctx.refresh();
+
+        return ctx;
+    }
+
+    /**
+     * Gets cached bean definitions for context file location or parses the context file.
+     * @param location
+     * @param parentContext
+     * @return
+     */
+    private static ParsedDefinitions getParsedDefinitions(String location, ApplicationContext parentContext) {
+        ParsedDefinitions definitions = parsedDefinitions.get(location);
+        if (definitions == null) {
+            DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+            PathMatchingResourcePatternResolver resourceLoader = new PathMatchingResourcePatternResolver();
+
+            XmlBeanDefinitionReader reader = new XmlBeanDefinitionReader(beanFactory);
+            reader.setEnvironment(parentContext.getEnvironment());
+            reader.setResourceLoader(resourceLoader);
+            reader.setEntityResolver(new ResourceEntityResolver(resourceLoader));
+            reader.setNamespaceHandlerResolver(getNamespaceHandlerResolver());
+            reader.loadBeanDefinitions(location);
+
+            definitions = new ParsedDefinitions(beanFactory);
+            parsedDefinitions.put(location, definitions);
+        }
+
+        return definitions;
+    }
+
+    /**
+     * Gets shared namespace handler resolver. Resolver holds initialized namespace handlers so handler
+     * mappings are only loaded once.
+     * @return
+     */
+    private static synchronized NamespaceHandlerResolver getNamespaceHandlerResolver() {
+        if (namespaceHandlerResolver == null) {
+            namespaceHandlerResolver = new DefaultNamespaceHandlerResolver(ClassUtils.getDefaultClassLoader());
+        }
+
+        return namespaceHandlerResolver;
+    }
+
     /**
      * Gets custom Spring application context file for the XML test case. If not set creates default
      * context file path from testName and packageName.
@@ -112,4 +213,54 @@ public class XmlTestLoader implements TestLoader {
     public void setContextFile(String contextFile) {
         this.contextFile = contextFile;
     }
+
+    /**
+     * Enables or disables bean definition cache for XML test case.
+     * @param cacheDefinitions
+     */
+    public void setCacheDefinitions(boolean cacheDefinitions) {
+        this.cacheDefinitions = cacheDefinitions;
+    }
+
+    /**
+     * Gets the bean definition cache setting.
+     * @return
+     */
+    public boolean isCacheDefinitions() {
+        return cacheDefinitions;
+    }
+
+    /**
+     * Bean definitions and aliases parsed from a context file. Definitions are copied when registered with an
+     * application context so each context works on its own bean definition instances.
+     */
+    private static class ParsedDefinitions {
+        private final Map<String, BeanDefinition> beanDefinitions = new LinkedHashMap<>();
+        private final Map<String, String[]> aliases = new HashMap<>();
+
+        ParsedDefinitions(DefaultListableBeanFactory beanFactory) {
+            for (String beanName : beanFactory.getBeanDefinitionNames()) {
+                beanDefinitions.put(beanName, beanFactory.getBeanDefinition(beanName));
+                aliases.put(beanName, beanFactory.getAliases(beanName));
+            }
+        }
+
+        /**
+         * Registers copies of bean definitions and aliases with given application context.
+         * @param ctx
+         */
+        void registerWith(GenericApplicationContext ctx) {
+            for (Map.Entry<String, BeanDefinition> entry : beanDefinitions.entrySet()) {
+                BeanDefinition beanDefinition = entry.getValue();
+                if (beanDefinition instanceof AbstractBeanDefinition) {
+                    beanDefinition = ((AbstractBeanDefinition) beanDefinition).cloneBeanDefinition();
+                }
+
+                ctx.registerBeanDefinition(entry.getKey(), beanDefinition);
+                for (String alias : aliases.get(entry.getKey())) {
+                    ctx.registerAlias(entry.getKey(), alias);
+                }
+            }
+        }
+    }
 }
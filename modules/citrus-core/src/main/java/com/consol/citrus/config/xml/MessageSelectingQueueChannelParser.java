@@ -20,11 +20,14 @@ import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.support.BeanDefinitionBuilder;
 import org.springframework.beans.factory.xml.BeanDefinitionParser;
 import org.springframework.beans.factory.xml.ParserContext;
+import org.springframework.util.StringUtils;
 import org.w3c.dom.Element;
 
-import com.consol.citrus.channel.MessageSelectingQueueChannel;
+import com.consol.citrus.channel.SignalingMessageSelectingQueueChannel;
 import com.consol.citrus.config.util.BeanDefinitionParserUtils;
 
+import java.util.Arrays;
+
 /**
  * Bean definition parser for special message channel configuration which
  * supports message selection.
@@ -37,13 +40,17 @@ public class MessageSelectingQueueChannelParser implements BeanDefinitionParser
      * @see org.springframework.beans.factory.xml.BeanDefinitionParser#parse(org.w3c.dom.Element, org.springframework.beans.factory.xml.ParserContext)
      */
     public BeanDefinition parse(Element element, ParserContext parserContext) {
-        BeanDefinitionBuilder builder = BeanDefinitionBuilder.rootBeanDefinition(MessageSelectingQueueChannel.class);
+        BeanDefinitionBuilder builder = BeanDefinitionBuilder.rootBeanDefinition(SignalingMessageSelectingQueueChannel.class);
 
         BeanDefinitionParserUtils.setConstructorArgValue(builder, element.getAttribute("capacity"));
 
         BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("logging"), "loggingEnabled");
 
         BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("polling-interval"), "pollingInterval");
+
+        if (element.hasAttribute("indexed-headers")) {
+            builder.addPropertyValue("indexedHeaders", Arrays.asList(StringUtils.commaDelimitedListToStringArray(element.getAttribute("indexed-headers"))));
+        }
         
         parserContext.getRegistry().registerBeanDefinition(element.getAttribute("id"), builder.getBeanDefinition());
         
@@ -22,6 +22,7 @@ import org.springframework.beans.factory.xml.BeanDefinitionParser;
 import org.springframework.beans.factory.xml.ParserContext;
 import org.w3c.dom.Element;
 
+import com.consol.citrus.config.util.BeanDefinitionParserUtils;
 import com.consol.citrus.container.Parallel;
 
 /**
@@ -39,6 +40,10 @@ public class ParallelParser implements BeanDefinitionParser {
 
         DescriptionElementParser.doParse(element, builder);
         builder.addPropertyValue("name", element.getLocalName());
+
+        BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("parallelism"), "parallelism");
+        BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("virtual-threads"), "virtualThreads");
+        BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("fail-fast"), "failFast");
         
         ActionContainerParser.doParse(element, parserContext, builder);
 
@@ -22,23 +22,33 @@ import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.exceptions.ParallelContainerException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
- * Test action will execute nested actions in parallel. Each action is executed in a
+ * Test action will execute nested actions in parallel. By default each action is executed in a
  * separate thread. Container joins all threads and waiting for them to end successfully.
+ *
+ * Parallelism limit restricts the number of actions running at the same time by executing actions with
+ * a bounded thread pool. Optionally actions run on virtual threads when supported by the Java runtime. With fail fast
+ * enabled the first failing action cancels all sibling actions that are still running or waiting for execution.
  * 
  * @author Christoph Deppisch
  */
 public class Parallel extends AbstractActionContainer {
 
-    /** Store created threads in stack */
-    private Stack<Thread> threads = new Stack<Thread>();
+    /** Maximum number of actions executed at the same time, zero or negative value for no limit */
+    private int parallelism = 0;
+
+    /** Execute actions on virtual threads when available */
+    private boolean virtualThreads = false;
+
+    /** Cancel sibling actions on first error */
+    private boolean failFast = false;
 
-    /** Collect exceptions in list */
-    private List<CitrusRuntimeException> exceptions = new ArrayList<CitrusRuntimeException>();
-    
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(Parallel.class);
 
@@ -51,30 +61,64 @@ public class Parallel extends AbstractActionContainer {
 
     @Override
     public void doExecute(TestContext context) {
-        for (final TestAction action : actions) {
-            Thread t = new Thread(new ActionRunner(action, context) {
-                @Override
-                public void exceptionCallback(CitrusRuntimeException e) {
-                    if (exceptions.isEmpty()) {
-                        setActiveAction(action);
+        final List<CitrusRuntimeException> exceptions = Collections.synchronizedList(new ArrayList<>());
+        final AtomicBoolean failed = new AtomicBoolean(false);
+        final List<Future<?>> futures = new CopyOnWriteArrayList<>();
+        final Semaphore permits = virtualThreads && parallelism > 0 ? new Semaphore(parallelism) : null;
+
+        ExecutorService executorService = createExecutorService();
+        try {
+            for (final TestAction action : actions) {
+                futures.add(executorService.submit(new ActionRunner(action, context, permits) {
+                    @Override
+                    public boolean isCancelled() {
+                        return failFast && failed.get();
                     }
-                    
-                    exceptions.add(e);
-                }
-            });
 
-            threads.push(t);
-            t.start();
-        }
+                    @Override
+                    public void exceptionCallback(CitrusRuntimeException e) {
+                        synchronized (exceptions) {
+                            if (isCancelled()) {
+                                log.debug("Ignore parallel test action error after sibling action failed", e);
+                                return;
+                            }
 
-        while (!threads.isEmpty()) {
-            try {
-                threads.pop().join();
-            } catch (InterruptedException e) {
-                log.error("Unable to join thread", e);
+                            if (exceptions.isEmpty()) {
+                                setActiveAction(action);
+                            }
+
+                            exceptions.add(e);
+                            failed.set(true);
+                        }
+
+                        if (failFast) {
+                            cancel(futures);
+                        }
+                    }
+                }));
             }
+
+            if (failFast && failed.get()) {
+                cancel(futures);
+            }
+
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (CancellationException e) {
+                    log.debug("Parallel test action has been cancelled");
+                } catch (ExecutionException e) {
+                    exceptions.add(new CitrusRuntimeException(e.getCause()));
+                } catch (InterruptedException e) {
+                    cancel(futures);
+                    Thread.currentThread().interrupt();
+                    throw new CitrusRuntimeException("Interrupted while waiting for parallel test actions", e);
+                }
+            }
+        } finally {
+            executorService.shutdownNow();
         }
-        
+
         if (!exceptions.isEmpty()) {
             if (exceptions.size() == 1) {
                 throw exceptions.get(0);
@@ -84,6 +128,86 @@ public class Parallel extends AbstractActionContainer {
         }
     }
 
+    /**
+     * Cancels all given futures interrupting running actions.
+     * @param futures
+     */
+    private void cancel(List<Future<?>> futures) {
+        for (Future<?> future : futures) {
+            future.cancel(true);
+        }
+    }
+
+    /**
+     * Creates executor service for nested actions. Uses virtual thread per task executor when enabled and supported
+     * by the Java runtime. Otherwise uses fixed thread pool with parallelism limit or new thread per action.
+     * @return
+     */
+    private ExecutorService createExecutorService() {
+        if (virtualThreads) {
+            try {
+                return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            } catch (ReflectiveOperationException e) {
+                log.warn("Virtual threads not supported by Java runtime - using platform threads for parallel container");
+            }
+        }
+
+        ThreadFactory threadFactory = new CustomizableThreadFactory(getName() + "-");
+        if (parallelism > 0) {
+            return Executors.newFixedThreadPool(parallelism, threadFactory);
+        } else {
+            return Executors.newCachedThreadPool(threadFactory);
+        }
+    }
+
+    /**
+     * Gets the parallelism limit.
+     * @return
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Sets the maximum number of actions executed at the same time.
+     * @param parallelism
+     */
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Gets the virtual threads setting.
+     * @return
+     */
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * Enables execution on virtual threads.
+     * @param virtualThreads
+     */
+    public void setVirtualThreads(boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
+    /**
+     * Gets the fail fast setting.
+     * @return
+     */
+    public boolean isFailFast() {
+        return failFast;
+    }
+
+    /**
+     * Enables cancellation of sibling actions on first error.
+     * @param failFast
+     */
+    public void setFailFast(boolean failFast) {
+        this.failFast = failFast;
+    }
+
     /**
      * Runnable wrapper for executing an action in separate Thread.
      */
@@ -93,10 +217,14 @@ public class Parallel extends AbstractActionContainer {
         
         /** Test context */
         private TestContext context;
-        
-        public ActionRunner(TestAction action, TestContext context) {
+
+        /** Optional permits limiting concurrent executions */
+        private Semaphore permits;
+
+        public ActionRunner(TestAction action, TestContext context, Semaphore permits) {
             this.action = action;
             this.context = context;
+            this.permits = permits;
         }
 
         /**
@@ -104,6 +232,19 @@ public class Parallel extends AbstractActionContainer {
          */
         public void run() {
             try {
+                if (permits != null) {
+                    permits.acquire();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            try {
+                if (isCancelled()) {
+                    return;
+                }
+
                 action.execute(context);
             } catch (CitrusRuntimeException e) {
                 log.error("Parallel test action raised error", e);
@@ -117,13 +258,23 @@ public class Parallel extends AbstractActionContainer {
             } catch (AssertionError e) {
                 log.error("Parallel test action raised error", e);
                 exceptionCallback(new CitrusRuntimeException(e));
+            } finally {
+                if (permits != null) {
+                    permits.release();
+                }
             }
         }
-        
+
+        /**
+         * Checks if execution has been cancelled.
+         * @return
+         */
+        public abstract boolean isCancelled();
+
         /**
          * Callback for exception tracking.
          * @param exception
          */
         public abstract void exceptionCallback(CitrusRuntimeException exception);
     }
-}
\ No newline at end of file
+}
@@ -30,6 +30,7 @@ import com.consol.citrus.util.TypeConversionUtils;
 import com.consol.citrus.validation.MessageValidatorRegistry;
 import com.consol.citrus.validation.interceptor.GlobalMessageConstructionInterceptors;
 import com.consol.citrus.validation.matcher.ValidationMatcherRegistry;
+import com.consol.citrus.variable.DynamicContentTemplate;
 import com.consol.citrus.variable.GlobalVariables;
 import com.consol.citrus.variable.VariableUtils;
 import com.consol.citrus.xml.namespace.NamespaceContextBuilder;
@@ -339,14 +340,11 @@ public class TestContext {
      * @return resulting string without any variable place holders.
      */
     public String replaceDynamicContentInString(final String str, boolean enableQuoting) {
-        String result = null;
-
-        if (str != null) {
-            result = VariableUtils.replaceVariablesInString(str, this, enableQuoting);
-            result = FunctionUtils.replaceFunctionsInString(result, this, enableQuoting);
+        if (str == null) {
+            return null;
         }
 
-        return result;
+        return DynamicContentTemplate.replaceDynamicContent(str, this, enableQuoting);
     }
     
     /**
@@ -16,9 +16,11 @@
 
 package com.consol.citrus.context;
 
+import com.consol.citrus.Citrus;
 import com.consol.citrus.endpoint.DefaultEndpointFactory;
 import com.consol.citrus.endpoint.EndpointFactory;
 import com.consol.citrus.functions.FunctionRegistry;
+import com.consol.citrus.message.BoundedMessageStore;
 import com.consol.citrus.report.MessageListeners;
 import com.consol.citrus.report.TestListeners;
 import com.consol.citrus.validation.MessageValidatorRegistry;
@@ -34,6 +36,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
 
 /**
  * Factory bean implementation taking care of {@link FunctionRegistry} and {@link GlobalVariables}.
@@ -172,6 +175,10 @@ public class TestContextFactory implements FactoryBean<TestContext>, Application
             context.setNamespaceContextBuilder(namespaceContextBuilder);
         }
 
+        if (StringUtils.hasText(Citrus.MESSAGE_STORE_MEMORY_LIMIT)) {
+            context.setMessageStore(new BoundedMessageStore(Long.valueOf(Citrus.MESSAGE_STORE_MEMORY_LIMIT)));
+        }
+
         if (log.isDebugEnabled()) {
             log.debug("Created new test context - using global variables: '"
                     + context.getGlobalVariables() + "'");
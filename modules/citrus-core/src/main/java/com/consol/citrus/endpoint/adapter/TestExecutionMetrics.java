@@ -0,0 +1,167 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.endpoint.adapter;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Throughput and latency metrics for tests executed by a test executing endpoint adapter. Metrics are collected
+ * per mapped test name. Response time is the time from receiving the request until the response is returned,
+ * execution time is the time the test took to execute.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class TestExecutionMetrics {
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+
+    private final LongAdder totalResponseTime = new LongAdder();
+    private final AtomicLong maxResponseTime = new AtomicLong();
+
+    private final LongAdder totalExecutionTime = new LongAdder();
+    private final AtomicLong maxExecutionTime = new AtomicLong();
+
+    /** Time of first request in nanoseconds */
+    private final long started = System.nanoTime();
+
+    /**
+     * Records request with response time.
+     * @param responseTime response time in nanoseconds.
+     */
+    public void recordRequest(long responseTime) {
+        requests.increment();
+        totalResponseTime.add(responseTime);
+        maxResponseTime.accumulateAndGet(responseTime, Math::max);
+    }
+
+    /**
+     * Records test execution with execution time.
+     * @param executionTime execution time in nanoseconds.
+     * @param success
+     */
+    public void recordExecution(long executionTime, boolean success) {
+        executions.increment();
+        if (!success) {
+            failures.increment();
+        }
+
+        totalExecutionTime.add(executionTime);
+        maxExecutionTime.accumulateAndGet(executionTime, Math::max);
+    }
+
+    /**
+     * Records request rejected because of too many concurrently executed tests.
+     */
+    public void recordRejection() {
+        rejections.increment();
+    }
+
+    /**
+     * Gets the number of handled requests.
+     * @return
+     */
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    /**
+     * Gets the number of finished test executions.
+     * @return
+     */
+    public long getExecutions() {
+        return executions.sum();
+    }
+
+    /**
+     * Gets the number of failed test executions.
+     * @return
+     */
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    /**
+     * Gets the number of rejected requests.
+     * @return
+     */
+    public long getRejections() {
+        return rejections.sum();
+    }
+
+    /**
+     * Gets the average response time in milliseconds.
+     * @return
+     */
+    public double getAverageResponseTime() {
+        return average(totalResponseTime.sum(), getRequests());
+    }
+
+    /**
+     * Gets the maximum response time in milliseconds.
+     * @return
+     */
+    public double getMaxResponseTime() {
+        return toMillis(maxResponseTime.get());
+    }
+
+    /**
+     * Gets the average test execution time in milliseconds.
+     * @return
+     */
+    public double getAverageExecutionTime() {
+        return average(totalExecutionTime.sum(), getExecutions());
+    }
+
+    /**
+     * Gets the maximum test execution time in milliseconds.
+     * @return
+     */
+    public double getMaxExecutionTime() {
+        return toMillis(maxExecutionTime.get());
+    }
+
+    /**
+     * Gets the throughput as handled requests per second since first request.
+     * @return
+     */
+    public double getThroughput() {
+        long elapsed = System.nanoTime() - started;
+        return elapsed > 0 ? getRequests() / (elapsed / (double) TimeUnit.SECONDS.toNanos(1)) : 0.0D;
+    }
+
+    private static double average(long total, long count) {
+        return count > 0 ? toMillis(total) / count : 0.0D;
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("requests=%d, executions=%d, failures=%d, rejections=%d, throughput=%.2f/s, " +
+                        "avgResponseTime=%.2fms, maxResponseTime=%.2fms, avgExecutionTime=%.2fms, maxExecutionTime=%.2fms",
+                getRequests(), getExecutions(), getFailures(), getRejections(), getThroughput(),
+                getAverageResponseTime(), getMaxResponseTime(), getAverageExecutionTime(), getMaxExecutionTime());
+    }
+}
@@ -18,6 +18,7 @@ package com.consol.citrus.endpoint.adapter;
 
 import com.consol.citrus.TestCase;
 import com.consol.citrus.channel.ChannelEndpointAdapter;
+import com.consol.citrus.common.XmlTestLoader;
 import com.consol.citrus.channel.ChannelSyncEndpointConfiguration;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.context.TestContextFactory;
@@ -34,18 +35,46 @@ import org.springframework.context.ApplicationContextAware;
 import org.springframework.context.support.ClassPathXmlApplicationContext;
 import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ConcurrentTaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.*;
 
 /**
  * Special request dispatching endpoint adapter invokes XML test case for each incoming message. Incoming message is
  * passed to test case via normal message channel connection as usual.
  *
+ * Adapter optionally caches the parsed test definitions per package and test name and limits the number of tests
+ * executed at the same time. Requests exceeding that limit fail immediately. Throughput and latency metrics are
+ * collected for each mapped test.
+ *
  * @author Christoph Deppisch
  * @since 1.4
  */
-public class XmlTestExecutingEndpointAdapter extends RequestDispatchingEndpointAdapter implements InitializingBean, BeanNameAware, ApplicationContextAware {
+public class XmlTestExecutingEndpointAdapter extends RequestDispatchingEndpointAdapter implements InitializingBean, DisposableBean, BeanNameAware, ApplicationContextAware {
     /** Executor start action sequence logic in separate thread task */
     private TaskExecutor taskExecutor = new SimpleAsyncTaskExecutor();
 
+    /** Whether task executor is the default executor that is replaced by a bounded executor when number of tests is limited */
+    private boolean defaultTaskExecutor = true;
+
+    /** Maximum number of tests executed at the same time, zero means no limit */
+    private int maxConcurrentTests = 0;
+
+    /** Executor service created by this adapter for bounded test execution */
+    private ExecutorService executorService;
+
+    /** Permits for concurrently executed tests when number of tests is limited */
+    private Semaphore executionPermits;
+
+    /** Reuse parsed test definitions for each package and test name */
+    private boolean cacheTestDefinitions = false;
+
+    /** Metrics per mapped test name */
+    private final Map<String, TestExecutionMetrics> testExecutionMetrics = new ConcurrentHashMap<>();
+
     /** This adapter name - used for message channel generation */
     private String name = EndpointAdapter.class.getSimpleName();
 
@@ -63,25 +92,60 @@ public class XmlTestExecutingEndpointAdapter extends RequestDispatchingEndpointA
 
     @Override
     public Message dispatchMessage(final Message request, String mappingName) {
-        final TestCase test;
-        final TestContext testContext;
+        final long requestStart = System.nanoTime();
+        final TestExecutionMetrics metrics = testExecutionMetrics.computeIfAbsent(mappingName, key -> new TestExecutionMetrics());
 
-        try {
-            testContext = testContextFactory.getObject();
-            test = getTestCase(testContext, mappingName);
-        } catch (NoSuchBeanDefinitionException e) {
-            throw new CitrusRuntimeException("Unable to find test builder with name '" +
-                    mappingName + "' in Spring bean context", e);
+        if (executionPermits != null && !executionPermits.tryAcquire()) {
+            metrics.recordRejection();
+            throw new CitrusRuntimeException(String.format("Unable to execute test '%s' - maximum of %s concurrently executed tests reached",
+                    mappingName, maxConcurrentTests));
         }
 
-        taskExecutor.execute(new Runnable() {
-            public void run() {
-                prepareExecution(request, test);
-                test.execute(testContext);
+        try {
+            final TestCase test;
+            final TestContext testContext;
+
+            try {
+                testContext = testContextFactory.getObject();
+                test = getTestCase(testContext, mappingName);
+            } catch (NoSuchBeanDefinitionException e) {
+                throw new CitrusRuntimeException("Unable to find test builder with name '" +
+                        mappingName + "' in Spring bean context", e);
             }
-        });
 
-        return endpointAdapterDelegate.handleMessage(request);
+            taskExecutor.execute(new Runnable() {
+                public void run() {
+                    long executionStart = System.nanoTime();
+                    boolean success = false;
+                    try {
+                        prepareExecution(request, test);
+                        test.execute(testContext);
+                        success = true;
+                    } finally {
+                        metrics.recordExecution(System.nanoTime() - executionStart, success);
+                        releaseExecutionPermit();
+                    }
+                }
+            });
+        } catch (RuntimeException e) {
+            releaseExecutionPermit();
+            throw e;
+        }
+
+        try {
+            return endpointAdapterDelegate.handleMessage(request);
+        } finally {
+            metrics.recordRequest(System.nanoTime() - requestStart);
+        }
+    }
+
+    /**
+     * Releases permit for concurrently executed tests.
+     */
+    private void releaseExecutionPermit() {
+        if (executionPermits != null) {
+            executionPermits.release();
+        }
     }
 
     /**
@@ -91,7 +155,8 @@ public class XmlTestExecutingEndpointAdapter extends RequestDispatchingEndpointA
      * @return the new test case.
      */
     protected TestCase getTestCase(TestContext context, String testName) {
-        ClassPathXmlApplicationContext ctx = createApplicationContext(context, packageName, testName);
+        ApplicationContext ctx = cacheTestDefinitions ? createCachedApplicationContext(context, packageName, testName) :
+                createApplicationContext(context, packageName, testName);
 
         try {
             TestCase testCase = ctx.getBean(testName, TestCase.class);
@@ -119,6 +184,19 @@ public class XmlTestExecutingEndpointAdapter extends RequestDispatchingEndpointA
         }
     }
 
+    /**
+     * Creates the Spring application context when test definitions are cached. The context is a lightweight child
+     * context holding copies of the cached bean definitions.
+     * @return
+     */
+    protected ApplicationContext createCachedApplicationContext(TestContext context, String packageName, String testName) {
+        try {
+            return XmlTestLoader.createCachedApplicationContext(packageName.replace('.', '/') + "/" + testName + ".xml", applicationContext);
+        } catch (Exception e) {
+            throw context.handleError(getClass().getSimpleName(), getClass().getPackage().getName(), "Failed to load test case", e);
+        }
+    }
+
     /**
      * Prepares the test builder instance before execution. Subclasses may add custom properties to teest builder
      * here.
@@ -133,6 +211,16 @@ public class XmlTestExecutingEndpointAdapter extends RequestDispatchingEndpointA
      * @throws Exception
      */
     public void afterPropertiesSet() throws Exception {
+        if (maxConcurrentTests > 0) {
+            executionPermits = new Semaphore(maxConcurrentTests);
+        }
+
+        if (defaultTaskExecutor && maxConcurrentTests > 0 && executorService == null) {
+            executorService = new ThreadPoolExecutor(maxConcurrentTests, maxConcurrentTests, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(maxConcurrentTests), new CustomizableThreadFactory(name + "-"), new ThreadPoolExecutor.AbortPolicy());
+            taskExecutor = new ConcurrentTaskExecutor(executorService);
+        }
+
         if (endpointAdapterDelegate == null) {
             ChannelSyncEndpointConfiguration endpointConfiguration = new ChannelSyncEndpointConfiguration();
             endpointConfiguration.setChannelName(name + AbstractServer.DEFAULT_CHANNEL_ID_SUFFIX);
@@ -150,6 +238,13 @@ public class XmlTestExecutingEndpointAdapter extends RequestDispatchingEndpointA
         }
     }
 
+    @Override
+    public void destroy() throws Exception {
+        if (executorService != null) {
+            executorService.shutdown();
+        }
+    }
+
     /**
      * Injects this adapters bean name.
      * @param name
@@ -190,6 +285,48 @@ public class XmlTestExecutingEndpointAdapter extends RequestDispatchingEndpointA
      */
     public void setTaskExecutor(TaskExecutor taskExecutor) {
         this.taskExecutor = taskExecutor;
+        this.defaultTaskExecutor = false;
+    }
+
+    /**
+     * Gets the maximum number of concurrently executed tests.
+     * @return
+     */
+    public int getMaxConcurrentTests() {
+        return maxConcurrentTests;
+    }
+
+    /**
+     * Sets the maximum number of tests executed at the same time. Requests exceeding the limit are rejected
+     * immediately instead of queueing their test for later execution.
+     * @param maxConcurrentTests
+     */
+    public void setMaxConcurrentTests(int maxConcurrentTests) {
+        this.maxConcurrentTests = maxConcurrentTests;
+    }
+
+    /**
+     * Gets the test definition cache setting.
+     * @return
+     */
+    public boolean isCacheTestDefinitions() {
+        return cacheTestDefinitions;
+    }
+
+    /**
+     * Enables caching of parsed test definitions per package and test name.
+     * @param cacheTestDefinitions
+     */
+    public void setCacheTestDefinitions(boolean cacheTestDefinitions) {
+        this.cacheTestDefinitions = cacheTestDefinitions;
+    }
+
+    /**
+     * Gets the throughput and latency metrics by mapped test name.
+     * @return
+     */
+    public Map<String, TestExecutionMetrics> getTestExecutionMetrics() {
+        return Collections.unmodifiableMap(testExecutionMetrics);
     }
 
     /**
@@ -58,10 +58,10 @@ public final class FunctionUtils {
         }
         
         String newString = stringValue;
-        StringBuffer strBuffer = new StringBuffer();
+        StringBuilder strBuffer = new StringBuilder();
 
         boolean isVarComplete = false;
-        StringBuffer variableNameBuf = new StringBuffer();
+        StringBuilder variableNameBuf = new StringBuilder();
 
         int startIndex = 0;
         int curIndex;
@@ -77,7 +77,7 @@ public final class FunctionUtils {
                 curIndex = searchIndex;
 
                 while (curIndex < newString.length() && !isVarComplete) {
-                    if (newString.indexOf('(', curIndex) == curIndex) {
+                    if (newString.charAt(curIndex) == '(') {
                         control++;
                     }
 
@@ -105,14 +105,14 @@ public final class FunctionUtils {
 
                 startIndex = curIndex;
 
-                variableNameBuf = new StringBuffer();
+                variableNameBuf = new StringBuilder();
                 isVarComplete = false;
             }
 
             strBuffer.append(newString.substring(startIndex));
             newString = strBuffer.toString();
 
-            strBuffer = new StringBuffer();
+            strBuffer = new StringBuilder();
         }
 
         return newString;
@@ -17,6 +17,7 @@
 package com.consol.citrus.json;
 
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.message.Message;
 import com.consol.citrus.validation.json.JsonPathFunctions;
 import com.jayway.jsonpath.*;
 import net.minidev.json.JSONArray;
@@ -25,7 +26,8 @@ import net.minidev.json.parser.JSONParser;
 import net.minidev.json.parser.ParseException;
 import org.springframework.util.StringUtils;
 
-import java.util.Optional;
+import java.lang.ref.SoftReference;
+import java.util.*;
 
 /**
  * @author Christoph Deppisch
@@ -33,6 +35,30 @@ import java.util.Optional;
  */
 public class JsonPathUtils {
 
+    /** Maximum number of cached compiled expressions */
+    public static final int EXPRESSION_CACHE_SIZE = 1024;
+
+    /** Compiled expressions by expression string in least recently used order */
+    private static final Map<String, CompiledExpression> compiledExpressions = Collections.synchronizedMap(
+            new LinkedHashMap<String, CompiledExpression>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CompiledExpression> eldest) {
+                    return size() > EXPRESSION_CACHE_SIZE;
+                }
+            });
+
+    /** Parsed JSON payloads per message */
+    private static final Map<Object, ParsedPayload> parsedPayloads = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /** Last parsed JSON payload per thread for evaluations on plain payload strings */
+    private static final ThreadLocal<ParsedPayload> lastParsedPayload = new ThreadLocal<>();
+
+    /**
+     * Prevent instantiation.
+     */
+    private JsonPathUtils() {
+    }
+
     /**
      * Evaluate JsonPath expression on given payload string and return result as object.
      * @param payload
@@ -40,15 +66,7 @@ public class JsonPathUtils {
      * @return
      */
     public static Object evaluate(String payload, String jsonPathExpression) {
-        try {
-            JSONParser parser = new JSONParser(JSONParser.MODE_JSON_SIMPLE);
-            Object receivedJson = parser.parse(payload);
-            ReadContext readerContext = JsonPath.parse(receivedJson);
-
-            return evaluate(readerContext, jsonPathExpression);
-        } catch (ParseException e) {
-            throw new CitrusRuntimeException("Failed to parse JSON text", e);
-        }
+        return evaluate(JsonPath.parse(parseJson(payload)), jsonPathExpression);
     }
 
     /**
@@ -58,22 +76,16 @@ public class JsonPathUtils {
      * @return
      */
     public static Object evaluate(ReadContext readerContext, String jsonPathExpression) {
-        String expression = jsonPathExpression;
-        String jsonPathFunction = null;
-        for (String name : JsonPathFunctions.getSupportedFunctions()) {
-            if (expression.endsWith(String.format(".%s()", name))) {
-                jsonPathFunction = name;
-                expression = expression.substring(0, expression.length() - String.format(".%s()", name).length());
-            }
-        }
+        CompiledExpression compiled = compile(jsonPathExpression);
+        String jsonPathFunction = compiled.getFunction();
 
         Object jsonPathResult = null;
         PathNotFoundException pathNotFoundException = null;
         try {
-            if (JsonPath.isPathDefinite(expression)) {
-                jsonPathResult = readerContext.read(expression);
+            if (compiled.getPath().isDefinite()) {
+                jsonPathResult = readerContext.read(compiled.getPath());
             } else {
-                JSONArray values = readerContext.read(expression);
+                JSONArray values = readerContext.read(compiled.getPath());
                 if (values.size() == 1) {
                     jsonPathResult = values.get(0);
                 } else {
@@ -102,15 +114,14 @@ public class JsonPathUtils {
      * @return
      */
     public static String evaluateAsString(String payload, String jsonPathExpression) {
-        try {
-            JSONParser parser = new JSONParser(JSONParser.MODE_JSON_SIMPLE);
-            Object receivedJson = parser.parse(payload);
-            ReadContext readerContext = JsonPath.parse(receivedJson);
-
-            return evaluateAsString(readerContext, jsonPathExpression);
-        } catch (ParseException e) {
-            throw new CitrusRuntimeException("Failed to parse JSON text", e);
+        ParsedPayload parsed = lastParsedPayload.get();
+        Object json = parsed != null ? parsed.getJson(payload) : null;
+        if (json == null) {
+            json = parseJson(payload);
+            lastParsedPayload.set(new ParsedPayload(payload, json));
         }
+
+        return evaluateAsString(JsonPath.parse(json), jsonPathExpression);
     }
 
     /**
@@ -130,4 +141,131 @@ public class JsonPathUtils {
             return Optional.ofNullable(jsonPathResult).map(Object::toString).orElse("null");
         }
     }
+
+    /**
+     * Parse message payload to JSON read context using cached JSON representation for given message if the payload
+     * has not changed since last parse. Callers must not modify the returned JSON.
+     * @param message
+     * @throws CitrusRuntimeException
+     * @return read context on parsed JSON payload.
+     */
+    public static ReadContext parseMessagePayload(Message message) {
+        return parseMessagePayload(message, message.getPayload(String.class));
+    }
+
+    /**
+     * Parse message payload to JSON read context using cached JSON representation for given message if the payload
+     * has not changed since last parse. Callers must not modify the returned JSON.
+     * @param message
+     * @param messagePayload
+     * @throws CitrusRuntimeException
+     * @return read context on parsed JSON payload.
+     */
+    public static ReadContext parseMessagePayload(Object message, String messagePayload) {
+        ParsedPayload parsed = parsedPayloads.get(message);
+        if (parsed != null) {
+            Object json = parsed.getJson(messagePayload);
+            if (json != null) {
+                return JsonPath.parse(json);
+            }
+        }
+
+        Object json = parseJson(messagePayload);
+        parsedPayloads.put(message, new ParsedPayload(messagePayload, json));
+        return JsonPath.parse(json);
+    }
+
+    /**
+     * Parse JSON text to JSON object representation.
+     * @param payload
+     * @throws CitrusRuntimeException
+     * @return
+     */
+    private static Object parseJson(String payload) {
+        try {
+            return new JSONParser(JSONParser.MODE_JSON_SIMPLE).parse(payload);
+        } catch (ParseException e) {
+            throw new CitrusRuntimeException("Failed to parse JSON text", e);
+        }
+    }
+
+    /**
+     * Gets compiled JsonPath expression from cache or compiles the expression. Supported JsonPath function
+     * suffix is separated from the path expression.
+     * @param jsonPathExpression
+     * @return
+     */
+    public static CompiledExpression compile(String jsonPathExpression) {
+        CompiledExpression compiled = compiledExpressions.get(jsonPathExpression);
+        if (compiled == null) {
+            String expression = jsonPathExpression;
+            String jsonPathFunction = null;
+            for (String name : JsonPathFunctions.getSupportedFunctions()) {
+                if (expression.endsWith(String.format(".%s()", name))) {
+                    jsonPathFunction = name;
+                    expression = expression.substring(0, expression.length() - String.format(".%s()", name).length());
+                }
+            }
+
+            compiled = new CompiledExpression(JsonPath.compile(expression), jsonPathFunction);
+            compiledExpressions.put(jsonPathExpression, compiled);
+        }
+
+        return compiled;
+    }
+
+    /**
+     * Compiled JsonPath expression with optional JsonPath function to apply on the evaluation result.
+     */
+    public static final class CompiledExpression {
+        private final JsonPath path;
+        private final String function;
+
+        CompiledExpression(JsonPath path, String function) {
+            this.path = path;
+            this.function = function;
+        }
+
+        /**
+         * Gets the compiled path.
+         * @return
+         */
+        public JsonPath getPath() {
+            return path;
+        }
+
+        /**
+         * Gets the JsonPath function name or null if not set.
+         * @return
+         */
+        public String getFunction() {
+            return function;
+        }
+    }
+
+    /**
+     * Parsed JSON for a message payload. JSON is softly referenced so it can be reclaimed under memory pressure.
+     */
+    private static class ParsedPayload {
+        private final String payload;
+        private final SoftReference<Object> json;
+
+        ParsedPayload(String payload, Object json) {
+            this.payload = payload;
+            this.json = new SoftReference<>(json);
+        }
+
+        /**
+         * Gets cached JSON if given payload matches the parsed payload.
+         * @param messagePayload
+         * @return
+         */
+        Object getJson(String messagePayload) {
+            if (payload == messagePayload || (payload != null && payload.equals(messagePayload))) {
+                return json.get();
+            }
+
+            return null;
+        }
+    }
 }
@@ -16,6 +16,7 @@
 
 package com.consol.citrus.json.schema;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.github.fge.jackson.JsonLoader;
 import com.github.fge.jsonschema.main.JsonSchema;
 import com.github.fge.jsonschema.main.JsonSchemaFactory;
@@ -40,6 +41,12 @@ public class SimpleJsonSchema implements InitializingBean {
     /** The parsed json schema ready for validation */
     private JsonSchema schema;
 
+    /** The schema id as declared in the json schema */
+    private String id;
+
+    /** The schema title as declared in the json schema */
+    private String title;
+
     public SimpleJsonSchema(Resource resource) {
         json = resource;
     }
@@ -50,7 +57,16 @@ public class SimpleJsonSchema implements InitializingBean {
 
     @Override
     public void afterPropertiesSet() throws Exception {
-        schema = jsonSchemaFactory.getJsonSchema(JsonLoader.fromFile(json.getFile()));
+        JsonNode schemaJson = JsonLoader.fromFile(json.getFile());
+        schema = jsonSchemaFactory.getJsonSchema(schemaJson);
+
+        if (id == null) {
+            id = schemaJson.has("$id") ? schemaJson.get("$id").textValue() : schemaJson.path("id").textValue();
+        }
+
+        if (title == null) {
+            title = schemaJson.path("title").textValue();
+        }
     }
 
     public Resource getJson() {
@@ -69,6 +85,22 @@ public class SimpleJsonSchema implements InitializingBean {
         this.schema = schema;
     }
 
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
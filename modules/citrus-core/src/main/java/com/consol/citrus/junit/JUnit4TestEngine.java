@@ -17,20 +17,26 @@
 package com.consol.citrus.junit;
 
 import com.consol.citrus.TestClass;
+import com.consol.citrus.TestResult;
 import com.consol.citrus.main.AbstractTestEngine;
 import com.consol.citrus.main.TestRunConfiguration;
 import com.consol.citrus.main.scan.ClassPathTestScanner;
 import com.consol.citrus.main.scan.JarFileTestScanner;
 import org.junit.Test;
-import org.junit.runner.JUnitCore;
+import org.junit.runner.*;
+import org.junit.runner.notification.Failure;
 import org.junit.runner.notification.RunListener;
+import org.junit.runners.ParentRunner;
+import org.junit.runners.model.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 
 import java.net.*;
 import java.util.*;
+import java.util.concurrent.*;
 
 /**
  * @author Christoph Deppisch
@@ -86,12 +92,21 @@ public class JUnit4TestEngine extends AbstractTestEngine {
      */
     private void run(List<TestClass> classesToRun) {
         JUnitCore junit = new JUnitCore();
+        junit.addListener(new TestResultsListener());
 
         for (RunListener listener : listeners) {
             junit.addListener(listener);
         }
 
-        junit.run(classesToRun
+        Computer computer;
+        if (isParallel()) {
+            log.info(String.format("Running test classes in parallel using %s worker threads", getConfiguration().getThreadCount()));
+            computer = new ParallelClassesComputer(getConfiguration().getThreadCount());
+        } else {
+            computer = new Computer();
+        }
+
+        junit.run(computer, shard(classesToRun)
                 .stream()
                 .peek(testClass -> log.info(String.format("Running test %s", Optional.ofNullable(testClass.getMethod()).map(method -> testClass.getName() + "#" + method).orElse(testClass.getName()))))
                 .map(testClass -> {
@@ -121,4 +136,87 @@ public class JUnit4TestEngine extends AbstractTestEngine {
         this.listeners.add(listener);
         return this;
     }
+
+    /**
+     * Computer runs test classes concurrently with a bounded number of worker threads.
+     */
+    private static class ParallelClassesComputer extends Computer {
+        /** Number of worker threads */
+        private final int threadCount;
+
+        ParallelClassesComputer(int threadCount) {
+            this.threadCount = threadCount;
+        }
+
+        @Override
+        public Runner getSuite(RunnerBuilder builder, Class<?>[] classes) throws InitializationError {
+            Runner suite = super.getSuite(builder, classes);
+
+            if (suite instanceof ParentRunner) {
+                ((ParentRunner<?>) suite).setScheduler(new RunnerScheduler() {
+                    private final ExecutorService executorService = Executors.newFixedThreadPool(threadCount, new CustomizableThreadFactory("citrus-junit-"));
+
+                    @Override
+                    public void schedule(Runnable childStatement) {
+                        executorService.submit(childStatement);
+                    }
+
+                    @Override
+                    public void finished() {
+                        executorService.shutdown();
+
+                        try {
+                            executorService.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+                        } catch (InterruptedException e) {
+                            executorService.shutdownNow();
+                            Thread.currentThread().interrupt();
+                        }
+                    }
+                });
+            }
+
+            return suite;
+        }
+    }
+
+    /**
+     * Listener collects test results of this engine.
+     */
+    @RunListener.ThreadSafe
+    private class TestResultsListener extends RunListener {
+        /** Tests that already reported a failure or skip */
+        private final Set<Description> finished = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public void testFailure(Failure failure) {
+            if (finished.add(failure.getDescription())) {
+                getTestResults().addResult(TestResult.failed(getTestName(failure.getDescription()), failure.getDescription().getClassName(), failure.getException()));
+            }
+        }
+
+        @Override
+        public void testAssumptionFailure(Failure failure) {
+            if (finished.add(failure.getDescription())) {
+                getTestResults().addResult(TestResult.skipped(getTestName(failure.getDescription()), failure.getDescription().getClassName()));
+            }
+        }
+
+        @Override
+        public void testIgnored(Description description) {
+            if (finished.add(description)) {
+                getTestResults().addResult(TestResult.skipped(getTestName(description), description.getClassName()));
+            }
+        }
+
+        @Override
+        public void testFinished(Description description) {
+            if (finished.add(description)) {
+                getTestResults().addResult(TestResult.success(getTestName(description), description.getClassName()));
+            }
+        }
+
+        private String getTestName(Description description) {
+            return Optional.ofNullable(description.getMethodName()).orElse(description.getDisplayName());
+        }
+    }
 }
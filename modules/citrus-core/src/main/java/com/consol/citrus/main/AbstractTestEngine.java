@@ -16,6 +16,12 @@
 
 package com.consol.citrus.main;
 
+import com.consol.citrus.TestClass;
+import com.consol.citrus.report.TestResults;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
 /**
  * @author Christoph Deppisch
  * @since 2.7.4
@@ -24,6 +30,9 @@ public abstract class AbstractTestEngine implements TestEngine {
 
     private final TestRunConfiguration configuration;
 
+    /** Results of tests executed with this engine */
+    private final TestResults testResults = new TestResults();
+
     public AbstractTestEngine(TestRunConfiguration configuration) {
         this.configuration = configuration;
     }
@@ -36,4 +45,46 @@ public abstract class AbstractTestEngine implements TestEngine {
     public TestRunConfiguration getConfiguration() {
         return configuration;
     }
+
+    /**
+     * Selects the test classes that belong to the configured test shard. Test classes are sorted by name and
+     * distributed round robin across all shards so each shard receives a stable and evenly sized portion of the suite.
+     * @param testClasses
+     * @return
+     */
+    protected List<TestClass> shard(List<TestClass> testClasses) {
+        int shardCount = configuration.getShardCount();
+        if (shardCount <= 1) {
+            return testClasses;
+        }
+
+        List<TestClass> sorted = testClasses.stream()
+                .sorted(Comparator.comparing(TestClass::getName)
+                        .thenComparing(testClass -> Optional.ofNullable(testClass.getMethod()).orElse("")))
+                .collect(Collectors.toList());
+
+        List<TestClass> shard = new ArrayList<>();
+        for (int i = configuration.getShardIndex(); i < sorted.size(); i += shardCount) {
+            shard.add(sorted.get(i));
+        }
+
+        return shard;
+    }
+
+    /**
+     * Checks if test classes should be executed concurrently.
+     * @return
+     */
+    protected boolean isParallel() {
+        return configuration.getThreadCount() > 1;
+    }
+
+    /**
+     * Gets the test results.
+     *
+     * @return
+     */
+    public TestResults getTestResults() {
+        return testResults;
+    }
 }
@@ -17,14 +17,21 @@
 package com.consol.citrus.main;
 
 import com.consol.citrus.Citrus;
+import com.consol.citrus.TestClass;
+import com.consol.citrus.TestResult;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.junit.JUnit4TestEngine;
+import com.consol.citrus.report.TestResults;
 import com.consol.citrus.testng.TestNGEngine;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
 
-import java.util.Map;
-import java.util.Optional;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.*;
 import java.util.concurrent.*;
 
 /**
@@ -46,6 +53,9 @@ public class CitrusApp {
     /** Completed future marking completed state */
     protected final CompletableFuture<Boolean> completed = new CompletableFuture<>();
 
+    /** Results of last test run */
+    private TestResults testResults = new TestResults();
+
     /**
      * Default constructor using default configuration.
      */
@@ -128,13 +138,177 @@ public class CitrusApp {
         log.info(String.format("Running Citrus %s", Citrus.getVersion()));
         setDefaultProperties(configuration);
 
+        if (configuration.getForkCount() > 1) {
+            runForks();
+            return;
+        }
+
+        AbstractTestEngine engine = null;
         if (ClassUtils.isPresent("org.testng.annotations.Test", getClass().getClassLoader())) {
-            new TestNGEngine(configuration).run();
+            engine = new TestNGEngine(configuration);
         } else if (ClassUtils.isPresent("org.junit.Test", getClass().getClassLoader())) {
-            new JUnit4TestEngine(configuration).run();
+            engine = new JUnit4TestEngine(configuration);
+        }
+
+        if (engine != null) {
+            engine.run();
+            testResults = engine.getTestResults();
+        }
+
+        if (configuration.getResultsFile() != null) {
+            writeResults(testResults, configuration.getResultsFile());
+        }
+    }
+
+    /**
+     * Splits test suite across several JVM worker processes. Each worker process executes a test shard and writes its
+     * test results to a file. Results of all workers are merged when all processes have finished.
+     */
+    private void runForks() {
+        int forkCount = configuration.getForkCount();
+        log.info(String.format("Splitting test suite across %s worker processes", forkCount));
+
+        List<Process> processes = new ArrayList<>();
+        List<File> resultFiles = new ArrayList<>();
+        try {
+            for (int shardIndex = 0; shardIndex < forkCount; shardIndex++) {
+                File resultsFile = File.createTempFile("citrus-shard-" + shardIndex + "-", ".results");
+                resultsFile.deleteOnExit();
+                resultFiles.add(resultsFile);
+
+                processes.add(new ProcessBuilder(getWorkerCommand(shardIndex, forkCount, resultsFile))
+                        .inheritIO()
+                        .start());
+            }
+
+            TestResults merged = new TestResults();
+            for (int shardIndex = 0; shardIndex < forkCount; shardIndex++) {
+                int exitCode = processes.get(shardIndex).waitFor();
+                if (exitCode != 0) {
+                    log.warn(String.format("Worker process for test shard %s/%s finished with exit code %s", shardIndex, forkCount, exitCode));
+                }
+
+                if (resultFiles.get(shardIndex).length() > 0) {
+                    merged.addResults(readResults(resultFiles.get(shardIndex)));
+                }
+            }
+
+            testResults = merged;
+            log.info(String.format("Finished %s tests in %s worker processes: %s success, %s failed, %s skipped",
+                    testResults.getSize(), forkCount, testResults.getSuccess(), testResults.getFailed(), testResults.getSkipped()));
+
+            if (configuration.getResultsFile() != null) {
+                writeResults(testResults, configuration.getResultsFile());
+            }
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to run test worker processes", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException("Interrupted while waiting for test worker processes", e);
+        } finally {
+            processes.stream().filter(Process::isAlive).forEach(Process::destroy);
+        }
+    }
+
+    /**
+     * Constructs command line for worker process executing given test shard.
+     * @param shardIndex
+     * @param shardCount
+     * @param resultsFile
+     * @return
+     */
+    private List<String> getWorkerCommand(int shardIndex, int shardCount, File resultsFile) {
+        List<String> command = new ArrayList<>();
+        command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+
+        for (Map.Entry<String, String> entry : configuration.getDefaultProperties().entrySet()) {
+            command.add("-D" + entry.getKey() + "=" + Optional.ofNullable(entry.getValue()).orElse(""));
+        }
+
+        command.add(CitrusApp.class.getName());
+
+        if (configuration.getConfigClass() != null) {
+            command.add("--config");
+            command.add(configuration.getConfigClass().getName());
+        }
+
+        if (configuration.getTestJar() != null) {
+            command.add("--jar");
+            command.add(configuration.getTestJar().getAbsolutePath());
+        }
+
+        for (TestClass testClass : configuration.getTestClasses()) {
+            command.add("--test");
+            command.add(StringUtils.hasText(testClass.getMethod()) ? testClass.getName() + "#" + testClass.getMethod() : testClass.getName());
+        }
+
+        for (String packageName : configuration.getPackages()) {
+            command.add("--package");
+            command.add(packageName);
+        }
+
+        command.add("--workers");
+        command.add(String.valueOf(configuration.getThreadCount()));
+        command.add("--shard");
+        command.add(shardIndex + "/" + shardCount);
+        command.add("--results");
+        command.add(resultsFile.getAbsolutePath());
+        command.add("--exit");
+        command.add("true");
+
+        return command;
+    }
+
+    /**
+     * Writes test results to given file. Each line holds result, class name, test name and optional error message
+     * separated by tabs.
+     * @param testResults
+     * @param resultsFile
+     */
+    private static void writeResults(TestResults testResults, File resultsFile) {
+        List<String> lines = new ArrayList<>();
+        testResults.doWithResults(result -> lines.add(String.join("\t", result.getResult(), result.getClassName(), result.getTestName(),
+                Optional.ofNullable(result.getErrorMessage()).orElse("").replaceAll("[\\t\\r\\n]+", " "))));
+
+        try {
+            Files.write(resultsFile.toPath(), lines, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to write test results file: " + resultsFile, e);
         }
     }
 
+    /**
+     * Reads test results from given file.
+     * @param resultsFile
+     * @return
+     */
+    private static TestResults readResults(File resultsFile) {
+        TestResults testResults = new TestResults();
+
+        try {
+            for (String line : Files.readAllLines(resultsFile.toPath(), StandardCharsets.UTF_8)) {
+                String[] fields = line.split("\t", 4);
+                if (fields.length < 3) {
+                    continue;
+                }
+
+                if (fields[0].equals("SUCCESS")) {
+                    testResults.addResult(TestResult.success(fields[2], fields[1]));
+                } else if (fields[0].equals("SKIP")) {
+                    testResults.addResult(TestResult.skipped(fields[2], fields[1]));
+                } else {
+                    testResults.addResult(TestResult.failed(fields[2], fields[1], fields.length > 3 ? fields[3] : ""));
+                }
+            }
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to read test results file: " + resultsFile, e);
+        }
+
+        return testResults;
+    }
+
     /**
      * Completes this application.
      */
@@ -180,6 +354,15 @@ public class CitrusApp {
         }
     }
 
+    /**
+     * Gets the results of the last test run.
+     *
+     * @return
+     */
+    public TestResults getTestResults() {
+        return testResults;
+    }
+
     /**
      * Gets the value of the completed property.
      *
@@ -18,6 +18,8 @@ package com.consol.citrus.main;
 
 import com.consol.citrus.config.CitrusSpringConfig;
 
+import java.io.File;
+
 /**
  * @author Christoph Deppisch
  * @since 2.7.4
@@ -36,6 +38,12 @@ public class CitrusAppConfiguration extends TestRunConfiguration {
     /** Force system exit when application is finished using {@code System.exit()} */
     private boolean systemExit = false;
 
+    /** Number of JVM worker processes the test suite is split across */
+    private int forkCount = 0;
+
+    /** Optional file test results are written to when finished */
+    private File resultsFile;
+
     /**
      * Gets the timeToLive.
      *
@@ -108,4 +116,39 @@ public class CitrusAppConfiguration extends TestRunConfiguration {
         this.systemExit = systemExit;
     }
 
+    /**
+     * Gets the forkCount.
+     *
+     * @return
+     */
+    public int getForkCount() {
+        return forkCount;
+    }
+
+    /**
+     * Sets the forkCount.
+     *
+     * @param forkCount
+     */
+    public void setForkCount(int forkCount) {
+        this.forkCount = forkCount;
+    }
+
+    /**
+     * Gets the resultsFile.
+     *
+     * @return
+     */
+    public File getResultsFile() {
+        return resultsFile;
+    }
+
+    /**
+     * Sets the resultsFile.
+     *
+     * @param resultsFile
+     */
+    public void setResultsFile(File resultsFile) {
+        this.resultsFile = resultsFile;
+    }
 }
@@ -161,6 +161,58 @@ public class CitrusAppOptions {
                 }
             }
         });
+
+        options.add(new CliOption<CitrusAppConfiguration>("w", "workers", "Number of worker threads executing test classes concurrently") {
+            @Override
+            protected void doProcess(CitrusAppConfiguration configuration, String arg, String value, LinkedList<String> remainingArgs) {
+                if (StringUtils.hasText(value)) {
+                    configuration.setThreadCount(Integer.valueOf(value));
+                } else {
+                    throw new CitrusRuntimeException("Missing parameter value for -w/--workers option");
+                }
+            }
+        });
+
+        options.add(new CliOption<CitrusAppConfiguration>("x", "shard", "Test shard to execute given as index/count (zero based index)") {
+            @Override
+            protected void doProcess(CitrusAppConfiguration configuration, String arg, String value, LinkedList<String> remainingArgs) {
+                if (StringUtils.hasText(value) && value.contains("/")) {
+                    int shardIndex = Integer.valueOf(value.substring(0, value.indexOf("/")).trim());
+                    int shardCount = Integer.valueOf(value.substring(value.indexOf("/") + 1).trim());
+
+                    if (shardCount < 1 || shardIndex < 0 || shardIndex >= shardCount) {
+                        throw new CitrusRuntimeException(String.format("Invalid test shard %s for -x/--shard option", value));
+                    }
+
+                    configuration.setShardIndex(shardIndex);
+                    configuration.setShardCount(shardCount);
+                } else {
+                    throw new CitrusRuntimeException("Missing parameter value for -x/--shard option");
+                }
+            }
+        });
+
+        options.add(new CliOption<CitrusAppConfiguration>("f", "forks", "Number of JVM worker processes the test suite is split across") {
+            @Override
+            protected void doProcess(CitrusAppConfiguration configuration, String arg, String value, LinkedList<String> remainingArgs) {
+                if (StringUtils.hasText(value)) {
+                    configuration.setForkCount(Integer.valueOf(value));
+                } else {
+                    throw new CitrusRuntimeException("Missing parameter value for -f/--forks option");
+                }
+            }
+        });
+
+        options.add(new CliOption<CitrusAppConfiguration>("r", "results", "File test results are written to when finished") {
+            @Override
+            protected void doProcess(CitrusAppConfiguration configuration, String arg, String value, LinkedList<String> remainingArgs) {
+                if (StringUtils.hasText(value)) {
+                    configuration.setResultsFile(new File(value));
+                } else {
+                    throw new CitrusRuntimeException("Missing parameter value for -r/--results option");
+                }
+            }
+        });
     }
 
     /**
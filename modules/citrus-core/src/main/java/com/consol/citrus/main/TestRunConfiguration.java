@@ -42,6 +42,15 @@ public class TestRunConfiguration {
     /** Optional test jar artifact holding tests */
     private File testJar;
 
+    /** Number of worker threads executing test classes concurrently */
+    private int threadCount = 1;
+
+    /** Index of test shard to execute */
+    private int shardIndex = 0;
+
+    /** Total number of test shards the test suite is split into */
+    private int shardCount = 1;
+
     /**
      * Gets the testClasses.
      *
@@ -131,4 +140,58 @@ public class TestRunConfiguration {
     public void addDefaultProperties(Map<String, String> defaultProperties) {
         this.defaultProperties = defaultProperties;
     }
+
+    /**
+     * Gets the threadCount.
+     *
+     * @return
+     */
+    public int getThreadCount() {
+        return threadCount;
+    }
+
+    /**
+     * Sets the threadCount.
+     *
+     * @param threadCount
+     */
+    public void setThreadCount(int threadCount) {
+        this.threadCount = threadCount;
+    }
+
+    /**
+     * Gets the shardIndex.
+     *
+     * @return
+     */
+    public int getShardIndex() {
+        return shardIndex;
+    }
+
+    /**
+     * Sets the shardIndex.
+     *
+     * @param shardIndex
+     */
+    public void setShardIndex(int shardIndex) {
+        this.shardIndex = shardIndex;
+    }
+
+    /**
+     * Gets the shardCount.
+     *
+     * @return
+     */
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    /**
+     * Sets the shardCount.
+     *
+     * @param shardCount
+     */
+    public void setShardCount(int shardCount) {
+        this.shardCount = shardCount;
+    }
 }
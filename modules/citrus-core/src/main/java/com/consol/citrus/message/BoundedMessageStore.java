@@ -0,0 +1,502 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.message;
+
+import com.consol.citrus.TestAction;
+import com.consol.citrus.endpoint.Endpoint;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.Assert;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.*;
+
+/**
+ * Message store with limited memory budget. Messages are held in memory until the estimated size of all stored messages
+ * exceeds the memory limit. Least recently used messages are then evicted and spilled to a memory mapped file
+ * in the temporary directory. Spilled messages are reloaded transparently when accessed.
+ *
+ * Space of spilled messages that get overwritten is reclaimed by compacting the spill file once the obsolete bytes exceed
+ * the live spilled bytes. Store should be closed after use in order to release the spill file.
+ *
+ * Store exposes statistics on stored entries, bytes held in memory and spill/reload operations.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class BoundedMessageStore implements MessageStore, Closeable {
+
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(BoundedMessageStore.class);
+
+    /** Default memory limit in bytes */
+    public static final long DEFAULT_MEMORY_LIMIT = 64 * 1024 * 1024L;
+
+    /** Default size of memory mapped spill file segments in bytes */
+    public static final int DEFAULT_SEGMENT_SIZE = 16 * 1024 * 1024;
+
+    /** Estimated memory footprint of a single message header */
+    private static final int HEADER_SIZE_ESTIMATE = 64;
+
+    /** Maximum number of bytes held in memory */
+    private final long memoryLimit;
+
+    /** Size of memory mapped file segments */
+    private int segmentSize = DEFAULT_SEGMENT_SIZE;
+
+    /** In memory messages in least recently used order */
+    private final LinkedHashMap<String, StoredMessage> messages = new LinkedHashMap<>(16, 0.75f, true);
+
+    /** Location of spilled messages in spill file */
+    private final Map<String, SpillLocation> spilled = new HashMap<>();
+
+    /** Memory mapped spill file segments */
+    private final List<MappedByteBuffer> segments = new ArrayList<>();
+
+    /** Spill file and channel lazily created on first spill */
+    private Path spillFile;
+    private FileChannel spillChannel;
+
+    /** Statistics */
+    private long bytesInMemory;
+    private long spilledBytes;
+    private long spillCount;
+    private long reloadCount;
+    private long compactionCount;
+
+    /** Bytes written to current spill file and obsolete bytes of overwritten messages in there */
+    private long spillFileBytes;
+    private long obsoleteBytes;
+
+    /**
+     * Default constructor using default memory limit.
+     */
+    public BoundedMessageStore() {
+        this(DEFAULT_MEMORY_LIMIT);
+    }
+
+    /**
+     * Constructor using memory limit in bytes.
+     * @param memoryLimit
+     */
+    public BoundedMessageStore(long memoryLimit) {
+        Assert.isTrue(memoryLimit > 0, "Memory limit must be a positive number");
+        this.memoryLimit = memoryLimit;
+    }
+
+    @Override
+    public synchronized Message getMessage(String id) {
+        StoredMessage stored = messages.get(id);
+        if (stored != null) {
+            return stored.message;
+        }
+
+        SpillLocation location = spilled.get(id);
+        if (location != null) {
+            reloadCount++;
+            return reload(location);
+        }
+
+        return null;
+    }
+
+    @Override
+    public synchronized void storeMessage(String id, Message message) {
+        StoredMessage previous = messages.remove(id);
+        if (previous != null) {
+            bytesInMemory -= previous.size;
+        }
+        SpillLocation obsolete = spilled.remove(id);
+        if (obsolete != null) {
+            obsoleteBytes += obsolete.length;
+        }
+
+        StoredMessage stored = new StoredMessage(message, estimateSize(message));
+        messages.put(id, stored);
+        bytesInMemory += stored.size;
+
+        Iterator<Map.Entry<String, StoredMessage>> eldest = messages.entrySet().iterator();
+        while (bytesInMemory > memoryLimit && eldest.hasNext()) {
+            Map.Entry<String, StoredMessage> entry = eldest.next();
+            spill(entry.getKey(), entry.getValue().message);
+            bytesInMemory -= entry.getValue().size;
+            eldest.remove();
+        }
+
+        if (obsoleteBytes > segmentSize && obsoleteBytes > spillFileBytes - obsoleteBytes) {
+            compact();
+        }
+    }
+
+    @Override
+    public String constructMessageName(TestAction action, Endpoint endpoint) {
+        return action.getName() + "(" + endpoint.getName() + ")";
+    }
+
+    /**
+     * Estimates the memory footprint of given message.
+     * @param message
+     * @return
+     */
+    protected long estimateSize(Message message) {
+        long size;
+        Object payload = message.getPayload();
+        if (payload == null) {
+            size = 0L;
+        } else if (payload instanceof byte[]) {
+            size = ((byte[]) payload).length;
+        } else if (payload instanceof String) {
+            size = ((String) payload).length() * 2L;
+        } else {
+            size = message.getPayload(String.class).length() * 2L;
+        }
+
+        size += message.getHeaders().size() * HEADER_SIZE_ESTIMATE;
+        for (String headerData : message.getHeaderData()) {
+            size += headerData.length() * 2L;
+        }
+
+        return size;
+    }
+
+    /**
+     * Writes serialized message to spill file.
+     * @param id
+     * @param message
+     */
+    private void spill(String id, Message message) {
+        byte[] data = serialize(message);
+
+        try {
+            write(id, data);
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to spill message to file", e);
+        }
+
+        spillCount++;
+        spilledBytes += data.length;
+
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Spilled message '%s' to file (%s bytes)", id, data.length));
+        }
+    }
+
+    /**
+     * Writes data to the end of the spill file and remembers its location.
+     * @param id
+     * @param data
+     * @throws IOException
+     */
+    private void write(String id, byte[] data) throws IOException {
+        if (segments.isEmpty() || segments.get(segments.size() - 1).remaining() < data.length) {
+            addSegment(Math.max(segmentSize, data.length));
+        }
+
+        int segment = segments.size() - 1;
+        MappedByteBuffer buffer = segments.get(segment);
+        spilled.put(id, new SpillLocation(segment, buffer.position(), data.length));
+        buffer.put(data);
+
+        spillFileBytes += data.length;
+    }
+
+    /**
+     * Reads raw data of spilled message from given segments.
+     * @param segments
+     * @param location
+     * @return
+     */
+    private static byte[] read(List<MappedByteBuffer> segments, SpillLocation location) {
+        ByteBuffer buffer = segments.get(location.segment).duplicate();
+        buffer.position(location.offset);
+
+        byte[] data = new byte[location.length];
+        buffer.get(data);
+        return data;
+    }
+
+    /**
+     * Copies all live spilled messages to a new spill file and releases the old file with all obsolete bytes.
+     */
+    private void compact() {
+        List<MappedByteBuffer> oldSegments = new ArrayList<>(segments);
+        Map<String, SpillLocation> oldLocations = new LinkedHashMap<>(spilled);
+        FileChannel oldChannel = spillChannel;
+        Path oldFile = spillFile;
+
+        segments.clear();
+        spilled.clear();
+        spillChannel = null;
+        spillFile = null;
+        spillFileBytes = 0L;
+        obsoleteBytes = 0L;
+
+        try {
+            for (Map.Entry<String, SpillLocation> entry : oldLocations.entrySet()) {
+                write(entry.getKey(), read(oldSegments, entry.getValue()));
+            }
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to compact message store spill file", e);
+        } finally {
+            releaseSpillFile(oldChannel, oldFile);
+        }
+
+        compactionCount++;
+
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Compacted message store spill file (%s live bytes)", spillFileBytes));
+        }
+    }
+
+    /**
+     * Reads message from spill file.
+     * @param location
+     * @return
+     */
+    private Message reload(SpillLocation location) {
+        byte[] data = read(segments, location);
+
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(data))) {
+            return (Message) in.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            throw new CitrusRuntimeException("Failed to reload spilled message", e);
+        }
+    }
+
+    /**
+     * Serializes message. In case message is not serializable as is payload and header values are converted to String
+     * representations.
+     * @param message
+     * @return
+     */
+    private byte[] serialize(Message message) {
+        try {
+            return writeObject(message);
+        } catch (NotSerializableException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Message not serializable - spill message with String payload and header values", e);
+            }
+
+            Map<String, Object> headers = new LinkedHashMap<>();
+            message.getHeaders().forEach((name, value) -> headers.put(name, value instanceof Serializable ? value : String.valueOf(value)));
+
+            DefaultMessage copy = new DefaultMessage(message.getPayload(String.class), headers);
+            copy.setName(message.getName());
+            message.getHeaderData().forEach(copy::addHeaderData);
+
+            try {
+                return writeObject(copy);
+            } catch (IOException ex) {
+                throw new CitrusRuntimeException("Failed to serialize message for spill file", ex);
+            }
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to serialize message for spill file", e);
+        }
+    }
+
+    private byte[] writeObject(Object object) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(object);
+        }
+
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Adds new memory mapped segment to spill file.
+     * @param size
+     * @throws IOException
+     */
+    private void addSegment(int size) throws IOException {
+        if (spillChannel == null) {
+            spillFile = Files.createTempFile("citrus-message-store", ".spill");
+            spillFile.toFile().deleteOnExit();
+            spillChannel = FileChannel.open(spillFile, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        }
+
+        segments.add(spillChannel.map(FileChannel.MapMode.READ_WRITE, spillChannel.size(), size));
+    }
+
+    /**
+     * Closes spill file and removes all spilled messages.
+     */
+    @Override
+    public synchronized void close() {
+        spilled.clear();
+        segments.clear();
+        spillFileBytes = 0L;
+        obsoleteBytes = 0L;
+
+        releaseSpillFile(spillChannel, spillFile);
+        spillChannel = null;
+        spillFile = null;
+    }
+
+    /**
+     * Closes file channel and deletes spill file.
+     * @param channel
+     * @param file
+     */
+    private void releaseSpillFile(FileChannel channel, Path file) {
+        if (channel != null) {
+            try {
+                channel.close();
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("Failed to remove message store spill file", e);
+            }
+        }
+    }
+
+    /**
+     * Gets the number of stored messages in memory and in spill file.
+     * @return
+     */
+    public synchronized int getEntryCount() {
+        return messages.size() + spilled.size();
+    }
+
+    /**
+     * Gets the number of messages held in memory.
+     * @return
+     */
+    public synchronized int getMemoryEntryCount() {
+        return messages.size();
+    }
+
+    /**
+     * Gets the number of messages in spill file.
+     * @return
+     */
+    public synchronized int getSpilledEntryCount() {
+        return spilled.size();
+    }
+
+    /**
+     * Gets the estimated number of bytes held in memory.
+     * @return
+     */
+    public synchronized long getBytesInMemory() {
+        return bytesInMemory;
+    }
+
+    /**
+     * Gets the total number of bytes written to spill file.
+     * @return
+     */
+    public synchronized long getSpilledBytes() {
+        return spilledBytes;
+    }
+
+    /**
+     * Gets the number of spill operations.
+     * @return
+     */
+    public synchronized long getSpillCount() {
+        return spillCount;
+    }
+
+    /**
+     * Gets the number of reload operations from spill file.
+     * @return
+     */
+    public synchronized long getReloadCount() {
+        return reloadCount;
+    }
+
+    /**
+     * Gets the number of spill file compactions.
+     * @return
+     */
+    public synchronized long getCompactionCount() {
+        return compactionCount;
+    }
+
+    /**
+     * Gets the current spill file or null when no message has been spilled yet.
+     * @return
+     */
+    public synchronized Path getSpillFile() {
+        return spillFile;
+    }
+
+    /**
+     * Gets the file channel of the current spill file.
+     * @return
+     */
+    synchronized FileChannel getSpillChannel() {
+        return spillChannel;
+    }
+
+    /**
+     * Gets the memory limit.
+     * @return
+     */
+    public long getMemoryLimit() {
+        return memoryLimit;
+    }
+
+    /**
+     * Sets the spill file segment size.
+     * @param segmentSize
+     */
+    public void setSegmentSize(int segmentSize) {
+        this.segmentSize = segmentSize;
+    }
+
+    /**
+     * Gets the spill file segment size.
+     * @return
+     */
+    public int getSegmentSize() {
+        return segmentSize;
+    }
+
+    /**
+     * Message held in memory with its estimated size.
+     */
+    private static class StoredMessage {
+        private final Message message;
+        private final long size;
+
+        StoredMessage(Message message, long size) {
+            this.message = message;
+            this.size = size;
+        }
+    }
+
+    /**
+     * Location of spilled message in memory mapped segments.
+     */
+    private static class SpillLocation {
+        private final int segment;
+        private final int offset;
+        private final int length;
+
+        SpillLocation(int segment, int offset, int length) {
+            this.segment = segment;
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.message.correlation;
+
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.endpoint.PollableEndpointConfiguration;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Correlation manager waits for stored objects instead of polling the object store. Store operations directly
+ * wake up clients waiting on the very same correlation key. Same mechanism applies to correlation keys saved to the test context.
+ *
+ * In case a custom object store implementation is set that is not able to signal waiting clients the manager falls back
+ * to the polling mechanism of its super class.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class SignalingCorrelationManager<T> extends PollingCorrelationManager<T> {
+
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(SignalingCorrelationManager.class);
+
+    /** Time to wait for correlation keys to be saved */
+    private static final long CORRELATION_KEY_TIMEOUT = 1000L;
+
+    /** Monitor signaled when new correlation keys are saved */
+    private final Object correlationKeyMonitor = new Object();
+
+    /**
+     * Constructor using fields.
+     * @param endpointConfiguration
+     * @param retryLogMessage
+     */
+    public SignalingCorrelationManager(PollableEndpointConfiguration endpointConfiguration, String retryLogMessage) {
+        super(endpointConfiguration, retryLogMessage);
+        setObjectStore(new SignalingObjectStore<>());
+    }
+
+    @Override
+    public void saveCorrelationKey(String correlationKeyName, String correlationKey, TestContext context) {
+        super.saveCorrelationKey(correlationKeyName, correlationKey, context);
+
+        synchronized (correlationKeyMonitor) {
+            correlationKeyMonitor.notifyAll();
+        }
+    }
+
+    @Override
+    public String getCorrelationKey(String correlationKeyName, TestContext context) {
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Get correlation key for '%s'", correlationKeyName));
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(CORRELATION_KEY_TIMEOUT);
+
+        synchronized (correlationKeyMonitor) {
+            long timeLeft = CORRELATION_KEY_TIMEOUT;
+            while (!context.getVariables().containsKey(correlationKeyName) && timeLeft > 0) {
+                try {
+                    correlationKeyMonitor.wait(timeLeft);
+                } catch (InterruptedException e) {
+                    log.warn("Thread interrupted while waiting for correlation key", e);
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+
+                timeLeft = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            }
+        }
+
+        if (context.getVariables().containsKey(correlationKeyName)) {
+            return context.getVariable(correlationKeyName);
+        }
+
+        throw new CitrusRuntimeException(String.format("Failed to get correlation key for '%s'", correlationKeyName));
+    }
+
+    @Override
+    public T find(String correlationKey, long timeout) {
+        if (!(getObjectStore() instanceof SignalingObjectStore)) {
+            return super.find(correlationKey, timeout);
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Finding correlated object for '%s'", correlationKey));
+        }
+
+        try {
+            return ((SignalingObjectStore<T>) getObjectStore()).remove(correlationKey, timeout);
+        } catch (InterruptedException e) {
+            log.warn("Thread interrupted while waiting for correlated object", e);
+            Thread.currentThread().interrupt();
+            return getObjectStore().remove(correlationKey);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.message.correlation;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Object store implementation that is able to block on remove operations until an object with the
+ * given correlation key is added to the store. Add operations directly signal waiting clients of the very same
+ * correlation key so no polling is required.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class SignalingObjectStore<T> extends DefaultObjectStore<T> {
+
+    /** Lock guarding waiting clients */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /** Waiting clients per correlation key */
+    private final Map<String, Waiters> waiters = new HashMap<>();
+
+    @Override
+    public void add(String correlationKey, T object) {
+        super.add(correlationKey, object);
+
+        lock.lock();
+        try {
+            Waiters keyWaiters = waiters.get(correlationKey);
+            if (keyWaiters != null) {
+                keyWaiters.condition.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes object with correlation key. Blocks until object is added to the store or given timeout is exceeded.
+     * @param correlationKey
+     * @param timeout
+     * @return the stored object or null when timeout is exceeded.
+     * @throws InterruptedException
+     */
+    public T remove(String correlationKey, long timeout) throws InterruptedException {
+        T stored = remove(correlationKey);
+        if (stored != null || timeout <= 0) {
+            return stored;
+        }
+
+        long nanosLeft = TimeUnit.MILLISECONDS.toNanos(timeout);
+
+        lock.lock();
+        try {
+            Waiters keyWaiters = waiters.computeIfAbsent(correlationKey, key -> new Waiters(lock.newCondition()));
+            keyWaiters.count++;
+
+            try {
+                stored = remove(correlationKey);
+                while (stored == null && nanosLeft > 0) {
+                    nanosLeft = keyWaiters.condition.awaitNanos(nanosLeft);
+                    stored = remove(correlationKey);
+                }
+            } finally {
+                if (--keyWaiters.count == 0) {
+                    waiters.remove(correlationKey);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        return stored;
+    }
+
+    /**
+     * Condition and number of clients waiting on a single correlation key.
+     */
+    private static class Waiters {
+        private final Condition condition;
+        private int count;
+
+        Waiters(Condition condition) {
+            this.condition = condition;
+        }
+    }
+}
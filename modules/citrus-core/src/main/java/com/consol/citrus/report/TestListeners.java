@@ -19,20 +19,29 @@ package com.consol.citrus.report;
 import com.consol.citrus.TestCase;
 import org.springframework.beans.factory.annotation.Autowired;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Class that spreads test events to all available test listeners 
- * injected by Spring's IoC container.
+ * injected by Spring's IoC container. Listeners may be added while tests are running in parallel.
  * 
  * @author Christoph Deppisch
  */
 public class TestListeners {
     
     /** List of test listeners **/
+    private final CopyOnWriteArrayList<TestListener> testListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Sets the test listeners injected by Spring.
+     * @param testListeners
+     */
     @Autowired
-    private List<TestListener> testListeners = new ArrayList<TestListener>();
+    public void setTestListeners(List<TestListener> testListeners) {
+        this.testListeners.clear();
+        this.testListeners.addAll(testListeners);
+    }
 
     public void onTestFailure(TestCase test, Throwable cause) {
         for (TestListener listener : testListeners) {
@@ -69,8 +78,6 @@ public class TestListeners {
      * @param listener
      */
     public void addTestListener(TestListener listener) {
-        if (!testListeners.contains(listener)) {
-            this.testListeners.add(listener);
-        }
+        this.testListeners.addIfAbsent(listener);
     }
 }
@@ -63,6 +63,14 @@ public class TestResults {
         return results.add(result);
     }
 
+    /**
+     * Adds all results of given test results to this result list. Used to merge results of several test runs.
+     * @param testResults
+     */
+    public void addResults(TestResults testResults) {
+        testResults.doWithResults(this::addResult);
+    }
+
     /**
      * Provides synchronized access to all test results in iteration.
      * @param callback
@@ -16,7 +16,6 @@
 
 package com.consol.citrus.script;
 
-import groovy.lang.GroovyClassLoader;
 import groovy.lang.GroovyObject;
 
 import org.slf4j.Logger;
@@ -27,10 +26,6 @@ import com.consol.citrus.actions.AbstractTestAction;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.util.FileUtils;
-import com.consol.citrus.validation.script.TemplateBasedScriptBuilder;
-
-import java.security.AccessController;
-import java.security.PrivilegedAction;
 
 /**
  * Action executes groovy scripts either specified inline or from external file resource.
@@ -73,41 +68,28 @@ public class GroovyAction extends AbstractTestAction {
     @Override
     public void doExecute(TestContext context) {
         try {
-            GroovyClassLoader loader = AccessController.doPrivileged(new PrivilegedAction<GroovyClassLoader>() {
-                public GroovyClassLoader run() {
-                    ClassLoader parent = getClass().getClassLoader();
-                    return new GroovyClassLoader(parent);
-                }
-            });
-
             assertScriptProvided();
 
             String rawCode = StringUtils.hasText(script) ? script.trim() : FileUtils.readToString(FileUtils.getFileResource(scriptResourcePath, context));
             String code = context.replaceDynamicContentInString(rawCode.trim());
 
-            // load groovy code
-            Class<?> groovyClass = loader.parseClass(code);
-            // Instantiate an object from groovy code
-            GroovyObject groovyObject = (GroovyObject) groovyClass.newInstance();
+            // load groovy code from compiled script class cache
+            Class<?> groovyClass = GroovyScriptCache.parseClass(code);
 
             // only apply default script template in case we have feature enabled and code is not a class, too
-            if (useScriptTemplate && groovyObject.getClass().getSimpleName().startsWith("script")) {
+            if (useScriptTemplate && groovyClass.getSimpleName().startsWith("script")) {
                 if (StringUtils.hasText(scriptTemplate)) {
-                    // build new script with surrounding template
-                    code = TemplateBasedScriptBuilder.fromTemplateScript(context.replaceDynamicContentInString(scriptTemplate))
-                            .withCode(code)
-                            .build();
+                    // load script with surrounding template
+                    groovyClass = GroovyScriptCache.parseClass(context.replaceDynamicContentInString(scriptTemplate), code);
                 } else {
-                    // build new script with surrounding template
-                    code = TemplateBasedScriptBuilder.fromTemplateResource(FileUtils.getFileResource(scriptTemplatePath, context))
-                            .withCode(code)
-                            .build();
+                    // load script with surrounding template resource
+                    groovyClass = GroovyScriptCache.parseClass(FileUtils.getFileResource(scriptTemplatePath, context), code);
                 }
-
-                groovyClass = loader.parseClass(code);
-                groovyObject = (GroovyObject) groovyClass.newInstance();
             }
 
+            // Instantiate an object from groovy code
+            GroovyObject groovyObject = (GroovyObject) groovyClass.newInstance();
+
             if (log.isDebugEnabled()) {
                 log.debug("Executing Groovy script:\n" + code);
             }
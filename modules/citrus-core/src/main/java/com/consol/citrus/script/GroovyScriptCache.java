@@ -0,0 +1,196 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.script;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.validation.script.TemplateBasedScriptBuilder;
+import groovy.lang.GroovyClassLoader;
+import org.springframework.core.io.Resource;
+
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * Cache of compiled Groovy script classes. Classes are cached by script template and script code so repeated
+ * executions of the same script do not compile the script again. All scripts are compiled with a shared Groovy class
+ * loader. The class loader is replaced with a new instance after a maximum number of compiled classes so classes of
+ * scripts that got evicted from the cache can be unloaded.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public final class GroovyScriptCache {
+
+    /** Maximum number of cached script classes */
+    public static final int CACHE_SIZE = 256;
+
+    /** Maximum number of classes compiled with the same class loader */
+    public static final int CLASS_LOADER_LIMIT = 4 * CACHE_SIZE;
+
+    /** Compiled script classes by template and code in least recently used order */
+    private static final Map<ScriptKey, Class<?>> scriptClasses = Collections.synchronizedMap(
+            new LinkedHashMap<ScriptKey, Class<?>>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<ScriptKey, Class<?>> eldest) {
+                    return size() > CACHE_SIZE;
+                }
+            });
+
+    /** Shared class loader for compiling scripts */
+    private static GroovyClassLoader classLoader;
+
+    /** Number of classes compiled with current class loader */
+    private static int compiledClasses = 0;
+
+    /**
+     * Prevent instantiation.
+     */
+    private GroovyScriptCache() {
+    }
+
+    /**
+     * Gets compiled class for given Groovy code.
+     * @param code
+     * @return
+     */
+    public static Class<?> parseClass(String code) {
+        return parseClass(new ScriptKey(null, code), () -> code);
+    }
+
+    /**
+     * Gets compiled class for given Groovy code surrounded by script template.
+     * @param scriptTemplate
+     * @param code
+     * @return
+     */
+    public static Class<?> parseClass(String scriptTemplate, String code) {
+        return parseClass(new ScriptKey(scriptTemplate, code),
+                () -> TemplateBasedScriptBuilder.fromTemplateScript(scriptTemplate).withCode(code).build());
+    }
+
+    /**
+     * Gets compiled class for given Groovy code surrounded by script template resource. Template resource is
+     * only read in case the class is not cached yet.
+     * @param scriptTemplateResource
+     * @param code
+     * @return
+     */
+    public static Class<?> parseClass(Resource scriptTemplateResource, String code) {
+        return parseClass(new ScriptKey(scriptTemplateResource.getDescription(), code),
+                () -> TemplateBasedScriptBuilder.fromTemplateResource(scriptTemplateResource).withCode(code).build());
+    }
+
+    /**
+     * Removes all cached script classes and releases the shared class loader.
+     */
+    public static void clear() {
+        synchronized (GroovyScriptCache.class) {
+            scriptClasses.clear();
+            classLoader = null;
+            compiledClasses = 0;
+        }
+    }
+
+    /**
+     * Gets the number of cached script classes.
+     * @return
+     */
+    public static int size() {
+        return scriptClasses.size();
+    }
+
+    /**
+     * Gets cached class or compiles the script provided by given source supplier.
+     * @param key
+     * @param source
+     * @return
+     */
+    private static Class<?> parseClass(ScriptKey key, Supplier<String> source) {
+        Class<?> groovyClass = scriptClasses.get(key);
+        if (groovyClass != null) {
+            return groovyClass;
+        }
+
+        synchronized (GroovyScriptCache.class) {
+            groovyClass = scriptClasses.get(key);
+            if (groovyClass == null) {
+                groovyClass = getClassLoader().parseClass(source.get());
+
+                if (groovyClass == null) {
+                    throw new CitrusRuntimeException("Failed to load groovy script");
+                }
+
+                compiledClasses++;
+                scriptClasses.put(key, groovyClass);
+            }
+        }
+
+        return groovyClass;
+    }
+
+    /**
+     * Gets the shared class loader. Creates new class loader in case the current one has reached the
+     * maximum number of compiled classes.
+     * @return
+     */
+    private static GroovyClassLoader getClassLoader() {
+        if (classLoader == null || compiledClasses >= CLASS_LOADER_LIMIT) {
+            classLoader = AccessController.doPrivileged(new PrivilegedAction<GroovyClassLoader>() {
+                public GroovyClassLoader run() {
+                    return new GroovyClassLoader(GroovyScriptCache.class.getClassLoader());
+                }
+            });
+            compiledClasses = 0;
+        }
+
+        return classLoader;
+    }
+
+    /**
+     * Cache key combining script template and script code.
+     */
+    private static final class ScriptKey {
+        private final String template;
+        private final String code;
+
+        ScriptKey(String template, String code) {
+            this.template = template;
+            this.code = code;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (!(o instanceof ScriptKey)) {
+                return false;
+            }
+
+            ScriptKey other = (ScriptKey) o;
+            return Objects.equals(template, other.template) && code.equals(other.code);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Objects.hashCode(template) + code.hashCode();
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.script;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.util.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compiles Groovy script resources on application context startup and adds the compiled classes to the
+ * {@link GroovyScriptCache}. Groovy actions executing the same script resource later on use the precompiled classes.
+ * Scripts must not contain test variables or functions as these are resolved before the script is compiled at runtime.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class GroovyScriptPrecompiler implements InitializingBean {
+
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(GroovyScriptPrecompiler.class);
+
+    /** Script resources to compile */
+    private List<Resource> scripts = new ArrayList<>();
+
+    /** Script template resource surrounding scripts */
+    private Resource scriptTemplate = new ClassPathResource("com/consol/citrus/script/script-template.groovy");
+
+    /** Manage automatic groovy template usage */
+    private boolean useScriptTemplate = true;
+
+    @Override
+    public void afterPropertiesSet() {
+        for (Resource script : scripts) {
+            try {
+                String code = FileUtils.readToString(script).trim();
+                Class<?> groovyClass = GroovyScriptCache.parseClass(code);
+
+                if (useScriptTemplate && groovyClass.getSimpleName().startsWith("script")) {
+                    GroovyScriptCache.parseClass(scriptTemplate, code);
+                }
+
+                if (log.isDebugEnabled()) {
+                    log.debug("Precompiled Groovy script: " + script.getDescription());
+                }
+            } catch (IOException e) {
+                throw new CitrusRuntimeException("Failed to read Groovy script resource: " + script.getDescription(), e);
+            }
+        }
+    }
+
+    /**
+     * Sets the script resources to compile.
+     * @param scripts
+     */
+    public void setScripts(List<Resource> scripts) {
+        this.scripts = scripts;
+    }
+
+    /**
+     * Gets the script resources to compile.
+     * @return
+     */
+    public List<Resource> getScripts() {
+        return scripts;
+    }
+
+    /**
+     * Sets the script template resource.
+     * @param scriptTemplate
+     */
+    public void setScriptTemplate(Resource scriptTemplate) {
+        this.scriptTemplate = scriptTemplate;
+    }
+
+    /**
+     * Gets the script template resource.
+     * @return
+     */
+    public Resource getScriptTemplate() {
+        return scriptTemplate;
+    }
+
+    /**
+     * Prevent script template usage if false.
+     * @param useScriptTemplate
+     */
+    public void setUseScriptTemplate(boolean useScriptTemplate) {
+        this.useScriptTemplate = useScriptTemplate;
+    }
+
+    /**
+     * Gets the useScriptTemplate.
+     * @return
+     */
+    public boolean isUseScriptTemplate() {
+        return useScriptTemplate;
+    }
+}
@@ -18,7 +18,6 @@ package com.consol.citrus.script;
 
 import com.consol.citrus.TestCase;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
-import groovy.lang.GroovyClassLoader;
 import groovy.lang.GroovyObject;
 import org.codehaus.groovy.control.CompilationFailedException;
 import org.slf4j.Logger;
@@ -29,8 +28,6 @@ import org.springframework.context.ApplicationContextAware;
 import org.springframework.core.io.Resource;
 
 import java.io.*;
-import java.security.AccessController;
-import java.security.PrivilegedAction;
 
 /**
  * Class parsing a groovy script to create a test case instance.
@@ -63,13 +60,6 @@ public final class GroovyTestCaseParser implements ApplicationContextAware {
         BufferedReader bodyReader = null;
         
         try {
-            GroovyClassLoader loader = AccessController.doPrivileged(new PrivilegedAction<GroovyClassLoader>() {
-                public GroovyClassLoader run() {
-                    ClassLoader parent = getClass().getClassLoader();
-                    return new GroovyClassLoader(parent);
-                }
-            });
-
             StringBuilder script = new StringBuilder();
             bodyReader = new BufferedReader(new FileReader(groovyScript.getFile()));
             templateReader = new BufferedReader(new InputStreamReader(this.getClass().getResourceAsStream("test_template.groovy")));
@@ -87,7 +77,7 @@ public final class GroovyTestCaseParser implements ApplicationContextAware {
                 }
             }
             
-            Class<?> groovyClass = loader.parseClass(script.toString());
+            Class<?> groovyClass = GroovyScriptCache.parseClass(script.toString());
     
             GroovyObject groovyObject;
             groovyObject = (GroovyObject) groovyClass.newInstance();
@@ -142,7 +142,7 @@ public abstract class AbstractServer extends AbstractEndpoint implements Server,
             if (beanFactory != null && beanFactory.containsBean(getName() + DEFAULT_CHANNEL_ID_SUFFIX)) {
                 inboundChannel = beanFactory.getBean(getName() + DEFAULT_CHANNEL_ID_SUFFIX, MessageSelectingQueueChannel.class);
             } else {
-                inboundChannel = new MessageSelectingQueueChannel();
+                inboundChannel = new SignalingMessageSelectingQueueChannel();
                 inboundChannel.setBeanName(getName() + DEFAULT_CHANNEL_ID_SUFFIX);
             }
 
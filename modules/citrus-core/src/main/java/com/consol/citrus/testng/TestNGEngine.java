@@ -17,6 +17,7 @@
 package com.consol.citrus.testng;
 
 import com.consol.citrus.TestClass;
+import com.consol.citrus.TestResult;
 import com.consol.citrus.main.AbstractTestEngine;
 import com.consol.citrus.main.TestRunConfiguration;
 import com.consol.citrus.main.scan.ClassPathTestScanner;
@@ -25,13 +26,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
-import org.testng.ITestNGListener;
-import org.testng.TestNG;
+import org.testng.*;
 import org.testng.annotations.Test;
 import org.testng.xml.*;
 
 import java.net.*;
 import java.util.*;
+import java.util.stream.Collectors;
 
 /**
  * @author Christoph Deppisch
@@ -54,6 +55,7 @@ public class TestNGEngine extends AbstractTestEngine {
 
     public void run() {
         TestNG testng = new TestNG();
+        testng.addListener(new TestResultsListener());
 
         for (ITestNGListener listener : listeners) {
             testng.addListener(listener);
@@ -62,12 +64,21 @@ public class TestNGEngine extends AbstractTestEngine {
         XmlSuite suite = new XmlSuite();
         testng.setXmlSuites(Collections.singletonList(suite));
 
+        if (isParallel()) {
+            log.info(String.format("Running test classes in parallel using %s worker threads", getConfiguration().getThreadCount()));
+            suite.setParallel(XmlSuite.ParallelMode.CLASSES);
+            suite.setThreadCount(getConfiguration().getThreadCount());
+        }
+
         if (!CollectionUtils.isEmpty(getConfiguration().getTestClasses())) {
-            for (TestClass testClass : getConfiguration().getTestClasses()) {
+            XmlTest test = null;
+            for (TestClass testClass : shard(getConfiguration().getTestClasses())) {
                 log.info(String.format("Running test %s", Optional.ofNullable(testClass.getMethod()).map(method -> testClass.getName() + "#" + method).orElse(testClass.getName())));
 
-                XmlTest test = new XmlTest(suite);
-                test.setClasses(new ArrayList<>());
+                if (test == null || !isParallel()) {
+                    test = new XmlTest(suite);
+                    test.setClasses(new ArrayList<>());
+                }
 
                 try {
                     Class<?> clazz;
@@ -94,13 +105,16 @@ public class TestNGEngine extends AbstractTestEngine {
                 log.info("Running all tests in project");
             }
 
+            XmlTest test = null;
             for (String packageName : packagesToRun) {
                 if (StringUtils.hasText(packageName)) {
                     log.info(String.format("Running tests in package %s", packageName));
                 }
 
-                XmlTest test = new XmlTest(suite);
-                test.setClasses(new ArrayList<>());
+                if (test == null || !isParallel()) {
+                    test = new XmlTest(suite);
+                    test.setClasses(new ArrayList<>());
+                }
 
                 List<TestClass> classesToRun;
                 if (getConfiguration().getTestJar() != null) {
@@ -109,7 +123,7 @@ public class TestNGEngine extends AbstractTestEngine {
                     classesToRun = new ClassPathTestScanner(Test.class, getConfiguration().getIncludes()).findTestsInPackage(packageName);
                 }
 
-                classesToRun.stream()
+                List<XmlClass> xmlClasses = shard(classesToRun).stream()
                         .peek(testClass -> log.info(String.format("Running test %s", Optional.ofNullable(testClass.getMethod()).map(method -> testClass.getName() + "#" + method).orElse(testClass.getName()))))
                         .map(testClass -> {
                             try {
@@ -127,9 +141,11 @@ public class TestNGEngine extends AbstractTestEngine {
                         })
                         .filter(clazz -> !clazz.equals(Void.class))
                         .map(XmlClass::new)
-                        .forEach(test.getClasses()::add);
+                        .collect(Collectors.toList());
+
+                test.getClasses().addAll(xmlClasses);
 
-                log.info(String.format("Found %s test classes to execute", test.getClasses().size()));
+                log.info(String.format("Found %s test classes to execute", xmlClasses.size()));
             }
         }
         
@@ -144,4 +160,41 @@ public class TestNGEngine extends AbstractTestEngine {
         this.listeners.add(listener);
         return this;
     }
+
+    /**
+     * Listener collects test results of this engine.
+     */
+    private class TestResultsListener implements ITestListener {
+        @Override
+        public void onTestSuccess(ITestResult result) {
+            getTestResults().addResult(TestResult.success(result.getName(), result.getTestClass().getName()));
+        }
+
+        @Override
+        public void onTestFailure(ITestResult result) {
+            getTestResults().addResult(TestResult.failed(result.getName(), result.getTestClass().getName(), result.getThrowable()));
+        }
+
+        @Override
+        public void onTestSkipped(ITestResult result) {
+            getTestResults().addResult(TestResult.skipped(result.getName(), result.getTestClass().getName()));
+        }
+
+        @Override
+        public void onTestFailedButWithinSuccessPercentage(ITestResult result) {
+            onTestSuccess(result);
+        }
+
+        @Override
+        public void onTestStart(ITestResult result) {
+        }
+
+        @Override
+        public void onStart(ITestContext context) {
+        }
+
+        @Override
+        public void onFinish(ITestContext context) {
+        }
+    }
 }
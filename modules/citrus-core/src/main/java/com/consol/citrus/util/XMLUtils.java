@@ -18,6 +18,7 @@ package com.consol.citrus.util;
 
 import com.consol.citrus.Citrus;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.message.Message;
 import com.consol.citrus.xml.XmlConfigurer;
 import org.springframework.util.StringUtils;
 import org.w3c.dom.*;
@@ -25,6 +26,7 @@ import org.w3c.dom.ls.*;
 
 import javax.xml.XMLConstants;
 import java.io.*;
+import java.lang.ref.SoftReference;
 import java.nio.charset.Charset;
 import java.util.*;
 
@@ -42,6 +44,9 @@ public final class XMLUtils {
     /** Configurer instance */
     private static XmlConfigurer configurer = new XmlConfigurer();
 
+    /** Parsed payload documents cached per message */
+    private static final Map<Object, ParsedPayload> parsedPayloads = Collections.synchronizedMap(new WeakHashMap<>());
+
     /**
      * Prevent instantiation.
      */
@@ -211,8 +216,6 @@ public final class XMLUtils {
      * @return serialized XML string
      */
     public static String serialize(Document doc) {
-        LSSerializer serializer = configurer.createLSSerializer();
-
         LSOutput output = configurer.createLSOutput();
         String charset = getTargetCharset(doc).displayName();
         output.setEncoding(charset);
@@ -220,7 +223,12 @@ public final class XMLUtils {
         StringWriter writer = new StringWriter();
         output.setCharacterStream(writer);
 
-        serializer.write(doc, output);
+        LSSerializer serializer = configurer.borrowLSSerializer();
+        try {
+            serializer.write(doc, output);
+        } finally {
+            configurer.releaseLSSerializer(serializer);
+        }
 
         return writer.toString();
     }
@@ -232,9 +240,6 @@ public final class XMLUtils {
      * @return pretty printed XML string
      */
     public static String prettyPrint(String xml) {
-        LSParser parser = configurer.createLSParser();
-        configurer.setParserConfigParameter(parser, VALIDATE_IF_SCHEMA, false);
-
         LSInput input = configurer.createLSInput();
 
         try {
@@ -246,11 +251,18 @@ public final class XMLUtils {
             throw new CitrusRuntimeException(e);
         }
 
+        LSParser parser = configurer.borrowLSParser();
+        Object validateIfSchema = parser.getDomConfig().getParameter(VALIDATE_IF_SCHEMA);
+        configurer.setParserConfigParameter(parser, VALIDATE_IF_SCHEMA, false);
+
         Document doc;
         try {
             doc = parser.parse(input);
         } catch (Exception e) {
             return xml;
+        } finally {
+            configurer.setParserConfigParameter(parser, VALIDATE_IF_SCHEMA, validateIfSchema);
+            configurer.releaseLSParser(parser);
         }
 
         return serialize(doc);
@@ -336,6 +348,40 @@ public final class XMLUtils {
         return namespaces;
     }
 
+    /**
+     * Parse message payload with DOM implementation. Parsed document is cached with the message so subsequent
+     * validators, extractors and selectors working on the same message share the document. Cached document is
+     * invalidated as soon as the message payload changes. Callers must not modify the returned document.
+     * @param message
+     * @throws CitrusRuntimeException
+     * @return DOM document.
+     */
+    public static Document parseMessagePayload(Message message) {
+        return parseMessagePayload(message, message.getPayload(String.class));
+    }
+
+    /**
+     * Parse message payload with DOM implementation using cached document for given message if the payload
+     * has not changed since last parse. Callers must not modify the returned document.
+     * @param message
+     * @param messagePayload
+     * @throws CitrusRuntimeException
+     * @return DOM document.
+     */
+    public static Document parseMessagePayload(Object message, String messagePayload) {
+        ParsedPayload parsed = parsedPayloads.get(message);
+        if (parsed != null) {
+            Document doc = parsed.getDocument(messagePayload);
+            if (doc != null) {
+                return doc;
+            }
+        }
+
+        Document doc = parseMessagePayload(messagePayload);
+        parsedPayloads.put(message, new ParsedPayload(messagePayload, doc));
+        return doc;
+    }
+
     /**
      * Parse message payload with DOM implementation.
      * @param messagePayload
@@ -343,7 +389,6 @@ public final class XMLUtils {
      * @return DOM document.
      */
     public static Document parseMessagePayload(String messagePayload) {
-        LSParser parser = configurer.createLSParser();
         LSInput receivedInput = configurer.createLSInput();
         try {
             Charset charset = getTargetCharset(messagePayload);
@@ -353,7 +398,12 @@ public final class XMLUtils {
             throw new CitrusRuntimeException(e);
         }
 
-        return parser.parse(receivedInput);
+        LSParser parser = configurer.borrowLSParser();
+        try {
+            return parser.parse(receivedInput);
+        } finally {
+            configurer.releaseLSParser(parser);
+        }
     }
 
     /**
@@ -438,4 +488,30 @@ public final class XMLUtils {
 
         return xml;
     }
+
+    /**
+     * Parsed document for a message payload. Document is softly referenced so it can be reclaimed under memory pressure.
+     */
+    private static class ParsedPayload {
+        private final String payload;
+        private final SoftReference<Document> document;
+
+        ParsedPayload(String payload, Document document) {
+            this.payload = payload;
+            this.document = new SoftReference<>(document);
+        }
+
+        /**
+         * Gets cached document if given payload matches the parsed payload.
+         * @param messagePayload
+         * @return
+         */
+        Document getDocument(String messagePayload) {
+            if (payload == messagePayload || payload.equals(messagePayload)) {
+                return document.get();
+            }
+
+            return null;
+        }
+    }
 }
@@ -23,16 +23,17 @@ import com.consol.citrus.validation.context.ValidationContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.InitializingBean;
-import org.springframework.util.StringUtils;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Simple registry holding all available message validator implementations. Test context can ask this registry for
  * matching validator implementation according to the message type (e.g. xml, json, csv, plaintext).
  * 
- * Registry tries to find a matching validator for the message.
+ * Registry tries to find a matching validator for the message. Resolved validators are cached by message type and payload
+ * family (payload type and first non-whitespace payload character) as this is what the validator implementations base
+ * their support decision on. The cache is invalidated as soon as the list of registered validators changes.
  * 
  * @author Christoph Deppisch
  */
@@ -44,8 +45,20 @@ public class MessageValidatorRegistry implements InitializingBean {
     /** The default bean id in Spring application context*/
     public static final String BEAN_NAME = "citrusMessageValidatorRegistry";
 
+    /** Maximum number of cached validator resolutions */
+    private static final int RESOLUTION_CACHE_SIZE = 256;
+
+    /** Payload family of String payloads that do not hold any text */
+    private static final String EMPTY_PAYLOAD = "";
+
     /** List of registered message validator implementations */
-    private List<MessageValidator<? extends ValidationContext>> messageValidators = new ArrayList<>();
+    private List<MessageValidator<? extends ValidationContext>> messageValidators = new MessageValidatorList(new ArrayList<>());
+
+    /** Resolved message validators by message type and payload family */
+    private final Map<ResolutionKey, List<MessageValidator<? extends ValidationContext>>> resolvedValidators = new ConcurrentHashMap<>();
+
+    /** Resolved default message header validator */
+    private volatile Optional<MessageValidator> defaultMessageHeaderValidator;
 
     /**
      * Finds matching message validators for this message type.
@@ -55,6 +68,34 @@ public class MessageValidatorRegistry implements InitializingBean {
      * @return the list of matching message validators.
      */
     public List<MessageValidator<? extends ValidationContext>> findMessageValidators(String messageType, Message message) {
+        ResolutionKey key = new ResolutionKey(messageType, getPayloadFamily(message));
+        List<MessageValidator<? extends ValidationContext>> matchingValidators = resolvedValidators.get(key);
+
+        if (matchingValidators == null) {
+            matchingValidators = Collections.unmodifiableList(resolveMessageValidators(messageType, message, key.payloadFamily));
+
+            if (resolvedValidators.size() < RESOLUTION_CACHE_SIZE) {
+                resolvedValidators.put(key, matchingValidators);
+            }
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Found %s message validators for message type: %s", matchingValidators.size(), messageType));
+        }
+        
+        return matchingValidators;
+    }
+
+    /**
+     * Finds matching message validators for this message type and payload family. Falls back to validators for the
+     * message type that is derived from the payload family when no proper validator is found.
+     *
+     * @param messageType the message type
+     * @param message the message object
+     * @param payloadFamily the payload family
+     * @return the list of matching message validators.
+     */
+    private List<MessageValidator<? extends ValidationContext>> resolveMessageValidators(String messageType, Message message, Object payloadFamily) {
         List<MessageValidator<? extends ValidationContext>> matchingValidators = new ArrayList<>();
 
         for (MessageValidator<? extends ValidationContext> validator : messageValidators) {
@@ -65,13 +106,12 @@ public class MessageValidatorRegistry implements InitializingBean {
 
         if (matchingValidators.isEmpty() || matchingValidators.stream().allMatch(validator -> DefaultMessageHeaderValidator.class.isAssignableFrom(validator.getClass()))) {
             // try to find fallback message validator for given message payload
-            if (message.getPayload() instanceof String &&
-                    StringUtils.hasText(message.getPayload(String.class))) {
-                String payload = message.getPayload(String.class).trim();
+            if (payloadFamily instanceof Character) {
+                char firstCharacter = (Character) payloadFamily;
 
-                if (payload.startsWith("<") && !messageType.equals(MessageType.XML.name())) {
+                if (firstCharacter == '<' && !messageType.equals(MessageType.XML.name())) {
                     matchingValidators = findFallbackMessageValidators(MessageType.XML.name(), message);
-                } else if ((payload.trim().startsWith("{") || payload.trim().startsWith("[")) && !messageType.equals(MessageType.JSON.name())) {
+                } else if ((firstCharacter == '{' || firstCharacter == '[') && !messageType.equals(MessageType.JSON.name())) {
                     matchingValidators = findFallbackMessageValidators(MessageType.JSON.name(), message);
                 } else if (!messageType.equals(MessageType.PLAINTEXT.name())) {
                     matchingValidators = findFallbackMessageValidators(MessageType.PLAINTEXT.name(), message);
@@ -84,13 +124,33 @@ public class MessageValidatorRegistry implements InitializingBean {
                     messageType + "', please define a capable message validator for this message type");
         }
 
-        if (log.isDebugEnabled()) {
-            log.debug(String.format("Found %s message validators for message type: %s", matchingValidators.size(), messageType));
-        }
-        
         return matchingValidators;
     }
 
+    /**
+     * Gets the payload family of given message. For String payloads this is the first non-whitespace character or the
+     * empty payload family. Only the leading characters of the payload are read. For other payloads the payload type is used.
+     * @param message
+     * @return
+     */
+    private static Object getPayloadFamily(Message message) {
+        Object payload = message.getPayload();
+
+        if (payload instanceof String) {
+            String text = (String) payload;
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (!Character.isWhitespace(c)) {
+                    return c;
+                }
+            }
+
+            return EMPTY_PAYLOAD;
+        }
+
+        return payload != null ? payload.getClass() : Void.class;
+    }
+
     private List<MessageValidator<? extends ValidationContext>> findFallbackMessageValidators(String messageType, Message message) {
         List<MessageValidator<? extends ValidationContext>> matchingValidators = new ArrayList<>();
 
@@ -119,11 +179,12 @@ public class MessageValidatorRegistry implements InitializingBean {
      */
     public void setMessageValidators(
             List<MessageValidator<? extends ValidationContext>> messageValidators) {
-        this.messageValidators = messageValidators;
+        this.messageValidators = new MessageValidatorList(new ArrayList<>(messageValidators));
+        clearResolvedValidators();
     }
 
     /**
-     * Gets the message validators.
+     * Gets the message validators. Changes to the returned list invalidate the resolved validators.
      * @return
      */
     public List<MessageValidator<? extends ValidationContext>> getMessageValidators() {
@@ -135,10 +196,104 @@ public class MessageValidatorRegistry implements InitializingBean {
      * @return
      */
     public MessageValidator getDefaultMessageHeaderValidator() {
-        return messageValidators
-                .stream()
-                .filter(validator -> DefaultMessageHeaderValidator.class.isAssignableFrom(validator.getClass()))
-                .findFirst()
-                .orElse(null);
+        Optional<MessageValidator> headerValidator = defaultMessageHeaderValidator;
+
+        if (headerValidator == null) {
+            headerValidator = messageValidators
+                    .stream()
+                    .filter(validator -> DefaultMessageHeaderValidator.class.isAssignableFrom(validator.getClass()))
+                    .map(validator -> (MessageValidator) validator)
+                    .findFirst();
+            defaultMessageHeaderValidator = headerValidator;
+        }
+
+        return headerValidator.orElse(null);
+    }
+
+    /**
+     * Clears all resolved validators.
+     */
+    private void clearResolvedValidators() {
+        resolvedValidators.clear();
+        defaultMessageHeaderValidator = null;
+    }
+
+    /**
+     * Message validator list clearing resolved validators on each modification. All modifying list operations
+     * are routed through {@link #add(int, MessageValidator)}, {@link #set(int, MessageValidator)} and {@link #remove(int)}.
+     */
+    private class MessageValidatorList extends AbstractList<MessageValidator<? extends ValidationContext>> {
+        private final List<MessageValidator<? extends ValidationContext>> delegate;
+
+        MessageValidatorList(List<MessageValidator<? extends ValidationContext>> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public MessageValidator<? extends ValidationContext> get(int index) {
+            return delegate.get(index);
+        }
+
+        @Override
+        public int size() {
+            return delegate.size();
+        }
+
+        @Override
+        public MessageValidator<? extends ValidationContext> set(int index, MessageValidator<? extends ValidationContext> element) {
+            try {
+                return delegate.set(index, element);
+            } finally {
+                clearResolvedValidators();
+            }
+        }
+
+        @Override
+        public void add(int index, MessageValidator<? extends ValidationContext> element) {
+            delegate.add(index, element);
+            clearResolvedValidators();
+        }
+
+        @Override
+        public MessageValidator<? extends ValidationContext> remove(int index) {
+            try {
+                return delegate.remove(index);
+            } finally {
+                clearResolvedValidators();
+            }
+        }
+    }
+
+    /**
+     * Cache key for resolved message validators.
+     */
+    private static final class ResolutionKey {
+        private final String messageType;
+        private final Object payloadFamily;
+
+        ResolutionKey(String messageType, Object payloadFamily) {
+            this.messageType = messageType;
+            this.payloadFamily = payloadFamily;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            ResolutionKey that = (ResolutionKey) o;
+            return Objects.equals(messageType, that.messageType) &&
+                    Objects.equals(payloadFamily, that.payloadFamily);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Objects.hashCode(messageType) + payloadFamily.hashCode();
+        }
     }
 }
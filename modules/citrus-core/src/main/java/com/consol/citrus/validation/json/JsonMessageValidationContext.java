@@ -32,6 +32,13 @@ public class JsonMessageValidationContext extends DefaultValidationContext imple
     /** Map holding xpath expressions to identify the ignored message elements */
     private Set<String> ignoreExpressions = new HashSet<>();
 
+    /**
+     * Should JSON array elements be matched regardless of their order
+     *
+     * Disabled by default, so JSON array elements are validated index by index.
+     */
+    private boolean ignoreArrayOrder = false;
+
     /**
      * Should message be validated with its schema definition
      *
@@ -61,6 +68,23 @@ public class JsonMessageValidationContext extends DefaultValidationContext imple
     public void setIgnoreExpressions(Set<String> ignoreExpressions) {
         this.ignoreExpressions = ignoreExpressions;
     }
+
+    /**
+     * Is JSON array element order ignored during validation.
+     * @return the ignoreArrayOrder
+     */
+    public boolean isIgnoreArrayOrder() {
+        return ignoreArrayOrder;
+    }
+
+    /**
+     * Enable/disable order insensitive JSON array element matching.
+     * @param ignoreArrayOrder the ignoreArrayOrder to set
+     */
+    public void setIgnoreArrayOrder(boolean ignoreArrayOrder) {
+        this.ignoreArrayOrder = ignoreArrayOrder;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -19,6 +19,7 @@ package com.consol.citrus.validation.json;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.exceptions.UnknownElementException;
+import com.consol.citrus.json.JsonPathUtils;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.message.MessageType;
 import com.consol.citrus.validation.interceptor.AbstractMessageConstructionInterceptor;
@@ -101,7 +102,12 @@ public class JsonPathMessageConstructionInterceptor extends AbstractMessageConst
                 }
 
                 try {
-                    documentContext.set(jsonPathExpression, value);
+                    JsonPathUtils.CompiledExpression compiled = JsonPathUtils.compile(jsonPathExpression);
+                    if (StringUtils.hasText(compiled.getFunction())) {
+                        documentContext.set(jsonPathExpression, value);
+                    } else {
+                        documentContext.set(compiled.getPath(), value);
+                    }
                 } catch (PathNotFoundException e) {
                     if (!ignoreNotFound) {
                         throw new UnknownElementException(String.format("Could not find element for expression: %s", jsonPathExpression), e);
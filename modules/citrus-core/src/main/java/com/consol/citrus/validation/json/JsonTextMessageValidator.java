@@ -20,6 +20,7 @@ import com.consol.citrus.Citrus;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.exceptions.ValidationException;
+import com.consol.citrus.json.JsonPathUtils;
 import com.consol.citrus.json.JsonSchemaRepository;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.message.MessageType;
@@ -28,7 +29,6 @@ import com.consol.citrus.validation.ValidationUtils;
 import com.consol.citrus.validation.json.schema.JsonSchemaValidation;
 import com.consol.citrus.validation.matcher.ValidationMatcherUtils;
 import com.github.fge.jsonschema.core.report.ProcessingReport;
-import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.ReadContext;
 import net.minidev.json.JSONArray;
 import net.minidev.json.JSONObject;
@@ -40,12 +40,11 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
 import org.springframework.util.StringUtils;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
-import java.util.Set;
+import java.util.*;
+import java.util.stream.IntStream;
 
 /**
  * This message validator implementation is able to validate two JSON text objects. The order of JSON entries can differ
@@ -108,8 +107,8 @@ public class JsonTextMessageValidator extends AbstractMessageValidator<JsonMessa
             
             JSONParser parser = new JSONParser(JSONParser.MODE_JSON_SIMPLE);
         
-            Object receivedJson = parser.parse(receivedJsonText);
-            ReadContext readContext = JsonPath.parse(receivedJson);
+            ReadContext readContext = JsonPathUtils.parseMessagePayload(receivedMessage, receivedJsonText);
+            Object receivedJson = readContext.json();
             Object controlJson = parser.parse(controlJsonText);
             if (receivedJson instanceof JSONObject) {
                 validateJson("$.", (JSONObject) receivedJson, (JSONObject) controlJson, validationContext, context, readContext);
@@ -137,7 +136,7 @@ public class JsonTextMessageValidator extends AbstractMessageValidator<JsonMessa
      * @param receivedMessage The message to be validated
      * @param validationContext The validation context of the current test
      */
-    private void performSchemaValidation(Message receivedMessage, JsonMessageValidationContext validationContext) {
+    protected void performSchemaValidation(Message receivedMessage, JsonMessageValidationContext validationContext) {
         log.debug("Starting Json schema validation ...");
 
         ProcessingReport report = jsonSchemaValidation.validate(receivedMessage,
@@ -218,18 +217,11 @@ public class JsonTextMessageValidator extends AbstractMessageValidator<JsonMessa
                                 ValidationUtils.buildValueMismatchErrorMessage("JSONArray size mismatch for JSON entry '" + controlKey + "'",
                                         jsonArrayControl.size(), jsonArrayReceived.size()));
                     }
-                    for (int i = 0; i < jsonArrayControl.size(); i++) {
-                        if (jsonArrayControl.get(i).getClass().isAssignableFrom(JSONObject.class)) {
-                            Assert.isTrue(jsonArrayReceived.get(i).getClass().isAssignableFrom(JSONObject.class),
-                                    ValidationUtils.buildValueMismatchErrorMessage("Value types not equal for entry: '" + jsonArrayControl.get(i) + "'",
-                                            JSONObject.class.getName(), jsonArrayReceived.get(i).getClass().getName()));
-
-                            validateJson(controlKey, (JSONObject) jsonArrayReceived.get(i),
-                                    (JSONObject) jsonArrayControl.get(i), validationContext, context, readContext);
-                        } else {
-                            Assert.isTrue(jsonArrayControl.get(i).equals(jsonArrayReceived.get(i)),
-                                    ValidationUtils.buildValueMismatchErrorMessage("Values not equal for entry: '" + jsonArrayControl.get(i) + "'",
-                                            jsonArrayControl.get(i), jsonArrayReceived.get(i)));
+                    if (validationContext.isIgnoreArrayOrder()) {
+                        validateUnorderedArray(controlKey, jsonArrayReceived, jsonArrayControl, validationContext, context, readContext);
+                    } else {
+                        for (int i = 0; i < jsonArrayControl.size(); i++) {
+                            validateArrayElement(controlKey, jsonArrayReceived.get(i), jsonArrayControl.get(i), validationContext, context, readContext);
                         }
                     }
                 } else {
@@ -253,6 +245,146 @@ public class JsonTextMessageValidator extends AbstractMessageValidator<JsonMessa
         }
     }
 
+    /**
+     * Validates single JSON array element with comparison to expected control element.
+     *
+     * @param controlKey the JSON entry holding the array.
+     * @param receivedElement the received array element.
+     * @param controlElement the expected control array element.
+     * @param validationContext the JSON message validation context.
+     * @param context the current test context.
+     * @param readContext the JSONPath read context.
+     */
+    private void validateArrayElement(String controlKey, Object receivedElement, Object controlElement, JsonMessageValidationContext validationContext, TestContext context, ReadContext readContext) {
+        if (controlElement instanceof JSONObject) {
+            Assert.isTrue(receivedElement instanceof JSONObject,
+                    ValidationUtils.buildValueMismatchErrorMessage("Value types not equal for entry: '" + controlElement + "'",
+                            JSONObject.class.getName(), receivedElement != null ? receivedElement.getClass().getName() : null));
+
+            validateJson(controlKey, (JSONObject) receivedElement,
+                    (JSONObject) controlElement, validationContext, context, readContext);
+        } else {
+            Assert.isTrue(ObjectUtils.nullSafeEquals(controlElement, receivedElement),
+                    ValidationUtils.buildValueMismatchErrorMessage("Values not equal for entry: '" + controlElement + "'",
+                            controlElement, receivedElement));
+        }
+    }
+
+    /**
+     * Validates JSON array elements regardless of their order. Received elements are grouped by their structural hash so
+     * control elements without ignore placeholders and validation matchers are paired with received elements of the same
+     * structure in near linear time. Only received elements in the same hash bucket are validated in full.
+     *
+     * Control elements holding ignore placeholders or validation matchers as well as control elements that did not find a
+     * match in their hash bucket are validated against all remaining received elements afterwards. First match wins in this case.
+     *
+     * @param controlKey the JSON entry holding the array.
+     * @param receivedArray the received JSON array.
+     * @param controlArray the expected control JSON array.
+     * @param validationContext the JSON message validation context.
+     * @param context the current test context.
+     * @param readContext the JSONPath read context.
+     */
+    private void validateUnorderedArray(String controlKey, JSONArray receivedArray, JSONArray controlArray, JsonMessageValidationContext validationContext, TestContext context, ReadContext readContext) {
+        Map<Integer, List<Integer>> receivedByHash = new HashMap<>();
+        for (int i = 0; i < receivedArray.size(); i++) {
+            receivedByHash.computeIfAbsent(structuralHash(receivedArray.get(i)), hash -> new LinkedList<>()).add(i);
+        }
+
+        boolean[] matched = new boolean[receivedArray.size()];
+        List<Object> unmatchedControlElements = new ArrayList<>();
+        for (Object controlElement : controlArray) {
+            List<Integer> candidates = isStructuralMatch(controlElement) ? receivedByHash.get(structuralHash(controlElement)) : null;
+
+            if (candidates == null || !matchArrayElement(controlKey, receivedArray, candidates.iterator(), matched, controlElement, validationContext, context, readContext)) {
+                unmatchedControlElements.add(controlElement);
+            }
+        }
+
+        for (Object controlElement : unmatchedControlElements) {
+            Iterator<Integer> candidates = IntStream.range(0, receivedArray.size()).filter(i -> !matched[i]).iterator();
+
+            Assert.isTrue(matchArrayElement(controlKey, receivedArray, candidates, matched, controlElement, validationContext, context, readContext),
+                    "Failed to find matching JSONArray element for entry '" + controlKey + "': '" + controlElement + "'");
+        }
+    }
+
+    /**
+     * Validates control element against candidate received elements and marks the first matching candidate as matched.
+     * @param controlKey
+     * @param receivedArray
+     * @param candidates
+     * @param matched
+     * @param controlElement
+     * @param validationContext
+     * @param context
+     * @param readContext
+     * @return
+     */
+    private boolean matchArrayElement(String controlKey, JSONArray receivedArray, Iterator<Integer> candidates, boolean[] matched, Object controlElement,
+                                      JsonMessageValidationContext validationContext, TestContext context, ReadContext readContext) {
+        while (candidates.hasNext()) {
+            int index = candidates.next();
+            if (matched[index]) {
+                continue;
+            }
+
+            try {
+                validateArrayElement(controlKey, receivedArray.get(index), controlElement, validationContext, context, readContext);
+                matched[index] = true;
+                return true;
+            } catch (IllegalArgumentException | ValidationException e) {
+                if (log.isDebugEnabled()) {
+                    log.debug("JSONArray element at index " + index + " does not match control element: " + e.getMessage());
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Checks if control element is able to match a received element with same structural hash. This is not the case for
+     * elements holding ignore placeholders or validation matcher expressions.
+     * @param controlElement
+     * @return
+     */
+    private boolean isStructuralMatch(Object controlElement) {
+        if (controlElement instanceof JSONObject) {
+            return ((JSONObject) controlElement).values().stream().allMatch(this::isStructuralMatch);
+        } else if (controlElement instanceof JSONArray) {
+            return ((JSONArray) controlElement).stream().allMatch(this::isStructuralMatch);
+        } else if (controlElement instanceof String) {
+            return !controlElement.toString().trim().equals(Citrus.IGNORE_PLACEHOLDER) &&
+                    !ValidationMatcherUtils.isValidationMatcherExpression(controlElement.toString());
+        }
+
+        return true;
+    }
+
+    /**
+     * Calculates hash of JSON value structure. Hash is independent of object entry order and array element order.
+     * @param value
+     * @return
+     */
+    private static int structuralHash(Object value) {
+        if (value instanceof JSONObject) {
+            int hash = 1;
+            for (Map.Entry<String, Object> entry : ((JSONObject) value).entrySet()) {
+                hash += entry.getKey().hashCode() ^ structuralHash(entry.getValue());
+            }
+            return hash;
+        } else if (value instanceof JSONArray) {
+            int hash = 2;
+            for (Object element : (JSONArray) value) {
+                hash += structuralHash(element);
+            }
+            return 31 * hash + ((JSONArray) value).size();
+        }
+
+        return Objects.hashCode(value);
+    }
+
     /**
      * Checks if given element node is either on ignore list or
      * contains @ignore@ tag inside control message
@@ -325,6 +457,14 @@ public class JsonTextMessageValidator extends AbstractMessageValidator<JsonMessa
         this.strict = strict;
     }
 
+    /**
+     * Gets the validator strict mode.
+     * @return
+     */
+    public boolean isStrict() {
+        return strict;
+    }
+
     /**
      * Set the validator strict mode.
      * @param strict
@@ -360,7 +500,11 @@ public class JsonTextMessageValidator extends AbstractMessageValidator<JsonMessa
         this.applicationContext = applicationContext;
     }
 
-    void setJsonSchemaValidation(JsonSchemaValidation jsonSchemaValidation) {
+    /**
+     * Sets the Json schema validation.
+     * @param jsonSchemaValidation
+     */
+    public void setJsonSchemaValidation(JsonSchemaValidation jsonSchemaValidation) {
         this.jsonSchemaValidation = jsonSchemaValidation;
     }
 }
@@ -0,0 +1,783 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.validation.json;
+
+import com.consol.citrus.Citrus;
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.exceptions.ValidationException;
+import com.consol.citrus.message.Message;
+import com.consol.citrus.validation.ValidationUtils;
+import com.consol.citrus.validation.matcher.ValidationMatcherUtils;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.*;
+import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.ReadContext;
+import com.jayway.jsonpath.spi.json.JacksonJsonNodeJsonProvider;
+import com.jayway.jsonpath.spi.mapper.JacksonMappingProvider;
+import org.springframework.util.Assert;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.stream.IntStream;
+
+/**
+ * JSON text message validator working on a streaming Jackson parser. Validator follows the same validation rules as
+ * {@link JsonTextMessageValidator} but does not build an object tree for the received JSON text. Instead the received
+ * JSON tokens are validated one by one against a control tree that is compiled from the control JSON text. Compiled
+ * control trees are cached so repeated validations with the same control message reuse the tree.
+ *
+ * In case ignore expressions are set on the validation context the received JSON text is read into a tree once in
+ * order to evaluate the JsonPath expressions. Without ignore expressions no JsonPath read context is created.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class StreamingJsonTextMessageValidator extends JsonTextMessageValidator {
+
+    /** Maximum number of cached control trees */
+    private static final int CONTROL_CACHE_SIZE = 256;
+
+    /** Shared object mapper, thread safe as configuration is not changed after initialization */
+    private static final ObjectMapper mapper = new ObjectMapper().enable(JsonParser.Feature.ALLOW_TRAILING_COMMA);
+
+    /** JsonPath configuration evaluating expressions on Jackson tree nodes */
+    private static final Configuration jsonPathConfiguration = Configuration.builder()
+            .jsonProvider(new JacksonJsonNodeJsonProvider(mapper))
+            .mappingProvider(new JacksonMappingProvider(mapper))
+            .build();
+
+    /** Compiled control trees by control JSON text in least recently used order */
+    private final Map<String, ControlNode> controlTrees = Collections.synchronizedMap(
+            new LinkedHashMap<String, ControlNode>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, ControlNode> eldest) {
+                    return size() > CONTROL_CACHE_SIZE;
+                }
+            });
+
+    @Override
+    public void validateMessage(Message receivedMessage, Message controlMessage,
+                                TestContext context, JsonMessageValidationContext validationContext) {
+        if (controlMessage == null || controlMessage.getPayload() == null) {
+            log.debug("Skip message payload validation as no control message was defined");
+            return;
+        }
+
+        log.debug("Start JSON message validation ...");
+
+        if (validationContext.isSchemaValidationEnabled()) {
+            performSchemaValidation(receivedMessage, validationContext);
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Received message:\n" + receivedMessage);
+            log.debug("Control message:\n" + controlMessage);
+        }
+
+        String receivedJsonText = receivedMessage.getPayload(String.class);
+        String controlJsonText = context.replaceDynamicContentInString(controlMessage.getPayload(String.class));
+
+        try {
+            if (!StringUtils.hasText(controlJsonText)) {
+                log.debug("Skip message payload validation as no control message was defined");
+                return;
+            } else {
+                Assert.isTrue(StringUtils.hasText(receivedJsonText), "Validation failed - " +
+                        "expected message contents, but received empty message!");
+            }
+
+            ControlNode controlJson = compile(controlJsonText);
+
+            Set<JsonNode> ignoredValues = Collections.emptySet();
+            JsonParser parser;
+            if (CollectionUtils.isEmpty(validationContext.getIgnoreExpressions())) {
+                parser = mapper.getFactory().createParser(receivedJsonText);
+            } else {
+                JsonNode receivedJson = mapper.readTree(receivedJsonText);
+                ignoredValues = resolveIgnoredValues(receivedJson, validationContext.getIgnoreExpressions());
+                parser = mapper.treeAsTokens(receivedJson);
+            }
+
+            try {
+                new StreamValidation(parser, context, ignoredValues, validationContext.isIgnoreArrayOrder()).validate(controlJson);
+            } finally {
+                parser.close();
+            }
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException(String.format("Failed to validate JSON text:%n%s", receivedJsonText), e);
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to parse JSON text", e);
+        }
+
+        log.info("JSON message validation successful: All values OK");
+    }
+
+    /**
+     * Gets compiled control tree for given control JSON text. Compiled trees are cached and reused.
+     * @param controlJsonText
+     * @return
+     * @throws IOException
+     */
+    ControlNode compile(String controlJsonText) throws IOException {
+        ControlNode controlTree = controlTrees.get(controlJsonText);
+
+        if (controlTree == null) {
+            controlTree = compile(mapper.readTree(controlJsonText));
+            controlTrees.put(controlJsonText, controlTree);
+        }
+
+        return controlTree;
+    }
+
+    /**
+     * Compiles control tree node from JSON node.
+     * @param node
+     * @return
+     */
+    private ControlNode compile(JsonNode node) {
+        if (node == null || node.isNull()) {
+            return new NullControlNode();
+        } else if (node.isObject()) {
+            Map<String, ControlNode> entries = new LinkedHashMap<>();
+            node.fields().forEachRemaining(entry -> entries.put(entry.getKey(), compile(entry.getValue())));
+            return new ObjectControlNode(node, entries);
+        } else if (node.isArray()) {
+            List<ControlNode> elements = new ArrayList<>();
+            node.elements().forEachRemaining(element -> elements.add(element.isObject() ? compile(element) : new ValueControlNode(element)));
+            return new ArrayControlNode(node, elements);
+        } else if (node.isTextual() && node.asText().trim().equals(Citrus.IGNORE_PLACEHOLDER)) {
+            return new IgnoreControlNode(node);
+        } else if (node.isTextual() && ValidationMatcherUtils.isValidationMatcherExpression(node.asText())) {
+            return new MatcherControlNode(node);
+        } else {
+            return new ValueControlNode(node);
+        }
+    }
+
+    /**
+     * Evaluates ignore expressions on received JSON and collects all values that are ignored during validation.
+     * @param receivedJson
+     * @param ignoreExpressions
+     * @return
+     */
+    private Set<JsonNode> resolveIgnoredValues(JsonNode receivedJson, Set<String> ignoreExpressions) {
+        ReadContext readContext = JsonPath.using(jsonPathConfiguration).parse(receivedJson);
+
+        Set<JsonNode> ignoredValues = new HashSet<>();
+        for (String jsonPathExpression : ignoreExpressions) {
+            Object foundEntry = readContext.read(jsonPathExpression);
+
+            if (foundEntry == null) {
+                continue;
+            }
+
+            JsonNode foundNode = foundEntry instanceof JsonNode ? (JsonNode) foundEntry : mapper.valueToTree(foundEntry);
+            if (foundNode.isArray()) {
+                foundNode.elements().forEachRemaining(ignoredValues::add);
+            }
+
+            if (!foundNode.isNull()) {
+                ignoredValues.add(foundNode);
+            }
+        }
+
+        return ignoredValues;
+    }
+
+    /**
+     * Validation of received JSON tokens against compiled control tree.
+     */
+    private class StreamValidation {
+        private final JsonParser parser;
+        private final TestContext context;
+        private final Set<JsonNode> ignoredValues;
+        private final boolean ignoreArrayOrder;
+
+        StreamValidation(JsonParser parser, TestContext context, Set<JsonNode> ignoredValues, boolean ignoreArrayOrder) {
+            this.parser = parser;
+            this.context = context;
+            this.ignoredValues = ignoredValues;
+            this.ignoreArrayOrder = ignoreArrayOrder;
+        }
+
+        /**
+         * Validates received JSON root against control tree.
+         * @param controlJson
+         * @throws IOException
+         */
+        void validate(ControlNode controlJson) throws IOException {
+            JsonToken token = parser.nextToken();
+
+            if (token == JsonToken.START_OBJECT) {
+                Assert.isTrue(controlJson instanceof ObjectControlNode,
+                        ValidationUtils.buildValueMismatchErrorMessage("Type mismatch for JSON root element",
+                                controlJson.getTypeName(), getTypeName(token)));
+                validateObject("$.", (ObjectControlNode) controlJson);
+            } else if (token == JsonToken.START_ARRAY) {
+                validateEntry("array", controlJson);
+            } else {
+                throw new CitrusRuntimeException("Unsupported json type " + token);
+            }
+        }
+
+        /**
+         * Validates received JSON object starting at current token.
+         * @param elementName
+         * @param controlJson
+         * @throws IOException
+         */
+        void validateObject(String elementName, ObjectControlNode controlJson) throws IOException {
+            Set<String> receivedKeys = new HashSet<>();
+            boolean unknownEntry = false;
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String key = parser.getCurrentName();
+                receivedKeys.add(key);
+                parser.nextToken();
+
+                ControlNode controlValue = controlJson.entries.get(key);
+                if (controlValue == null || unknownEntry) {
+                    unknownEntry = unknownEntry || isStrict();
+                    parser.skipChildren();
+                    continue;
+                }
+
+                validateEntry(key, controlValue);
+            }
+
+            if (isStrict()) {
+                Assert.isTrue(controlJson.entries.size() == receivedKeys.size(),
+                        ValidationUtils.buildValueMismatchErrorMessage("Number of JSON entries not equal for element: '" + elementName + "'", controlJson.entries.size(), receivedKeys.size()));
+            }
+
+            for (String controlKey : controlJson.entries.keySet()) {
+                Assert.isTrue(receivedKeys.contains(controlKey),
+                        "Missing JSON entry: + '" + controlKey + "'");
+            }
+        }
+
+        /**
+         * Validates received JSON entry value starting at current token. In case ignored values are present the
+         * entry value is read into a tree node first in order to check whether the value is ignored.
+         * @param key
+         * @param controlValue
+         * @throws IOException
+         */
+        void validateEntry(String key, ControlNode controlValue) throws IOException {
+            if (controlValue instanceof IgnoreControlNode) {
+                if (log.isDebugEnabled()) {
+                    log.debug("JSON entry: '" + key + "' is ignored by placeholder '" +
+                            Citrus.IGNORE_PLACEHOLDER + "'");
+                }
+
+                parser.skipChildren();
+                return;
+            }
+
+            if (ignoredValues.isEmpty()) {
+                controlValue.validate(key, this);
+            } else {
+                JsonNode receivedValue = readValue();
+                if (ignoredValues.contains(receivedValue)) {
+                    if (log.isDebugEnabled()) {
+                        log.debug("JSON entry: '" + key + "' is ignored - skip value validation");
+                    }
+                    return;
+                }
+
+                try (JsonParser valueParser = mapper.treeAsTokens(receivedValue)) {
+                    valueParser.nextToken();
+                    new StreamValidation(valueParser, context, ignoredValues, ignoreArrayOrder).validateValue(key, controlValue);
+                }
+            }
+
+            if (log.isDebugEnabled()) {
+                log.debug("Validation successful for JSON entry '" + key + "' (" + controlValue + ")");
+            }
+        }
+
+        /**
+         * Validates received value starting at current token without ignored values check.
+         * @param key
+         * @param controlValue
+         * @throws IOException
+         */
+        void validateValue(String key, ControlNode controlValue) throws IOException {
+            controlValue.validate(key, this);
+        }
+
+        /**
+         * Validates received array starting at current token.
+         * @param key
+         * @param controlJson
+         * @throws IOException
+         */
+        void validateArray(String key, ArrayControlNode controlJson) throws IOException {
+            if (log.isDebugEnabled()) {
+                log.debug("Validating JSONArray containing " + controlJson.elements.size() + " entries");
+            }
+
+            if (ignoreArrayOrder) {
+                validateUnorderedArray(key, controlJson, parser.readValueAsTree());
+                return;
+            }
+
+            int index = 0;
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                if (index < controlJson.elements.size()) {
+                    validateArrayElement(controlJson.elements.get(index), key);
+                } else {
+                    parser.skipChildren();
+                }
+
+                index++;
+            }
+
+            validateArraySize(key, controlJson, index);
+        }
+
+        /**
+         * Validates received array element starting at current token.
+         * @param controlElement
+         * @param key
+         * @throws IOException
+         */
+        void validateArrayElement(ControlNode controlElement, String key) throws IOException {
+            if (controlElement instanceof ObjectControlNode) {
+                Assert.isTrue(parser.currentToken() == JsonToken.START_OBJECT,
+                        ValidationUtils.buildValueMismatchErrorMessage("Value types not equal for entry: '" + controlElement + "'",
+                                controlElement.getTypeName(), getTypeName(parser.currentToken())));
+
+                validateObject(key, (ObjectControlNode) controlElement);
+            } else {
+                JsonNode receivedElement = readValue();
+                Assert.isTrue(controlElement.node.equals(receivedElement),
+                        ValidationUtils.buildValueMismatchErrorMessage("Values not equal for entry: '" + controlElement + "'",
+                                controlElement, getDisplayValue(receivedElement)));
+            }
+        }
+
+        /**
+         * Validates received array elements regardless of their order. Received elements are grouped by their structural
+         * hash so control elements without ignore placeholders and validation matchers are paired with received elements
+         * of the same structure in near linear time. Remaining control elements are validated against all remaining
+         * received elements afterwards. First match wins in this case.
+         * @param key
+         * @param controlJson
+         * @param receivedArray
+         * @throws IOException
+         */
+        void validateUnorderedArray(String key, ArrayControlNode controlJson, JsonNode receivedArray) throws IOException {
+            validateArraySize(key, controlJson, receivedArray.size());
+
+            Map<Integer, List<Integer>> receivedByHash = new HashMap<>();
+            for (int i = 0; i < receivedArray.size(); i++) {
+                receivedByHash.computeIfAbsent(structuralHash(receivedArray.get(i)), hash -> new LinkedList<>()).add(i);
+            }
+
+            boolean[] matched = new boolean[receivedArray.size()];
+            List<ControlNode> unmatchedControlElements = new ArrayList<>();
+            for (int i = 0; i < controlJson.elements.size(); i++) {
+                ControlNode controlElement = controlJson.elements.get(i);
+                List<Integer> candidates = controlJson.structuralMatches[i] ? receivedByHash.get(controlJson.elementHashes[i]) : null;
+
+                if (candidates == null || !matchArrayElement(key, controlElement, receivedArray, candidates.iterator(), matched)) {
+                    unmatchedControlElements.add(controlElement);
+                }
+            }
+
+            for (ControlNode controlElement : unmatchedControlElements) {
+                Iterator<Integer> candidates = IntStream.range(0, receivedArray.size()).filter(i -> !matched[i]).iterator();
+
+                Assert.isTrue(matchArrayElement(key, controlElement, receivedArray, candidates, matched),
+                        "Failed to find matching JSONArray element for entry '" + key + "': '" + controlElement + "'");
+            }
+        }
+
+        /**
+         * Validates control element against candidate received elements and marks the first matching candidate as matched.
+         * @param key
+         * @param controlElement
+         * @param receivedArray
+         * @param candidates
+         * @param matched
+         * @return
+         * @throws IOException
+         */
+        private boolean matchArrayElement(String key, ControlNode controlElement, JsonNode receivedArray,
+                                          Iterator<Integer> candidates, boolean[] matched) throws IOException {
+            while (candidates.hasNext()) {
+                int index = candidates.next();
+                if (matched[index]) {
+                    continue;
+                }
+
+                try (JsonParser elementParser = mapper.treeAsTokens(receivedArray.get(index))) {
+                    elementParser.nextToken();
+                    new StreamValidation(elementParser, context, ignoredValues, true).validateArrayElement(controlElement, key);
+                    matched[index] = true;
+                    return true;
+                } catch (IllegalArgumentException | ValidationException e) {
+                    if (log.isDebugEnabled()) {
+                        log.debug("JSONArray element at index " + index + " does not match control element: " + e.getMessage());
+                    }
+                }
+            }
+
+            return false;
+        }
+
+        /**
+         * Validates number of received array elements.
+         * @param key
+         * @param controlJson
+         * @param size
+         */
+        private void validateArraySize(String key, ArrayControlNode controlJson, int size) {
+            if (isStrict()) {
+                Assert.isTrue(controlJson.elements.size() == size,
+                        ValidationUtils.buildValueMismatchErrorMessage("JSONArray size mismatch for JSON entry '" + key + "'",
+                                controlJson.elements.size(), size));
+            } else {
+                Assert.isTrue(controlJson.elements.size() <= size,
+                        ValidationUtils.buildValueMismatchErrorMessage("JSONArray size mismatch for JSON entry '" + key + "'",
+                                controlJson.elements.size(), size));
+            }
+        }
+
+        /**
+         * Validates null value in received JSON with control node that is not null.
+         * @param key
+         * @param controlValue
+         */
+        void validateNullValue(String key, ControlNode controlValue) {
+            Assert.isTrue(!StringUtils.hasText(controlValue.toString()),
+                    ValidationUtils.buildValueMismatchErrorMessage(
+                            "Values not equal for entry '" + key + "'", controlValue.toString(), null));
+        }
+
+        /**
+         * Reads value at current token to tree node. Scalar values are created directly with the same node types
+         * as the object mapper would use.
+         * @return
+         * @throws IOException
+         */
+        JsonNode readValue() throws IOException {
+            switch (parser.currentToken()) {
+                case VALUE_STRING:
+                    return TextNode.valueOf(parser.getText());
+                case VALUE_NUMBER_INT:
+                    switch (parser.getNumberType()) {
+                        case INT:
+                            return IntNode.valueOf(parser.getIntValue());
+                        case LONG:
+                            return LongNode.valueOf(parser.getLongValue());
+                        default:
+                            return BigIntegerNode.valueOf(parser.getBigIntegerValue());
+                    }
+                case VALUE_NUMBER_FLOAT:
+                    if (parser.getNumberType() == JsonParser.NumberType.BIG_DECIMAL) {
+                        return DecimalNode.valueOf(parser.getDecimalValue());
+                    }
+                    return DoubleNode.valueOf(parser.getDoubleValue());
+                case VALUE_TRUE:
+                    return BooleanNode.TRUE;
+                case VALUE_FALSE:
+                    return BooleanNode.FALSE;
+                case VALUE_NULL:
+                    return NullNode.getInstance();
+                default:
+                    return parser.readValueAsTree();
+            }
+        }
+
+        /**
+         * Reads value at current token as String representation used in validation matchers.
+         * @return
+         * @throws IOException
+         */
+        String readValueAsString() throws IOException {
+            return getDisplayValue(readValue());
+        }
+
+        boolean isNull() {
+            return parser.currentToken() == JsonToken.VALUE_NULL;
+        }
+    }
+
+    /**
+     * Gets String representation of JSON node. Containers are represented as JSON text.
+     * @param node
+     * @return
+     */
+    private static String getDisplayValue(JsonNode node) {
+        if (node == null || node.isNull()) {
+            return null;
+        }
+
+        if (node.isContainerNode()) {
+            return node.toString();
+        }
+
+        return node.asText();
+    }
+
+    /**
+     * Calculates hash of JSON node structure. Hash is independent of object entry order and array element order.
+     * @param node
+     * @return
+     */
+    private static int structuralHash(JsonNode node) {
+        if (node == null || node.isNull()) {
+            return 0;
+        } else if (node.isObject()) {
+            int hash = 1;
+            for (Iterator<Map.Entry<String, JsonNode>> fields = node.fields(); fields.hasNext(); ) {
+                Map.Entry<String, JsonNode> entry = fields.next();
+                hash += entry.getKey().hashCode() ^ structuralHash(entry.getValue());
+            }
+            return hash;
+        } else if (node.isArray()) {
+            int hash = 2;
+            for (JsonNode element : node) {
+                hash += structuralHash(element);
+            }
+            return 31 * hash + node.size();
+        }
+
+        return node.hashCode();
+    }
+
+    /**
+     * Checks if control node is able to match a received node with same structural hash. This is not the case for
+     * nodes holding ignore placeholders or validation matcher expressions.
+     * @param controlNode
+     * @return
+     */
+    private static boolean isStructuralMatch(ControlNode controlNode) {
+        if (controlNode instanceof ObjectControlNode) {
+            return ((ObjectControlNode) controlNode).entries.values().stream().allMatch(StreamingJsonTextMessageValidator::isStructuralMatch);
+        } else if (controlNode instanceof ArrayControlNode) {
+            return ((ArrayControlNode) controlNode).elements.stream().allMatch(StreamingJsonTextMessageValidator::isStructuralMatch);
+        }
+
+        return !(controlNode instanceof IgnoreControlNode || controlNode instanceof MatcherControlNode);
+    }
+
+    /**
+     * Gets type name of token as used in validation error messages.
+     * @param token
+     * @return
+     */
+    private static String getTypeName(JsonToken token) {
+        switch (token) {
+            case START_OBJECT:
+                return "JSONObject";
+            case START_ARRAY:
+                return "JSONArray";
+            case VALUE_STRING:
+                return "String";
+            case VALUE_NUMBER_INT:
+                return "Long";
+            case VALUE_NUMBER_FLOAT:
+                return "Double";
+            case VALUE_TRUE:
+            case VALUE_FALSE:
+                return "Boolean";
+            default:
+                return String.valueOf(token);
+        }
+    }
+
+    /**
+     * Compiled control tree node. Nodes are immutable and can be shared by concurrent validations.
+     */
+    abstract static class ControlNode {
+        final JsonNode node;
+
+        ControlNode(JsonNode node) {
+            this.node = node;
+        }
+
+        /**
+         * Validates received value at current token of given validation.
+         * @param key
+         * @param validation
+         * @throws IOException
+         */
+        abstract void validate(String key, StreamValidation validation) throws IOException;
+
+        String getTypeName() {
+            return node.getNodeType().name();
+        }
+
+        @Override
+        public String toString() {
+            return getDisplayValue(node);
+        }
+    }
+
+    /**
+     * Control node for JSON objects.
+     */
+    private static class ObjectControlNode extends ControlNode {
+        private final Map<String, ControlNode> entries;
+
+        ObjectControlNode(JsonNode node, Map<String, ControlNode> entries) {
+            super(node);
+            this.entries = entries;
+        }
+
+        @Override
+        void validate(String key, StreamValidation validation) throws IOException {
+            if (validation.isNull()) {
+                validation.validateNullValue(key, this);
+                return;
+            }
+
+            JsonToken token = validation.parser.currentToken();
+            Assert.isTrue(token == JsonToken.START_OBJECT,
+                    ValidationUtils.buildValueMismatchErrorMessage("Type mismatch for JSON entry '" + key + "'",
+                            getTypeName(), StreamingJsonTextMessageValidator.getTypeName(token)));
+
+            validation.validateObject(key, this);
+        }
+
+        @Override
+        String getTypeName() {
+            return "JSONObject";
+        }
+    }
+
+    /**
+     * Control node for JSON arrays.
+     */
+    private static class ArrayControlNode extends ControlNode {
+        private final List<ControlNode> elements;
+        private final int[] elementHashes;
+        private final boolean[] structuralMatches;
+
+        ArrayControlNode(JsonNode node, List<ControlNode> elements) {
+            super(node);
+            this.elements = elements;
+            this.elementHashes = new int[elements.size()];
+            this.structuralMatches = new boolean[elements.size()];
+
+            for (int i = 0; i < elements.size(); i++) {
+                elementHashes[i] = structuralHash(elements.get(i).node);
+                structuralMatches[i] = isStructuralMatch(elements.get(i));
+            }
+        }
+
+        @Override
+        void validate(String key, StreamValidation validation) throws IOException {
+            if (validation.isNull()) {
+                validation.validateNullValue(key, this);
+                return;
+            }
+
+            JsonToken token = validation.parser.currentToken();
+            Assert.isTrue(token == JsonToken.START_ARRAY,
+                    ValidationUtils.buildValueMismatchErrorMessage("Type mismatch for JSON entry '" + key + "'",
+                            getTypeName(), StreamingJsonTextMessageValidator.getTypeName(token)));
+
+            validation.validateArray(key, this);
+        }
+
+        @Override
+        String getTypeName() {
+            return "JSONArray";
+        }
+    }
+
+    /**
+     * Control node for validation matcher expressions.
+     */
+    private static class MatcherControlNode extends ControlNode {
+        private final String expression;
+
+        MatcherControlNode(JsonNode node) {
+            super(node);
+            this.expression = node.asText();
+        }
+
+        @Override
+        void validate(String key, StreamValidation validation) throws IOException {
+            ValidationMatcherUtils.resolveValidationMatcher(key, validation.readValueAsString(), expression, validation.context);
+        }
+    }
+
+    /**
+     * Control node for ignored entries.
+     */
+    private static class IgnoreControlNode extends ControlNode {
+        IgnoreControlNode(JsonNode node) {
+            super(node);
+        }
+
+        @Override
+        void validate(String key, StreamValidation validation) throws IOException {
+            validation.parser.skipChildren();
+        }
+    }
+
+    /**
+     * Control node for null values.
+     */
+    private static class NullControlNode extends ControlNode {
+        NullControlNode() {
+            super(NullNode.getInstance());
+        }
+
+        @Override
+        void validate(String key, StreamValidation validation) throws IOException {
+            JsonNode receivedValue = validation.readValue();
+            Assert.isTrue(receivedValue.isNull(),
+                    ValidationUtils.buildValueMismatchErrorMessage("Values not equal for entry: '" + key + "'",
+                            null, getDisplayValue(receivedValue)));
+        }
+    }
+
+    /**
+     * Control node for plain values compared with equals.
+     */
+    private static class ValueControlNode extends ControlNode {
+        ValueControlNode(JsonNode node) {
+            super(node);
+        }
+
+        @Override
+        void validate(String key, StreamValidation validation) throws IOException {
+            if (validation.isNull()) {
+                validation.validateNullValue(key, this);
+                return;
+            }
+
+            JsonNode receivedValue = validation.readValue();
+            Assert.isTrue(node.equals(receivedValue),
+                    ValidationUtils.buildValueMismatchErrorMessage("Values not equal for entry: '" + key + "'",
+                            toString(), getDisplayValue(receivedValue)));
+        }
+    }
+}
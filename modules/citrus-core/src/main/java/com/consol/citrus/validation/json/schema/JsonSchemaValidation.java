@@ -26,10 +26,16 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.fge.jsonschema.core.exceptions.ProcessingException;
 import com.github.fge.jsonschema.core.report.ProcessingReport;
+import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.Option;
+import com.jayway.jsonpath.spi.json.JacksonJsonNodeJsonProvider;
+import com.jayway.jsonpath.spi.mapper.JacksonMappingProvider;
 import org.springframework.context.ApplicationContext;
+import org.springframework.util.StringUtils;
 
 import java.io.IOException;
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -43,6 +49,16 @@ public class JsonSchemaValidation {
     /** Object Mapper to convert the message for validation*/
     private ObjectMapper objectMapper = new ObjectMapper();
 
+    /** JsonPath configuration evaluating the discriminator expression on the parsed message */
+    private final Configuration jsonPathConfiguration = Configuration.builder()
+            .jsonProvider(new JacksonJsonNodeJsonProvider(objectMapper))
+            .mappingProvider(new JacksonMappingProvider(objectMapper))
+            .options(Option.SUPPRESS_EXCEPTIONS)
+            .build();
+
+    /** Optional JsonPath expression selecting the message value that identifies candidate schemas by id or title */
+    private JsonPath discriminator;
+
     /**
      * Default constructor using default filter.
      */
@@ -74,7 +90,9 @@ public class JsonSchemaValidation {
     }
 
     /**
-     * Validates a message against all schemas contained in the given json schema repository
+     * Validates a message against the schemas contained in the given json schema repository. The message payload is
+     * parsed once and validation stops with the first schema that matches, as a single successful schema makes the
+     * gracious report successful. Candidate schemas selected by the discriminator are validated first.
      * @param message The message to be validated
      * @param jsonSchemas The list of json schemas to iterate over
      */
@@ -82,26 +100,92 @@ public class JsonSchemaValidation {
         if (jsonSchemas.isEmpty()) {
             return new GraciousProcessingReport(true);
         } else {
-            List<ProcessingReport> processingReports = new LinkedList<>();
-            for (SimpleJsonSchema simpleJsonSchema : jsonSchemas) {
-                processingReports.add(validate(message, simpleJsonSchema));
+            JsonNode receivedJson = readPayload(message);
+
+            GraciousProcessingReport report = new GraciousProcessingReport(false);
+            for (SimpleJsonSchema simpleJsonSchema : getCandidates(receivedJson, jsonSchemas)) {
+                report.mergeWith(validate(receivedJson, simpleJsonSchema));
+
+                if (report.isSuccess()) {
+                    break;
+                }
             }
-            return new GraciousProcessingReport(processingReports);
+            return report;
         }
     }
 
     /**
-     * Validates a given message against a given json schema
-     * @param message The message to be validated
+     * Validates a given json node against a given json schema
+     * @param receivedJson The parsed message payload to be validated
      * @param simpleJsonSchema The json schema to validate against
      * @return returns the report holding the result of the validation
      */
-    private ProcessingReport validate(Message message, SimpleJsonSchema simpleJsonSchema) {
+    private ProcessingReport validate(JsonNode receivedJson, SimpleJsonSchema simpleJsonSchema) {
         try {
-            JsonNode receivedJson = objectMapper.readTree(message.getPayload(String.class));
             return simpleJsonSchema.getSchema().validate(receivedJson);
-        } catch (IOException | ProcessingException e) {
+        } catch (ProcessingException e) {
+            throw new CitrusRuntimeException("Failed to validate Json schema", e);
+        }
+    }
+
+    /**
+     * Parses the message payload to a json node.
+     * @param message The message to be parsed
+     * @return the parsed message payload
+     */
+    private JsonNode readPayload(Message message) {
+        try {
+            return objectMapper.readTree(message.getPayload(String.class));
+        } catch (IOException e) {
             throw new CitrusRuntimeException("Failed to validate Json schema", e);
         }
     }
+
+    /**
+     * Orders the given schemas so that schemas whose id or title matches the discriminator value of the message come
+     * first. All other schemas follow in their original order, so the overall validation result does not change.
+     * @param receivedJson The parsed message payload
+     * @param jsonSchemas The list of json schemas to order
+     * @return the list of json schemas with candidate schemas first
+     */
+    private List<SimpleJsonSchema> getCandidates(JsonNode receivedJson, List<SimpleJsonSchema> jsonSchemas) {
+        if (discriminator == null || jsonSchemas.size() == 1) {
+            return jsonSchemas;
+        }
+
+        Object discriminatorValue = JsonPath.using(jsonPathConfiguration).parse(receivedJson).read(discriminator);
+        if (!(discriminatorValue instanceof JsonNode) || !((JsonNode) discriminatorValue).isValueNode()) {
+            return jsonSchemas;
+        }
+
+        String key = ((JsonNode) discriminatorValue).asText();
+        List<SimpleJsonSchema> candidates = new ArrayList<>(jsonSchemas.size());
+        List<SimpleJsonSchema> others = new ArrayList<>(jsonSchemas.size());
+        for (SimpleJsonSchema simpleJsonSchema : jsonSchemas) {
+            if (key.equals(simpleJsonSchema.getId()) || key.equals(simpleJsonSchema.getTitle())) {
+                candidates.add(simpleJsonSchema);
+            } else {
+                others.add(simpleJsonSchema);
+            }
+        }
+
+        candidates.addAll(others);
+        return candidates;
+    }
+
+    /**
+     * Sets the JsonPath expression selecting the message value that identifies candidate schemas by id or title.
+     * @param discriminator
+     */
+    public void setDiscriminator(String discriminator) {
+        this.discriminator = StringUtils.hasText(discriminator) ? JsonPath.compile(discriminator) : null;
+    }
+
+    /**
+     * Gets the JsonPath expression selecting candidate schemas.
+     * @return
+     */
+    public String getDiscriminator() {
+        return discriminator != null ? discriminator.getPath() : null;
+    }
 }
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.validation.matcher;
+
+import com.consol.citrus.Citrus;
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.functions.FunctionUtils;
+import com.consol.citrus.variable.VariableUtils;
+
+import java.util.*;
+
+/**
+ * Compiled validation matcher expression. Holds the resolved validation matcher and the control parameters parsed
+ * from the expression. Parameters that do not contain variable or function expressions are passed as is, others are
+ * resolved with the test context on each validation. Instances are immutable and can be shared across test contexts
+ * that use the same validation matcher registry.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public final class ValidationMatcherInvocation {
+
+    /** Resolved validation matcher */
+    private final ValidationMatcher validationMatcher;
+
+    /** Control parameters parsed from the expression */
+    private final List<String> parameters;
+
+    /** Marks parameters that need variable and function replacement */
+    private final boolean[] dynamicParameters;
+
+    /** Any of the parameters needs replacement */
+    private final boolean dynamic;
+
+    /**
+     * Constructor using validation matcher and parsed control parameters.
+     * @param validationMatcher
+     * @param parameters
+     */
+    private ValidationMatcherInvocation(ValidationMatcher validationMatcher, List<String> parameters) {
+        this.validationMatcher = validationMatcher;
+        this.parameters = Collections.unmodifiableList(new ArrayList<>(parameters));
+        this.dynamicParameters = new boolean[parameters.size()];
+
+        boolean hasDynamicParameters = false;
+        for (int i = 0; i < parameters.size(); i++) {
+            dynamicParameters[i] = isDynamic(parameters.get(i));
+            hasDynamicParameters |= dynamicParameters[i];
+        }
+        this.dynamic = hasDynamicParameters;
+    }
+
+    /**
+     * Parses validation matcher expression and resolves the validation matcher using the given registry.
+     * @param validationMatcherExpression the expression to compile.
+     * @param registry the registry holding the validation matcher libraries.
+     * @return the compiled invocation.
+     */
+    public static ValidationMatcherInvocation compile(String validationMatcherExpression, ValidationMatcherRegistry registry) {
+        String expression = VariableUtils.cutOffVariablesPrefix(cutOffValidationMatchersPrefix(validationMatcherExpression));
+
+        if (expression.equals("ignore")) {
+            expression += "()";
+        }
+
+        int bodyStart = expression.indexOf('(');
+        if (bodyStart < 0) {
+            throw new CitrusRuntimeException("Illegal syntax for validation matcher expression - missing validation value in '()' function body");
+        }
+
+        String prefix = "";
+        if (expression.indexOf(':') > 0 && expression.indexOf(':') < bodyStart) {
+            prefix = expression.substring(0, expression.indexOf(':') + 1);
+        }
+
+        String matcherValue = expression.substring(bodyStart + 1, expression.length() - 1);
+        String matcherName = expression.substring(prefix.length(), bodyStart);
+
+        ValidationMatcherLibrary library = registry.getLibraryForPrefix(prefix);
+        ValidationMatcher validationMatcher = library.getValidationMatcher(matcherName);
+
+        ControlExpressionParser controlExpressionParser = lookupControlExpressionParser(validationMatcher);
+        return new ValidationMatcherInvocation(validationMatcher, controlExpressionParser.extractControlValues(matcherValue, null));
+    }
+
+    /**
+     * Validates field value with the validation matcher. Dynamic parameters are resolved with the given test context.
+     * @param fieldName the name of the field
+     * @param fieldValue the value of the field
+     * @param context the test context
+     */
+    public void validate(String fieldName, String fieldValue, TestContext context) {
+        validationMatcher.validate(fieldName, fieldValue, resolveParameters(context), context);
+    }
+
+    /**
+     * Replaces variables and functions in dynamic parameters.
+     * @param context
+     * @return
+     */
+    private List<String> resolveParameters(TestContext context) {
+        if (!dynamic) {
+            return parameters;
+        }
+
+        List<String> replacedParams = new ArrayList<>(parameters.size());
+        for (int i = 0; i < parameters.size(); i++) {
+            String param = parameters.get(i);
+            if (dynamicParameters[i]) {
+                String parsedVariablesParam = VariableUtils.replaceVariablesInString(param, context, false);
+                replacedParams.add(FunctionUtils.replaceFunctionsInString(parsedVariablesParam, context));
+            } else {
+                replacedParams.add(param);
+            }
+        }
+        return replacedParams;
+    }
+
+    /**
+     * Checks if parameter may hold variable or function expressions. Function syntax check follows
+     * the preconditions in {@link FunctionUtils#replaceFunctionsInString(String, TestContext, boolean)}.
+     * @param param
+     * @return
+     */
+    private static boolean isDynamic(String param) {
+        return param.contains(Citrus.VARIABLE_PREFIX) ||
+                (param.indexOf(':') >= 0 && param.indexOf('(') >= 0 && param.indexOf(')') >= 0);
+    }
+
+    /**
+     * Cut off validation matchers prefix and suffix.
+     * @param expression
+     * @return
+     */
+    private static String cutOffValidationMatchersPrefix(String expression) {
+        if (expression.startsWith(Citrus.VALIDATION_MATCHER_PREFIX) && expression.endsWith(Citrus.VALIDATION_MATCHER_SUFFIX)) {
+            return expression.substring(Citrus.VALIDATION_MATCHER_PREFIX.length(), expression.length() - Citrus.VALIDATION_MATCHER_SUFFIX.length());
+        }
+
+        return expression;
+    }
+
+    private static ControlExpressionParser lookupControlExpressionParser(ValidationMatcher validationMatcher) {
+        if (validationMatcher instanceof ControlExpressionParser) {
+            return (ControlExpressionParser) validationMatcher;
+        }
+        return new DefaultControlExpressionParser();
+    }
+
+    /**
+     * Gets the resolved validation matcher.
+     * @return
+     */
+    public ValidationMatcher getValidationMatcher() {
+        return validationMatcher;
+    }
+
+    /**
+     * Gets the unresolved control parameters.
+     * @return
+     */
+    public List<String> getParameters() {
+        return parameters;
+    }
+}
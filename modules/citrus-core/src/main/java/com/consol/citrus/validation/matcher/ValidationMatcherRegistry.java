@@ -19,8 +19,7 @@ package com.consol.citrus.validation.matcher;
 import com.consol.citrus.exceptions.NoSuchValidationMatcherLibraryException;
 import org.springframework.beans.factory.annotation.Autowired;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
 
 /**
  * ValidationMatcher registry holding all available validation matcher libraries.
@@ -31,6 +30,18 @@ public class ValidationMatcherRegistry {
     /** list of libraries providing custom validation matchers */
     @Autowired
     private List<ValidationMatcherLibrary> validationMatcherLibraries = new ArrayList<>();
+
+    /** Maximum number of cached validation matcher invocations */
+    private static final int INVOCATION_CACHE_SIZE = 512;
+
+    /** Compiled validation matcher invocations by expression in least recently used order */
+    private final Map<String, ValidationMatcherInvocation> invocations = Collections.synchronizedMap(
+            new LinkedHashMap<String, ValidationMatcherInvocation>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, ValidationMatcherInvocation> eldest) {
+                    return size() > INVOCATION_CACHE_SIZE;
+                }
+            });
     
     /**
      * Get library for validationMatcher prefix.
@@ -48,12 +59,28 @@ public class ValidationMatcherRegistry {
 
         throw new NoSuchValidationMatcherLibraryException("Can not find validationMatcher library for prefix " + validationMatcherPrefix);
     }
+
+    /**
+     * Get compiled invocation for validation matcher expression. Compiled invocations are cached by expression.
+     * @param validationMatcherExpression the expression to compile
+     * @return ValidationMatcherInvocation instance
+     */
+    public ValidationMatcherInvocation getValidationMatcherInvocation(String validationMatcherExpression) {
+        ValidationMatcherInvocation invocation = invocations.get(validationMatcherExpression);
+        if (invocation == null) {
+            invocation = ValidationMatcherInvocation.compile(validationMatcherExpression, this);
+            invocations.put(validationMatcherExpression, invocation);
+        }
+
+        return invocation;
+    }
     
     /**
      * @param validationMatcherLibraries
      */
     public void setValidationMatcherLibraries(List<ValidationMatcherLibrary> validationMatcherLibraries) {
         this.validationMatcherLibraries = validationMatcherLibraries;
+        invocations.clear();
     }
 
     /**
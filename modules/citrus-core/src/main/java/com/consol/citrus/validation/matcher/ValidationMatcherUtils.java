@@ -18,12 +18,8 @@ package com.consol.citrus.validation.matcher;
 
 import com.consol.citrus.Citrus;
 import com.consol.citrus.context.TestContext;
-import com.consol.citrus.exceptions.CitrusRuntimeException;
-import com.consol.citrus.functions.FunctionUtils;
-import com.consol.citrus.variable.VariableUtils;
 import org.springframework.util.StringUtils;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -47,42 +43,9 @@ public final class ValidationMatcherUtils {
      */
     public static void resolveValidationMatcher(String fieldName, String fieldValue, 
             String validationMatcherExpression, TestContext context) {
-        String expression = VariableUtils.cutOffVariablesPrefix(cutOffValidationMatchersPrefix(validationMatcherExpression));
-
-        if (expression.equals("ignore")) {
-            expression += "()";
-        }
-
-        int bodyStart = expression.indexOf('(');
-        if (bodyStart < 0) {
-            throw new CitrusRuntimeException("Illegal syntax for validation matcher expression - missing validation value in '()' function body");
-        }
-        
-        String prefix = "";
-        if (expression.indexOf(':') > 0 && expression.indexOf(':') < bodyStart) {
-            prefix = expression.substring(0, expression.indexOf(':') + 1);
-        }
-
-        String matcherValue = expression.substring(bodyStart + 1, expression.length() - 1);
-        String matcherName = expression.substring(prefix.length(), bodyStart);
-
-        ValidationMatcherLibrary library = context.getValidationMatcherRegistry().getLibraryForPrefix(prefix);
-        ValidationMatcher validationMatcher = library.getValidationMatcher(matcherName);
-
-        ControlExpressionParser controlExpressionParser = lookupControlExpressionParser(validationMatcher);
-        List<String> params = controlExpressionParser.extractControlValues(matcherValue, null);
-        List<String> replacedParams = replaceVariablesAndFunctionsInParameters(params, context);
-        validationMatcher.validate(fieldName, fieldValue, replacedParams, context);
-    }
-
-    private static List<String> replaceVariablesAndFunctionsInParameters(List<String> params, TestContext context) {
-        List<String> replacedParams = new ArrayList<>(params.size());
-        for (String param : params) {
-            String parsedVariablesParam = VariableUtils.replaceVariablesInString(param, context, false);
-            String parsedFunctionsParam = FunctionUtils.replaceFunctionsInString(parsedVariablesParam, context);
-            replacedParams.add(parsedFunctionsParam);
-        }
-        return replacedParams;
+        context.getValidationMatcherRegistry()
+                .getValidationMatcherInvocation(validationMatcherExpression)
+                .validate(fieldName, fieldValue, context);
     }
 
     /**
@@ -95,26 +58,6 @@ public final class ValidationMatcherUtils {
                 expression.endsWith(Citrus.VALIDATION_MATCHER_SUFFIX);
     }
     
-    /**
-     * Cut off validation matchers prefix and suffix.
-     * @param expression
-     * @return
-     */
-    private static String cutOffValidationMatchersPrefix(String expression) {
-        if (expression.startsWith(Citrus.VALIDATION_MATCHER_PREFIX) && expression.endsWith(Citrus.VALIDATION_MATCHER_SUFFIX)) {
-            return expression.substring(Citrus.VALIDATION_MATCHER_PREFIX.length(), expression.length() - Citrus.VALIDATION_MATCHER_SUFFIX.length());
-        }
-
-        return expression;
-    }
-
-    private static ControlExpressionParser lookupControlExpressionParser(ValidationMatcher validationMatcher) {
-        if (validationMatcher instanceof ControlExpressionParser) {
-            return (ControlExpressionParser) validationMatcher;
-        }
-        return new DefaultControlExpressionParser();
-    }
-
     public static String getParameterListAsString(List<String> parameters) {
         return StringUtils.collectionToDelimitedString(parameters, ",", "'", "'");
     }
@@ -19,9 +19,9 @@ package com.consol.citrus.validation.script;
 import com.consol.citrus.Citrus;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.script.GroovyScriptCache;
 import com.consol.citrus.util.FileUtils;
 import com.consol.citrus.validation.builder.AbstractMessageContentBuilder;
-import groovy.lang.GroovyClassLoader;
 import groovy.lang.GroovyObject;
 import org.codehaus.groovy.control.CompilationFailedException;
 import org.springframework.core.io.ClassPathResource;
@@ -77,17 +77,7 @@ public class GroovyScriptMessageBuilder extends AbstractMessageContentBuilder {
      */
     private String buildMarkupBuilderScript(String scriptData) {
         try {
-            ClassLoader parent = GroovyScriptMessageBuilder.class.getClassLoader(); 
-            GroovyClassLoader loader = new GroovyClassLoader(parent);
-            
-            Class<?> groovyClass = loader.parseClass(TemplateBasedScriptBuilder.fromTemplateResource(scriptTemplateResource)
-                                                            .withCode(scriptData)
-                                                            .build());
-            
-            if (groovyClass == null) {
-                throw new CitrusRuntimeException("Could not load groovy script!");    
-            }
-            
+            Class<?> groovyClass = GroovyScriptCache.parseClass(scriptTemplateResource, scriptData);
             GroovyObject groovyObject = (GroovyObject) groovyClass.newInstance();
             return (String) groovyObject.invokeMethod("run", new Object[] {});
         } catch (CompilationFailedException e) {
@@ -19,9 +19,9 @@ package com.consol.citrus.validation.script.sql;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.exceptions.ValidationException;
+import com.consol.citrus.script.GroovyScriptCache;
 import com.consol.citrus.script.ScriptTypes;
 import com.consol.citrus.validation.script.*;
-import groovy.lang.GroovyClassLoader;
 import groovy.lang.GroovyObject;
 import org.codehaus.groovy.control.CompilationFailedException;
 import org.slf4j.Logger;
@@ -30,8 +30,6 @@ import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
 import org.springframework.util.StringUtils;
 
-import java.security.AccessController;
-import java.security.PrivilegedAction;
 import java.util.List;
 import java.util.Map;
 
@@ -76,20 +74,7 @@ public class GroovySqlResultSetValidator implements SqlResultSetScriptValidator
                 if (StringUtils.hasText(validationScript)) {
                     log.debug("Start groovy SQL result set validation");
 
-                    GroovyClassLoader loader = AccessController.doPrivileged(new PrivilegedAction<GroovyClassLoader>() {
-                        public GroovyClassLoader run() {
-                            return new GroovyClassLoader(GroovyScriptMessageValidator.class.getClassLoader());
-                        }
-                    });
-
-                    Class<?> groovyClass = loader.parseClass(TemplateBasedScriptBuilder.fromTemplateResource(scriptTemplateResource)
-                                                                .withCode(validationScript)
-                                                                .build());
-                    
-                    if (groovyClass == null) {
-                        throw new CitrusRuntimeException("Failed to load groovy validation script resource");
-                    }
-                    
+                    Class<?> groovyClass = GroovyScriptCache.parseClass(scriptTemplateResource, validationScript);
                     GroovyObject groovyObject = (GroovyObject) groovyClass.newInstance();
                     ((SqlResultSetScriptExecutor) groovyObject).validate(resultSet, context);
                     
@@ -55,6 +55,7 @@ import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.stream.StreamResult;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.lang.ref.WeakReference;
 import java.util.*;
 import java.util.Map.Entry;
 
@@ -75,6 +76,9 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
     @Autowired(required = false)
     private NamespaceContextBuilder namespaceContextBuilder = new NamespaceContextBuilder();
 
+    /** Compiled schema validators by schema repository or schema instance. Cached values must not reference their keys */
+    private final Map<Object, CachedSchemaValidator> schemaValidators = Collections.synchronizedMap(new WeakHashMap<>());
+
     /** Root application context this validator is defined in */
     private ApplicationContext applicationContext;
 
@@ -141,7 +145,7 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
         }
 
         try {
-            Document doc = XMLUtils.parseMessagePayload(receivedMessage.getPayload(String.class));
+            Document doc = XMLUtils.parseMessagePayload(receivedMessage);
 
             if (!StringUtils.hasText(doc.getFirstChild().getNamespaceURI())) {
                 return;
@@ -152,7 +156,7 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
             XmlValidator validator = null;
             XsdSchemaRepository schemaRepository = null;
             if (validationContext.getSchema() != null) {
-                validator = applicationContext.getBean(validationContext.getSchema(), XsdSchema.class).createValidator();
+                validator = getSchemaValidator(applicationContext.getBean(validationContext.getSchema(), XsdSchema.class));
             } else if (validationContext.getSchemaRepository() != null) {
                 schemaRepository = applicationContext.getBean(validationContext.getSchemaRepository(), XsdSchemaRepository.class);
             } else if (schemaRepositories.size() == 1) {
@@ -181,30 +185,7 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
                             schemaRepository.getName()));
                 }
 
-                List<Resource> schemas = new ArrayList<>();
-                for (XsdSchema xsdSchema : schemaRepository.getSchemas()) {
-                    if (xsdSchema instanceof XsdSchemaCollection) {
-                        for (Resource resource : ((XsdSchemaCollection) xsdSchema).getSchemaResources()) {
-                            schemas.add(resource);
-                        }                            
-                    } else if (xsdSchema instanceof WsdlXsdSchema) {
-                        for (Resource resource : ((WsdlXsdSchema) xsdSchema).getSchemaResources()) {
-                            schemas.add(resource);
-                        }
-                    } else {
-                        synchronized (transformerFactory) {
-                            ByteArrayOutputStream bos = new ByteArrayOutputStream();
-                            try {
-                                transformerFactory.newTransformer().transform(xsdSchema.getSource(), new StreamResult(bos));
-                            } catch (TransformerException e) {
-                                throw new CitrusRuntimeException("Failed to read schema " + xsdSchema.getTargetNamespace(), e);
-                            }
-                            schemas.add(new ByteArrayResource(bos.toByteArray()));
-                        }
-                    }
-                }
-                
-                validator = XmlValidatorFactory.createValidator(schemas.toArray(new Resource[schemas.size()]), WsdlXsdSchema.W3C_XML_SCHEMA_NS_URI);
+                validator = getSchemaValidator(schemaRepository);
             }
             
             SAXParseException[] results = validator.validate(new DOMSource(doc));
@@ -230,6 +211,70 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
         }
     }
 
+    /**
+     * Gets validator for all schemas in given schema repository. Compiled validators are cached per repository and
+     * reused as long as the repository holds the same set of schemas. Validators are thread safe as they create a
+     * new JAXP validator for each validation on the compiled schema.
+     * @param schemaRepository
+     * @return
+     * @throws IOException
+     */
+    protected XmlValidator getSchemaValidator(XsdSchemaRepository schemaRepository) throws IOException {
+        List<XsdSchema> schemas = new ArrayList<>(schemaRepository.getSchemas());
+
+        CachedSchemaValidator cached = schemaValidators.get(schemaRepository);
+        if (cached != null && cached.isCompiledFrom(schemas)) {
+            return cached.validator;
+        }
+
+        List<Resource> schemaResources = new ArrayList<>();
+        for (XsdSchema xsdSchema : schemas) {
+            if (xsdSchema instanceof XsdSchemaCollection) {
+                for (Resource resource : ((XsdSchemaCollection) xsdSchema).getSchemaResources()) {
+                    schemaResources.add(resource);
+                }
+            } else if (xsdSchema instanceof WsdlXsdSchema) {
+                for (Resource resource : ((WsdlXsdSchema) xsdSchema).getSchemaResources()) {
+                    schemaResources.add(resource);
+                }
+            } else {
+                synchronized (transformerFactory) {
+                    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+                    try {
+                        transformerFactory.newTransformer().transform(xsdSchema.getSource(), new StreamResult(bos));
+                    } catch (TransformerException e) {
+                        throw new CitrusRuntimeException("Failed to read schema " + xsdSchema.getTargetNamespace(), e);
+                    }
+                    schemaResources.add(new ByteArrayResource(bos.toByteArray()));
+                }
+            }
+        }
+
+        XmlValidator validator = XmlValidatorFactory.createValidator(schemaResources.toArray(new Resource[schemaResources.size()]), WsdlXsdSchema.W3C_XML_SCHEMA_NS_URI);
+        schemaValidators.put(schemaRepository, new CachedSchemaValidator(schemas, validator));
+
+        return validator;
+    }
+
+    /**
+     * Gets validator for given schema. Compiled validators are cached per schema instance. Validators created by the schema
+     * wrap the compiled JAXP schema and do not reference the schema instance itself.
+     * @param schema
+     * @return
+     * @throws IOException
+     */
+    protected XmlValidator getSchemaValidator(XsdSchema schema) throws IOException {
+        CachedSchemaValidator cached = schemaValidators.get(schema);
+        if (cached != null) {
+            return cached.validator;
+        }
+
+        XmlValidator validator = schema.createValidator();
+        schemaValidators.put(schema, new CachedSchemaValidator(Collections.emptyList(), validator));
+
+        return validator;
+    }
+
     /**
      * Validate namespaces in message. The method compares namespace declarations in the root
      * element of the received message to expected namespaces. Prefixes are important too, so
@@ -247,7 +292,7 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
 
         log.debug("Start XML namespace validation");
 
-        Document received = XMLUtils.parseMessagePayload(receivedMessage.getPayload(String.class));
+        Document received = XMLUtils.parseMessagePayload(receivedMessage);
 
         Map<String, String> foundNamespaces = XMLUtils.lookupNamespaces(receivedMessage.getPayload(String.class));
 
@@ -344,7 +389,7 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
 
         log.debug("Start XML tree validation ...");
 
-        Document received = XMLUtils.parseMessagePayload(receivedMessage.getPayload(String.class));
+        Document received = (Document) XMLUtils.parseMessagePayload(receivedMessage).cloneNode(true);
         Document source = XMLUtils.parseMessagePayload(controlMessagePayload);
 
         XMLUtils.stripWhitespaceNodes(received);
@@ -756,4 +801,46 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
     public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
         this.applicationContext = applicationContext;
     }
+
+    /**
+     * Gets the number of cached schema validators.
+     * @return
+     */
+    int getCachedSchemaValidatorCount() {
+        return schemaValidators.size();
+    }
+
+    /**
+     * Compiled schema validator with the set of schemas it was created from.
+     */
+    private static class CachedSchemaValidator {
+        private final List<WeakReference<XsdSchema>> schemas = new ArrayList<>();
+        private final XmlValidator validator;
+
+        CachedSchemaValidator(List<XsdSchema> schemas, XmlValidator validator) {
+            for (XsdSchema schema : schemas) {
+                this.schemas.add(new WeakReference<>(schema));
+            }
+            this.validator = validator;
+        }
+
+        /**
+         * Checks if validator has been compiled from exactly the given schema instances.
+         * @param schemas
+         * @return
+         */
+        boolean isCompiledFrom(List<XsdSchema> schemas) {
+            if (this.schemas.size() != schemas.size()) {
+                return false;
+            }
+
+            for (int i = 0; i < schemas.size(); i++) {
+                if (this.schemas.get(i).get() != schemas.get(i)) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+    }
 }
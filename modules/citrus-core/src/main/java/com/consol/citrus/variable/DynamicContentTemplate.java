@@ -0,0 +1,504 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.variable;
+
+import com.consol.citrus.Citrus;
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.exceptions.NoSuchVariableException;
+import com.consol.citrus.functions.FunctionLibrary;
+import com.consol.citrus.functions.FunctionUtils;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compiled representation of a string holding variable expressions and function calls. Template string is parsed
+ * once into an immutable list of literal, variable and function call segments. Compiled templates are cached so rendering
+ * the same template string over and over again in test loops does not need to scan the whole string each time. Only templates up to
+ * a maximum length that actually hold variable expressions or function calls are cached and the cache is bounded by number of entries
+ * and by the total length of all cached template strings.
+ *
+ * Parsing follows the exact rules of {@link VariableUtils#replaceVariablesInString(String, TestContext, boolean)} and
+ * {@link FunctionUtils#replaceFunctionsInString(String, TestContext, boolean)}. In case variable values would change
+ * the function parsing result (e.g. values holding function expressions or parenthesis within function calls) rendering
+ * falls back to these utility methods.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public final class DynamicContentTemplate {
+
+    /** Maximum number of cached templates */
+    private static final int CACHE_SIZE = 512;
+
+    /** Maximum total length of all cached template strings */
+    private static final long CACHE_MAX_CHARS = 1024 * 1024;
+
+    /** Templates longer than this are compiled on each call and never cached */
+    static final int MAX_CACHED_TEMPLATE_LENGTH = 8 * 1024;
+
+    /** Cache of compiled templates */
+    private static final Map<String, DynamicContentTemplate> CACHE = new ConcurrentHashMap<>();
+
+    /** Total length of all cached template strings */
+    private static final AtomicLong CACHED_CHARS = new AtomicLong();
+
+    /** Original template string */
+    private final String template;
+
+    /** Function library prefixes this template has been compiled with */
+    private final List<String> functionPrefixes;
+
+    /** Compiled segments, null when template can not be compiled */
+    private final List<Segment> segments;
+
+    /** Total number of variable expressions in this template */
+    private final int variableCount;
+
+    /** Length of all literal segments */
+    private final int literalLength;
+
+    /**
+     * Private constructor using fields.
+     */
+    private DynamicContentTemplate(String template, List<String> functionPrefixes, List<Segment> segments, int variableCount, int literalLength) {
+        this.template = template;
+        this.functionPrefixes = functionPrefixes;
+        this.segments = segments;
+        this.variableCount = variableCount;
+        this.literalLength = literalLength;
+    }
+
+    /**
+     * Replaces variable expressions and functions in given string using the cached compiled template.
+     * @param str
+     * @param context
+     * @param enableQuoting
+     * @return
+     */
+    public static String replaceDynamicContent(String str, TestContext context, boolean enableQuoting) {
+        if (str.indexOf(Citrus.VARIABLE_PREFIX) < 0 && str.indexOf(':') < 0) {
+            return str;
+        }
+
+        List<String> functionPrefixes = getFunctionPrefixes(context);
+
+        if (str.indexOf(Citrus.VARIABLE_PREFIX) < 0 && !containsAny(str, functionPrefixes)) {
+            return str;
+        }
+
+        if (str.length() > MAX_CACHED_TEMPLATE_LENGTH) {
+            return compile(str, functionPrefixes).render(context, enableQuoting);
+        }
+
+        DynamicContentTemplate compiled = CACHE.get(str);
+        if (compiled == null || !compiled.functionPrefixes.equals(functionPrefixes)) {
+            compiled = compile(str, functionPrefixes);
+            cache(str, compiled);
+        }
+
+        return compiled.render(context, enableQuoting);
+    }
+
+    /**
+     * Adds compiled template to the cache. Evicts arbitrary entries when the cache exceeds the maximum number of entries
+     * or the maximum total template length.
+     * @param str
+     * @param compiled
+     */
+    private static void cache(String str, DynamicContentTemplate compiled) {
+        if (CACHE.put(str, compiled) == null) {
+            CACHED_CHARS.addAndGet(str.length());
+        }
+
+        Iterator<String> keys = CACHE.keySet().iterator();
+        while ((CACHE.size() > CACHE_SIZE || CACHED_CHARS.get() > CACHE_MAX_CHARS) && keys.hasNext()) {
+            String key = keys.next();
+            if (!key.equals(str) && CACHE.remove(key) != null) {
+                CACHED_CHARS.addAndGet(-key.length());
+            }
+        }
+    }
+
+    /**
+     * Gets the number of cached templates.
+     * @return
+     */
+    static int getCacheSize() {
+        return CACHE.size();
+    }
+
+    /**
+     * Gets the total length of all cached template strings.
+     * @return
+     */
+    static long getCachedChars() {
+        return CACHED_CHARS.get();
+    }
+
+    /**
+     * Compiles given template string with function library prefixes.
+     * @param template
+     * @param functionPrefixes
+     * @return
+     */
+    public static DynamicContentTemplate compile(String template, List<String> functionPrefixes) {
+        List<Segment> variableSegments = parseVariables(template);
+
+        int variableCount = 0;
+        StringBuilder literals = new StringBuilder();
+        for (Segment segment : variableSegments) {
+            if (segment instanceof Literal) {
+                literals.append(((Literal) segment).text);
+            } else {
+                variableCount++;
+            }
+        }
+
+        List<Segment> segments = null;
+        if (!hasOverlappingPrefixes(functionPrefixes)) {
+            segments = parseFunctions(variableSegments, functionPrefixes);
+
+            boolean hasFunctions = segments.stream().anyMatch(segment -> segment instanceof FunctionCall);
+            if (hasFunctions && (literals.indexOf("(") < 0 || literals.indexOf(")") < 0)) {
+                // function evaluation depends on variable values holding parenthesis
+                segments = null;
+            }
+        }
+
+        return new DynamicContentTemplate(template, functionPrefixes, segments, variableCount, literals.length());
+    }
+
+    /**
+     * Renders this template with given test context.
+     * @param context
+     * @param enableQuoting
+     * @return
+     */
+    public String render(TestContext context, boolean enableQuoting) {
+        if (segments == null) {
+            return replaceDynamicContentLegacy(context, enableQuoting);
+        }
+
+        String[] values = new String[variableCount];
+        int valueLength = 0;
+        int index = 0;
+        for (Segment segment : segments) {
+            if (segment instanceof VariableReference) {
+                String value = resolveVariable((VariableReference) segment, context);
+                if (containsAny(value, functionPrefixes)) {
+                    return replaceDynamicContentLegacy(context, enableQuoting);
+                }
+
+                values[index++] = value;
+                valueLength += value.length();
+            } else if (segment instanceof FunctionCall) {
+                for (Segment part : ((FunctionCall) segment).parts) {
+                    if (part instanceof VariableReference) {
+                        String value = resolveVariable((VariableReference) part, context);
+                        if (containsAny(value, functionPrefixes) || value.indexOf('(') >= 0 || value.indexOf(')') >= 0) {
+                            return replaceDynamicContentLegacy(context, enableQuoting);
+                        }
+
+                        values[index++] = value;
+                        valueLength += value.length();
+                    }
+                }
+            }
+        }
+
+        StringBuilder result = new StringBuilder(literalLength + valueLength + (enableQuoting ? 2 * variableCount : 0));
+        index = 0;
+        for (Segment segment : segments) {
+            if (segment instanceof Literal) {
+                result.append(((Literal) segment).text);
+            } else if (segment instanceof VariableReference) {
+                appendValue(result, values[index++], enableQuoting);
+            } else {
+                StringBuilder functionExpression = new StringBuilder();
+                for (Segment part : ((FunctionCall) segment).parts) {
+                    if (part instanceof Literal) {
+                        functionExpression.append(((Literal) part).text);
+                    } else {
+                        appendValue(functionExpression, values[index++], enableQuoting);
+                    }
+                }
+
+                appendValue(result, FunctionUtils.resolveFunction(functionExpression.toString(), context), enableQuoting);
+            }
+        }
+
+        return result.toString();
+    }
+
+    /**
+     * Replaces dynamic content in template string with variable and function utilities.
+     * @param context
+     * @param enableQuoting
+     * @return
+     */
+    private String replaceDynamicContentLegacy(TestContext context, boolean enableQuoting) {
+        String result = VariableUtils.replaceVariablesInString(template, context, enableQuoting);
+        return FunctionUtils.replaceFunctionsInString(result, context, enableQuoting);
+    }
+
+    private static String resolveVariable(VariableReference variable, TestContext context) {
+        String value = context.getVariable(variable.name);
+        if (value == null) {
+            throw new NoSuchVariableException("Variable: " + variable.name + " could not be found");
+        }
+
+        return value;
+    }
+
+    private static void appendValue(StringBuilder builder, String value, boolean enableQuoting) {
+        if (enableQuoting) {
+            builder.append('\'').append(value).append('\'');
+        } else {
+            builder.append(value);
+        }
+    }
+
+    /**
+     * Parses variable expressions in given string. Follows the parsing rules of variable utilities.
+     * @param str
+     * @return
+     */
+    private static List<Segment> parseVariables(String str) {
+        List<Segment> segments = new ArrayList<>();
+
+        int startIndex = 0;
+        int searchIndex;
+        while ((searchIndex = str.indexOf(Citrus.VARIABLE_PREFIX, startIndex)) != -1) {
+            int control = 0;
+            boolean isVarComplete = false;
+            int curIndex = searchIndex + Citrus.VARIABLE_PREFIX.length();
+            StringBuilder variableName = new StringBuilder();
+
+            while (curIndex < str.length() && !isVarComplete) {
+                if (str.startsWith(Citrus.VARIABLE_PREFIX, curIndex)) {
+                    control++;
+                }
+
+                if (str.charAt(curIndex) == Citrus.VARIABLE_SUFFIX.charAt(0) || (curIndex + 1 == str.length())) {
+                    if (control == 0) {
+                        isVarComplete = true;
+                    } else {
+                        control--;
+                    }
+                }
+
+                if (!isVarComplete) {
+                    variableName.append(str.charAt(curIndex));
+                }
+                ++curIndex;
+            }
+
+            if (searchIndex > startIndex) {
+                segments.add(new Literal(str.substring(startIndex, searchIndex)));
+            }
+            segments.add(new VariableReference(variableName.toString()));
+
+            startIndex = curIndex;
+        }
+
+        if (startIndex < str.length()) {
+            segments.add(new Literal(str.substring(startIndex)));
+        }
+
+        return segments;
+    }
+
+    /**
+     * Parses function calls in literal segments. Follows the parsing rules of function utilities. Variable
+     * segments are part of the function call when located within the function parameters.
+     * @param variableSegments
+     * @param functionPrefixes
+     * @return
+     */
+    private static List<Segment> parseFunctions(List<Segment> variableSegments, List<String> functionPrefixes) {
+        List<Segment> segments = new ArrayList<>();
+
+        FunctionCall functionCall = null;
+        int control = -1;
+        for (Segment segment : variableSegments) {
+            if (!(segment instanceof Literal)) {
+                (functionCall != null ? functionCall.parts : segments).add(segment);
+                continue;
+            }
+
+            String text = ((Literal) segment).text;
+            int startIndex = 0;
+            int curIndex = 0;
+            while (curIndex < text.length()) {
+                if (functionCall == null) {
+                    int searchIndex = indexOfAny(text, functionPrefixes, curIndex);
+                    if (searchIndex < 0) {
+                        break;
+                    }
+
+                    if (searchIndex > startIndex) {
+                        segments.add(new Literal(text.substring(startIndex, searchIndex)));
+                    }
+
+                    functionCall = new FunctionCall();
+                    control = -1;
+                    startIndex = searchIndex;
+                    curIndex = searchIndex;
+                }
+
+                char c = text.charAt(curIndex);
+                if (c == '(') {
+                    control++;
+                }
+
+                curIndex++;
+
+                if (c == ')') {
+                    if (control == 0) {
+                        functionCall.parts.add(new Literal(text.substring(startIndex, curIndex)));
+                        segments.add(functionCall);
+                        functionCall = null;
+                        startIndex = curIndex;
+                    } else {
+                        control--;
+                    }
+                }
+            }
+
+            if (startIndex < text.length()) {
+                (functionCall != null ? functionCall.parts : segments).add(new Literal(text.substring(startIndex)));
+            }
+        }
+
+        if (functionCall != null) {
+            // function call reaches end of string
+            segments.add(functionCall);
+        }
+
+        return segments;
+    }
+
+    private static List<String> getFunctionPrefixes(TestContext context) {
+        List<FunctionLibrary> libraries = context.getFunctionRegistry().getFunctionLibraries();
+        List<String> prefixes = new ArrayList<>(libraries.size());
+        for (FunctionLibrary library : libraries) {
+            prefixes.add(library.getPrefix());
+        }
+
+        return prefixes;
+    }
+
+    /**
+     * Function utilities evaluate library prefixes one after another. When one prefix is part of another prefix the
+     * result depends on library order so template is not compiled.
+     * @param functionPrefixes
+     * @return
+     */
+    private static boolean hasOverlappingPrefixes(List<String> functionPrefixes) {
+        for (int i = 0; i < functionPrefixes.size(); i++) {
+            for (int j = 0; j < functionPrefixes.size(); j++) {
+                if (i != j && functionPrefixes.get(i).contains(functionPrefixes.get(j))) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    private static int indexOfAny(String text, List<String> prefixes, int fromIndex) {
+        int index = -1;
+        for (String prefix : prefixes) {
+            int found = text.indexOf(prefix, fromIndex);
+            if (found >= 0 && (index < 0 || found < index)) {
+                index = found;
+            }
+        }
+
+        return index;
+    }
+
+    private static boolean containsAny(String value, List<String> prefixes) {
+        for (String prefix : prefixes) {
+            if (value.contains(prefix)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Clears the template cache.
+     */
+    public static void clearCache() {
+        CACHE.clear();
+    }
+
+    /**
+     * Gets the original template string.
+     * @return
+     */
+    public String getTemplate() {
+        return template;
+    }
+
+    /**
+     * Checks if template has been compiled or needs to be evaluated with variable and function utilities.
+     * @return
+     */
+    public boolean isCompiled() {
+        return segments != null;
+    }
+
+    /**
+     * Template segment.
+     */
+    private abstract static class Segment {
+    }
+
+    /**
+     * Literal text segment.
+     */
+    private static final class Literal extends Segment {
+        private final String text;
+
+        Literal(String text) {
+            this.text = text;
+        }
+    }
+
+    /**
+     * Variable expression segment.
+     */
+    private static final class VariableReference extends Segment {
+        private final String name;
+
+        VariableReference(String name) {
+            this.name = name;
+        }
+    }
+
+    /**
+     * Function call segment holding literal and variable parts of the function expression.
+     */
+    private static final class FunctionCall extends Segment {
+        private final List<Segment> parts = new ArrayList<>();
+    }
+}
@@ -138,10 +138,10 @@ public final class VariableUtils {
     * @return
     */
    public static String replaceVariablesInString(final String str, TestContext context, boolean enableQuoting) {
-       StringBuffer newStr = new StringBuffer();
+       StringBuilder newStr = new StringBuilder();
 
        boolean isVarComplete;
-       StringBuffer variableNameBuf = new StringBuffer();
+       StringBuilder variableNameBuf = new StringBuilder();
 
        int startIndex = 0;
        int curIndex;
@@ -154,7 +154,7 @@ public final class VariableUtils {
            curIndex = searchIndex + Citrus.VARIABLE_PREFIX.length();
 
            while (curIndex < str.length() && !isVarComplete) {
-               if (str.indexOf(Citrus.VARIABLE_PREFIX, curIndex) == curIndex) {
+               if (str.startsWith(Citrus.VARIABLE_PREFIX, curIndex)) {
                    control++;
                }
 
@@ -187,7 +187,7 @@ public final class VariableUtils {
 
            startIndex = curIndex;
 
-           variableNameBuf = new StringBuffer();
+           variableNameBuf = new StringBuilder();
            isVarComplete = false;
        }
 
@@ -24,12 +24,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.xml.namespace.SimpleNamespaceContext;
+import org.w3c.dom.Document;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 
 import javax.xml.namespace.NamespaceContext;
 import javax.xml.xpath.XPathConstants;
+import java.util.IdentityHashMap;
 import java.util.Map;
 
 /**
@@ -37,6 +38,10 @@ import java.util.Map;
  * in dictionary value is overwritten accordingly. Namespace context is either evaluated on the fly or by global namespace
  * context builder.
  *
+ * In single pass mode all mapping expressions are evaluated once per document and matching nodes are stored in an identity
+ * map, so translating a node is a simple lookup. As the expressions are evaluated before the first node gets translated,
+ * expressions always see the original document content in this mode.
+ *
  * @author Christoph Deppisch
  * @since 1.4
  */
@@ -48,12 +53,32 @@ public class XpathMappingDataDictionary extends AbstractXmlDataDictionary implem
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(XpathMappingDataDictionary.class);
 
+    /** Evaluate all mapping expressions once per document instead of once per translated node */
+    private boolean singlePass = false;
+
+    /** Document user data key for mapped nodes of this dictionary instance */
+    private final String mappedNodesKey = XpathMappingDataDictionary.class.getName() + "@" + System.identityHashCode(this);
+
     @Override
     public <T> T translate(Node node, T value, TestContext context) {
+        if (singlePass) {
+            String mappedValue = getMappedNodes(node.getOwnerDocument()).get(node);
+
+            if (mappedValue != null) {
+                if (log.isDebugEnabled()) {
+                    log.debug(String.format("Data dictionary setting element '%s' value: %s", XMLUtils.getNodesPathName(node), mappedValue));
+                }
+                return convertIfNecessary(context.replaceDynamicContentInString(mappedValue), value);
+            }
+
+            return value;
+        }
+
+        NamespaceContext namespaceContext = buildNamespaceContext(node);
         for (Map.Entry<String, String> expressionEntry : mappings.entrySet()) {
             String expression = expressionEntry.getKey();
 
-            NodeList findings = (NodeList) XPathUtils.evaluateExpression(node.getOwnerDocument(), expression, buildNamespaceContext(node), XPathConstants.NODESET);
+            NodeList findings = (NodeList) XPathUtils.evaluateExpression(node.getOwnerDocument(), expression, namespaceContext, XPathConstants.NODESET);
 
             if (findings != null && containsNode(findings, node)) {
                 if (log.isDebugEnabled()) {
@@ -66,6 +91,36 @@ public class XpathMappingDataDictionary extends AbstractXmlDataDictionary implem
         return value;
     }
 
+    /**
+     * Gets mapped nodes of given document. Evaluates all mapping expressions on first access and stores the nodes with
+     * their mapping value as document user data. First mapping in order wins when several mappings match the same node.
+     * @param document the owner document of translated nodes
+     * @return
+     */
+    @SuppressWarnings("unchecked")
+    private Map<Node, String> getMappedNodes(Document document) {
+        Map<Node, String> mappedNodes = (Map<Node, String>) document.getUserData(mappedNodesKey);
+
+        if (mappedNodes == null) {
+            mappedNodes = new IdentityHashMap<>();
+
+            NamespaceContext namespaceContext = buildNamespaceContext(document);
+            for (Map.Entry<String, String> expressionEntry : mappings.entrySet()) {
+                NodeList findings = (NodeList) XPathUtils.evaluateExpression(document, expressionEntry.getKey(), namespaceContext, XPathConstants.NODESET);
+
+                if (findings != null) {
+                    for (int i = 0; i < findings.getLength(); i++) {
+                        mappedNodes.putIfAbsent(findings.item(i), expressionEntry.getValue());
+                    }
+                }
+            }
+
+            document.setUserData(mappedNodesKey, mappedNodes, null);
+        }
+
+        return mappedNodes;
+    }
+
     /**
      * Checks if given node set contains node.
      * @param findings
@@ -85,19 +140,16 @@ public class XpathMappingDataDictionary extends AbstractXmlDataDictionary implem
     /**
      * Builds namespace context with dynamic lookup on received node document and global namespace mappings from
      * namespace context builder.
-     * @param node the element node from message
+     * @param node the element node from message or the message document
      * @return
      */
     private NamespaceContext buildNamespaceContext(Node node) {
-        SimpleNamespaceContext simpleNamespaceContext = new SimpleNamespaceContext();
-        Map<String, String> namespaces = XMLUtils.lookupNamespaces(node.getOwnerDocument());
+        Map<String, String> namespaces = XMLUtils.lookupNamespaces(node.getNodeType() == Node.DOCUMENT_NODE ? node : node.getOwnerDocument());
 
         // add default namespace mappings
         namespaces.putAll(namespaceContextBuilder.getNamespaceMappings());
 
-        simpleNamespaceContext.setBindings(namespaces);
-
-        return simpleNamespaceContext;
+        return namespaceContextBuilder.getNamespaceContext(namespaces);
     }
 
     @Override
@@ -111,6 +163,22 @@ public class XpathMappingDataDictionary extends AbstractXmlDataDictionary implem
         super.afterPropertiesSet();
     }
 
+    /**
+     * Is single pass mode enabled.
+     * @return
+     */
+    public boolean isSinglePass() {
+        return singlePass;
+    }
+
+    /**
+     * Enable/disable single pass mode evaluating all mapping expressions once per document.
+     * @param singlePass
+     */
+    public void setSinglePass(boolean singlePass) {
+        this.singlePass = singlePass;
+    }
+
     /**
      * @return
      */
@@ -32,6 +32,9 @@ import java.util.Map;
  * Class is loaded with Spring application context in Citrus. When loaded automatically initializes XML utilities
  * with this XML processing configuration. Configuration is pushed to XML utility classes after properties are set.
  *
+ * Configurer keeps a configured parser and serializer instance per thread for reuse. Clients borrow these instances
+ * and release them after use. Borrowed instances must not be shared with other threads.
+ *
  * @author Christoph Deppisch
  * @since 2.6.2
  */
@@ -48,6 +51,10 @@ public class XmlConfigurer implements InitializingBean {
     private Map<String, Object> parseSettings = new HashMap<>();
     private Map<String, Object> serializeSettings = new HashMap<>();
 
+    /** Pooled parser and serializer instances per thread, replaced when settings change */
+    private volatile ThreadLocal<LSParser> parsers = new ThreadLocal<>();
+    private volatile ThreadLocal<LSSerializer> serializers = new ThreadLocal<>();
+
     public static final String SPLIT_CDATA_SECTIONS = "split-cdata-sections";
     public static final String FORMAT_PRETTY_PRINT = "format-pretty-print";
     public static final String ELEMENT_CONTENT_WHITESPACE = "element-content-whitespace";
@@ -92,6 +99,38 @@ public class XmlConfigurer implements InitializingBean {
         return parser;
     }
 
+    /**
+     * Borrows configured LSParser instance for exclusive use in current thread. Parser must be released
+     * after use with {@link #releaseLSParser(LSParser)} so other calls in this thread can reuse the instance.
+     * In case pooled parser is already in use by this thread a new parser instance is created.
+     * @return
+     */
+    public LSParser borrowLSParser() {
+        ThreadLocal<LSParser> pool = parsers;
+        LSParser parser = pool.get();
+
+        if (parser != null) {
+            pool.remove();
+            return parser;
+        }
+
+        return createLSParser();
+    }
+
+    /**
+     * Releases borrowed parser so it can be reused by current thread. Filters set on parser are removed. Clients that
+     * change parser configuration parameters have to restore the settings before releasing the parser.
+     * @param parser
+     */
+    public void releaseLSParser(LSParser parser) {
+        if (parser.getBusy()) {
+            return;
+        }
+
+        parser.setFilter(null);
+        parsers.set(parser);
+    }
+
     /**
      * Set parser configuration based on this configurers settings.
      * @param parser
@@ -114,6 +153,34 @@ public class XmlConfigurer implements InitializingBean {
         return serializer;
     }
 
+    /**
+     * Borrows configured LSSerializer instance for exclusive use in current thread. Serializer must be released
+     * after use with {@link #releaseLSSerializer(LSSerializer)} so other calls in this thread can reuse the instance.
+     * In case pooled serializer is already in use by this thread a new serializer instance is created.
+     * @return
+     */
+    public LSSerializer borrowLSSerializer() {
+        ThreadLocal<LSSerializer> pool = serializers;
+        LSSerializer serializer = pool.get();
+
+        if (serializer != null) {
+            pool.remove();
+            return serializer;
+        }
+
+        return createLSSerializer();
+    }
+
+    /**
+     * Releases borrowed serializer so it can be reused by current thread. Filters set on serializer are removed. Clients that
+     * change serializer configuration parameters have to restore the settings before releasing the serializer.
+     * @param serializer
+     */
+    public void releaseLSSerializer(LSSerializer serializer) {
+        serializer.setFilter(null);
+        serializers.set(serializer);
+    }
+
     /**
      * Set serializer configuration based on this configurers settings.
      * @param serializer
@@ -238,6 +305,7 @@ public class XmlConfigurer implements InitializingBean {
      */
     public void setParseSettings(Map<String, Object> parseSettings) {
         this.parseSettings = parseSettings;
+        this.parsers = new ThreadLocal<>();
     }
 
     /**
@@ -247,6 +315,7 @@ public class XmlConfigurer implements InitializingBean {
      */
     public void setSerializeSettings(Map<String, Object> serializeSettings) {
         this.serializeSettings = serializeSettings;
+        this.serializers = new ThreadLocal<>();
     }
 
     @Override
@@ -254,6 +323,9 @@ public class XmlConfigurer implements InitializingBean {
         setDefaultParseSettings();
         setDefaultSerializeSettings();
 
+        parsers = new ThreadLocal<>();
+        serializers = new ThreadLocal<>();
+
         XMLUtils.initialize(this);
     }
 }
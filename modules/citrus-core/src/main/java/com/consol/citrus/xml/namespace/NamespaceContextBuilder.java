@@ -22,8 +22,7 @@ import org.springframework.util.CollectionUtils;
 import org.springframework.xml.namespace.SimpleNamespaceContext;
 
 import javax.xml.namespace.NamespaceContext;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.*;
 import java.util.Map.Entry;
 
 /**
@@ -32,6 +31,9 @@ import java.util.Map.Entry;
  * 
  * Namespace mappings are defined as key value pairs where key is definded as namespace prefix and value is the
  * actual namespace uri.
+ *
+ * Builder reuses namespace context instances for equal namespace bindings so compiled XPath expressions
+ * can be cached with the namespace context as key.
  * 
  * @author Christoph Deppisch
  */
@@ -42,6 +44,18 @@ public class NamespaceContextBuilder {
     
     /** Default namepsace mappings for all tests */
     private Map<String, String> namespaceMappings = new HashMap<String, String>();
+
+    /** Maximum number of cached namespace contexts */
+    private static final int CONTEXT_CACHE_SIZE = 128;
+
+    /** Namespace contexts by namespace bindings in least recently used order */
+    private final Map<Map<String, String>, NamespaceContext> namespaceContexts = Collections.synchronizedMap(
+            new LinkedHashMap<Map<String, String>, NamespaceContext>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Map<String, String>, NamespaceContext> eldest) {
+                    return size() > CONTEXT_CACHE_SIZE;
+                }
+            });
     
     /**
      * Construct a basic namespace context from the received message and explicit namespace mappings.
@@ -50,29 +64,41 @@ public class NamespaceContextBuilder {
      * @return the constructed namespace context.
      */
     public NamespaceContext buildContext(Message receivedMessage, Map<String, String> namespaces) {
-        SimpleNamespaceContext simpleNamespaceContext = new SimpleNamespaceContext();
-        
+        Map<String, String> bindings = new LinkedHashMap<>();
+
         //first add default namespace definitions
-        if (namespaceMappings.size() > 0) {
-            simpleNamespaceContext.setBindings(namespaceMappings);
-        }
-        
+        bindings.putAll(namespaceMappings);
+
         Map<String, String> dynamicBindings = XMLUtils.lookupNamespaces(receivedMessage.getPayload(String.class));
         if (!CollectionUtils.isEmpty(namespaces)) {
             //dynamic binding of namespaces declarations in root element of received message
             for (Entry<String, String> binding : dynamicBindings.entrySet()) {
                 //only bind namespace that is not present in explicit namespace bindings
                 if (!namespaces.containsValue(binding.getValue())) {
-                    simpleNamespaceContext.bindNamespaceUri(binding.getKey(), binding.getValue());
+                    bindings.put(binding.getKey(), binding.getValue());
                 }
             }
             //add explicit namespace bindings
-            simpleNamespaceContext.setBindings(namespaces);
+            bindings.putAll(namespaces);
         } else {
-            simpleNamespaceContext.setBindings(dynamicBindings);
+            bindings.putAll(dynamicBindings);
         }
-        
-        return simpleNamespaceContext;
+
+        return getNamespaceContext(bindings);
+    }
+
+    /**
+     * Gets namespace context for given namespace bindings. Namespace context instances are reused for equal bindings.
+     * Returned namespace context must not be modified.
+     * @param bindings the namespace bindings with prefix as key and namespace uri as value.
+     * @return the namespace context.
+     */
+    public NamespaceContext getNamespaceContext(Map<String, String> bindings) {
+        return namespaceContexts.computeIfAbsent(new HashMap<>(bindings), key -> {
+            SimpleNamespaceContext simpleNamespaceContext = new SimpleNamespaceContext();
+            simpleNamespaceContext.setBindings(key);
+            return simpleNamespaceContext;
+        });
     }
 
     /**
@@ -49,6 +49,21 @@ public abstract class XPathUtils {
     /** Dynamic namespace prefix */
     private static final String DYNAMIC_NS_PREFIX = "dns";
 
+    /** Maximum number of compiled expressions cached per thread */
+    public static final int EXPRESSION_CACHE_SIZE = 256;
+
+    /** XPath instance per thread as xpath factories and xpath instances are not thread safe */
+    private static final ThreadLocal<XPath> xPath = ThreadLocal.withInitial(() -> createXPathFactory().newXPath());
+
+    /** Compiled expressions per thread in least recently used order */
+    private static final ThreadLocal<Map<ExpressionKey, XPathExpression>> expressionCache =
+            ThreadLocal.withInitial(() -> new LinkedHashMap<ExpressionKey, XPathExpression>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<ExpressionKey, XPathExpression> eldest) {
+                    return size() > EXPRESSION_CACHE_SIZE;
+                }
+            });
+
     /**
      * Prevent instantiation.
      */
@@ -261,6 +276,9 @@ public abstract class XPathUtils {
      * Construct a xPath expression instance with given expression string and namespace context.
      * If namespace context is not specified a default context is built from the XML node
      * that is evaluated against.
+     *
+     * Compiled expressions are cached per thread with expression string and namespace context identity as key, so
+     * callers should reuse namespace context instances in order to benefit from the cache.
      * @param xPathExpression
      * @param nsContext
      * @return
@@ -268,13 +286,23 @@ public abstract class XPathUtils {
      */
     private static XPathExpression buildExpression(String xPathExpression, NamespaceContext nsContext)
             throws XPathExpressionException {
-        XPath xpath = createXPathFactory().newXPath();
-        
-        if (nsContext != null) {
-            xpath.setNamespaceContext(nsContext);
+        Map<ExpressionKey, XPathExpression> cache = expressionCache.get();
+        ExpressionKey key = new ExpressionKey(xPathExpression, nsContext);
+
+        XPathExpression expression = cache.get(key);
+        if (expression == null) {
+            XPath xpath = xPath.get();
+            xpath.reset();
+
+            if (nsContext != null) {
+                xpath.setNamespaceContext(nsContext);
+            }
+
+            expression = xpath.compile(xPathExpression);
+            cache.put(key, expression);
         }
 
-        return xpath.compile(xPathExpression);
+        return expression;
     }
 
     /**
@@ -304,7 +332,7 @@ public abstract class XPathUtils {
     }
 
     /**
-     * Creates new xpath factory which is not thread safe per definition.
+     * Creates new xpath factory which is not thread safe per definition. Factory is created once per thread.
      * @return
      */
     private synchronized static XPathFactory createXPathFactory() {
@@ -336,4 +364,35 @@ public abstract class XPathUtils {
         return factory;
     }
 
+    /**
+     * Cache key combining expression string and namespace context identity.
+     */
+    private static final class ExpressionKey {
+        private final String expression;
+        private final NamespaceContext nsContext;
+
+        ExpressionKey(String expression, NamespaceContext nsContext) {
+            this.expression = expression;
+            this.nsContext = nsContext;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (!(o instanceof ExpressionKey)) {
+                return false;
+            }
+
+            ExpressionKey that = (ExpressionKey) o;
+            return expression.equals(that.expression) && nsContext == that.nsContext;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * expression.hashCode() + System.identityHashCode(nsContext);
+        }
+    }
 }
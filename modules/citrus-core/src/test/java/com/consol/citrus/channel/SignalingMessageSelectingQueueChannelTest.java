@@ -0,0 +1,138 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.channel;
+
+import com.consol.citrus.channel.selector.DispatchingMessageSelector;
+import com.consol.citrus.channel.selector.HeaderMatchingMessageSelector;
+import com.consol.citrus.testng.AbstractTestNGUnitTest;
+import org.springframework.integration.core.MessageSelector;
+import org.springframework.integration.support.MessageBuilder;
+import org.springframework.messaging.Message;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class SignalingMessageSelectingQueueChannelTest extends AbstractTestNGUnitTest {
+
+    @Test
+    public void testReceiveSelected() {
+        SignalingMessageSelectingQueueChannel channel = new SignalingMessageSelectingQueueChannel();
+
+        channel.send(MessageBuilder.withPayload("FooMessage").setHeader("foo", "bar").build());
+
+        MessageSelector selector = new HeaderMatchingMessageSelector("foo", "bar", context);
+
+        Message<?> receivedMessage = channel.receive(selector, 1000L);
+
+        Assert.assertEquals(receivedMessage.getPayload(), "FooMessage");
+        Assert.assertEquals(receivedMessage.getHeaders().get("foo"), "bar");
+        Assert.assertEquals(channel.getQueueSize(), 0);
+    }
+
+    @Test
+    public void testReceiveSignaledOnSend() throws Exception {
+        SignalingMessageSelectingQueueChannel channel = new SignalingMessageSelectingQueueChannel();
+        channel.send(MessageBuilder.withPayload("OtherMessage").setHeader("foo", "other").build());
+
+        final AtomicLong evaluations = new AtomicLong();
+        MessageSelector selector = new HeaderMatchingMessageSelector("foo", "bar", context) {
+            @Override
+            public boolean accept(Message<?> message) {
+                evaluations.incrementAndGet();
+                return super.accept(message);
+            }
+        };
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Message<?>> result = executor.submit(() -> channel.receive(selector, 10000L));
+
+            Thread.sleep(100L);
+            channel.send(MessageBuilder.withPayload("FooMessage").setHeader("foo", "bar").build());
+
+            Message<?> receivedMessage = result.get(1000L, TimeUnit.MILLISECONDS);
+            Assert.assertEquals(receivedMessage.getPayload(), "FooMessage");
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assert.assertEquals(evaluations.get(), 2L);
+        Assert.assertEquals(channel.getQueueSize(), 1);
+        Assert.assertEquals(channel.receive().getPayload(), "OtherMessage");
+    }
+
+    @Test
+    public void testReceiveTimeout() {
+        SignalingMessageSelectingQueueChannel channel = new SignalingMessageSelectingQueueChannel();
+
+        channel.send(MessageBuilder.withPayload("FooMessage").setHeader("foos", "bars").build());
+
+        final AtomicLong evaluations = new AtomicLong();
+        MessageSelector selector = new HeaderMatchingMessageSelector("foo", "bar", context) {
+            @Override
+            public boolean accept(Message<?> message) {
+                evaluations.incrementAndGet();
+                return super.accept(message);
+            }
+        };
+
+        Message<?> receivedMessage = channel.receive(selector, 300L);
+
+        Assert.assertNull(receivedMessage);
+        Assert.assertEquals(evaluations.get(), 1L);
+        Assert.assertEquals(channel.getQueueSize(), 1);
+    }
+
+    @Test
+    public void testIndexedHeaders() {
+        SignalingMessageSelectingQueueChannel channel = new SignalingMessageSelectingQueueChannel();
+        channel.send(MessageBuilder.withPayload("FooMessage").setHeader("operation", "foo").build());
+        channel.setIndexedHeaders(Collections.singletonList("operation"));
+
+        for (int i = 0; i < 100; i++) {
+            channel.send(MessageBuilder.withPayload("Message" + i).setHeader("operation", "op" + i).build());
+        }
+
+        final AtomicLong evaluations = new AtomicLong();
+        MessageSelector selector = new HeaderMatchingMessageSelector("operation", "op50", context) {
+            @Override
+            public boolean accept(Message<?> message) {
+                evaluations.incrementAndGet();
+                return super.accept(message);
+            }
+        };
+
+        Assert.assertEquals(channel.receive(selector).getPayload(), "Message50");
+        Assert.assertEquals(evaluations.get(), 1L);
+        Assert.assertNull(channel.receive(selector));
+        Assert.assertEquals(evaluations.get(), 1L);
+
+        DispatchingMessageSelector dispatchingSelector = new DispatchingMessageSelector("operation = 'foo'", null, context);
+        Assert.assertEquals(channel.receive(dispatchingSelector).getPayload(), "FooMessage");
+
+        Assert.assertEquals(channel.receive().getPayload(), "Message0");
+        Assert.assertNull(channel.receive(new HeaderMatchingMessageSelector("operation", "op0", context)));
+        Assert.assertEquals(channel.receive(new HeaderMatchingMessageSelector("operation", "op1", context)).getPayload(), "Message1");
+        Assert.assertEquals(channel.getQueueSize(), 97);
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.common;
+
+import com.consol.citrus.TestCase;
+import com.consol.citrus.actions.EchoAction;
+import com.consol.citrus.container.Sequence;
+import com.consol.citrus.testng.AbstractTestNGUnitTest;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class XmlTestLoaderTest extends AbstractTestNGUnitTest {
+
+    @Test
+    public void testLoadTestCase() {
+        XmlTestLoader loader = new XmlTestLoader(getClass(), "XmlTestLoaderTest", "com.consol.citrus.common", applicationContext);
+        Assert.assertFalse(loader.isCacheDefinitions());
+
+        verifyTestCase(loader.load());
+    }
+
+    @Test
+    public void testLoadTestCaseFromCachedDefinitions() {
+        XmlTestLoader loader = new XmlTestLoader(getClass(), "XmlTestLoaderTest", "com.consol.citrus.common", applicationContext);
+        loader.setCacheDefinitions(true);
+        TestCase testCase = loader.load();
+        verifyTestCase(testCase);
+
+        XmlTestLoader cachedLoader = new XmlTestLoader(getClass(), "XmlTestLoaderTest", "com.consol.citrus.common", applicationContext);
+        cachedLoader.setCacheDefinitions(true);
+        TestCase cachedTestCase = cachedLoader.load();
+        verifyTestCase(cachedTestCase);
+
+        Assert.assertNotSame(cachedTestCase, testCase);
+        Assert.assertNotSame(cachedTestCase.getActions().get(0), testCase.getActions().get(0));
+        Assert.assertNotSame(((Sequence) cachedTestCase.getActions().get(1)).getActions().get(0),
+                ((Sequence) testCase.getActions().get(1)).getActions().get(0));
+    }
+
+    private void verifyTestCase(TestCase testCase) {
+        Assert.assertEquals(testCase.getName(), "XmlTestLoaderTest");
+        Assert.assertEquals(testCase.getPackageName(), "com.consol.citrus.common");
+        Assert.assertEquals(testCase.getTestClass(), getClass());
+        Assert.assertEquals(testCase.getVariableDefinitions().get("text"), "Hello Citrus");
+        Assert.assertEquals(testCase.getActionCount(), 2L);
+        Assert.assertEquals(((EchoAction) testCase.getActions().get(0)).getMessage(), "${text}");
+        Assert.assertEquals(((Sequence) testCase.getActions().get(1)).getActionCount(), 1L);
+    }
+}
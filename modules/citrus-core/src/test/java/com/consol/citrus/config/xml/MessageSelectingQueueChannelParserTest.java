@@ -17,6 +17,7 @@
 package com.consol.citrus.config.xml;
 
 import com.consol.citrus.channel.MessageSelectingQueueChannel;
+import com.consol.citrus.channel.SignalingMessageSelectingQueueChannel;
 import com.consol.citrus.testng.AbstractBeanDefinitionParserTest;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -32,7 +33,7 @@ public class MessageSelectingQueueChannelParserTest extends AbstractBeanDefiniti
     public void testMessageSelectingQueueChannelParser() {
         Map<String, MessageSelectingQueueChannel> channels = beanDefinitionContext.getBeansOfType(MessageSelectingQueueChannel.class);
         
-        Assert.assertEquals(channels.size(), 6);
+        Assert.assertEquals(channels.size(), 7);
         
         // 1st channel
         Assert.assertTrue(channels.containsKey("channel1"));
@@ -55,5 +56,12 @@ public class MessageSelectingQueueChannelParserTest extends AbstractBeanDefiniti
         // 6th chanel with polling interval
         channel = channels.get("channel6");
         Assert.assertEquals(channel.getPollingInterval(), 550);
+
+        // 7th chanel with indexed headers
+        channel = channels.get("channel7");
+        Assert.assertEquals(channel.getClass(), SignalingMessageSelectingQueueChannel.class);
+        Assert.assertEquals(((SignalingMessageSelectingQueueChannel) channel).getIndexedHeaders().size(), 2);
+        Assert.assertTrue(((SignalingMessageSelectingQueueChannel) channel).getIndexedHeaders().contains("operation"));
+        Assert.assertTrue(((SignalingMessageSelectingQueueChannel) channel).getIndexedHeaders().contains("correlationId"));
     }
 }
@@ -30,11 +30,14 @@ public class ParallelParserTest extends AbstractActionParserTest<Parallel> {
 
     @Test
     public void testActionParser() {
-        assertActionCount(2);
+        assertActionCount(3);
         assertActionClassAndName(Parallel.class, "parallel");
         
         Parallel action = getNextTestActionFromTest();
         Assert.assertEquals(action.getActionCount(), 2);
+        Assert.assertEquals(action.getParallelism(), 0);
+        Assert.assertFalse(action.isVirtualThreads());
+        Assert.assertFalse(action.isFailFast());
         Assert.assertEquals(action.getActions().get(0).getClass(), EchoAction.class);
         Assert.assertEquals(action.getActions().get(1).getClass(), EchoAction.class);
         
@@ -44,5 +47,11 @@ public class ParallelParserTest extends AbstractActionParserTest<Parallel> {
         Assert.assertEquals(((Parallel)action.getActions().get(0)).getActionCount(), 2);
         Assert.assertEquals(action.getActions().get(1).getClass(), EchoAction.class);
         Assert.assertEquals(action.getActions().get(2).getClass(), EchoAction.class);
+
+        action = getNextTestActionFromTest();
+        Assert.assertEquals(action.getActionCount(), 2);
+        Assert.assertEquals(action.getParallelism(), 2);
+        Assert.assertTrue(action.isVirtualThreads());
+        Assert.assertTrue(action.isFailFast());
     }
 }
@@ -18,13 +18,17 @@ package com.consol.citrus.container;
 
 import com.consol.citrus.TestAction;
 import com.consol.citrus.actions.*;
+import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.exceptions.ParallelContainerException;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
 import org.mockito.Mockito;
+import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.mockito.Mockito.*;
 
@@ -146,4 +150,134 @@ public class ParallelTest extends AbstractTestNGUnitTest {
 
         verify(action).execute(context);
     }
+
+    @Test
+    public void testParallelismLimit() {
+        Parallel parallelAction = new Parallel();
+        parallelAction.setParallelism(2);
+
+        ConcurrencyTrackingAction tracking = new ConcurrencyTrackingAction();
+        List<TestAction> actionList = new ArrayList<TestAction>();
+        for (int i = 0; i < 6; i++) {
+            actionList.add(tracking);
+        }
+
+        parallelAction.setActions(actionList);
+
+        parallelAction.execute(context);
+
+        Assert.assertEquals(tracking.executions.get(), 6);
+        Assert.assertTrue(tracking.maxConcurrency.get() <= 2);
+    }
+
+    @Test
+    public void testVirtualThreads() {
+        Parallel parallelAction = new Parallel();
+        parallelAction.setVirtualThreads(true);
+        parallelAction.setParallelism(2);
+
+        ConcurrencyTrackingAction tracking = new ConcurrencyTrackingAction();
+        List<TestAction> actionList = new ArrayList<TestAction>();
+        for (int i = 0; i < 4; i++) {
+            actionList.add(tracking);
+        }
+
+        parallelAction.setActions(actionList);
+
+        parallelAction.execute(context);
+
+        Assert.assertEquals(tracking.executions.get(), 4);
+        Assert.assertTrue(tracking.maxConcurrency.get() <= 2);
+    }
+
+    @Test
+    public void testFailingActionsAggregated() {
+        Parallel parallelAction = new Parallel();
+        parallelAction.setParallelism(2);
+
+        List<TestAction> actionList = new ArrayList<TestAction>();
+        actionList.add(new FailAction());
+        actionList.add(new EchoAction());
+        actionList.add(new FailAction());
+
+        parallelAction.setActions(actionList);
+
+        try {
+            parallelAction.execute(context);
+            Assert.fail("Missing exception for failing parallel actions");
+        } catch (ParallelContainerException e) {
+            Assert.assertEquals(e.getMessage().split("\n\t\\+").length, 3);
+        }
+    }
+
+    @Test
+    public void testFailFast() {
+        Parallel parallelAction = new Parallel();
+        parallelAction.setParallelism(1);
+        parallelAction.setFailFast(true);
+
+        ConcurrencyTrackingAction tracking = new ConcurrencyTrackingAction();
+        List<TestAction> actionList = new ArrayList<TestAction>();
+        actionList.add(new FailAction());
+        actionList.add(tracking);
+        actionList.add(tracking);
+
+        parallelAction.setActions(actionList);
+
+        try {
+            parallelAction.execute(context);
+            Assert.fail("Missing exception for failing parallel action");
+        } catch (ParallelContainerException e) {
+            Assert.fail("Unexpected exception aggregation for fail fast parallel container");
+        } catch (CitrusRuntimeException e) {
+            Assert.assertEquals(tracking.executions.get(), 0);
+        }
+    }
+
+    @Test
+    public void testFailFastCancelsRunningActions() {
+        Parallel parallelAction = new Parallel();
+        parallelAction.setFailFast(true);
+
+        SleepAction sleep = new SleepAction();
+        sleep.setMilliseconds("10000");
+
+        List<TestAction> actionList = new ArrayList<TestAction>();
+        actionList.add(sleep);
+        actionList.add(new FailAction());
+
+        parallelAction.setActions(actionList);
+
+        long start = System.currentTimeMillis();
+        try {
+            parallelAction.execute(context);
+            Assert.fail("Missing exception for failing parallel action");
+        } catch (CitrusRuntimeException e) {
+            Assert.assertTrue(System.currentTimeMillis() - start < 10000L);
+        }
+    }
+
+    /**
+     * Test action tracking the maximum number of concurrent executions.
+     */
+    private static class ConcurrencyTrackingAction extends AbstractTestAction {
+        private final AtomicInteger running = new AtomicInteger();
+        private final AtomicInteger maxConcurrency = new AtomicInteger();
+        private final AtomicInteger executions = new AtomicInteger();
+
+        @Override
+        public void doExecute(TestContext context) {
+            int current = running.incrementAndGet();
+            maxConcurrency.accumulateAndGet(current, Math::max);
+
+            try {
+                Thread.sleep(100L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                running.decrementAndGet();
+                executions.incrementAndGet();
+            }
+        }
+    }
 }
@@ -16,6 +16,9 @@
 
 package com.consol.citrus.endpoint.adapter;
 
+import com.consol.citrus.TestCase;
+import com.consol.citrus.actions.AbstractTestAction;
+import com.consol.citrus.context.TestContext;
 import com.consol.citrus.endpoint.adapter.mapping.XPathPayloadMappingKeyExtractor;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.message.DefaultMessage;
@@ -23,10 +26,19 @@ import com.consol.citrus.message.Message;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.support.ClassPathXmlApplicationContext;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ConcurrentTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * @author Christoph Deppisch
  * @since 1.4
@@ -60,6 +72,165 @@ public class XmlTestExecutingEndpointAdapterTest extends AbstractTestNGUnitTest
         Assert.assertEquals(response.getPayload(String.class).trim(), "<Test name=\"BarTest\">OK</Test>");
     }
 
+    @Test
+    public void testCachedTestDefinitions() throws Exception {
+        XPathPayloadMappingKeyExtractor mappingNameExtractor = new XPathPayloadMappingKeyExtractor();
+        mappingNameExtractor.setXpathExpression("//Test/@name");
+        endpointAdapter.setMappingKeyExtractor(mappingNameExtractor);
+        endpointAdapter.setCacheTestDefinitions(true);
+
+        try {
+            long requests = endpointAdapter.getTestExecutionMetrics().containsKey("BarTest") ?
+                    endpointAdapter.getTestExecutionMetrics().get("BarTest").getRequests() : 0L;
+
+            for (int i = 0; i < 3; i++) {
+                Message response = endpointAdapter.handleMessage(
+                        new DefaultMessage("<Test name=\"BarTest\"></Test>"));
+
+                Assert.assertEquals(response.getPayload(String.class).trim(), "<Test name=\"BarTest\">OK</Test>");
+            }
+
+            TestExecutionMetrics metrics = endpointAdapter.getTestExecutionMetrics().get("BarTest");
+            Assert.assertEquals(metrics.getRequests(), requests + 3);
+            Assert.assertTrue(metrics.getMaxResponseTime() > 0);
+            Assert.assertTrue(metrics.getThroughput() > 0);
+        } finally {
+            endpointAdapter.setCacheTestDefinitions(false);
+        }
+    }
+
+    @Test
+    public void testBoundedTaskExecutor() throws Exception {
+        XmlTestExecutingEndpointAdapter adapter = new XmlTestExecutingEndpointAdapter();
+        adapter.setResponseEndpointAdapter(new EmptyResponseEndpointAdapter());
+        adapter.setMaxConcurrentTests(2);
+        adapter.afterPropertiesSet();
+
+        Assert.assertTrue(adapter.getTaskExecutor() instanceof ConcurrentTaskExecutor);
+        adapter.destroy();
+
+        adapter = new XmlTestExecutingEndpointAdapter();
+        adapter.setResponseEndpointAdapter(new EmptyResponseEndpointAdapter());
+        adapter.afterPropertiesSet();
+
+        Assert.assertTrue(adapter.getTaskExecutor() instanceof SimpleAsyncTaskExecutor);
+    }
+
+    @Test
+    public void testRejectTestsOverConcurrencyLimit() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch finish = new CountDownLatch(1);
+        final CountDownLatch finished = new CountDownLatch(1);
+
+        XmlTestExecutingEndpointAdapter adapter = new XmlTestExecutingEndpointAdapter() {
+            @Override
+            protected TestCase getTestCase(TestContext context, String testName) {
+                TestCase testCase = new TestCase();
+                testCase.setName(testName);
+                testCase.addTestAction(new AbstractTestAction() {
+                    @Override
+                    public void doExecute(TestContext context) {
+                        started.countDown();
+                        try {
+                            finish.await(5, TimeUnit.SECONDS);
+                        } catch (InterruptedException e) {
+                            throw new CitrusRuntimeException(e);
+                        }
+                    }
+                });
+                testCase.addFinalAction(new AbstractTestAction() {
+                    @Override
+                    public void doExecute(TestContext context) {
+                        finished.countDown();
+                    }
+                });
+                return testCase;
+            }
+        };
+        ReflectionTestUtils.setField(adapter, "testContextFactory", testContextFactory);
+        adapter.setResponseEndpointAdapter(new EmptyResponseEndpointAdapter());
+        adapter.setMaxConcurrentTests(1);
+        adapter.afterPropertiesSet();
+
+        try {
+            adapter.dispatchMessage(new DefaultMessage("<Test name=\"FooTest\"></Test>"), "FooTest");
+            Assert.assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            try {
+                adapter.dispatchMessage(new DefaultMessage("<Test name=\"FooTest\"></Test>"), "FooTest");
+                Assert.fail("Missing exception due to maximum of concurrently executed tests");
+            } catch (CitrusRuntimeException e) {
+                Assert.assertEquals(e.getMessage(), "Unable to execute test 'FooTest' - maximum of 1 concurrently executed tests reached");
+            }
+
+            Assert.assertEquals(adapter.getTestExecutionMetrics().get("FooTest").getRejections(), 1L);
+
+            finish.countDown();
+            Assert.assertTrue(finished.await(5, TimeUnit.SECONDS));
+
+            long timeout = System.currentTimeMillis() + 5000L;
+            while (adapter.getTestExecutionMetrics().get("FooTest").getExecutions() < 1L && System.currentTimeMillis() < timeout) {
+                Thread.sleep(10L);
+            }
+
+            adapter.dispatchMessage(new DefaultMessage("<Test name=\"FooTest\"></Test>"), "FooTest");
+            Assert.assertEquals(adapter.getTestExecutionMetrics().get("FooTest").getRejections(), 1L);
+        } finally {
+            finish.countDown();
+            adapter.destroy();
+        }
+    }
+
+    @Test
+    public void testDefaultTaskExecutor() throws Exception {
+        XmlTestExecutingEndpointAdapter adapter = new XmlTestExecutingEndpointAdapter();
+        Assert.assertTrue(adapter.getTaskExecutor() instanceof SimpleAsyncTaskExecutor);
+
+        adapter.setApplicationContext(applicationContext);
+        adapter.setMaxConcurrentTests(2);
+        adapter.afterPropertiesSet();
+        Assert.assertTrue(adapter.getTaskExecutor() instanceof ConcurrentTaskExecutor);
+        adapter.destroy();
+
+        TaskExecutor custom = new SyncTaskExecutor();
+        adapter = new XmlTestExecutingEndpointAdapter();
+        adapter.setApplicationContext(applicationContext);
+        adapter.setTaskExecutor(custom);
+        adapter.setMaxConcurrentTests(2);
+        adapter.afterPropertiesSet();
+        Assert.assertSame(adapter.getTaskExecutor(), custom);
+    }
+
+    @Test
+    public void testCachedTestDefinitionsUseApplicationContextHook() throws Exception {
+        final AtomicInteger contextsCreated = new AtomicInteger();
+        XmlTestExecutingEndpointAdapter adapter = new XmlTestExecutingEndpointAdapter() {
+            @Override
+            protected ClassPathXmlApplicationContext createApplicationContext(TestContext context, String packageName, String testName) {
+                Assert.fail("Cached test definitions must not load test context from XML file");
+                return null;
+            }
+
+            @Override
+            protected ApplicationContext createCachedApplicationContext(TestContext context, String packageName, String testName) {
+                contextsCreated.incrementAndGet();
+                return super.createCachedApplicationContext(context, packageName, testName);
+            }
+        };
+        adapter.setApplicationContext(applicationContext);
+        adapter.setPackageName("com.consol.citrus.endpoint.adapter");
+        adapter.setCacheTestDefinitions(true);
+
+        try {
+            adapter.getTestCase(context, "UNKNOWN_TEST");
+            Assert.fail("Missing exception due to unknown test");
+        } catch (CitrusRuntimeException e) {
+            Assert.assertEquals(e.getMessage(), "Failed to load test case");
+        }
+
+        Assert.assertEquals(contextsCreated.get(), 1);
+    }
+
     /**
      * Test for handler routing without Xpath given (implementation takes the value of first node).
      */
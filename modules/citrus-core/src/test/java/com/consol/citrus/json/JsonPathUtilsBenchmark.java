@@ -0,0 +1,165 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.json;
+
+import com.consol.citrus.message.DefaultMessage;
+import com.consol.citrus.message.Message;
+import com.consol.citrus.util.BenchmarkRunner;
+import com.consol.citrus.validation.json.JsonPathFunctions;
+import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.ReadContext;
+import net.minidev.json.JSONArray;
+import net.minidev.json.JSONAware;
+import net.minidev.json.parser.JSONParser;
+import net.minidev.json.parser.ParseException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Measures validation of a large JSON message with many JsonPath expressions: each iteration evaluates 100 expressions
+ * (definite paths, functions and filters) on a new message holding a 1 MB JSON document. The baseline parses the payload and
+ * compiles the path for every single expression like JsonPath validation did before, the optimized run uses the parsed message
+ * payload cache and the compiled expression cache of {@link JsonPathUtils}.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public final class JsonPathUtilsBenchmark {
+
+    private static final int DOCUMENT_SIZE = 1024 * 1024;
+    private static final int EXPRESSIONS = 100;
+
+    private final String payload;
+    private final List<String> expressions = new ArrayList<>();
+
+    /**
+     * Creates the JSON document and the expressions to evaluate.
+     */
+    private JsonPathUtilsBenchmark() {
+        StringBuilder builder = new StringBuilder("{\"id\": 12345, \"items\": [");
+        int items = 0;
+        while (builder.length() < DOCUMENT_SIZE) {
+            if (items > 0) {
+                builder.append(",");
+            }
+
+            builder.append(String.format("{\"id\": %d, \"name\": \"Item %d\", \"amount\": %d, \"tags\": [\"foo\", \"bar\"]}", items, items, items % 10));
+            items++;
+        }
+        builder.append("]}");
+        payload = builder.toString();
+
+        for (int i = 0; i < EXPRESSIONS; i++) {
+            switch (i % 4) {
+                case 0:
+                    expressions.add(String.format("$.items[%d].name", i * (items / EXPRESSIONS)));
+                    break;
+                case 1:
+                    expressions.add(String.format("$.items[%d].tags.size()", i * (items / EXPRESSIONS)));
+                    break;
+                case 2:
+                    expressions.add(String.format("$.items[?(@.id == %d)].amount", i * (items / EXPRESSIONS)));
+                    break;
+                default:
+                    expressions.add("$.id");
+            }
+        }
+    }
+
+    public static void main(String[] args) {
+        JsonPathUtilsBenchmark benchmark = new JsonPathUtilsBenchmark();
+        System.out.println(String.format("Document size %d bytes, %d expressions", benchmark.payload.length(), EXPRESSIONS));
+
+        BenchmarkRunner.run(args, 20, 5, "per call", "cached", benchmark::run);
+    }
+
+    /**
+     * Evaluates all expressions on a new message for given number of iterations.
+     * @param cached
+     * @param iterations
+     * @return elapsed time in nanoseconds.
+     */
+    private long run(boolean cached, int iterations) {
+        long length = 0L;
+        long start = System.nanoTime();
+
+        for (int i = 0; i < iterations; i++) {
+            Message message = new DefaultMessage(payload);
+            for (String expression : expressions) {
+                if (cached) {
+                    length += JsonPathUtils.evaluateAsString(JsonPathUtils.parseMessagePayload(message), expression).length();
+                } else {
+                    length += evaluateUncached(parse(message.getPayload(String.class)), expression).length();
+                }
+            }
+        }
+
+        long elapsed = System.nanoTime() - start;
+        if (length == 0L) {
+            throw new IllegalStateException("Benchmark did not evaluate any content");
+        }
+
+        return elapsed;
+    }
+
+    /**
+     * Evaluates expression without the compiled expression cache the way JsonPath evaluation worked before.
+     * @param readContext
+     * @param jsonPathExpression
+     * @return
+     */
+    private static String evaluateUncached(ReadContext readContext, String jsonPathExpression) {
+        String expression = jsonPathExpression;
+        String jsonPathFunction = null;
+        for (String name : JsonPathFunctions.getSupportedFunctions()) {
+            if (expression.endsWith(String.format(".%s()", name))) {
+                jsonPathFunction = name;
+                expression = expression.substring(0, expression.length() - String.format(".%s()", name).length());
+            }
+        }
+
+        JsonPath path = JsonPath.compile(expression);
+
+        Object result;
+        if (path.isDefinite()) {
+            result = readContext.read(path);
+        } else {
+            JSONArray values = readContext.read(path);
+            result = values.size() == 1 ? values.get(0) : values;
+        }
+
+        if (jsonPathFunction != null) {
+            result = JsonPathFunctions.evaluate(result, jsonPathFunction);
+        }
+
+        return result instanceof JSONAware ? ((JSONAware) result).toJSONString() : String.valueOf(result);
+    }
+
+    /**
+     * Parse payload without caching.
+     * @param payload
+     * @return
+     */
+    private static ReadContext parse(String payload) {
+        try {
+            return JsonPath.parse(new JSONParser(JSONParser.MODE_JSON_SIMPLE).parse(payload));
+        } catch (ParseException e) {
+            throw new IllegalStateException("Failed to parse JSON text", e);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.json;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.message.DefaultMessage;
+import com.consol.citrus.message.Message;
+import com.jayway.jsonpath.ReadContext;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class JsonPathUtilsTest {
+
+    private static final String PAYLOAD = "{\"id\": 12345, \"name\": \"Citrus\", \"items\": [{\"name\": \"Foo\"}, {\"name\": \"Bar\"}]}";
+
+    @Test
+    public void testCompiledExpressionCache() {
+        JsonPathUtils.CompiledExpression compiled = JsonPathUtils.compile("$.items.size()");
+        Assert.assertSame(JsonPathUtils.compile("$.items.size()"), compiled);
+        Assert.assertEquals(compiled.getPath().getPath(), "$['items']");
+        Assert.assertEquals(compiled.getFunction(), "size");
+
+        compiled = JsonPathUtils.compile("$.items[*].name");
+        Assert.assertNull(compiled.getFunction());
+        Assert.assertFalse(compiled.getPath().isDefinite());
+    }
+
+    @Test
+    public void testEvaluate() {
+        Assert.assertEquals(JsonPathUtils.evaluateAsString(PAYLOAD, "$.name"), "Citrus");
+        Assert.assertEquals(JsonPathUtils.evaluateAsString(PAYLOAD, "$.items.size()"), "2");
+        Assert.assertEquals(JsonPathUtils.evaluateAsString(PAYLOAD, "$.items[*].name"), "[\"Foo\",\"Bar\"]");
+        Assert.assertEquals(JsonPathUtils.evaluateAsString(PAYLOAD, "$.items[?(@.name == 'Bar')].name"), "Bar");
+        Assert.assertEquals(JsonPathUtils.evaluate(PAYLOAD, "$.id").toString(), "12345");
+        Assert.assertEquals(JsonPathUtils.evaluateAsString("{\"name\": \"Other\"}", "$.name"), "Other");
+        Assert.assertEquals(JsonPathUtils.evaluateAsString(PAYLOAD, "$.name"), "Citrus");
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class, expectedExceptionsMessageRegExp = "Failed to evaluate JSON path expression: \\$.unknown")
+    public void testEvaluateUnknownPath() {
+        JsonPathUtils.evaluate(PAYLOAD, "$.unknown");
+    }
+
+    @Test
+    public void testParseMessagePayloadCache() {
+        Message message = new DefaultMessage(PAYLOAD);
+
+        ReadContext readContext = JsonPathUtils.parseMessagePayload(message);
+        Assert.assertSame(JsonPathUtils.parseMessagePayload(message).json(), readContext.json());
+        Assert.assertNotSame(JsonPathUtils.parseMessagePayload(new DefaultMessage(PAYLOAD)).json(), readContext.json());
+        Assert.assertEquals(JsonPathUtils.evaluateAsString(readContext, "$.name"), "Citrus");
+
+        message.setPayload("{\"name\": \"Changed\"}");
+        ReadContext changed = JsonPathUtils.parseMessagePayload(message);
+        Assert.assertNotSame(changed.json(), readContext.json());
+        Assert.assertEquals(JsonPathUtils.evaluateAsString(changed, "$.name"), "Changed");
+    }
+}
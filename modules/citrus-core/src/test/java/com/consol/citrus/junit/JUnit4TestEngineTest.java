@@ -24,6 +24,7 @@ import org.junit.runner.notification.RunListener;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
 
 /**
@@ -58,6 +59,41 @@ public class JUnit4TestEngineTest {
         runTestEngine(configuration, 0L, 0L);
     }
 
+    @Test
+    public void testRunParallel() {
+        TestRunConfiguration configuration = new TestRunConfiguration();
+        configuration.setThreadCount(2);
+        configuration.setIncludes(new String[] { ".*Test" });
+        configuration.setPackages(Collections.singletonList(SampleJUnit4Test.class.getPackage().getName()));
+
+        JUnit4TestEngine engine = new JUnit4TestEngine(configuration);
+        engine.run();
+
+        Assert.assertEquals(engine.getTestResults().getSize(), 1L);
+        Assert.assertEquals(engine.getTestResults().getSuccess(), 1L);
+    }
+
+    @Test
+    public void testRunShard() {
+        TestRunConfiguration configuration = new TestRunConfiguration();
+        configuration.setShardIndex(0);
+        configuration.setShardCount(2);
+        configuration.setTestClasses(Arrays.asList(new TestClass(SampleJUnit4Test.class.getName()),
+                new TestClass(SampleJUnit4Test.class.getName() + "Unknown")));
+
+        JUnit4TestEngine engine = new JUnit4TestEngine(configuration);
+        engine.run();
+
+        Assert.assertEquals(engine.getTestResults().getSize(), 1L);
+        Assert.assertEquals(engine.getTestResults().asList().get(0).getClassName(), SampleJUnit4Test.class.getName());
+
+        configuration.setShardIndex(1);
+        engine = new JUnit4TestEngine(configuration);
+        engine.run();
+
+        Assert.assertEquals(engine.getTestResults().getSize(), 0L);
+    }
+
     private void runTestEngine(TestRunConfiguration configuration, long failure, long passed) {
         JUnit4TestEngine engine = new JUnit4TestEngine(configuration);
         engine.addRunListener(new RunListener() {
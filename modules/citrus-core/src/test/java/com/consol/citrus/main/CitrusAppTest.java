@@ -16,10 +16,13 @@
 
 package com.consol.citrus.main;
 
+import com.consol.citrus.TestClass;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.*;
+
 /**
  * @author Christoph Deppisch
  * @since 2.5
@@ -64,4 +67,67 @@ public class CitrusAppTest {
             Assert.assertEquals(e.getCause().getClass(), ClassNotFoundException.class);
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testWorkersOption() {
+        Assert.assertEquals(CitrusAppOptions.apply(new String[] { "-w", "4" }).getThreadCount(), 4);
+        Assert.assertEquals(CitrusAppOptions.apply(new String[] { "--workers", "8" }).getThreadCount(), 8);
+
+        try {
+            CitrusAppOptions.apply(new String[] { "--workers" });
+            Assert.fail("Missing exception due to invalid option parameter usage");
+        } catch (CitrusRuntimeException e) {
+            Assert.assertEquals(e.getMessage(), "Missing parameter value for -w/--workers option");
+        }
+    }
+
+    @Test
+    public void testShardOption() {
+        CitrusAppConfiguration configuration = CitrusAppOptions.apply(new String[] { "-x", "1/4" });
+        Assert.assertEquals(configuration.getShardIndex(), 1);
+        Assert.assertEquals(configuration.getShardCount(), 4);
+
+        configuration = CitrusAppOptions.apply(new String[] { "--shard", "0/2", "--forks", "2" });
+        Assert.assertEquals(configuration.getShardIndex(), 0);
+        Assert.assertEquals(configuration.getShardCount(), 2);
+        Assert.assertEquals(configuration.getForkCount(), 2);
+
+        try {
+            CitrusAppOptions.apply(new String[] { "--shard", "4/4" });
+            Assert.fail("Missing exception due to invalid option parameter usage");
+        } catch (CitrusRuntimeException e) {
+            Assert.assertEquals(e.getMessage(), "Invalid test shard 4/4 for -x/--shard option");
+        }
+
+        try {
+            CitrusAppOptions.apply(new String[] { "--shard", "1" });
+            Assert.fail("Missing exception due to invalid option parameter usage");
+        } catch (CitrusRuntimeException e) {
+            Assert.assertEquals(e.getMessage(), "Missing parameter value for -x/--shard option");
+        }
+    }
+
+    @Test
+    public void testShardTestClasses() {
+        TestRunConfiguration configuration = new TestRunConfiguration();
+        configuration.setShardCount(3);
+
+        List<TestClass> testClasses = Arrays.asList(new TestClass("com.foo.CTest"), new TestClass("com.foo.ATest"),
+                new TestClass("com.foo.BTest"), new TestClass("com.foo.ETest"), new TestClass("com.foo.DTest"));
+
+        Set<String> allShards = new HashSet<>();
+        for (int shardIndex = 0; shardIndex < 3; shardIndex++) {
+            configuration.setShardIndex(shardIndex);
+            List<TestClass> shard = new AbstractTestEngine(configuration) {
+                @Override
+                public void run() {
+                }
+            }.shard(testClasses);
+
+            Assert.assertTrue(shard.size() <= 2);
+            shard.stream().map(TestClass::getName).forEach(allShards::add);
+        }
+
+        Assert.assertEquals(allShards.size(), testClasses.size());
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.message;
+
+import com.consol.citrus.TestCase;
+import com.consol.citrus.actions.SendMessageAction;
+import com.consol.citrus.channel.ChannelEndpoint;
+import com.consol.citrus.endpoint.Endpoint;
+import com.consol.citrus.testng.AbstractTestNGUnitTest;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class BoundedMessageStoreTest extends AbstractTestNGUnitTest {
+
+    @Test
+    public void testStoreAndGetMessage() throws Exception {
+        try (BoundedMessageStore messageStore = new BoundedMessageStore()) {
+            messageStore.storeMessage("request", new DefaultMessage("RequestMessage"));
+            Assert.assertEquals(messageStore.getMessage("request").getPayload(String.class), "RequestMessage");
+            Assert.assertNull(messageStore.getMessage("unknown"));
+            Assert.assertEquals(messageStore.getEntryCount(), 1);
+            Assert.assertEquals(messageStore.getSpillCount(), 0L);
+        }
+    }
+
+    @Test
+    public void testSpillAndReload() throws Exception {
+        try (BoundedMessageStore messageStore = new BoundedMessageStore(1024L)) {
+            messageStore.setSegmentSize(4096);
+
+            for (int i = 0; i < 10; i++) {
+                messageStore.storeMessage("message" + i, new DefaultMessage(payload(i, 200))
+                        .setHeader("index", i));
+            }
+
+            Assert.assertEquals(messageStore.getEntryCount(), 10);
+            Assert.assertTrue(messageStore.getBytesInMemory() <= 1024L);
+            Assert.assertTrue(messageStore.getSpilledEntryCount() > 0);
+            Assert.assertEquals(messageStore.getSpillCount(), messageStore.getSpilledEntryCount());
+            Assert.assertTrue(messageStore.getSpilledBytes() > 0L);
+
+            for (int i = 0; i < 10; i++) {
+                Message stored = messageStore.getMessage("message" + i);
+                Assert.assertEquals(stored.getPayload(String.class), payload(i, 200));
+                Assert.assertEquals(stored.getHeader("index"), i);
+            }
+
+            Assert.assertEquals(messageStore.getReloadCount(), messageStore.getSpilledEntryCount());
+        }
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEviction() throws Exception {
+        try (BoundedMessageStore messageStore = new BoundedMessageStore(2048L)) {
+            messageStore.storeMessage("first", new DefaultMessage(payload(1, 400)));
+            messageStore.storeMessage("second", new DefaultMessage(payload(2, 400)));
+
+            messageStore.getMessage("first");
+            messageStore.storeMessage("third", new DefaultMessage(payload(3, 400)));
+
+            Assert.assertEquals(messageStore.getSpilledEntryCount(), 1);
+            Assert.assertEquals(messageStore.getMessage("first").getPayload(String.class), payload(1, 400));
+            Assert.assertEquals(messageStore.getReloadCount(), 0L);
+            Assert.assertEquals(messageStore.getMessage("second").getPayload(String.class), payload(2, 400));
+            Assert.assertEquals(messageStore.getReloadCount(), 1L);
+        }
+    }
+
+    @Test
+    public void testSpillLargeMessage() throws Exception {
+        try (BoundedMessageStore messageStore = new BoundedMessageStore(1024L)) {
+            messageStore.setSegmentSize(1024);
+
+            messageStore.storeMessage("large", new DefaultMessage(payload(0, 5000)));
+            messageStore.storeMessage("other", new DefaultMessage(payload(1, 5000)));
+
+            Assert.assertEquals(messageStore.getMemoryEntryCount(), 0);
+            Assert.assertEquals(messageStore.getMessage("large").getPayload(String.class), payload(0, 5000));
+            Assert.assertEquals(messageStore.getMessage("other").getPayload(String.class), payload(1, 5000));
+        }
+    }
+
+    @Test
+    public void testOverwriteSpilledMessage() throws Exception {
+        try (BoundedMessageStore messageStore = new BoundedMessageStore(512L)) {
+            messageStore.storeMessage("request", new DefaultMessage(payload(1, 500)));
+            Assert.assertEquals(messageStore.getSpilledEntryCount(), 1);
+
+            messageStore.storeMessage("request", new DefaultMessage("RequestMessage"));
+            Assert.assertEquals(messageStore.getSpilledEntryCount(), 0);
+            Assert.assertEquals(messageStore.getMessage("request").getPayload(String.class), "RequestMessage");
+        }
+    }
+
+    @Test
+    public void testSpillNonSerializableHeader() throws Exception {
+        try (BoundedMessageStore messageStore = new BoundedMessageStore(256L)) {
+            messageStore.storeMessage("request", new DefaultMessage(payload(1, 500))
+                    .setHeader("operation", new Object() {
+                        @Override
+                        public String toString() {
+                            return "sayHello";
+                        }
+                    }));
+
+            Assert.assertEquals(messageStore.getSpilledEntryCount(), 1);
+            Message stored = messageStore.getMessage("request");
+            Assert.assertEquals(stored.getPayload(String.class), payload(1, 500));
+            Assert.assertEquals(stored.getHeader("operation"), "sayHello");
+        }
+    }
+
+    @Test
+    public void testCloseReleasesSpillFile() throws Exception {
+        BoundedMessageStore messageStore = new BoundedMessageStore(512L);
+        messageStore.storeMessage("request", new DefaultMessage(payload(1, 500)));
+
+        Path spillFile = messageStore.getSpillFile();
+        FileChannel spillChannel = messageStore.getSpillChannel();
+        Assert.assertNotNull(spillFile);
+        Assert.assertTrue(Files.exists(spillFile));
+        Assert.assertTrue(spillChannel.isOpen());
+
+        messageStore.close();
+
+        Assert.assertFalse(spillChannel.isOpen());
+        Assert.assertFalse(Files.exists(spillFile));
+        Assert.assertNull(messageStore.getSpillFile());
+        Assert.assertEquals(messageStore.getEntryCount(), 0);
+    }
+
+    @Test
+    public void testCloseOnTestFinish() throws Exception {
+        BoundedMessageStore messageStore = new BoundedMessageStore(512L);
+        context.setMessageStore(messageStore);
+
+        messageStore.storeMessage("request", new DefaultMessage(payload(1, 500)));
+        Path spillFile = messageStore.getSpillFile();
+        FileChannel spillChannel = messageStore.getSpillChannel();
+
+        TestCase testCase = new TestCase();
+        testCase.setName("MessageStoreTest");
+        testCase.start(context);
+        testCase.finish(context);
+
+        Assert.assertFalse(spillChannel.isOpen());
+        Assert.assertFalse(Files.exists(spillFile));
+    }
+
+    @Test
+    public void testCompactOverwrittenMessages() throws Exception {
+        try (BoundedMessageStore messageStore = new BoundedMessageStore(512L)) {
+            messageStore.setSegmentSize(4096);
+
+            for (int i = 0; i < 50; i++) {
+                messageStore.storeMessage("request", new DefaultMessage(payload(i, 500)));
+                messageStore.storeMessage("response", new DefaultMessage(payload(i, 500)));
+            }
+
+            Assert.assertTrue(messageStore.getCompactionCount() > 0);
+            Assert.assertTrue(Files.size(messageStore.getSpillFile()) <= 4 * 4096L);
+            Assert.assertEquals(messageStore.getEntryCount(), 2);
+            Assert.assertEquals(messageStore.getMessage("request").getPayload(String.class), payload(49, 500));
+            Assert.assertEquals(messageStore.getMessage("response").getPayload(String.class), payload(49, 500));
+        }
+    }
+
+    @Test
+    public void testConstructMessageName() throws Exception {
+        Endpoint endpoint = new ChannelEndpoint();
+        endpoint.setName("testEndpoint");
+        Assert.assertEquals(new BoundedMessageStore().constructMessageName(new SendMessageAction(), endpoint), "send(testEndpoint)");
+    }
+
+    private String payload(int index, int length) {
+        StringBuilder payload = new StringBuilder("Message" + index + ":");
+        while (payload.length() < length) {
+            payload.append(index);
+        }
+        return payload.toString();
+    }
+}
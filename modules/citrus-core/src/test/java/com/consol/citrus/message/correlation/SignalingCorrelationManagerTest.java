@@ -0,0 +1,123 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.message.correlation;
+
+import com.consol.citrus.channel.ChannelSyncEndpointConfiguration;
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.*;
+
+import static org.mockito.Mockito.*;
+
+public class SignalingCorrelationManagerTest {
+
+    private ObjectStore objectStore = Mockito.mock(ObjectStore.class);
+
+    @Test
+    public void testFind() throws Exception {
+        ChannelSyncEndpointConfiguration pollableEndpointConfiguration = new ChannelSyncEndpointConfiguration();
+        pollableEndpointConfiguration.setTimeout(500L);
+
+        SignalingCorrelationManager<String> correlationManager = new SignalingCorrelationManager<>(pollableEndpointConfiguration, "Try again");
+        Assert.assertTrue(correlationManager.getObjectStore() instanceof SignalingObjectStore);
+        Assert.assertNull(correlationManager.find(""));
+
+        correlationManager.store("foo", "bar");
+        Assert.assertNull(correlationManager.find("bar"));
+        Assert.assertEquals(correlationManager.find("foo"), "bar");
+
+        //2nd invocation with same correlation key
+        Assert.assertNull(correlationManager.find("foo"));
+
+        for (String key : new String[]{"1", "2", "3", "4", "5"}) {
+            correlationManager.store(key, "value" + key);
+        }
+
+        for (String key : new String[]{"1", "5", "3", "2", "4"}) {
+            Assert.assertEquals(correlationManager.find(key), "value" + key);
+            Assert.assertNull(correlationManager.find(key, 0L));
+        }
+    }
+
+    @Test
+    public void testFindSignaledByStore() throws Exception {
+        ChannelSyncEndpointConfiguration pollableEndpointConfiguration = new ChannelSyncEndpointConfiguration();
+        pollableEndpointConfiguration.setPollingInterval(10000L);
+        pollableEndpointConfiguration.setTimeout(10000L);
+
+        SignalingCorrelationManager<String> correlationManager = new SignalingCorrelationManager<>(pollableEndpointConfiguration, "Try again");
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> result = executor.submit(() -> correlationManager.find("foo"));
+
+            Thread.sleep(100L);
+            correlationManager.store("bar", "other");
+            correlationManager.store("foo", "bar");
+
+            Assert.assertEquals(result.get(2000L, TimeUnit.MILLISECONDS), "bar");
+            Assert.assertEquals(correlationManager.find("bar"), "other");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testGetCorrelationKeySignaledBySave() throws Exception {
+        ChannelSyncEndpointConfiguration pollableEndpointConfiguration = new ChannelSyncEndpointConfiguration();
+        SignalingCorrelationManager<String> correlationManager = new SignalingCorrelationManager<>(pollableEndpointConfiguration, "Try again");
+        TestContext context = new TestContext();
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> result = executor.submit(() -> correlationManager.getCorrelationKey("correlationKey", context));
+
+            Thread.sleep(100L);
+            correlationManager.saveCorrelationKey("correlationKey", "foo", context);
+
+            Assert.assertEquals(result.get(500L, TimeUnit.MILLISECONDS), "foo");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class)
+    public void testGetCorrelationKeyMissing() {
+        ChannelSyncEndpointConfiguration pollableEndpointConfiguration = new ChannelSyncEndpointConfiguration();
+        SignalingCorrelationManager<String> correlationManager = new SignalingCorrelationManager<>(pollableEndpointConfiguration, "Try again");
+
+        correlationManager.getCorrelationKey("unknown", new TestContext());
+    }
+
+    @Test
+    public void testFindWithCustomObjectStore() {
+        ChannelSyncEndpointConfiguration pollableEndpointConfiguration = new ChannelSyncEndpointConfiguration();
+        pollableEndpointConfiguration.setPollingInterval(100L);
+        pollableEndpointConfiguration.setTimeout(500L);
+
+        SignalingCorrelationManager<String> correlationManager = new SignalingCorrelationManager<>(pollableEndpointConfiguration, "Try again");
+        correlationManager.setObjectStore(objectStore);
+
+        reset(objectStore);
+        when(objectStore.remove("foo")).thenReturn(null).thenReturn("bar");
+        Assert.assertEquals(correlationManager.find("foo"), "bar");
+    }
+}
@@ -16,12 +16,15 @@
 
 package com.consol.citrus.script;
 
+import org.springframework.core.io.ClassPathResource;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
 
+import java.util.Collections;
+
 /**
  * @author Christoph Deppisch
  */
@@ -34,6 +37,43 @@ public class GroovyActionTest extends AbstractTestNGUnitTest {
         bean.execute(context);
     }
     
+    @Test
+    public void testScriptClassCache() {
+        GroovyScriptCache.clear();
+
+        context.setVariable("greeting", "Hello");
+        GroovyAction bean = new GroovyAction();
+        bean.setScript("context.setVariable('result', '${greeting} Citrus!')");
+        bean.execute(context);
+        Assert.assertEquals(context.getVariable("result"), "Hello Citrus!");
+        Assert.assertEquals(GroovyScriptCache.size(), 2);
+
+        context.setVariable("result", "");
+        bean.execute(context);
+        Assert.assertEquals(context.getVariable("result"), "Hello Citrus!");
+        Assert.assertEquals(GroovyScriptCache.size(), 2);
+
+        context.setVariable("greeting", "Hi");
+        bean.execute(context);
+        Assert.assertEquals(context.getVariable("result"), "Hi Citrus!");
+        Assert.assertEquals(GroovyScriptCache.size(), 4);
+    }
+
+    @Test
+    public void testPrecompiledScriptResource() {
+        GroovyScriptCache.clear();
+
+        GroovyScriptPrecompiler precompiler = new GroovyScriptPrecompiler();
+        precompiler.setScripts(Collections.singletonList(new ClassPathResource("com/consol/citrus/script/example.groovy")));
+        precompiler.afterPropertiesSet();
+        Assert.assertEquals(GroovyScriptCache.size(), 2);
+
+        GroovyAction bean = new GroovyAction();
+        bean.setScriptResourcePath("classpath:com/consol/citrus/script/example.groovy");
+        bean.execute(context);
+        Assert.assertEquals(GroovyScriptCache.size(), 2);
+    }
+
     @Test
     public void testScriptResource() {
         GroovyAction bean = new GroovyAction();
@@ -18,10 +18,12 @@ package com.consol.citrus.testng;
 
 import com.consol.citrus.TestClass;
 import com.consol.citrus.main.TestRunConfiguration;
+import com.consol.citrus.testng.scan.JustLooksLikeTest;
 import com.consol.citrus.testng.scan.SampleTestNGTest;
 import org.testng.*;
 import org.testng.annotations.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
 
 /**
@@ -56,6 +58,41 @@ public class TestNGEngineTest {
         runTestEngine(configuration, 0L, 0L);
     }
 
+    @Test
+    public void testRunParallel() {
+        TestRunConfiguration configuration = new TestRunConfiguration();
+        configuration.setThreadCount(2);
+        configuration.setTestClasses(Arrays.asList(new TestClass(SampleTestNGTest.class.getName()),
+                new TestClass(JustLooksLikeTest.class.getName())));
+
+        TestNGEngine engine = new TestNGEngine(configuration);
+        engine.run();
+
+        Assert.assertEquals(engine.getTestResults().getSize(), 1L);
+        Assert.assertEquals(engine.getTestResults().getSuccess(), 1L);
+    }
+
+    @Test
+    public void testRunShard() {
+        TestRunConfiguration configuration = new TestRunConfiguration();
+        configuration.setShardIndex(1);
+        configuration.setShardCount(2);
+        configuration.setTestClasses(Arrays.asList(new TestClass(SampleTestNGTest.class.getName()),
+                new TestClass(JustLooksLikeTest.class.getName())));
+
+        TestNGEngine engine = new TestNGEngine(configuration);
+        engine.run();
+
+        Assert.assertEquals(engine.getTestResults().getSize(), 1L);
+        Assert.assertEquals(engine.getTestResults().asList().get(0).getClassName(), SampleTestNGTest.class.getName());
+
+        configuration.setShardIndex(0);
+        engine = new TestNGEngine(configuration);
+        engine.run();
+
+        Assert.assertEquals(engine.getTestResults().getSize(), 0L);
+    }
+
     private void runTestEngine(TestRunConfiguration configuration, long failure, long passed) {
         TestNGEngine engine = new TestNGEngine(configuration);
         engine.addTestListener(new ISuiteListener() {
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.util;
+
+/**
+ * Runs manual throughput benchmarks that compare a baseline implementation with an optimized implementation. Both variants
+ * are warmed up first and then measured one after another. Optional command line arguments are the number of measured
+ * iterations and the number of warm up iterations.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public final class BenchmarkRunner {
+
+    /**
+     * Benchmark runs either the baseline or the optimized variant for a given number of iterations.
+     */
+    public interface Benchmark {
+        /**
+         * Runs benchmark variant for given number of iterations.
+         * @param optimized
+         * @param iterations
+         * @return elapsed time in nanoseconds.
+         */
+        long run(boolean optimized, int iterations);
+    }
+
+    /**
+     * Prevent instantiation.
+     */
+    private BenchmarkRunner() {
+    }
+
+    /**
+     * Warms up and measures baseline and optimized variant of given benchmark and prints the results.
+     * @param args command line arguments with optional number of iterations and warm up iterations.
+     * @param defaultIterations
+     * @param defaultWarmUp
+     * @param baseline name of the baseline variant.
+     * @param optimized name of the optimized variant.
+     * @param benchmark
+     */
+    public static void run(String[] args, int defaultIterations, int defaultWarmUp, String baseline, String optimized, Benchmark benchmark) {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : defaultIterations;
+        int warmUp = args.length > 1 ? Integer.parseInt(args[1]) : defaultWarmUp;
+
+        benchmark.run(false, warmUp);
+        benchmark.run(true, warmUp);
+
+        long baselineTime = benchmark.run(false, iterations);
+        long optimizedTime = benchmark.run(true, iterations);
+
+        report(baseline, iterations, baselineTime);
+        report(optimized, iterations, optimizedTime);
+        System.out.println(String.format("speedup %.2fx", baselineTime / (double) optimizedTime));
+    }
+
+    private static void report(String mode, int iterations, long elapsed) {
+        System.out.println(String.format("%-10s %10d ops in %6d ms - %,12.2f ops/s", mode, iterations,
+                elapsed / 1000000L, iterations / (elapsed / 1e9)));
+    }
+}
@@ -17,6 +17,8 @@
 package com.consol.citrus.util;
 
 
+import com.consol.citrus.message.DefaultMessage;
+import com.consol.citrus.message.Message;
 import org.mockito.Mockito;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -383,4 +385,22 @@ public class XMLUtilsTest {
         Assert.assertEquals(XMLUtils.omitXmlDeclaration(""), "");
         Assert.assertEquals(XMLUtils.omitXmlDeclaration("Test"), "Test");
     }
+
+    @Test
+    public void testParseMessagePayloadCached() {
+        Message message = new DefaultMessage("<testRequest><Message>Hello</Message></testRequest>");
+
+        Document doc = XMLUtils.parseMessagePayload(message);
+        Assert.assertEquals(doc.getFirstChild().getLocalName(), "testRequest");
+        Assert.assertSame(XMLUtils.parseMessagePayload(message), doc);
+
+        Message other = new DefaultMessage("<testRequest><Message>Hello</Message></testRequest>");
+        Assert.assertNotSame(XMLUtils.parseMessagePayload(other), doc);
+
+        message.setPayload("<testResponse><Message>Hello</Message></testResponse>");
+        Document changed = XMLUtils.parseMessagePayload(message);
+        Assert.assertNotSame(changed, doc);
+        Assert.assertEquals(changed.getFirstChild().getLocalName(), "testResponse");
+        Assert.assertSame(XMLUtils.parseMessagePayload(message), changed);
+    }
 }
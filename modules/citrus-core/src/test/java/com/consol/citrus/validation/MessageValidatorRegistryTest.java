@@ -475,4 +475,41 @@ public class MessageValidatorRegistryTest {
         MessageValidatorRegistry messageValidatorRegistry = new MessageValidatorRegistry();
         messageValidatorRegistry.afterPropertiesSet();
     }
+
+    @Test
+    public void testResolvedMessageValidatorsCached() throws Exception {
+        MessageValidatorRegistry messageValidatorRegistry = new MessageValidatorConfig().getMessageValidatorRegistry();
+        messageValidatorRegistry.afterPropertiesSet();
+
+        List<MessageValidator<? extends ValidationContext>> matchingValidators = messageValidatorRegistry.findMessageValidators(MessageType.XML.name(), new DefaultMessage("<id>12345</id>"));
+        Assert.assertSame(messageValidatorRegistry.findMessageValidators(MessageType.XML.name(), new DefaultMessage("  <id>67890</id>")), matchingValidators);
+        Assert.assertNotSame(messageValidatorRegistry.findMessageValidators(MessageType.XML.name(), new DefaultMessage("")), matchingValidators);
+        Assert.assertNotSame(messageValidatorRegistry.findMessageValidators(MessageType.JSON.name(), new DefaultMessage("<id>12345</id>")), matchingValidators);
+
+        matchingValidators = messageValidatorRegistry.findMessageValidators(MessageType.XML.name(), new DefaultMessage("\n  { \"id\": 12345 }"));
+        Assert.assertEquals(matchingValidators.size(), 4L);
+        Assert.assertEquals(matchingValidators.get(0).getClass(), JsonTextMessageValidator.class);
+
+        messageValidatorRegistry.getMessageValidators().remove(matchingValidators.get(0));
+
+        matchingValidators = messageValidatorRegistry.findMessageValidators(MessageType.XML.name(), new DefaultMessage("\n  { \"id\": 12345 }"));
+        Assert.assertEquals(matchingValidators.size(), 3L);
+        Assert.assertEquals(matchingValidators.get(0).getClass(), JsonPathMessageValidator.class);
+    }
+
+    @Test
+    public void testDefaultMessageHeaderValidatorCached() throws Exception {
+        MessageValidatorRegistry messageValidatorRegistry = new MessageValidatorRegistry();
+
+        List<MessageValidator<? extends ValidationContext>> messageValidators = new ArrayList<>();
+        messageValidators.add(new PlainTextMessageValidator());
+        messageValidatorRegistry.setMessageValidators(messageValidators);
+
+        Assert.assertNull(messageValidatorRegistry.getDefaultMessageHeaderValidator());
+
+        DefaultMessageHeaderValidator headerValidator = new DefaultMessageHeaderValidator();
+        messageValidatorRegistry.getMessageValidators().add(headerValidator);
+
+        Assert.assertSame(messageValidatorRegistry.getDefaultMessageHeaderValidator(), headerValidator);
+    }
 }
@@ -256,6 +256,69 @@ public class JsonTextMessageValidatorTest extends AbstractTestNGUnitTest {
         Assert.fail("Missing validation exception due to wrong array size");
     }
     
+    @Test
+    public void testJsonValidationIgnoreArrayOrder() {
+        JsonTextMessageValidator validator = new JsonTextMessageValidator();
+
+        Message receivedMessage = new DefaultMessage("{\"greetings\":[" +
+                "{\"text\":\"Hello World!\", \"index\":1}, " +
+                "{\"text\":\"Hallo Welt!\", \"index\":2}, " +
+                "{\"text\":\"Hola del mundo!\", \"index\":3}, " +
+                "{\"text\":\"Hallo Welt!\", \"index\":2}], \"numbers\":[3, 1, 2], \"id\":\"x123456789x\"}");
+        Message controlMessage = new DefaultMessage("{\"greetings\":[" +
+                "{\"index\":3, \"text\":\"@startsWith('Hola')@\"}, " +
+                "{\"text\":\"Hallo Welt!\", \"index\":2}, " +
+                "{\"text\":\"Hallo Welt!\", \"index\":2}, " +
+                "{\"text\":\"Hello World!\", \"index\":\"@ignore@\"}], \"numbers\":[1, 2, 3], \"id\":\"x123456789x\"}");
+
+        JsonMessageValidationContext validationContext = new JsonMessageValidationContext();
+        validationContext.setIgnoreArrayOrder(true);
+        validator.validateMessage(receivedMessage, controlMessage, context, validationContext);
+    }
+
+    @Test
+    public void testJsonValidationIgnoreArrayOrderMissingElement() {
+        JsonTextMessageValidator validator = new JsonTextMessageValidator();
+
+        Message receivedMessage = new DefaultMessage("{\"greetings\":[" +
+                "{\"text\":\"Hallo Welt!\", \"index\":2}, " +
+                "{\"text\":\"Hello World!\", \"index\":1}, " +
+                "{\"text\":\"Hello World!\", \"index\":1}], \"id\":\"x123456789x\"}");
+        Message controlMessage = new DefaultMessage("{\"greetings\":[" +
+                "{\"text\":\"Hello World!\", \"index\":1}, " +
+                "{\"text\":\"Hallo Welt!\", \"index\":2}, " +
+                "{\"text\":\"Hallo Welt!\", \"index\":2}], \"id\":\"x123456789x\"}");
+
+        try {
+            JsonMessageValidationContext validationContext = new JsonMessageValidationContext();
+            validationContext.setIgnoreArrayOrder(true);
+            validator.validateMessage(receivedMessage, controlMessage, context, validationContext);
+        } catch (ValidationException e) {
+            Assert.assertTrue(e.getMessage().contains("Failed to find matching JSONArray element for entry 'greetings'"));
+
+            return;
+        }
+
+        Assert.fail("Missing validation exception due to missing array element");
+    }
+
+    @Test
+    public void testSloppyJsonValidationIgnoreArrayOrder() {
+        JsonTextMessageValidator validator = new JsonTextMessageValidator().strict(false);
+
+        Message receivedMessage = new DefaultMessage("{\"greetings\":[" +
+                "{\"text\":\"Hello World!\", \"index\":1, \"language\":\"en\"}, " +
+                "{\"text\":\"Hallo Welt!\", \"index\":2, \"language\":\"de\"}, " +
+                "{\"text\":\"Hola del mundo!\", \"index\":3, \"language\":\"es\"}], \"id\":\"x123456789x\"}");
+        Message controlMessage = new DefaultMessage("{\"greetings\":[" +
+                "{\"text\":\"Hola del mundo!\", \"index\":3}, " +
+                "{\"text\":\"Hello World!\", \"index\":1}]}");
+
+        JsonMessageValidationContext validationContext = new JsonMessageValidationContext();
+        validationContext.setIgnoreArrayOrder(true);
+        validator.validateMessage(receivedMessage, controlMessage, context, validationContext);
+    }
+
     @Test
     public void testJsonValidationArrayTypeMismatch() {
         JsonTextMessageValidator validator = new JsonTextMessageValidator();
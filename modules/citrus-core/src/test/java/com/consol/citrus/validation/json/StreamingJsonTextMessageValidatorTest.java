@@ -0,0 +1,202 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.validation.json;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.exceptions.ValidationException;
+import com.consol.citrus.message.DefaultMessage;
+import com.consol.citrus.testng.AbstractTestNGUnitTest;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.*;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class StreamingJsonTextMessageValidatorTest extends AbstractTestNGUnitTest {
+
+    @DataProvider
+    public Object[][] validations() {
+        return new Object[][] {
+            new Object[] {"{\"text\":\"Hello World!\", \"index\":5, \"id\":\"x123456789x\"}", "{\"id\":\"x123456789x\", \"text\":\"Hello World!\", \"index\":5}", true, Collections.emptySet()},
+            new Object[] {"{\"text\":\"Hello World!\", \"index\":5, \"id\":\"x123456789x\"}", "{\"id\":\"x123456789x\"}", false, Collections.emptySet()},
+            new Object[] {"{\"text\":\"Hello World!\", \"index\":5, \"id\":\"x123456789x\"}", "{\"id\":\"x123456789x\"}", true, Collections.emptySet()},
+            new Object[] {"{\"text\":\"Hello World!\", \"index\":5}", "{\"text\":\"Hello World!\", \"id\":5}", true, Collections.emptySet()},
+            new Object[] {"{\"text\":\"Hello World!\", \"index\":5}", "{\"text\":\"Hello World!\", \"index\":\"5\"}", true, Collections.emptySet()},
+            new Object[] {"{\"text\":\"Hello World!\", \"index\":5}", "{\"text\":\"Hello World!\", \"index\":5.0}", true, Collections.emptySet()},
+            new Object[] {"{\"text\":\"Hello World!\", \"index\":5.5}", "{\"text\":\"Hello World!\", \"index\":5.5}", true, Collections.emptySet()},
+            new Object[] {"{\"text\":\"Hello World!\", \"index\":50000000000}", "{\"text\":\"Hello World!\", \"index\":50000000000}", true, Collections.emptySet()},
+            new Object[] {"{\"text\":\"Hello World!\", \"active\":true}", "{\"text\":\"Hello World!\", \"active\":false}", true, Collections.emptySet()},
+            new Object[] {"{\"text\":\"Hello World!\", \"person\":{\"name\":\"John\",\"surname\":\"Doe\"}}", "{\"text\":\"Hello World!\", \"person\":{\"surname\":\"Doe\",\"name\":\"John\"}}", true, Collections.emptySet()},
+            new Object[] {"{\"text\":\"Hello World!\", \"person\":{\"name\":\"John\",\"surname\":\"Doe\"}}", "{\"text\":\"Hello World!\", \"person\":{\"name\":\"Jane\",\"surname\":\"Doe\"}}", true, Collections.emptySet()},
+            new Object[] {"{\"text\":\"Hello World!\", \"person\":\"John\"}", "{\"text\":\"Hello World!\", \"person\":{\"name\":\"John\"}}", true, Collections.emptySet()},
+            new Object[] {"{\"text\":\"Hello World!\", \"person\":null}", "{\"text\":\"Hello World!\", \"person\":null}", true, Collections.emptySet()},
+            new Object[] {"{\"text\":\"Hello World!\", \"person\":null}", "{\"text\":\"Hello World!\", \"person\":\"\"}", true, Collections.emptySet()},
+            new Object[] {"{\"text\":\"Hello World!\", \"person\":null}", "{\"text\":\"Hello World!\", \"person\":\"John\"}", true, Collections.emptySet()},
+            new Object[] {"{\"text\":\"Hello World!\", \"person\":\"John\"}", "{\"text\":\"Hello World!\", \"person\":null}", true, Collections.emptySet()},
+            new Object[] {"{\"text\":\"Hello World!\", \"person\":{\"name\":\"John\"}}", "{\"text\":\"@ignore@\", \"person\":\"@ignore@\"}", true, Collections.emptySet()},
+            new Object[] {"{\"text\":\"Hello World!\", \"index\":5}", "{\"text\":\"@startsWith('Hello')@\", \"index\":\"@greaterThan(4)@\"}", true, Collections.emptySet()},
+            new Object[] {"{\"text\":\"Hello World!\", \"index\":5}", "{\"text\":\"@startsWith('Hola')@\", \"index\":5}", true, Collections.emptySet()},
+            new Object[] {"{\"text\":null, \"index\":5}", "{\"text\":\"@ignore@\", \"index\":5}", true, Collections.emptySet()},
+            new Object[] {"{\"greetings\":[{\"text\":\"Hello World!\", \"index\":1}, {\"text\":\"Hallo Welt!\", \"index\":2}], \"id\":\"x123456789x\"}", "{\"greetings\":[{\"text\":\"Hello World!\", \"index\":1}, {\"text\":\"Hallo Welt!\", \"index\":2}], \"id\":\"x123456789x\"}", true, Collections.emptySet()},
+            new Object[] {"{\"greetings\":[{\"text\":\"Hello World!\", \"index\":1}, {\"text\":\"Hallo Welt!\", \"index\":2}]}", "{\"greetings\":[{\"text\":\"Hello World!\", \"index\":1}]}", true, Collections.emptySet()},
+            new Object[] {"{\"greetings\":[{\"text\":\"Hello World!\", \"index\":1}, {\"text\":\"Hallo Welt!\", \"index\":2}]}", "{\"greetings\":[{\"text\":\"Hello World!\", \"index\":1}]}", false, Collections.emptySet()},
+            new Object[] {"{\"greetings\":[{\"text\":\"Hello World!\", \"index\":1}, {\"text\":\"Hallo Welt!\", \"index\":2}]}", "{\"greetings\":[{\"text\":\"Hallo Welt!\", \"index\":2}, {\"text\":\"Hello World!\", \"index\":1}]}", true, Collections.emptySet()},
+            new Object[] {"{\"greetings\":[{\"text\":\"Hello World!\", \"index\":1}, {\"text\":\"Hallo Welt!\", \"index\":2}]}", "{\"greetings\":[{\"text\":\"Hello World!\", \"index\":1}, {\"text\":\"@ignore@\", \"index\":2}]}", true, Collections.emptySet()},
+            new Object[] {"{\"numbers\":[1, 2, 3], \"names\":[\"foo\", \"bar\"]}", "{\"numbers\":[1, 2, 3], \"names\":[\"foo\", \"bar\"]}", true, Collections.emptySet()},
+            new Object[] {"{\"numbers\":[1, 2, 3], \"names\":[\"foo\", \"bar\"]}", "{\"numbers\":[1, 3, 2], \"names\":[\"foo\", \"bar\"]}", true, Collections.emptySet()},
+            new Object[] {"{\"numbers\":[1, 2, 3], \"names\":[\"foo\", \"bar\"]}", "{\"numbers\":[1, 2, 3], \"names\":\"foo\"}", true, Collections.emptySet()},
+            new Object[] {"{\"matrix\":[[1, 2], [3, 4]]}", "{\"matrix\":[[1, 2], [3, 4]]}", true, Collections.emptySet()},
+            new Object[] {"{\"matrix\":[[1, 2], [3, 4]]}", "{\"matrix\":[[1, 2], [4, 3]]}", true, Collections.emptySet()},
+            new Object[] {"[{\"text\":\"Hello World!\", \"index\":1}, {\"text\":\"Hallo Welt!\", \"index\":2}]", "[{\"text\":\"Hello World!\", \"index\":1}, {\"text\":\"Hallo Welt!\", \"index\":2}]", true, Collections.emptySet()},
+            new Object[] {"[{\"text\":\"Hello World!\", \"index\":1}, {\"text\":\"Hallo Welt!\", \"index\":2}]", "[{\"text\":\"Hello World!\", \"index\":1}]", false, Collections.emptySet()},
+            new Object[] {"[{\"text\":\"Hello World!\", \"index\":1}, {\"text\":\"Hallo Welt!\", \"index\":2}]", "[{\"text\":\"Hello World!\", \"index\":2}, {\"text\":\"Hallo Welt!\", \"index\":2}]", true, Collections.emptySet()},
+            new Object[] {"{\"text\":\"Hello World!\", \"person\":{\"name\":\"John\",\"surname\":\"Doe\"}, \"index\":5}", "{\"text\":\"Hello World!\", \"person\":{\"name\":\"Jane\",\"surname\":\"Doe\"}, \"index\":6}", true, new HashSet<>(Arrays.asList("$.person.name", "$.index"))},
+            new Object[] {"{\"text\":\"Hello World!\", \"person\":{\"name\":\"John\",\"surname\":\"Doe\"}, \"index\":5}", "{\"text\":\"Hello World!\", \"person\":{\"name\":\"Jane\",\"surname\":\"Doe\"}, \"index\":6}", true, Collections.singleton("$.person.name")},
+            new Object[] {"{\"text\":\"Hello World!\", \"person\":{\"name\":\"John\",\"surname\":\"Doe\"}}", "{\"text\":\"Hello World!\", \"person\":{\"name\":\"Jane\"}}", true, Collections.singleton("$.person")},
+            new Object[] {"{\"greetings\":[{\"text\":\"Hello World!\", \"index\":1}, {\"text\":\"Hallo Welt!\", \"index\":2}]}", "{\"greetings\":[{\"text\":\"Hola\", \"index\":1}, {\"text\":\"Hallo\", \"index\":2}]}", true, Collections.singleton("$.greetings[*].text")},
+            new Object[] {"{\"greetings\":[{\"text\":\"Hello World!\", \"index\":1}, {\"text\":\"Hallo Welt!\", \"index\":2}]}", "{\"greetings\":[{\"text\":\"Hola\", \"index\":1}, {\"text\":\"Hallo\", \"index\":2}]}", true, Collections.singleton("$.greetings[*].index")}
+        };
+    }
+
+    @Test(dataProvider = "validations")
+    public void testValidateLikeJsonTextMessageValidator(String received, String control, boolean strict, Set<String> ignoreExpressions) {
+        JsonMessageValidationContext validationContext = new JsonMessageValidationContext();
+        validationContext.setIgnoreExpressions(ignoreExpressions);
+
+        Class<? extends Exception> expected = validate(new JsonTextMessageValidator().strict(strict), received, control, validationContext);
+        Class<? extends Exception> actual = validate(new StreamingJsonTextMessageValidator().strict(strict), received, control, validationContext);
+
+        Assert.assertEquals(actual, expected);
+    }
+
+    @DataProvider
+    public Object[][] unorderedValidations() {
+        return new Object[][] {
+            new Object[] {"{\"greetings\":[{\"text\":\"Hello World!\", \"index\":1}, {\"text\":\"Hallo Welt!\", \"index\":2}]}", "{\"greetings\":[{\"index\":2, \"text\":\"Hallo Welt!\"}, {\"text\":\"Hello World!\", \"index\":1}]}", true},
+            new Object[] {"{\"greetings\":[{\"text\":\"Hello World!\", \"index\":1}, {\"text\":\"Hallo Welt!\", \"index\":2}]}", "{\"greetings\":[{\"text\":\"Hallo Welt!\", \"index\":1}, {\"text\":\"Hello World!\", \"index\":2}]}", true},
+            new Object[] {"{\"greetings\":[{\"text\":\"Hello World!\", \"index\":1}, {\"text\":\"Hallo Welt!\", \"index\":2}]}", "{\"greetings\":[{\"text\":\"@startsWith('Hallo')@\", \"index\":2}, {\"text\":\"@ignore@\", \"index\":1}]}", true},
+            new Object[] {"{\"greetings\":[{\"text\":\"Hello World!\", \"index\":1}, {\"text\":\"Hallo Welt!\", \"index\":2}]}", "{\"greetings\":[{\"text\":\"@ignore@\", \"index\":1}, {\"text\":\"Hello World!\", \"index\":1}]}", true},
+            new Object[] {"{\"greetings\":[{\"text\":\"Hello World!\", \"index\":1}, {\"text\":\"Hallo Welt!\", \"index\":2}]}", "{\"greetings\":[{\"text\":\"Hallo Welt!\", \"index\":2}]}", true},
+            new Object[] {"{\"greetings\":[{\"text\":\"Hello World!\", \"index\":1}, {\"text\":\"Hallo Welt!\", \"index\":2}]}", "{\"greetings\":[{\"text\":\"Hallo Welt!\", \"index\":2}]}", false},
+            new Object[] {"{\"greetings\":[{\"text\":\"Hello World!\", \"index\":1, \"id\":\"x1\"}, {\"text\":\"Hallo Welt!\", \"index\":2, \"id\":\"x2\"}]}", "{\"greetings\":[{\"text\":\"Hallo Welt!\"}, {\"index\":1}]}", false},
+            new Object[] {"{\"numbers\":[1, 2, 3, 2], \"names\":[\"foo\", \"bar\", null]}", "{\"numbers\":[2, 3, 2, 1], \"names\":[null, \"bar\", \"foo\"]}", true},
+            new Object[] {"{\"numbers\":[1, 2, 3, 3], \"names\":[\"foo\", \"bar\"]}", "{\"numbers\":[3, 2, 1, 2], \"names\":[\"bar\", \"foo\"]}", true},
+            new Object[] {"{\"matrix\":[{\"row\":[1, 2]}, {\"row\":[3, 4]}]}", "{\"matrix\":[{\"row\":[4, 3]}, {\"row\":[2, 1]}]}", true},
+            new Object[] {"[{\"text\":\"Hello World!\", \"index\":1}, {\"text\":\"Hallo Welt!\", \"index\":2}]", "[{\"text\":\"Hallo Welt!\", \"index\":2}, {\"text\":\"Hello World!\", \"index\":1}]", true}
+        };
+    }
+
+    @Test(dataProvider = "unorderedValidations")
+    public void testValidateUnorderedLikeJsonTextMessageValidator(String received, String control, boolean strict) {
+        JsonMessageValidationContext validationContext = new JsonMessageValidationContext();
+        validationContext.setIgnoreArrayOrder(true);
+
+        Class<? extends Exception> expected = validate(new JsonTextMessageValidator().strict(strict), received, control, validationContext);
+        Class<? extends Exception> actual = validate(new StreamingJsonTextMessageValidator().strict(strict), received, control, validationContext);
+
+        Assert.assertEquals(actual, expected);
+    }
+
+    @Test
+    public void testLargeUnorderedJsonArray() {
+        List<Integer> ids = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            ids.add(i);
+        }
+
+        StringBuilder control = new StringBuilder("{\"items\":[");
+        for (int i = 0; i < ids.size(); i++) {
+            control.append(i > 0 ? "," : "").append("{\"id\":").append(ids.get(i)).append(", \"name\":\"item").append(ids.get(i)).append("\"}");
+        }
+        control.append("]}");
+
+        Collections.shuffle(ids, new Random(42L));
+        StringBuilder received = new StringBuilder("{\"items\":[");
+        for (int i = 0; i < ids.size(); i++) {
+            received.append(i > 0 ? "," : "").append("{\"name\":\"item").append(ids.get(i)).append("\", \"id\":").append(ids.get(i)).append("}");
+        }
+        received.append("]}");
+
+        JsonMessageValidationContext validationContext = new JsonMessageValidationContext();
+        validationContext.setIgnoreArrayOrder(true);
+
+        new JsonTextMessageValidator().validateMessage(new DefaultMessage(received.toString()), new DefaultMessage(control.toString()), context, validationContext);
+        new StreamingJsonTextMessageValidator().validateMessage(new DefaultMessage(received.toString()), new DefaultMessage(control.toString()), context, validationContext);
+    }
+
+    @Test
+    public void testCompiledControlTree() throws Exception {
+        StreamingJsonTextMessageValidator validator = new StreamingJsonTextMessageValidator();
+
+        context.setVariable("index", 5);
+        String control = "{\"text\":\"Hello World!\", \"index\":${index}}";
+
+        validator.validateMessage(new DefaultMessage("{\"text\":\"Hello World!\", \"index\":5}"), new DefaultMessage(control), context, new JsonMessageValidationContext());
+        Assert.assertSame(validator.compile("{\"text\":\"Hello World!\", \"index\":5}"), validator.compile("{\"text\":\"Hello World!\", \"index\":5}"));
+
+        context.setVariable("index", 6);
+        validator.validateMessage(new DefaultMessage("{\"text\":\"Hello World!\", \"index\":6}"), new DefaultMessage(control), context, new JsonMessageValidationContext());
+        Assert.assertNotSame(validator.compile("{\"text\":\"Hello World!\", \"index\":6}"), validator.compile("{\"text\":\"Hello World!\", \"index\":5}"));
+    }
+
+    @Test
+    public void testLargeJsonArray() {
+        StringBuilder received = new StringBuilder("{\"items\":[");
+        StringBuilder control = new StringBuilder("{\"items\":[");
+        for (int i = 0; i < 10000; i++) {
+            if (i > 0) {
+                received.append(",");
+                control.append(",");
+            }
+
+            received.append("{\"id\":").append(i).append(", \"name\":\"item").append(i).append("\", \"created\":\"2018-01-01\"}");
+            control.append("{\"id\":").append(i).append(", \"name\":\"item").append(i).append("\", \"created\":\"@ignore@\"}");
+        }
+        received.append("]}");
+        control.append("]}");
+
+        new StreamingJsonTextMessageValidator().validateMessage(new DefaultMessage(received.toString()), new DefaultMessage(control.toString()), context, new JsonMessageValidationContext());
+    }
+
+    @Test(expectedExceptions = ValidationException.class, expectedExceptionsMessageRegExp = "Failed to validate JSON text:\\s+\\{.*} Values not equal for entry: 'index', expected '6' but was '5'")
+    public void testValidationError() {
+        new StreamingJsonTextMessageValidator().validateMessage(new DefaultMessage("{\"text\":\"Hello World!\", \"index\":5}"),
+                new DefaultMessage("{\"text\":\"Hello World!\", \"index\":6}"), context, new JsonMessageValidationContext());
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class, expectedExceptionsMessageRegExp = "Failed to parse JSON text")
+    public void testParseError() {
+        new StreamingJsonTextMessageValidator().validateMessage(new DefaultMessage("{\"text\":\"Hello World!\", \"index\":}"),
+                new DefaultMessage("{\"text\":\"Hello World!\", \"index\":5}"), context, new JsonMessageValidationContext());
+    }
+
+    /**
+     * Runs validation and returns the type of exception raised or null on success.
+     */
+    private Class<? extends Exception> validate(JsonTextMessageValidator validator, String received, String control, JsonMessageValidationContext validationContext) {
+        try {
+            validator.validateMessage(new DefaultMessage(received), new DefaultMessage(control), context, validationContext);
+            return null;
+        } catch (CitrusRuntimeException e) {
+            return e.getClass();
+        }
+    }
+}
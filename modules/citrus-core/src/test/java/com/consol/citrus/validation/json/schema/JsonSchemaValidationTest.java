@@ -21,20 +21,23 @@ import com.consol.citrus.json.schema.SimpleJsonSchema;
 import com.consol.citrus.message.DefaultMessage;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.validation.json.JsonMessageValidationContext;
+import com.consol.citrus.validation.json.report.GraciousProcessingReport;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.github.fge.jsonschema.core.report.ProcessingReport;
+import com.github.fge.jsonschema.main.JsonSchema;
 import org.springframework.context.ApplicationContext;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
 
 public class JsonSchemaValidationTest {
 
@@ -255,4 +258,97 @@ public class JsonSchemaValidationTest {
         verify(jsonSchemaFilterMock).filter(repositoryList, jsonMessageValidationContext, applicationContext);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testValidationStopsAtFirstMatchingSchema() throws Exception {
+
+        //GIVEN
+        SimpleJsonSchema failingSchema = mockSchema("Book", false);
+        SimpleJsonSchema matchingSchema = mockSchema("Product", true);
+        SimpleJsonSchema unusedSchema = mockSchema("Order", true);
+
+        List<JsonSchemaRepository> schemaRepositories = Collections.singletonList(mock(JsonSchemaRepository.class));
+        when(jsonSchemaFilterMock.filter(schemaRepositories, validationContextMock, applicationContextMock))
+                .thenReturn(Arrays.asList(failingSchema, matchingSchema, unusedSchema));
+
+        Message receivedMessage = mock(Message.class);
+        when(receivedMessage.getPayload(String.class)).thenReturn("{\"type\":\"Product\"}");
+
+        //WHEN
+        ProcessingReport report = validator.validate(
+                receivedMessage,
+                schemaRepositories,
+                validationContextMock,
+                applicationContextMock);
+
+        //THEN
+        Assert.assertTrue(report.isSuccess());
+        verify(failingSchema.getSchema()).validate(any(JsonNode.class));
+        verify(matchingSchema.getSchema()).validate(any(JsonNode.class));
+        verify(unusedSchema.getSchema(), never()).validate(any(JsonNode.class));
+        verify(receivedMessage, times(1)).getPayload(String.class);
+    }
+
+    @Test
+    public void testDiscriminatorSelectsCandidateSchema() throws Exception {
+
+        //GIVEN
+        SimpleJsonSchema bookSchema = mockSchema("Book", false);
+        SimpleJsonSchema productSchema = mockSchema("Product", true);
+        productSchema.setTitle(null);
+        productSchema.setId("http://citrusframework.org/schemas/Product");
+
+        List<JsonSchemaRepository> schemaRepositories = Collections.singletonList(mock(JsonSchemaRepository.class));
+        when(jsonSchemaFilterMock.filter(schemaRepositories, validationContextMock, applicationContextMock))
+                .thenReturn(Arrays.asList(bookSchema, productSchema));
+
+        validator.setDiscriminator("$.schema");
+
+        //WHEN
+        ProcessingReport report = validator.validate(
+                new DefaultMessage("{\"schema\":\"http://citrusframework.org/schemas/Product\", \"id\": 2}"),
+                schemaRepositories,
+                validationContextMock,
+                applicationContextMock);
+
+        //THEN
+        Assert.assertTrue(report.isSuccess());
+        verify(productSchema.getSchema()).validate(any(JsonNode.class));
+        verify(bookSchema.getSchema(), never()).validate(any(JsonNode.class));
+    }
+
+    @Test
+    public void testDiscriminatorWithoutCandidateSchema() throws Exception {
+
+        //GIVEN
+        SimpleJsonSchema bookSchema = mockSchema("Book", false);
+        SimpleJsonSchema productSchema = mockSchema("Product", false);
+
+        List<JsonSchemaRepository> schemaRepositories = Collections.singletonList(mock(JsonSchemaRepository.class));
+        when(jsonSchemaFilterMock.filter(schemaRepositories, validationContextMock, applicationContextMock))
+                .thenReturn(Arrays.asList(bookSchema, productSchema));
+
+        validator.setDiscriminator("$.schema");
+
+        //WHEN
+        ProcessingReport report = validator.validate(
+                new DefaultMessage("{\"id\": 2}"),
+                schemaRepositories,
+                validationContextMock,
+                applicationContextMock);
+
+        //THEN
+        Assert.assertFalse(report.isSuccess());
+        verify(bookSchema.getSchema()).validate(any(JsonNode.class));
+        verify(productSchema.getSchema()).validate(any(JsonNode.class));
+    }
+
+    private SimpleJsonSchema mockSchema(String title, boolean success) throws Exception {
+        JsonSchema jsonSchemaMock = mock(JsonSchema.class);
+        when(jsonSchemaMock.validate(any(JsonNode.class))).thenReturn(new GraciousProcessingReport(success));
+
+        SimpleJsonSchema schema = new SimpleJsonSchema();
+        schema.setSchema(jsonSchemaMock);
+        schema.setTitle(title);
+        return schema;
+    }
+}
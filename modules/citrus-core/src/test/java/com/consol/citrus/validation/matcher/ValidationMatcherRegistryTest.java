@@ -24,6 +24,8 @@ import org.testng.annotations.Test;
 import com.consol.citrus.exceptions.NoSuchValidationMatcherLibraryException;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
 
+import java.util.Collections;
+
 /**
  * @author Christoph Deppisch
  */
@@ -50,5 +52,17 @@ public class ValidationMatcherRegistryTest extends AbstractTestNGUnitTest {
             Assert.assertTrue(e.getMessage().contains("unknown:"));
         }
     }
+
+    @Test
+    public void testGetValidationMatcherInvocation() {
+        ValidationMatcherInvocation invocation = validationMatcherRegistry.getValidationMatcherInvocation("@equalsIgnoreCase('value')@");
+        Assert.assertSame(validationMatcherRegistry.getValidationMatcherInvocation("@equalsIgnoreCase('value')@"), invocation);
+        Assert.assertSame(invocation.getValidationMatcher(), validationMatcherLibrary.getValidationMatcher("equalsIgnoreCase"));
+        Assert.assertEquals(invocation.getParameters(), Collections.singletonList("value"));
+
+        invocation = validationMatcherRegistry.getValidationMatcherInvocation("@ignore@");
+        Assert.assertSame(invocation.getValidationMatcher(), validationMatcherLibrary.getValidationMatcher("ignore"));
+        Assert.assertEquals(invocation.getParameters(), Collections.emptyList());
+    }
     
 }
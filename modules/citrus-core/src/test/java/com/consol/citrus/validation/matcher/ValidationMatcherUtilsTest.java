@@ -16,6 +16,7 @@
 
 package com.consol.citrus.validation.matcher;
 
+import com.consol.citrus.exceptions.ValidationException;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.testng.annotations.Test;
@@ -58,4 +59,23 @@ public class ValidationMatcherUtilsTest extends AbstractTestNGUnitTest {
         verify(validationMatcher, times(3)).validate("field", "value", Arrays.asList("value"), context);
         verify(validationMatcher).validate("field", "prefix:value", Arrays.asList("prefix:value"), context);
     }
+
+    @Test
+    public void testResolveValidationMatcherDynamicParameters() {
+        reset(validationMatcher);
+
+        context.setVariable("expected", "foo");
+        ValidationMatcherUtils.resolveValidationMatcher("field", "foo", "@foo:customMatcher('${expected}', 'static', 'citrus:upperCase(bar)')@", context);
+        context.setVariable("expected", "bar");
+        ValidationMatcherUtils.resolveValidationMatcher("field", "bar", "@foo:customMatcher('${expected}', 'static', 'citrus:upperCase(bar)')@", context);
+
+        verify(validationMatcher).validate("field", "foo", Arrays.asList("foo", "static", "BAR"), context);
+        verify(validationMatcher).validate("field", "bar", Arrays.asList("bar", "static", "BAR"), context);
+    }
+
+    @Test(expectedExceptions = ValidationException.class)
+    public void testResolveCachedValidationMatcherFails() {
+        ValidationMatcherUtils.resolveValidationMatcher("field", "value", "@equalsIgnoreCase('value')@", context);
+        ValidationMatcherUtils.resolveValidationMatcher("field", "other", "@equalsIgnoreCase('value')@", context);
+    }
 }
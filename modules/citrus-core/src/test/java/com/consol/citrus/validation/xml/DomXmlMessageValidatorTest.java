@@ -26,6 +26,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
+import org.springframework.xml.validation.XmlValidator;
 import org.springframework.xml.xsd.SimpleXsdSchema;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -33,6 +34,7 @@ import org.xml.sax.SAXException;
 
 import javax.xml.parsers.ParserConfigurationException;
 import java.io.IOException;
+import java.lang.ref.WeakReference;
 import java.util.*;
 
 /**
@@ -66,6 +68,65 @@ public class DomXmlMessageValidatorTest extends AbstractTestNGUnitTest {
         validator.validateXMLSchema(message, new XmlMessageValidationContext());
     }
 
+    @Test
+    public void validateXMLSchemaCachedValidator() throws Exception {
+        Message message = new DefaultMessage("<message xmlns='http://citrusframework.org/test'>"
+                        + "<correlationId>Kx1R123456789</correlationId>"
+                        + "<bookingId>Bx1G987654321</bookingId>"
+                        + "<test>Hello TestFramework</test>"
+                    + "</message>");
+
+        DomXmlMessageValidator validator = new DomXmlMessageValidator();
+
+        XsdSchemaRepository schemaRepository = new XsdSchemaRepository();
+        SimpleXsdSchema schema = new SimpleXsdSchema(new ClassPathResource("com/consol/citrus/validation/test.xsd"));
+        schema.afterPropertiesSet();
+
+        schemaRepository.getSchemas().add(schema);
+        validator.addSchemaRepository(schemaRepository);
+
+        XmlValidator schemaValidator = validator.getSchemaValidator(schemaRepository);
+        validator.validateXMLSchema(message, new XmlMessageValidationContext());
+        validator.validateXMLSchema(new DefaultMessage(message.getPayload(String.class)), new XmlMessageValidationContext());
+        Assert.assertSame(validator.getSchemaValidator(schemaRepository), schemaValidator);
+        Assert.assertSame(validator.getSchemaValidator(schema), validator.getSchemaValidator(schema));
+
+        SimpleXsdSchema nestedSchema = new SimpleXsdSchema(new ClassPathResource("com/consol/citrus/validation/test.xsd"));
+        nestedSchema.afterPropertiesSet();
+        schemaRepository.getSchemas().add(nestedSchema);
+
+        Assert.assertNotSame(validator.getSchemaValidator(schemaRepository), schemaValidator);
+        validator.validateXMLSchema(message, new XmlMessageValidationContext());
+    }
+
+    @Test
+    public void testSchemaValidatorCacheReleasesSchemas() throws Exception {
+        DomXmlMessageValidator validator = new DomXmlMessageValidator();
+
+        XsdSchemaRepository schemaRepository = new XsdSchemaRepository();
+        SimpleXsdSchema schema = new SimpleXsdSchema(new ClassPathResource("com/consol/citrus/validation/test.xsd"));
+        schema.afterPropertiesSet();
+        schemaRepository.getSchemas().add(schema);
+
+        validator.getSchemaValidator(schemaRepository);
+        validator.getSchemaValidator(schema);
+        Assert.assertEquals(validator.getCachedSchemaValidatorCount(), 2);
+
+        WeakReference<XsdSchemaRepository> repositoryReference = new WeakReference<>(schemaRepository);
+        WeakReference<SimpleXsdSchema> schemaReference = new WeakReference<>(schema);
+        schemaRepository = null;
+        schema = null;
+
+        for (int i = 0; i < 50 && (repositoryReference.get() != null || schemaReference.get() != null); i++) {
+            System.gc();
+            Thread.sleep(20L);
+        }
+
+        Assert.assertNull(repositoryReference.get());
+        Assert.assertNull(schemaReference.get());
+        Assert.assertEquals(validator.getCachedSchemaValidatorCount(), 0);
+    }
+
     @Test
     public void validateXMLSchemaNested() throws Exception {
         Message message = new DefaultMessage("<SOAP-ENV:Envelope xmlns:SOAP-ENV=\"http://schemas.xmlsoap.org/soap/envelope/\">" +
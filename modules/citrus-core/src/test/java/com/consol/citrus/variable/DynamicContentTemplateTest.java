@@ -0,0 +1,141 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.variable;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.functions.FunctionUtils;
+import com.consol.citrus.testng.AbstractTestNGUnitTest;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class DynamicContentTemplateTest extends AbstractTestNGUnitTest {
+
+    @DataProvider
+    public Object[][] templates() {
+        return new Object[][] {
+            new Object[] {""},
+            new Object[] {"Hello TestFramework!"},
+            new Object[] {"Hello ${text}"},
+            new Object[] {"${greeting} ${text}"},
+            new Object[] {"<Message><Text>${greeting}</Text><Id>${id}</Id></Message>"},
+            new Object[] {"citrus:concat('Hello', ' TestFramework!')"},
+            new Object[] {"citrus:concat(${greeting}, ' ', ${text})"},
+            new Object[] {"<Text>citrus:concat(${greeting}, ' ', citrus:upperCase(${text}))</Text><Id>${id}</Id>"},
+            new Object[] {"citrus:upperCase('Hello')citrus:lowerCase('WORLD') and citrus:concat('a', 'b')"},
+            new Object[] {"Time: citrus:concat('12:00') (local)"},
+            new Object[] {"citrus:upperCase(${greeting}"},
+            new Object[] {"Text with colon: and (parenthesis)"},
+            new Object[] {"${functionValue} world"},
+            new Object[] {"citrus:concat(${parenthesisValue})"},
+            new Object[] {"citrus:upperCase(${greeting}) ${parenthesisValue}"},
+            new Object[] {"${escaped} citrus:concat('${//greeting//}')"}
+        };
+    }
+
+    @Test(dataProvider = "templates")
+    public void testRenderLikeVariableAndFunctionUtils(String template) {
+        setupVariables();
+
+        String expected = VariableUtils.replaceVariablesInString(template, context, false);
+        expected = FunctionUtils.replaceFunctionsInString(expected, context, false);
+
+        Assert.assertEquals(DynamicContentTemplate.replaceDynamicContent(template, context, false), expected);
+        Assert.assertEquals(context.replaceDynamicContentInString(template), expected);
+    }
+
+    @Test(dataProvider = "templates")
+    public void testRenderQuotedLikeVariableAndFunctionUtils(String template) {
+        setupVariables();
+
+        String expected = VariableUtils.replaceVariablesInString(template, context, true);
+        expected = FunctionUtils.replaceFunctionsInString(expected, context, true);
+
+        Assert.assertEquals(DynamicContentTemplate.replaceDynamicContent(template, context, true), expected);
+    }
+
+    @Test
+    public void testCompiledTemplate() {
+        DynamicContentTemplate template = DynamicContentTemplate.compile("<Text>citrus:concat(${greeting}, ' ', ${text})</Text>", Collections.singletonList("citrus:"));
+        Assert.assertTrue(template.isCompiled());
+
+        context.setVariable("greeting", "Hello");
+        context.setVariable("text", "TestFramework!");
+        Assert.assertEquals(template.render(context, false), "<Text>Hello TestFramework!</Text>");
+
+        context.setVariable("text", "Citrus!");
+        Assert.assertEquals(template.render(context, false), "<Text>Hello Citrus!</Text>");
+
+        template = DynamicContentTemplate.compile("citrus:concat${text}", Collections.singletonList("citrus:"));
+        Assert.assertFalse(template.isCompiled());
+
+        template = DynamicContentTemplate.compile("citrus:concat('foo')", java.util.Arrays.asList("citrus:", "mycitrus:"));
+        Assert.assertFalse(template.isCompiled());
+    }
+
+    @Test
+    public void testCacheBounds() {
+        setupVariables();
+
+        int cacheSize = DynamicContentTemplate.getCacheSize();
+        Assert.assertEquals(context.replaceDynamicContentInString("Time: 12:00 " + cacheSize), "Time: 12:00 " + cacheSize);
+        Assert.assertEquals(DynamicContentTemplate.getCacheSize(), cacheSize);
+
+        StringBuilder payload = new StringBuilder("<Message>${greeting}");
+        while (payload.length() <= DynamicContentTemplate.MAX_CACHED_TEMPLATE_LENGTH) {
+            payload.append("<Text>${text}</Text>");
+        }
+        payload.append("</Message>");
+
+        String expected = VariableUtils.replaceVariablesInString(payload.toString(), context, false);
+        Assert.assertEquals(context.replaceDynamicContentInString(payload.toString()), expected);
+        Assert.assertEquals(DynamicContentTemplate.getCacheSize(), cacheSize);
+
+        for (int i = 0; i < 2000; i++) {
+            Assert.assertEquals(context.replaceDynamicContentInString("${greeting} " + i), "Hello " + i);
+        }
+
+        Assert.assertTrue(DynamicContentTemplate.getCacheSize() <= 512);
+        Assert.assertTrue(DynamicContentTemplate.getCachedChars() <= 1024 * 1024);
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class)
+    public void testUnknownVariable() {
+        context.replaceDynamicContentInString("Hello ${unknown}");
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class)
+    public void testUnclosedVariableExpression() {
+        context.setVariable("greeting", "Hello");
+        context.replaceDynamicContentInString("Hello ${greeting");
+    }
+
+    private void setupVariables() {
+        context.setVariable("greeting", "Hello");
+        context.setVariable("text", "TestFramework!");
+        context.setVariable("id", "12345");
+        context.setVariable("functionValue", "citrus:upperCase('hello')");
+        context.setVariable("parenthesisValue", "(foo)");
+        context.setVariable("escaped", "${//greeting//}");
+    }
+}
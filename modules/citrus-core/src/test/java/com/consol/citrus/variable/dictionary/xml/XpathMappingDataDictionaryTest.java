@@ -26,6 +26,7 @@ import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
@@ -201,4 +202,51 @@ public class XpathMappingDataDictionaryTest extends AbstractTestNGUnitTest {
         Assert.assertTrue(intercepted.getPayload(String.class).trim().contains("<h1>Hello Citrus!</h1>"));
         Assert.assertTrue(intercepted.getPayload(String.class).trim().contains("<hr />"));
     }
+
+    @Test
+    public void testTranslateSinglePass() throws Exception {
+        Message message = new DefaultMessage("<?xml version=\"1.0\" encoding=\"UTF-8\"?><ns1:TestMessage xmlns:ns1=\"http://www.foo.bar\"><ns1:Text>Hello World!</ns1:Text><ns1:OtherText name=\"foo\">No changes</ns1:OtherText></ns1:TestMessage>");
+
+        Map<String, String> mappings = new LinkedHashMap<String, String>();
+        mappings.put("//ns1:TestMessage/ns1:Text", "${hello}");
+        mappings.put("//foo:TestMessage/*", "GoodBye!");
+        mappings.put("//@name", "bar");
+        mappings.put("//something/else", "not_found");
+
+        context.setVariable("hello", "Hello!");
+
+        XpathMappingDataDictionary dictionary = new XpathMappingDataDictionary();
+        dictionary.setMappings(mappings);
+        dictionary.setSinglePass(true);
+
+        NamespaceContextBuilder namespaceContextBuilder = new NamespaceContextBuilder();
+        namespaceContextBuilder.getNamespaceMappings().put("foo", "http://www.foo.bar");
+        dictionary.setNamespaceContextBuilder(namespaceContextBuilder);
+
+        Message intercepted = dictionary.interceptMessage(message, Citrus.DEFAULT_MESSAGE_TYPE, context);
+        Assert.assertEquals(intercepted.getPayload(String.class).trim(), "<?xml version=\"1.0\" encoding=\"UTF-8\"?><ns1:TestMessage xmlns:ns1=\"http://www.foo.bar\">" + System.getProperty("line.separator") +
+                "   <ns1:Text>Hello!</ns1:Text>" + System.getProperty("line.separator") +
+                "   <ns1:OtherText name=\"bar\">GoodBye!</ns1:OtherText>" + System.getProperty("line.separator") +
+                "</ns1:TestMessage>");
+    }
+
+    @Test
+    public void testTranslateSinglePassEvaluatesOriginalDocument() throws Exception {
+        Map<String, String> mappings = new LinkedHashMap<String, String>();
+        mappings.put("//TestMessage/Text", "No changes");
+        mappings.put("//*[text() = 'No changes']", "Changed!");
+
+        XpathMappingDataDictionary dictionary = new XpathMappingDataDictionary();
+        dictionary.setMappings(mappings);
+        dictionary.setSinglePass(true);
+
+        Message intercepted = dictionary.interceptMessage(new DefaultMessage(payload), Citrus.DEFAULT_MESSAGE_TYPE, context);
+        Assert.assertEquals(intercepted.getPayload(String.class).trim(), "<?xml version=\"1.0\" encoding=\"UTF-8\"?><TestMessage>" + System.getProperty("line.separator") +
+                "   <Text>No changes</Text>" + System.getProperty("line.separator") +
+                "   <OtherText name=\"foo\">Changed!</OtherText>" + System.getProperty("line.separator") +
+                "</TestMessage>");
+
+        intercepted = dictionary.interceptMessage(new DefaultMessage(payload), Citrus.DEFAULT_MESSAGE_TYPE, context);
+        Assert.assertTrue(intercepted.getPayload(String.class).contains("<OtherText name=\"foo\">Changed!</OtherText>"));
+    }
 }
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.xml;
+
+import com.consol.citrus.util.BenchmarkRunner;
+import org.w3c.dom.Document;
+import org.w3c.dom.ls.*;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+
+/**
+ * Simple throughput benchmark comparing pooled parser and serializer instances with instances created per call.
+ * Benchmark is not part of the unit test suite and is run manually with its main method.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public final class XmlConfigurerBenchmark {
+
+    private static final String PAYLOAD = "<ns0:Order xmlns:ns0=\"http://citrusframework.org/schemas/samples\">" +
+                "<ns0:Id>12345</ns0:Id>" +
+                "<ns0:Customer><ns0:Name>Citrus</ns0:Name><ns0:Mail>citrus@citrusframework.org</ns0:Mail></ns0:Customer>" +
+                "<ns0:Items>" +
+                    "<ns0:Item><ns0:Name>Foo</ns0:Name><ns0:Amount>1</ns0:Amount></ns0:Item>" +
+                    "<ns0:Item><ns0:Name>Bar</ns0:Name><ns0:Amount>2</ns0:Amount></ns0:Item>" +
+                "</ns0:Items>" +
+            "</ns0:Order>";
+
+    private final XmlConfigurer configurer = new XmlConfigurer();
+
+    /**
+     * Prevent instantiation.
+     */
+    private XmlConfigurerBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        BenchmarkRunner.run(args, 50000, 10000, "per call", "pooled", new XmlConfigurerBenchmark()::run);
+    }
+
+    /**
+     * Parses and serializes sample payload for given number of iterations.
+     * @param pooled
+     * @param iterations
+     * @return elapsed time in nanoseconds.
+     */
+    private long run(boolean pooled, int iterations) {
+        long length = 0L;
+        long start = System.nanoTime();
+
+        for (int i = 0; i < iterations; i++) {
+            LSParser parser = pooled ? configurer.borrowLSParser() : configurer.createLSParser();
+            Document doc;
+            try {
+                LSInput input = configurer.createLSInput();
+                input.setCharacterStream(new StringReader(PAYLOAD));
+                doc = parser.parse(input);
+            } finally {
+                if (pooled) {
+                    configurer.releaseLSParser(parser);
+                }
+            }
+
+            LSSerializer serializer = pooled ? configurer.borrowLSSerializer() : configurer.createLSSerializer();
+            try {
+                StringWriter writer = new StringWriter();
+                LSOutput output = configurer.createLSOutput();
+                output.setCharacterStream(writer);
+                serializer.write(doc, output);
+                length += writer.getBuffer().length();
+            } finally {
+                if (pooled) {
+                    configurer.releaseLSSerializer(serializer);
+                }
+            }
+        }
+
+        long elapsed = System.nanoTime() - start;
+        if (length == 0L) {
+            throw new IllegalStateException("Benchmark did not serialize any content");
+        }
+
+        return elapsed;
+    }
+}
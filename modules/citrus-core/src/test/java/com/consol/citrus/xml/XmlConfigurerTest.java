@@ -0,0 +1,118 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.xml;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.w3c.dom.Node;
+import org.w3c.dom.ls.*;
+import org.w3c.dom.traversal.NodeFilter;
+
+import java.io.StringReader;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.concurrent.*;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class XmlConfigurerTest {
+
+    @Test
+    public void testReuseParser() {
+        XmlConfigurer configurer = new XmlConfigurer();
+
+        LSParser parser = configurer.borrowLSParser();
+        LSParser nested = configurer.borrowLSParser();
+        Assert.assertNotSame(nested, parser);
+
+        Assert.assertEquals(parse(parser, configurer, "<Hello>Citrus</Hello>"), "Hello");
+        configurer.releaseLSParser(parser);
+
+        LSParser reused = configurer.borrowLSParser();
+        Assert.assertSame(reused, parser);
+        Assert.assertEquals(parse(reused, configurer, "<Hello>TestFramework</Hello>"), "Hello");
+        configurer.releaseLSParser(reused);
+    }
+
+    @Test
+    public void testReuseSerializer() {
+        XmlConfigurer configurer = new XmlConfigurer();
+
+        LSSerializer serializer = configurer.borrowLSSerializer();
+        serializer.setFilter(new LSSerializerFilter() {
+            @Override
+            public int getWhatToShow() {
+                return NodeFilter.SHOW_ALL;
+            }
+
+            @Override
+            public short acceptNode(Node node) {
+                return NodeFilter.FILTER_ACCEPT;
+            }
+        });
+        configurer.releaseLSSerializer(serializer);
+
+        LSSerializer reused = configurer.borrowLSSerializer();
+        Assert.assertSame(reused, serializer);
+        Assert.assertNull(reused.getFilter());
+        configurer.releaseLSSerializer(reused);
+    }
+
+    @Test
+    public void testResetPoolOnSettingsChange() {
+        XmlConfigurer configurer = new XmlConfigurer();
+
+        LSParser parser = configurer.borrowLSParser();
+        configurer.releaseLSParser(parser);
+
+        LSSerializer serializer = configurer.borrowLSSerializer();
+        configurer.releaseLSSerializer(serializer);
+
+        configurer.setParseSettings(new HashMap<>(Collections.singletonMap(XmlConfigurer.CDATA_SECTIONS, false)));
+        configurer.setSerializeSettings(new HashMap<>(Collections.singletonMap(XmlConfigurer.FORMAT_PRETTY_PRINT, false)));
+
+        Assert.assertNotSame(configurer.borrowLSParser(), parser);
+        Assert.assertNotSame(configurer.borrowLSSerializer(), serializer);
+    }
+
+    @Test
+    public void testParserPerThread() throws Exception {
+        XmlConfigurer configurer = new XmlConfigurer();
+
+        LSParser parser = configurer.borrowLSParser();
+        configurer.releaseLSParser(parser);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Assert.assertNotSame(executor.submit(() -> {
+                LSParser other = configurer.borrowLSParser();
+                configurer.releaseLSParser(other);
+                return other;
+            }).get(), parser);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private String parse(LSParser parser, XmlConfigurer configurer, String xml) {
+        LSInput input = configurer.createLSInput();
+        input.setCharacterStream(new StringReader(xml));
+        return parser.parse(input).getDocumentElement().getLocalName();
+    }
+}
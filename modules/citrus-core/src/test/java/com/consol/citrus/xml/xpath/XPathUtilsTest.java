@@ -17,6 +17,7 @@
 package com.consol.citrus.xml.xpath;
 
 import com.consol.citrus.util.XMLUtils;
+import com.consol.citrus.xml.namespace.NamespaceContextBuilder;
 import org.springframework.util.xml.SimpleNamespaceContext;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -25,8 +26,8 @@ import org.w3c.dom.Document;
 import javax.xml.namespace.NamespaceContext;
 import javax.xml.namespace.QName;
 import javax.xml.xpath.XPathFactory;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.*;
+import java.util.concurrent.*;
 
 /**
  * @author Christoph Deppisch
@@ -98,6 +99,48 @@ public class XPathUtilsTest {
         Assert.assertEquals(XPathUtils.evaluateAsString(personNode, "/person/@status", namespaceContext), "single");
     }
 
+    @Test
+    public void testCachedExpressionWithNamespaceContext() {
+        Document document = XMLUtils.parseMessagePayload("<ns1:person xmlns:ns1=\"http://citrusframework.org/foo\" xmlns:ns2=\"http://citrusframework.org/bar\">" +
+                    "<ns1:name>foo</ns1:name>" +
+                    "<ns2:name>bar</ns2:name>" +
+                "</ns1:person>");
+
+        NamespaceContextBuilder namespaceContextBuilder = new NamespaceContextBuilder();
+        NamespaceContext fooContext = namespaceContextBuilder.getNamespaceContext(Collections.singletonMap("ns", "http://citrusframework.org/foo"));
+        NamespaceContext barContext = namespaceContextBuilder.getNamespaceContext(Collections.singletonMap("ns", "http://citrusframework.org/bar"));
+
+        Assert.assertSame(namespaceContextBuilder.getNamespaceContext(Collections.singletonMap("ns", "http://citrusframework.org/foo")), fooContext);
+        Assert.assertNotSame(barContext, fooContext);
+
+        for (int i = 0; i < 2; i++) {
+            Assert.assertEquals(XPathUtils.evaluateAsString(document, "//ns:name", fooContext), "foo");
+            Assert.assertEquals(XPathUtils.evaluateAsString(document, "//ns:name", barContext), "bar");
+        }
+    }
+
+    @Test
+    public void testConcurrentEvaluation() throws Exception {
+        Document document = XMLUtils.parseMessagePayload("<person><name>foo</name><age>23</age></person>");
+        NamespaceContext namespaceContext = new SimpleNamespaceContext();
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                final Document payload = (Document) document.cloneNode(true);
+                results.add(executor.submit(() -> "foo".equals(XPathUtils.evaluateAsString(payload, "/person/name", namespaceContext)) &&
+                        XPathUtils.evaluateAsNumber(payload, "/person/age", namespaceContext) == 23.0D));
+            }
+
+            for (Future<Boolean> result : results) {
+                Assert.assertTrue(result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     @Test(priority = 1)
     public void testCustomXPathFactory() {
         System.setProperty(XPathFactory.DEFAULT_PROPERTY_NAME + ":" + XPathFactory.DEFAULT_OBJECT_MODEL_URI, "");
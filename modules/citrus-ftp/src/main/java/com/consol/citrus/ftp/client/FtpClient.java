@@ -25,7 +25,7 @@ import com.consol.citrus.ftp.model.*;
 import com.consol.citrus.message.ErrorHandlingStrategy;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.message.correlation.CorrelationManager;
-import com.consol.citrus.message.correlation.PollingCorrelationManager;
+import com.consol.citrus.message.correlation.SignalingCorrelationManager;
 import com.consol.citrus.messaging.*;
 import com.consol.citrus.util.FileUtils;
 import org.apache.commons.codec.binary.Base64;
@@ -76,7 +76,7 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
     protected FtpClient(FtpEndpointConfiguration endpointConfiguration) {
         super(endpointConfiguration);
 
-        this.correlationManager = new PollingCorrelationManager<>(endpointConfiguration, "Reply message did not arrive yet");
+        this.correlationManager = new SignalingCorrelationManager<>(endpointConfiguration, "Reply message did not arrive yet");
     }
 
     @Override
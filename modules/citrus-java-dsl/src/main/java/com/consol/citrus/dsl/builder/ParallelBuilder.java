@@ -60,4 +60,49 @@ public class ParallelBuilder extends AbstractTestContainerBuilder<Parallel> {
         this(runner, new Parallel());
     }
 
+    /**
+     * Sets the maximum number of nested actions executed at the same time.
+     * @param parallelism
+     * @return
+     */
+    public ParallelBuilder parallelism(int parallelism) {
+        action.setParallelism(parallelism);
+        return this;
+    }
+
+    /**
+     * Enables execution of nested actions on virtual threads.
+     * @return
+     */
+    public ParallelBuilder virtualThreads() {
+        return virtualThreads(true);
+    }
+
+    /**
+     * Sets the virtual threads setting.
+     * @param virtualThreads
+     * @return
+     */
+    public ParallelBuilder virtualThreads(boolean virtualThreads) {
+        action.setVirtualThreads(virtualThreads);
+        return this;
+    }
+
+    /**
+     * Enables cancellation of sibling actions on first error.
+     * @return
+     */
+    public ParallelBuilder failFast() {
+        return failFast(true);
+    }
+
+    /**
+     * Sets the fail fast setting.
+     * @param failFast
+     * @return
+     */
+    public ParallelBuilder failFast(boolean failFast) {
+        action.setFailFast(failFast);
+        return this;
+    }
 }
@@ -544,6 +544,16 @@ public class ReceiveMessageBuilder<A extends ReceiveMessageAction, T extends Rec
         return self;
     }
 
+    /**
+     * Sets order insensitive JSON array element matching enabled/disabled for this message.
+     * @param enabled
+     * @return
+     */
+    public T ignoreArrayOrder(boolean enabled) {
+        jsonMessageValidationContext.setIgnoreArrayOrder(enabled);
+        return self;
+    }
+
     /**
      * Validates XML namespace with prefix and uri.
      * @param prefix
@@ -24,6 +24,8 @@ import com.consol.citrus.testng.AbstractTestNGUnitTest;
 import org.testng.annotations.Test;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
 
 public class ParallelTestDesignerTest extends AbstractTestNGUnitTest {
 
@@ -51,6 +53,33 @@ public class ParallelTestDesignerTest extends AbstractTestNGUnitTest {
         assertEquals(container.getTestAction(0).getClass(), EchoAction.class);
     }
 
+    @Test
+    public void testParallelBuilderExecutionSettings() {
+        MockTestDesigner builder = new MockTestDesigner(applicationContext, context) {
+            @Override
+            public void configure() {
+                parallel()
+                    .parallelism(2)
+                    .failFast()
+                    .actions(echo("1"),
+                        echo("2"),
+                        echo("3"));
+            }
+        };
+
+        builder.configure();
+
+        TestCase test = builder.getTestCase();
+        assertEquals(test.getActionCount(), 1);
+        assertEquals(test.getActions().get(0).getClass(), Parallel.class);
+
+        Parallel container = (Parallel)test.getActions().get(0);
+        assertEquals(container.getActionCount(), 3);
+        assertEquals(container.getParallelism(), 2);
+        assertTrue(container.isFailFast());
+        assertFalse(container.isVirtualThreads());
+    }
+
     @Test
     public void testParallelBuilderNestedContainers() {
         MockTestDesigner builder = new MockTestDesigner(applicationContext, context) {
@@ -23,6 +23,7 @@ import com.consol.citrus.testng.AbstractTestNGUnitTest;
 import org.testng.annotations.Test;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
 
 public class ParallelTestRunnerTest extends AbstractTestNGUnitTest {
     @Test
@@ -51,6 +52,34 @@ public class ParallelTestRunnerTest extends AbstractTestNGUnitTest {
         assertEquals(container.getTestAction(0).getClass(), EchoAction.class);
     }
 
+    @Test
+    public void testParallelBuilderExecutionSettings() {
+        MockTestRunner builder = new MockTestRunner(getClass().getSimpleName(), applicationContext, context) {
+            @Override
+            public void execute() {
+                parallel()
+                    .parallelism(2)
+                    .virtualThreads()
+                    .failFast()
+                    .actions(
+                            echo("1"),
+                            echo("2"),
+                            echo("3")
+                    );
+            }
+        };
+
+        TestCase test = builder.getTestCase();
+        assertEquals(test.getActionCount(), 1);
+        assertEquals(test.getActions().get(0).getClass(), Parallel.class);
+
+        Parallel container = (Parallel)test.getActions().get(0);
+        assertEquals(container.getActionCount(), 3);
+        assertEquals(container.getParallelism(), 2);
+        assertTrue(container.isVirtualThreads());
+        assertTrue(container.isFailFast());
+    }
+
     @Test
     public void testParallelBuilderNestedContainer() {
         MockTestRunner builder = new MockTestRunner(getClass().getSimpleName(), applicationContext, context) {
@@ -2128,4 +2128,38 @@ public class ReceiveMessageTestRunnerTest extends AbstractTestNGUnitTest {
         Assert.assertFalse(jsonMessageValidationContext.isSchemaValidationEnabled());
 
     }
+
+    @Test
+    public void testIgnoreArrayOrder() {
+        reset(messageEndpoint, messageConsumer, configuration);
+        when(messageEndpoint.createConsumer()).thenReturn(messageConsumer);
+        when(messageEndpoint.getEndpointConfiguration()).thenReturn(configuration);
+        when(configuration.getTimeout()).thenReturn(100L);
+        when(messageEndpoint.getActor()).thenReturn(null);
+        when(messageConsumer.receive(any(TestContext.class), anyLong())).thenReturn(
+                new DefaultMessage("{\"ids\":[3, 1, 2]}")
+                        .setHeader("operation", "sayHello"));
+
+        MockTestRunner builder = new MockTestRunner(getClass().getSimpleName(), applicationContext, context) {
+            @Override
+            public void execute() {
+                receive(action -> action.endpoint(messageEndpoint)
+                        .messageType(MessageType.JSON)
+                        .payload("{\"ids\":[1, 2, 3]}")
+                        .ignoreArrayOrder(true));
+            }
+        };
+
+        TestCase test = builder.getTestCase();
+        Assert.assertEquals(test.getActionCount(), 1);
+        Assert.assertEquals(test.getActions().get(0).getClass(), ReceiveMessageAction.class);
+
+        ReceiveMessageAction action = ((ReceiveMessageAction)test.getActions().get(0));
+        Assert.assertEquals(action.getValidationContexts().size(), 3);
+        Assert.assertEquals(action.getValidationContexts().get(2).getClass(), JsonMessageValidationContext.class);
+
+        JsonMessageValidationContext jsonMessageValidationContext =
+                (JsonMessageValidationContext) action.getValidationContexts().get(2);
+        Assert.assertTrue(jsonMessageValidationContext.isIgnoreArrayOrder());
+    }
 }
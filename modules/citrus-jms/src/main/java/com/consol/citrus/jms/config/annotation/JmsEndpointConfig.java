@@ -101,6 +101,12 @@ public @interface JmsEndpointConfig {
      */
     boolean useObjectMessages() default false;
 
+    /**
+     * Should keep long-lived message consumers.
+     * @return
+     */
+    boolean cacheConsumers() default false;
+
     /**
      * Timeout.
      * @return
@@ -105,6 +105,7 @@ public class JmsEndpointConfigParser extends AbstractAnnotationConfigParser<JmsE
         }
 
         builder.useObjectMessages(annotation.useObjectMessages());
+        builder.cacheConsumers(annotation.cacheConsumers());
 
         if (StringUtils.hasText(annotation.messageConverter())) {
             builder.messageConverter(getReferenceResolver().resolve(annotation.messageConverter(), JmsMessageConverter.class));
@@ -95,12 +95,24 @@ public @interface JmsSyncEndpointConfig {
      */
     boolean useObjectMessages() default false;
 
+    /**
+     * Should keep long-lived message consumers.
+     * @return
+     */
+    boolean cacheConsumers() default false;
+
     /**
      * Polling interval.
      * @return
      */
     int pollingInterval() default 500;
 
+    /**
+     * Should use shared reply queue for all requests.
+     * @return
+     */
+    boolean sharedReplyQueue() default false;
+
     /**
      * Message correlator.
      * @return
@@ -90,6 +90,7 @@ public class JmsSyncEndpointConfigParser extends AbstractAnnotationConfigParser<
 
         builder.pubSubDomain(annotation.pubSubDomain());
         builder.useObjectMessages(annotation.useObjectMessages());
+        builder.cacheConsumers(annotation.cacheConsumers());
         builder.messageConverter(getReferenceResolver().resolve(annotation.messageConverter(), JmsMessageConverter.class));
 
         if (StringUtils.hasText(annotation.destinationResolver())) {
@@ -119,6 +120,7 @@ public class JmsSyncEndpointConfigParser extends AbstractAnnotationConfigParser<
         }
 
         builder.pollingInterval(annotation.pollingInterval());
+        builder.sharedReplyQueue(annotation.sharedReplyQueue());
 
         return builder.initialize().build();
     }
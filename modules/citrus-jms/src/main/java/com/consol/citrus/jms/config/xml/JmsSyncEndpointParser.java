@@ -55,5 +55,8 @@ public class JmsSyncEndpointParser extends AbstractJmsEndpointParser {
 
         BeanDefinitionParserUtils.setPropertyReference(endpointConfiguration,
                 element.getAttribute("message-correlator"), "correlator");
+
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration,
+                element.getAttribute("shared-reply-queue"), "sharedReplyQueue");
     }
 }
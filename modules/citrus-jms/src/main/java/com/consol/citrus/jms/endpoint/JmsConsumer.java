@@ -39,6 +39,9 @@ public class JmsConsumer extends AbstractSelectiveMessageConsumer {
     /** Endpoint configuration */
     protected final JmsEndpointConfiguration endpointConfiguration;
 
+    /** Long-lived message consumers used when consumer caching is enabled */
+    private JmsConsumerCache consumerCache;
+
     /**
      * Default constructor using endpoint.
      * @param name
@@ -51,17 +54,20 @@ public class JmsConsumer extends AbstractSelectiveMessageConsumer {
 
     @Override
     public Message receive(String selector, TestContext context, long timeout) {
-        endpointConfiguration.getJmsTemplate().setReceiveTimeout(timeout);
+        if (!endpointConfiguration.isCacheConsumers()) {
+            endpointConfiguration.getJmsTemplate().setReceiveTimeout(timeout);
+        }
+
         javax.jms.Message receivedJmsMessage;
 
         if (endpointConfiguration.getDestination() != null) {
-            receivedJmsMessage = receive(endpointConfiguration.getDestination(), selector);
+            receivedJmsMessage = receive(endpointConfiguration.getDestination(), selector, timeout);
         } else if (StringUtils.hasText(endpointConfiguration.getDestinationName())) {
-            receivedJmsMessage = receive(context.replaceDynamicContentInString(endpointConfiguration.getDestinationName()), selector);
+            receivedJmsMessage = receive(context.replaceDynamicContentInString(endpointConfiguration.getDestinationName()), selector, timeout);
         } else if (endpointConfiguration.getJmsTemplate().getDefaultDestination() != null) {
-            receivedJmsMessage = receive(endpointConfiguration.getJmsTemplate().getDefaultDestination(), selector);
+            receivedJmsMessage = receive(endpointConfiguration.getJmsTemplate().getDefaultDestination(), selector, timeout);
         } else if (StringUtils.hasText(endpointConfiguration.getJmsTemplate().getDefaultDestinationName())) {
-            receivedJmsMessage = receive(context.replaceDynamicContentInString(endpointConfiguration.getJmsTemplate().getDefaultDestinationName()), selector);
+            receivedJmsMessage = receive(context.replaceDynamicContentInString(endpointConfiguration.getJmsTemplate().getDefaultDestinationName()), selector, timeout);
         } else {
             throw new CitrusRuntimeException("Unable to receive message - JMS destination not set");
         }
@@ -76,16 +82,19 @@ public class JmsConsumer extends AbstractSelectiveMessageConsumer {
      * Receive message from destination name.
      * @param destinationName
      * @param selector
+     * @param timeout
      * @return
      */
-    private javax.jms.Message receive(String destinationName, String selector) {
+    private javax.jms.Message receive(String destinationName, String selector, long timeout) {
         javax.jms.Message receivedJmsMessage;
 
         if (log.isDebugEnabled()) {
             log.debug("Receiving JMS message on destination: '" + destinationName + (StringUtils.hasText(selector) ? "(" + selector + ")" : "") + "'");
         }
 
-        if (StringUtils.hasText(selector)) {
+        if (endpointConfiguration.isCacheConsumers()) {
+            receivedJmsMessage = getConsumerCache().receive(destinationName, selector, timeout);
+        } else if (StringUtils.hasText(selector)) {
             receivedJmsMessage = endpointConfiguration.getJmsTemplate().receiveSelected(destinationName, selector);
         } else {
             receivedJmsMessage = endpointConfiguration.getJmsTemplate().receive(destinationName);
@@ -104,16 +113,19 @@ public class JmsConsumer extends AbstractSelectiveMessageConsumer {
      * Receive message from destination.
      * @param destination
      * @param selector
+     * @param timeout
      * @return
      */
-    private javax.jms.Message receive(Destination destination, String selector) {
+    private javax.jms.Message receive(Destination destination, String selector, long timeout) {
         javax.jms.Message receivedJmsMessage;
 
         if (log.isDebugEnabled()) {
             log.debug("Receiving JMS message on destination: '" + endpointConfiguration.getDestinationName(destination) + (StringUtils.hasText(selector) ? "(" + selector + ")" : "") + "'");
         }
 
-        if (StringUtils.hasText(selector)) {
+        if (endpointConfiguration.isCacheConsumers()) {
+            receivedJmsMessage = getConsumerCache().receive(destination, selector, timeout);
+        } else if (StringUtils.hasText(selector)) {
             receivedJmsMessage = endpointConfiguration.getJmsTemplate().receiveSelected(destination, selector);
         } else {
             receivedJmsMessage = endpointConfiguration.getJmsTemplate().receive(destination);
@@ -128,4 +140,25 @@ public class JmsConsumer extends AbstractSelectiveMessageConsumer {
         return receivedJmsMessage;
     }
 
+    /**
+     * Gets the consumer cache. Creates new cache on first access.
+     * @return
+     */
+    private synchronized JmsConsumerCache getConsumerCache() {
+        if (consumerCache == null) {
+            consumerCache = new JmsConsumerCache(endpointConfiguration);
+        }
+
+        return consumerCache;
+    }
+
+    /**
+     * Closes all cached message consumers and the connection used by them.
+     */
+    public synchronized void close() {
+        if (consumerCache != null) {
+            consumerCache.close();
+            consumerCache = null;
+        }
+    }
 }
@@ -0,0 +1,231 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.jms.endpoint;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jms.support.JmsUtils;
+import org.springframework.util.StringUtils;
+
+import javax.jms.*;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps a long-lived JMS connection with one session and message consumer per destination. Receive operations reuse the
+ * cached message consumer so connection, session and consumer setup is not repeated on each receive. Messages prefetched by the
+ * JMS provider on the message consumer stay available for subsequent receive operations. Receive timeouts are passed per call,
+ * so the shared JMS template is not modified.
+ *
+ * Only consumers without message selector are cached as selectors usually carry test specific values (e.g. correlation ids) and
+ * cached consumers would pile up with each test. Receive operations with message selector use a new session and consumer on the shared
+ * connection that is closed right after the receive.
+ *
+ * Note that an idle cached consumer keeps messages prefetched by the JMS provider. These messages are not available to other receivers
+ * on the same destination until the consumer is closed. Use a low prefetch size (e.g. 0 or 1) on the connection factory when other
+ * receivers compete for the same destination.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class JmsConsumerCache {
+
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(JmsConsumerCache.class);
+
+    /** Endpoint configuration */
+    private final JmsEndpointConfiguration endpointConfiguration;
+
+    /** Shared connection for all cached consumers */
+    private Connection connection;
+
+    /** Cached consumers by destination */
+    private final Map<Object, CachedConsumer> consumers = new ConcurrentHashMap<>();
+
+    /**
+     * Default constructor using endpoint configuration.
+     * @param endpointConfiguration
+     */
+    public JmsConsumerCache(JmsEndpointConfiguration endpointConfiguration) {
+        this.endpointConfiguration = endpointConfiguration;
+    }
+
+    /**
+     * Receive message from destination name with optional message selector.
+     * @param destinationName
+     * @param selector
+     * @param timeout
+     * @return the received message or null when timeout is exceeded.
+     */
+    public Message receive(String destinationName, String selector, long timeout) {
+        return receive((Object) destinationName, selector, timeout);
+    }
+
+    /**
+     * Receive message from destination with optional message selector.
+     * @param destination
+     * @param selector
+     * @param timeout
+     * @return the received message or null when timeout is exceeded.
+     */
+    public Message receive(Destination destination, String selector, long timeout) {
+        return receive((Object) destination, selector, timeout);
+    }
+
+    private Message receive(Object destination, String selector, long timeout) {
+        try {
+            if (StringUtils.hasText(selector)) {
+                return receiveSelected(destination, selector, timeout);
+            }
+
+            return getConsumer(destination).receive(timeout);
+        } catch (JMSException e) {
+            close();
+            throw JmsUtils.convertJmsAccessException(e);
+        }
+    }
+
+    /**
+     * Receive message with message selector using a new session and consumer on the shared connection. Consumer and session
+     * are closed after the receive operation.
+     * @param destination
+     * @param selector
+     * @param timeout
+     * @return
+     * @throws JMSException
+     */
+    private Message receiveSelected(Object destination, String selector, long timeout) throws JMSException {
+        Session session = getConnection().createSession(false, Session.AUTO_ACKNOWLEDGE);
+        MessageConsumer consumer = null;
+
+        try {
+            consumer = session.createConsumer(resolveDestination(session, destination), selector);
+            return new CachedConsumer(session, consumer).receive(timeout);
+        } finally {
+            JmsUtils.closeMessageConsumer(consumer);
+            JmsUtils.closeSession(session);
+        }
+    }
+
+    /**
+     * Gets cached consumer or creates new consumer for given destination.
+     * @param destination
+     * @return
+     * @throws JMSException
+     */
+    private CachedConsumer getConsumer(Object destination) throws JMSException {
+        CachedConsumer cached = consumers.get(destination);
+        if (cached != null) {
+            return cached;
+        }
+
+        synchronized (this) {
+            cached = consumers.get(destination);
+            if (cached == null) {
+                Session session = getConnection().createSession(false, Session.AUTO_ACKNOWLEDGE);
+                Destination resolved = resolveDestination(session, destination);
+
+                cached = new CachedConsumer(session, session.createConsumer(resolved, null));
+                consumers.put(destination, cached);
+
+                if (log.isDebugEnabled()) {
+                    log.debug("Created cached JMS consumer on destination: '" + endpointConfiguration.getDestinationName(resolved) + "'");
+                }
+            }
+
+            return cached;
+        }
+    }
+
+    /**
+     * Resolves destination object or destination name with the destination resolver of the JMS template.
+     * @param session
+     * @param destination
+     * @return
+     * @throws JMSException
+     */
+    private Destination resolveDestination(Session session, Object destination) throws JMSException {
+        if (destination instanceof Destination) {
+            return (Destination) destination;
+        }
+
+        return endpointConfiguration.getJmsTemplate().getDestinationResolver()
+                .resolveDestinationName(session, destination.toString(), endpointConfiguration.isPubSubDomain());
+    }
+
+    /**
+     * Gets shared connection or creates and starts new connection.
+     * @return
+     * @throws JMSException
+     */
+    private synchronized Connection getConnection() throws JMSException {
+        if (connection == null) {
+            ConnectionFactory connectionFactory = Optional.ofNullable(endpointConfiguration.getConnectionFactory())
+                                                          .orElse(endpointConfiguration.getJmsTemplate().getConnectionFactory());
+            connection = connectionFactory.createConnection();
+            connection.start();
+        }
+
+        return connection;
+    }
+
+    /**
+     * Closes all cached consumers, sessions and the shared connection.
+     */
+    public synchronized void close() {
+        for (CachedConsumer cached : consumers.values()) {
+            JmsUtils.closeMessageConsumer(cached.consumer);
+            JmsUtils.closeSession(cached.session);
+        }
+
+        consumers.clear();
+
+        JmsUtils.closeConnection(connection, true);
+        connection = null;
+    }
+
+    /**
+     * Gets the number of cached consumers.
+     * @return
+     */
+    public int size() {
+        return consumers.size();
+    }
+
+    /**
+     * Message consumer with its own session. Sessions are not thread safe so receive operations are synchronized.
+     */
+    private static class CachedConsumer {
+        private final Session session;
+        private final MessageConsumer consumer;
+
+        CachedConsumer(Session session, MessageConsumer consumer) {
+            this.session = session;
+            this.consumer = consumer;
+        }
+
+        synchronized Message receive(long timeout) throws JMSException {
+            if (timeout < 0) {
+                return consumer.receiveNoWait();
+            } else if (timeout == 0) {
+                return consumer.receive();
+            } else {
+                return consumer.receive(timeout);
+            }
+        }
+    }
+}
@@ -104,6 +104,8 @@ public class JmsEndpoint extends AbstractEndpoint implements InitializingBean, D
     public void destroy() throws Exception {
         if (this.jmsConsumer instanceof JmsTopicSubscriber) {
             ((JmsTopicSubscriber) this.jmsConsumer).stop();
+        } else if (this.jmsConsumer != null) {
+            this.jmsConsumer.close();
         }
     }
 
@@ -159,6 +159,16 @@ public class JmsEndpointBuilder extends AbstractEndpointBuilder<JmsEndpoint> {
         return this;
     }
 
+    /**
+     * Sets the cacheConsumers property.
+     * @param cacheConsumers
+     * @return
+     */
+    public JmsEndpointBuilder cacheConsumers(boolean cacheConsumers) {
+        endpoint.getEndpointConfiguration().setCacheConsumers(cacheConsumers);
+        return this;
+    }
+
     /**
      * Sets the default timeout.
      * @param timeout
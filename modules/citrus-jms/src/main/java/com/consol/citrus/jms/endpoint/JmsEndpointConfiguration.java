@@ -76,6 +76,9 @@ public class JmsEndpointConfiguration extends AbstractPollableEndpointConfigurat
     /** Should always use object messages */
     private boolean useObjectMessages = false;
 
+    /** Keep long-lived message consumers per destination for receive operations without message selector */
+    private boolean cacheConsumers = false;
+
     /**
      * Get the destination name (either a queue name or a topic name).
      * @param destination
@@ -340,4 +343,22 @@ public class JmsEndpointConfiguration extends AbstractPollableEndpointConfigurat
     public void setDurableSubscriberName(String durableSubscriberName) {
         this.durableSubscriberName = durableSubscriberName;
     }
+
+    /**
+     * Gets the cacheConsumers.
+     *
+     * @return
+     */
+    public boolean isCacheConsumers() {
+        return cacheConsumers;
+    }
+
+    /**
+     * Sets the cacheConsumers.
+     *
+     * @param cacheConsumers
+     */
+    public void setCacheConsumers(boolean cacheConsumers) {
+        this.cacheConsumers = cacheConsumers;
+    }
 }
@@ -0,0 +1,205 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.jms.endpoint;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jms.support.JmsUtils;
+
+import javax.jms.*;
+import java.util.Map;
+import java.util.concurrent.*;
+
+/**
+ * Long-lived temporary reply destination with a single message listener shared by all requests of a synchronous producer. The temporary
+ * destination is private to the connection of the producer so no other consumer competes for the reply messages. Incoming reply
+ * messages are dispatched to the waiting sender by their JMS correlation id. This is the explicit JMS correlation id of the request or the
+ * JMS message id of the request when no correlation id is set. Pending replies are registered while sending the request, before any reply is
+ * able to arrive. Reply messages that do not match a pending reply (e.g. late replies after a timeout) are dropped.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class JmsReplyDispatcher implements MessageListener {
+
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(JmsReplyDispatcher.class);
+
+    /** Session used by the reply listener */
+    private final Session session;
+
+    /** Shared reply destination */
+    private final Destination replyDestination;
+
+    /** Reply message consumer */
+    private final MessageConsumer messageConsumer;
+
+    /** Pending replies by correlation id */
+    private final Map<String, CompletableFuture<Message>> pendingReplies = new ConcurrentHashMap<>();
+
+    /** Guards send and registration of requests correlated by message id against reply dispatching */
+    private final Object dispatchLock = new Object();
+
+    /**
+     * Default constructor using session dedicated to this dispatcher. Creates a temporary reply destination on the session.
+     * @param session
+     * @param pubSubDomain
+     * @throws JMSException
+     */
+    public JmsReplyDispatcher(Session session, boolean pubSubDomain) throws JMSException {
+        this.session = session;
+
+        if (pubSubDomain) {
+            this.replyDestination = session.createTemporaryTopic();
+        } else {
+            this.replyDestination = session.createTemporaryQueue();
+        }
+
+        this.messageConsumer = session.createConsumer(this.replyDestination);
+        this.messageConsumer.setMessageListener(this);
+
+        log.debug("Listening for reply messages on shared reply destination: '{}'", this.replyDestination);
+    }
+
+    @Override
+    public void onMessage(Message message) {
+        try {
+            String correlationId = message.getJMSCorrelationID();
+
+            if (correlationId == null) {
+                log.warn("Ignoring reply message without correlation id on destination: '{}'", replyDestination);
+                return;
+            }
+
+            CompletableFuture<Message> pendingReply;
+            synchronized (dispatchLock) {
+                pendingReply = pendingReplies.get(correlationId);
+            }
+
+            if (pendingReply == null) {
+                log.warn("Ignoring reply message with unknown correlation id '{}' on destination: '{}'", correlationId, replyDestination);
+                return;
+            }
+
+            pendingReply.complete(message);
+        } catch (JMSException e) {
+            log.error("Failed to dispatch reply message", e);
+        }
+    }
+
+    /**
+     * Sends request with given message producer and registers pending reply for the request. When the request defines an explicit
+     * JMS correlation id the pending reply is registered before sending. Otherwise the JMS message id is only known after sending, so
+     * send and registration are guarded against dispatching of incoming replies.
+     * @param request
+     * @param messageProducer
+     * @return the correlation id of the pending reply.
+     * @throws JMSException
+     */
+    public String send(Message request, MessageProducer messageProducer) throws JMSException {
+        String correlationId = request.getJMSCorrelationID();
+
+        if (correlationId != null) {
+            pendingReplies.put(correlationId, new CompletableFuture<>());
+
+            try {
+                messageProducer.send(request);
+            } catch (JMSException | RuntimeException e) {
+                pendingReplies.remove(correlationId);
+                throw e;
+            }
+
+            return correlationId;
+        }
+
+        synchronized (dispatchLock) {
+            messageProducer.send(request);
+
+            correlationId = request.getJMSMessageID();
+            pendingReplies.put(correlationId, new CompletableFuture<>());
+            return correlationId;
+        }
+    }
+
+    /**
+     * Waits for reply message with given correlation id. The pending reply is removed afterwards.
+     * @param correlationId
+     * @param timeout
+     * @return the reply message or null when timeout is exceeded.
+     */
+    public Message receive(String correlationId, long timeout) {
+        CompletableFuture<Message> pendingReply = pendingReplies.get(correlationId);
+
+        if (pendingReply == null) {
+            throw new CitrusRuntimeException(String.format("No pending reply for correlation id '%s'", correlationId));
+        }
+
+        try {
+            if (timeout >= 0) {
+                return pendingReply.get(timeout, TimeUnit.MILLISECONDS);
+            } else {
+                return pendingReply.get();
+            }
+        } catch (TimeoutException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException("Interrupted while waiting for reply message", e);
+        } catch (ExecutionException e) {
+            throw new CitrusRuntimeException("Failed to receive reply message", e.getCause());
+        } finally {
+            pendingReplies.remove(correlationId);
+        }
+    }
+
+    /**
+     * Closes reply message consumer and session. The temporary reply destination gets deleted.
+     */
+    public void close() {
+        JmsUtils.closeMessageConsumer(messageConsumer);
+
+        try {
+            if (replyDestination instanceof TemporaryQueue) {
+                ((TemporaryQueue) replyDestination).delete();
+            } else if (replyDestination instanceof TemporaryTopic) {
+                ((TemporaryTopic) replyDestination).delete();
+            }
+        } catch (JMSException e) {
+            log.error("Error while deleting temporary destination '" + replyDestination + "'", e);
+        }
+
+        JmsUtils.closeSession(session);
+        pendingReplies.clear();
+    }
+
+    /**
+     * Gets the shared reply destination.
+     * @return
+     */
+    public Destination getReplyDestination() {
+        return replyDestination;
+    }
+
+    /**
+     * Gets the number of pending replies.
+     * @return
+     */
+    public int getPendingReplies() {
+        return pendingReplies.size();
+    }
+}
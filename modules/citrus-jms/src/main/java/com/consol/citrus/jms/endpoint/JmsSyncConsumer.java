@@ -20,13 +20,19 @@ import com.consol.citrus.context.TestContext;
 import com.consol.citrus.jms.message.JmsMessage;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.message.correlation.CorrelationManager;
-import com.consol.citrus.message.correlation.PollingCorrelationManager;
+import com.consol.citrus.message.correlation.DefaultCorrelationManager;
+import com.consol.citrus.message.correlation.ObjectStore;
+import com.consol.citrus.message.correlation.SignalingCorrelationManager;
 import com.consol.citrus.messaging.ReplyProducer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
 
 import javax.jms.*;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * @author Christoph Deppisch
@@ -37,6 +43,12 @@ public class JmsSyncConsumer extends JmsConsumer implements ReplyProducer {
     /** Map of reply destinations */
     private CorrelationManager<Destination> correlationManager;
 
+    /** Maximum number of stored reply correlation ids of requests that have not been replied yet */
+    private static final int MAX_REPLY_CORRELATION_IDS = 1000;
+
+    /** Map of reply correlation ids */
+    private final CorrelationManager<String> replyCorrelationIds = new DefaultCorrelationManager<>();
+
     /** Endpoint configuration */
     private final JmsSyncEndpointConfiguration endpointConfiguration;
 
@@ -52,7 +64,8 @@ public class JmsSyncConsumer extends JmsConsumer implements ReplyProducer {
         super(name, endpointConfiguration);
         this.endpointConfiguration = endpointConfiguration;
 
-        this.correlationManager = new PollingCorrelationManager<>(endpointConfiguration, "Reply jms destination not set up yet");
+        this.correlationManager = new SignalingCorrelationManager<>(endpointConfiguration, "Reply jms destination not set up yet");
+        this.replyCorrelationIds.setObjectStore(new BoundedObjectStore<>(MAX_REPLY_CORRELATION_IDS));
     }
 
     @Override
@@ -80,6 +93,8 @@ public class JmsSyncConsumer extends JmsConsumer implements ReplyProducer {
         Destination replyDestination = correlationManager.find(correlationKey, endpointConfiguration.getTimeout());
         Assert.notNull(replyDestination, "Failed to find JMS reply destination for message correlation key: '" + correlationKey + "'");
 
+        String replyCorrelationId = replyCorrelationIds.find(correlationKey, endpointConfiguration.getTimeout());
+
         if (log.isDebugEnabled()) {
             log.debug("Sending JMS message to destination: '" + endpointConfiguration.getDestinationName(replyDestination) + "'");
         }
@@ -87,6 +102,11 @@ public class JmsSyncConsumer extends JmsConsumer implements ReplyProducer {
         endpointConfiguration.getJmsTemplate().send(replyDestination, session -> {
             javax.jms.Message jmsMessage = endpointConfiguration.getMessageConverter().createJmsMessage(message, session, endpointConfiguration, context);
             endpointConfiguration.getMessageConverter().convertOutbound(jmsMessage, message, endpointConfiguration, context);
+
+            if (jmsMessage.getJMSCorrelationID() == null && replyCorrelationId != null) {
+                jmsMessage.setJMSCorrelationID(replyCorrelationId);
+            }
+
             return jmsMessage;
         });
 
@@ -97,7 +117,8 @@ public class JmsSyncConsumer extends JmsConsumer implements ReplyProducer {
 
     /**
      * Store the reply destination either straight forward or with a given
-     * message correlation key.
+     * message correlation key. The JMS correlation id of the request or the JMS message id when no
+     * correlation id is set is stored as correlation id for the reply message.
      *
      * @param jmsMessage
      * @param context
@@ -108,6 +129,14 @@ public class JmsSyncConsumer extends JmsConsumer implements ReplyProducer {
             String correlationKey = endpointConfiguration.getCorrelator().getCorrelationKey(jmsMessage);
             correlationManager.saveCorrelationKey(correlationKeyName, correlationKey, context);
             correlationManager.store(correlationKey, jmsMessage.getReplyTo());
+
+            String replyCorrelationId = StringUtils.hasText(jmsMessage.getCorrelationId()) ? jmsMessage.getCorrelationId() : jmsMessage.getMessageId();
+            if (replyCorrelationId != null) {
+                replyCorrelationIds.store(correlationKey, replyCorrelationId);
+            } else {
+                // remove reply correlation id of previous request with same correlation key
+                replyCorrelationIds.getObjectStore().remove(correlationKey);
+            }
         }  else {
             log.warn("Unable to retrieve reply to destination for message \n" +
                     jmsMessage + "\n - no reply to destination found in message headers!");
@@ -130,4 +159,31 @@ public class JmsSyncConsumer extends JmsConsumer implements ReplyProducer {
         this.correlationManager = correlationManager;
     }
 
+    /**
+     * Object store keeping a maximum number of objects. Oldest objects are removed first, so reply correlation ids of
+     * requests that never get a reply do not pile up.
+     */
+    private static class BoundedObjectStore<T> implements ObjectStore<T> {
+        private final Map<String, T> objects;
+
+        BoundedObjectStore(final int maxSize) {
+            this.objects = Collections.synchronizedMap(new LinkedHashMap<String, T>() {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, T> eldest) {
+                    return size() > maxSize;
+                }
+            });
+        }
+
+        @Override
+        public void add(String correlationKey, T object) {
+            objects.remove(correlationKey);
+            objects.put(correlationKey, object);
+        }
+
+        @Override
+        public T remove(String correlationKey) {
+            return objects.remove(correlationKey);
+        }
+    }
 }
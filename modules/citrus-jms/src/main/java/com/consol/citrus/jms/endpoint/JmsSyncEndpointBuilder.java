@@ -150,6 +150,16 @@ public class JmsSyncEndpointBuilder extends AbstractEndpointBuilder<JmsSyncEndpo
         return this;
     }
 
+    /**
+     * Sets the cacheConsumers property.
+     * @param cacheConsumers
+     * @return
+     */
+    public JmsSyncEndpointBuilder cacheConsumers(boolean cacheConsumers) {
+        endpoint.getEndpointConfiguration().setCacheConsumers(cacheConsumers);
+        return this;
+    }
+
     /**
      * Sets the polling interval.
      * @param pollingInterval
@@ -160,6 +170,16 @@ public class JmsSyncEndpointBuilder extends AbstractEndpointBuilder<JmsSyncEndpo
         return this;
     }
 
+    /**
+     * Sets the sharedReplyQueue property.
+     * @param sharedReplyQueue
+     * @return
+     */
+    public JmsSyncEndpointBuilder sharedReplyQueue(boolean sharedReplyQueue) {
+        endpoint.getEndpointConfiguration().setSharedReplyQueue(sharedReplyQueue);
+        return this;
+    }
+
     /**
      * Sets the message correlator.
      * @param correlator
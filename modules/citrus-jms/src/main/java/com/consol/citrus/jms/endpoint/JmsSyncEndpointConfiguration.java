@@ -43,6 +43,9 @@ public class JmsSyncEndpointConfiguration extends JmsEndpointConfiguration imple
     /** Polling interval when waiting for synchronous reply message to arrive */
     private long pollingInterval = 500L;
 
+    /** Should use one long-lived reply destination for all requests */
+    private boolean sharedReplyQueue = false;
+
     /**
      * Set the reply message correlator.
      * @param correlator the correlator to set
@@ -107,4 +110,20 @@ public class JmsSyncEndpointConfiguration extends JmsEndpointConfiguration imple
         this.pollingInterval = pollingInterval;
     }
 
+    /**
+     * Gets the sharedReplyQueue.
+     * @return the sharedReplyQueue
+     */
+    public boolean isSharedReplyQueue() {
+        return sharedReplyQueue;
+    }
+
+    /**
+     * Sets the sharedReplyQueue.
+     * @param sharedReplyQueue the sharedReplyQueue to set
+     */
+    public void setSharedReplyQueue(boolean sharedReplyQueue) {
+        this.sharedReplyQueue = sharedReplyQueue;
+    }
+
 }
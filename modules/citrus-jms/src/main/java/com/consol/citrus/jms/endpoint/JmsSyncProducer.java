@@ -21,7 +21,7 @@ import com.consol.citrus.exceptions.ActionTimeoutException;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.message.correlation.CorrelationManager;
-import com.consol.citrus.message.correlation.PollingCorrelationManager;
+import com.consol.citrus.message.correlation.SignalingCorrelationManager;
 import com.consol.citrus.messaging.ReplyConsumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -32,6 +32,8 @@ import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
 import javax.jms.*;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * @author Christoph Deppisch
@@ -45,6 +47,25 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
     /** JMS session */
     private Session session = null;
 
+    /** Shared reply destination listener */
+    private JmsReplyDispatcher replyDispatcher;
+
+    /** Maximum number of cached message producers */
+    private static final int MAX_MESSAGE_PRODUCERS = 64;
+
+    /** Cached message producers by destination, least recently used producer is closed when maximum is exceeded */
+    private final Map<Destination, MessageProducer> messageProducers = new LinkedHashMap<Destination, MessageProducer>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Destination, MessageProducer> eldest) {
+            if (size() > MAX_MESSAGE_PRODUCERS) {
+                JmsUtils.closeMessageProducer(eldest.getValue());
+                return true;
+            }
+
+            return false;
+        }
+    };
+
     /** Store of reply messages */
     private CorrelationManager<Message> correlationManager;
 
@@ -63,7 +84,7 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
         super(name, endpointConfiguration);
         this.endpointConfiguration = endpointConfiguration;
 
-        this.correlationManager = new PollingCorrelationManager<>(endpointConfiguration, "Reply message did not arrive yet");
+        this.correlationManager = new SignalingCorrelationManager<>(endpointConfiguration, "Reply message did not arrive yet");
     }
 
     @Override
@@ -76,6 +97,11 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
 
         context.onOutboundMessage(message);
 
+        if (endpointConfiguration.isSharedReplyQueue() && message.getHeader(org.springframework.messaging.MessageHeaders.REPLY_CHANNEL) == null) {
+            sendWithSharedReplyQueue(message, correlationKey, context);
+            return;
+        }
+
         MessageProducer messageProducer = null;
         MessageConsumer messageConsumer = null;
         Destination replyToDestination = null;
@@ -87,30 +113,7 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
             javax.jms.Message jmsRequest = endpointConfiguration.getMessageConverter().createJmsMessage(message, session, endpointConfiguration, context);
             endpointConfiguration.getMessageConverter().convertOutbound(jmsRequest, message, endpointConfiguration, context);
 
-            Destination destination;
-            if (endpointConfiguration.getDestination() != null) {
-                if (log.isDebugEnabled()) {
-                    log.debug("Sending JMS message to destination: '" + endpointConfiguration.getDestinationName(endpointConfiguration.getDestination()) + "'");
-                }
-
-                destination = endpointConfiguration.getDestination();
-            } else if (StringUtils.hasText(endpointConfiguration.getDestinationName())) {
-                if (endpointConfiguration.getDestinationNameResolver() != null) {
-                    destination = resolveDestination(context.replaceDynamicContentInString(endpointConfiguration.getDestinationNameResolver().resolveEndpointUri(message, endpointConfiguration.getDestinationName())));
-                } else {
-                    destination = resolveDestination(context.replaceDynamicContentInString(endpointConfiguration.getDestinationName()));
-                }
-            } else if (endpointConfiguration.getJmsTemplate().getDefaultDestination() != null) {
-                if (log.isDebugEnabled()) {
-                    log.debug("Sending JMS message to destination: '" + endpointConfiguration.getDestinationName(endpointConfiguration.getJmsTemplate().getDefaultDestination()) + "'");
-                }
-
-                destination = endpointConfiguration.getJmsTemplate().getDefaultDestination();
-            } else if (StringUtils.hasText(endpointConfiguration.getJmsTemplate().getDefaultDestinationName())) {
-                destination = resolveDestination(context.replaceDynamicContentInString(endpointConfiguration.getJmsTemplate().getDefaultDestinationName()));
-            } else {
-                throw new CitrusRuntimeException("Unable to send message - JMS destination not set");
-            }
+            Destination destination = getDestination(message, context);
 
             messageProducer = session.createProducer(destination);
 
@@ -152,6 +155,127 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
         }
     }
 
+    /**
+     * Sends message with shared reply destination. Message producers are cached per destination (up to a maximum number of
+     * least recently used destinations) and the reply message is
+     * dispatched by the shared reply listener based on the JMS correlation id or the JMS message id of the request.
+     * @param message
+     * @param correlationKey
+     * @param context
+     */
+    private void sendWithSharedReplyQueue(Message message, String correlationKey, TestContext context) {
+        try {
+            createConnection();
+            createSession(connection);
+
+            JmsReplyDispatcher dispatcher = getReplyDispatcher();
+
+            javax.jms.Message jmsRequest;
+            Destination destination;
+            String replyCorrelationId;
+            synchronized (session) {
+                jmsRequest = endpointConfiguration.getMessageConverter().createJmsMessage(message, session, endpointConfiguration, context);
+                endpointConfiguration.getMessageConverter().convertOutbound(jmsRequest, message, endpointConfiguration, context);
+
+                destination = getDestination(message, context);
+
+                jmsRequest.setJMSReplyTo(dispatcher.getReplyDestination());
+                replyCorrelationId = dispatcher.send(jmsRequest, getMessageProducer(destination));
+            }
+
+            log.info("Message was sent to JMS destination: '{}'", endpointConfiguration.getDestinationName(destination));
+            log.debug("Receiving reply message on shared destination: '{}'", dispatcher.getReplyDestination());
+
+            javax.jms.Message jmsReplyMessage = dispatcher.receive(replyCorrelationId, endpointConfiguration.getTimeout());
+
+            if (jmsReplyMessage == null) {
+                throw new ActionTimeoutException("Reply timed out after " +
+                        endpointConfiguration.getTimeout() + "ms. Did not receive reply message on reply destination");
+            }
+
+            Message responseMessage = endpointConfiguration.getMessageConverter().convertInbound(jmsReplyMessage, endpointConfiguration, context);
+
+            log.info("Received reply message on JMS destination: '{}'", dispatcher.getReplyDestination());
+
+            context.onInboundMessage(responseMessage);
+
+            correlationManager.store(correlationKey, responseMessage);
+        } catch (JMSException e) {
+            throw new CitrusRuntimeException(e);
+        }
+    }
+
+    /**
+     * Gets the shared reply dispatcher or creates new one on a dedicated session.
+     * @return
+     * @throws JMSException
+     */
+    private synchronized JmsReplyDispatcher getReplyDispatcher() throws JMSException {
+        if (replyDispatcher == null) {
+            if (endpointConfiguration.getReplyDestination() != null || StringUtils.hasText(endpointConfiguration.getReplyDestinationName())) {
+                throw new CitrusRuntimeException("Shared reply queue requires a temporary reply destination - remove the reply destination " +
+                        "from the endpoint configuration as reply messages for other consumers on that destination would be lost");
+            }
+
+            Session listenerSession = connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
+            replyDispatcher = new JmsReplyDispatcher(listenerSession, endpointConfiguration.isPubSubDomain());
+        }
+
+        return replyDispatcher;
+    }
+
+    /**
+     * Gets cached message producer for destination or creates new one.
+     * @param destination
+     * @return
+     * @throws JMSException
+     */
+    private MessageProducer getMessageProducer(Destination destination) throws JMSException {
+        synchronized (messageProducers) {
+            MessageProducer messageProducer = messageProducers.get(destination);
+
+            if (messageProducer == null) {
+                messageProducer = session.createProducer(destination);
+                messageProducers.put(destination, messageProducer);
+            }
+
+            return messageProducer;
+        }
+    }
+
+    /**
+     * Resolves the destination to send the message to.
+     * @param message
+     * @param context
+     * @return
+     * @throws JMSException
+     */
+    private Destination getDestination(Message message, TestContext context) throws JMSException {
+        if (endpointConfiguration.getDestination() != null) {
+            if (log.isDebugEnabled()) {
+                log.debug("Sending JMS message to destination: '" + endpointConfiguration.getDestinationName(endpointConfiguration.getDestination()) + "'");
+            }
+
+            return endpointConfiguration.getDestination();
+        } else if (StringUtils.hasText(endpointConfiguration.getDestinationName())) {
+            if (endpointConfiguration.getDestinationNameResolver() != null) {
+                return resolveDestination(context.replaceDynamicContentInString(endpointConfiguration.getDestinationNameResolver().resolveEndpointUri(message, endpointConfiguration.getDestinationName())));
+            } else {
+                return resolveDestination(context.replaceDynamicContentInString(endpointConfiguration.getDestinationName()));
+            }
+        } else if (endpointConfiguration.getJmsTemplate().getDefaultDestination() != null) {
+            if (log.isDebugEnabled()) {
+                log.debug("Sending JMS message to destination: '" + endpointConfiguration.getDestinationName(endpointConfiguration.getJmsTemplate().getDefaultDestination()) + "'");
+            }
+
+            return endpointConfiguration.getJmsTemplate().getDefaultDestination();
+        } else if (StringUtils.hasText(endpointConfiguration.getJmsTemplate().getDefaultDestinationName())) {
+            return resolveDestination(context.replaceDynamicContentInString(endpointConfiguration.getJmsTemplate().getDefaultDestinationName()));
+        } else {
+            throw new CitrusRuntimeException("Unable to send message - JMS destination not set");
+        }
+    }
+
     @Override
     public Message receive(TestContext context) {
         return receive(correlationManager.getCorrelationKey(
@@ -326,6 +450,17 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
      * Destroy method closing JMS session and connection
      */
     public void destroy() {
+        synchronized (messageProducers) {
+            for (MessageProducer messageProducer : messageProducers.values()) {
+                JmsUtils.closeMessageProducer(messageProducer);
+            }
+            messageProducers.clear();
+        }
+
+        if (replyDispatcher != null) {
+            replyDispatcher.close();
+        }
+
         JmsUtils.closeSession(session);
 
         if (connection != null) {
@@ -65,7 +65,7 @@ public class JmsTopicSubscriber extends JmsConsumer implements Runnable {
 
         ChannelEndpointConfiguration channelEndpointConfiguration = new ChannelEndpointConfiguration();
 
-        MessageSelectingQueueChannel inboundChannel = new MessageSelectingQueueChannel();
+        MessageSelectingQueueChannel inboundChannel = new SignalingMessageSelectingQueueChannel();
         inboundChannel.setBeanName(getName() + AbstractServer.DEFAULT_CHANNEL_ID_SUFFIX);
         channelEndpointConfiguration.setChannel(inboundChannel);
 
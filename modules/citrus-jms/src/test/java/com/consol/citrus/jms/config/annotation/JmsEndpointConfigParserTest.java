@@ -52,6 +52,7 @@ public class JmsEndpointConfigParserTest extends AbstractTestNGUnitTest {
             messageConverter="messageConverter",
             destinationResolver="destinationResolver",
             destinationNameResolver="destinationNameResolver",
+            cacheConsumers=true,
             destination="jmsQueue")
     private JmsEndpoint jmsEndpoint2;
 
@@ -150,6 +151,7 @@ public class JmsEndpointConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertEquals(jmsEndpoint1.getEndpointConfiguration().isAutoStart(), false);
         Assert.assertEquals(jmsEndpoint1.getEndpointConfiguration().isDurableSubscription(), false);
         Assert.assertEquals(jmsEndpoint1.getEndpointConfiguration().isUseObjectMessages(), false);
+        Assert.assertEquals(jmsEndpoint1.getEndpointConfiguration().isCacheConsumers(), false);
 
         // 2nd message receiver
         Assert.assertNotNull(jmsEndpoint2.getEndpointConfiguration().getConnectionFactory());
@@ -160,6 +162,7 @@ public class JmsEndpointConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertNull(jmsEndpoint2.getEndpointConfiguration().getDestinationName());
         Assert.assertNotNull(jmsEndpoint2.getEndpointConfiguration().getDestination());
         Assert.assertEquals(jmsEndpoint2.getEndpointConfiguration().getTimeout(), 10000L);
+        Assert.assertEquals(jmsEndpoint2.getEndpointConfiguration().isCacheConsumers(), true);
 
         // 3rd message receiver
         Assert.assertEquals(jmsEndpoint3.getEndpointConfiguration().getJmsTemplate(), jmsTemplate);
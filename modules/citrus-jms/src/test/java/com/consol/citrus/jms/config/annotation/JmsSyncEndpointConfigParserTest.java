@@ -92,6 +92,7 @@ public class JmsSyncEndpointConfigParserTest extends AbstractTestNGUnitTest {
     @JmsSyncEndpointConfig(destinationName="JMS.Queue.Test",
             replyDestinationName="JMS.Reply.Queue",
             pollingInterval=250,
+            sharedReplyQueue=true,
             actor="testActor")
     private JmsSyncEndpoint jmsSyncEndpoint8;
 
@@ -180,6 +181,7 @@ public class JmsSyncEndpointConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertEquals(jmsSyncEndpoint5.getEndpointConfiguration().getReplyDestinationName(), "JMS.Reply.Queue");
         Assert.assertNull(jmsSyncEndpoint5.getEndpointConfiguration().getReplyDestination());
         Assert.assertEquals(jmsSyncEndpoint5.getEndpointConfiguration().getCorrelator().getClass(), DefaultMessageCorrelator.class);
+        Assert.assertFalse(jmsSyncEndpoint5.getEndpointConfiguration().isSharedReplyQueue());
 
         // 6th message sender
         Assert.assertNotNull(jmsSyncEndpoint6.getEndpointConfiguration().getConnectionFactory());
@@ -203,6 +205,7 @@ public class JmsSyncEndpointConfigParserTest extends AbstractTestNGUnitTest {
         // 8th message sender
         Assert.assertNotNull(jmsSyncEndpoint8.getEndpointConfiguration().getPollingInterval());
         Assert.assertEquals(jmsSyncEndpoint8.getEndpointConfiguration().getPollingInterval(), 250L);
+        Assert.assertTrue(jmsSyncEndpoint8.getEndpointConfiguration().isSharedReplyQueue());
         Assert.assertNotNull(jmsSyncEndpoint8.getActor());
         Assert.assertEquals(jmsSyncEndpoint8.getActor(), testActor);
     }
@@ -264,4 +264,80 @@ public class JmsEndpointConsumerTest extends AbstractTestNGUnitTest {
 
         verify(connection).start();
     }
+
+    @Test
+    public void testReceiveWithCachedConsumers() throws JMSException {
+        JmsEndpoint endpoint = new JmsEndpoint();
+        endpoint.getEndpointConfiguration().setConnectionFactory(connectionFactory);
+        endpoint.getEndpointConfiguration().setDestinationName("myDestination");
+        endpoint.getEndpointConfiguration().setCacheConsumers(true);
+
+        final Message controlMessage = new DefaultMessage("<TestRequest><Message>Hello World!</Message></TestRequest>");
+
+        Map<String, Object> headers = new HashMap<String, Object>();
+
+        MessageConsumer selectiveConsumer = Mockito.mock(MessageConsumer.class);
+
+        reset(jmsTemplate, connectionFactory, destination, connection, session, messageConsumer);
+
+        when(connectionFactory.createConnection()).thenReturn(connection);
+        when(connection.createSession(anyBoolean(), anyInt())).thenReturn(session);
+
+        when(session.createQueue("myDestination")).thenReturn(destinationQueue);
+        when(session.createConsumer(destinationQueue, null)).thenReturn(messageConsumer);
+        when(session.createConsumer(destinationQueue, "Operation = 'sayHello'")).thenReturn(selectiveConsumer);
+        when(messageConsumer.receive(5000L)).thenReturn(new TextMessageImpl("<TestRequest><Message>Hello World!</Message></TestRequest>", headers));
+        when(messageConsumer.receive(1000L)).thenReturn(new TextMessageImpl("<TestRequest><Message>Hello World!</Message></TestRequest>", headers));
+        when(selectiveConsumer.receive(5000L)).thenReturn(new TextMessageImpl("<TestRequest><Message>Hello World!</Message></TestRequest>", headers));
+
+        JmsConsumer consumer = (JmsConsumer) endpoint.createConsumer();
+        Assert.assertEquals(consumer.receive(context).getPayload(), controlMessage.getPayload());
+        Assert.assertEquals(consumer.receive(context, 1000L).getPayload(), controlMessage.getPayload());
+        Assert.assertEquals(consumer.receive("Operation = 'sayHello'", context).getPayload(), controlMessage.getPayload());
+
+        verify(connectionFactory, times(1)).createConnection();
+        verify(connection, times(1)).start();
+        verify(connection, times(2)).createSession(false, Session.AUTO_ACKNOWLEDGE);
+        verify(session, times(1)).createConsumer(destinationQueue, null);
+        verify(messageConsumer).receive(5000L);
+        verify(messageConsumer).receive(1000L);
+        verify(messageConsumer, never()).close();
+        verify(selectiveConsumer).close();
+        verify(session, times(1)).close();
+
+        Assert.assertEquals(consumer.receive("Operation = 'sayHello'", context).getPayload(), controlMessage.getPayload());
+        verify(session, times(2)).createConsumer(destinationQueue, "Operation = 'sayHello'");
+        verify(selectiveConsumer, times(2)).close();
+        verify(session, times(2)).close();
+
+        consumer.close();
+
+        verify(messageConsumer).close();
+        verify(session, times(3)).close();
+        verify(connection).close();
+    }
+
+    @Test
+    public void testCachedConsumerTimeout() throws JMSException {
+        JmsEndpoint endpoint = new JmsEndpoint();
+        endpoint.getEndpointConfiguration().setConnectionFactory(connectionFactory);
+        endpoint.getEndpointConfiguration().setDestination(destination);
+        endpoint.getEndpointConfiguration().setCacheConsumers(true);
+
+        reset(jmsTemplate, connectionFactory, destination, connection, session, messageConsumer);
+
+        when(connectionFactory.createConnection()).thenReturn(connection);
+        when(connection.createSession(anyBoolean(), anyInt())).thenReturn(session);
+        when(session.createConsumer(destination, null)).thenReturn(messageConsumer);
+        when(messageConsumer.receive(5000L)).thenReturn(null);
+
+        try {
+            endpoint.createConsumer().receive(context);
+            Assert.fail("Missing " + ActionTimeoutException.class + " because of receiving message timeout");
+        } catch(ActionTimeoutException e) {
+            Assert.assertTrue(e.getMessage().startsWith("Action timed out while receiving JMS message on"));
+        }
+
+        verify(messageConsumer, never()).close();
+    }
 }
@@ -167,6 +167,41 @@ public class JmsEndpointSyncConsumerTest extends AbstractTestNGUnitTest {
         verify(messageProducer).send((TextMessage)any());
     }
 
+    @Test
+    public void testSendReplyWithCorrelationId() throws JMSException {
+        JmsSyncEndpoint endpoint = new JmsSyncEndpoint();
+        endpoint.getEndpointConfiguration().setConnectionFactory(connectionFactory);
+
+        final Message message = new DefaultMessage("<TestResponse>Hello World!</TestResponse>");
+
+        reset(jmsTemplate, connectionFactory, messageProducer, connection, session);
+
+        when(connectionFactory.createConnection()).thenReturn(connection);
+        when(connection.createSession(anyBoolean(), anyInt())).thenReturn(session);
+
+        when(session.createProducer(replyDestination)).thenReturn(messageProducer);
+
+        TextMessage jmsReply = Mockito.spy(new TextMessageImpl("<TestResponse>Hello World!</TestResponse>", new HashMap<String, Object>()));
+        TextMessage jmsCorrelatedReply = Mockito.spy(new TextMessageImpl("<TestResponse>Hello World!</TestResponse>", new HashMap<String, Object>()));
+        when(session.createTextMessage("<TestResponse>Hello World!</TestResponse>")).thenReturn(jmsReply, jmsCorrelatedReply);
+
+        when(session.getTransacted()).thenReturn(false);
+
+        JmsSyncConsumer jmsSyncConsumer = (JmsSyncConsumer)endpoint.createConsumer();
+        jmsSyncConsumer.saveReplyDestination(new JmsMessage().replyTo(replyDestination).messageId("ID:request-1"), context);
+        jmsSyncConsumer.send(message, context);
+
+        verify(jmsReply).setJMSCorrelationID("ID:request-1");
+        verify(messageProducer).send(jmsReply);
+
+        jmsSyncConsumer.saveReplyDestination(new JmsMessage().replyTo(replyDestination).messageId("ID:request-2").correlationId("myCorrelationId"), context);
+        jmsSyncConsumer.send(message, context);
+
+        verify(jmsCorrelatedReply).setJMSCorrelationID("myCorrelationId");
+        verify(jmsCorrelatedReply, never()).setJMSCorrelationID("ID:request-2");
+        verify(messageProducer).send(jmsCorrelatedReply);
+    }
+
     @Test
     public void testSendMessageWithReplyMessageCorrelator() throws JMSException {
         JmsSyncEndpoint endpoint = new JmsSyncEndpoint();
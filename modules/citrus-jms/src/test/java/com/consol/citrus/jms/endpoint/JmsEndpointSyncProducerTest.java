@@ -18,16 +18,20 @@ package com.consol.citrus.jms.endpoint;
 
 import com.consol.citrus.exceptions.ActionTimeoutException;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.jms.message.JmsMessageHeaders;
 import com.consol.citrus.message.*;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.message.correlation.ObjectStore;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import javax.jms.*;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.mockito.Mockito.*;
@@ -398,4 +402,273 @@ public class JmsEndpointSyncProducerTest extends AbstractTestNGUnitTest {
             Assert.assertEquals(retryCount, 1);
         }
     }
+
+    @Test
+    public void testSendMessageWithSharedReplyQueue() throws JMSException {
+        JmsSyncEndpoint endpoint = new JmsSyncEndpoint();
+        endpoint.getEndpointConfiguration().setConnectionFactory(connectionFactory);
+
+        endpoint.getEndpointConfiguration().setDestination(destination);
+        endpoint.getEndpointConfiguration().setSharedReplyQueue(true);
+
+        final Message message = new DefaultMessage("<TestRequest><Message>Hello World!</Message></TestRequest>");
+
+        final TextMessage jmsResponse = new TextMessageImpl("<TestResponse>Hello World!</TestResponse>", new HashMap<String, Object>()) {
+            @Override
+            public String getJMSCorrelationID() throws JMSException {
+                return "123456789";
+            }
+        };
+
+        reset(connectionFactory, destination, connection, session, messageConsumer, messageProducer, tempReplyQueue);
+
+        when(connectionFactory.createConnection()).thenReturn(connection);
+        when(connection.createSession(anyBoolean(), anyInt())).thenReturn(session);
+
+        when(session.createTemporaryQueue()).thenReturn(tempReplyQueue);
+        when(session.createConsumer(tempReplyQueue)).thenReturn(messageConsumer);
+
+        when(session.createProducer(destination)).thenReturn(messageProducer);
+
+        when(session.createTextMessage("<TestRequest><Message>Hello World!</Message></TestRequest>")).thenAnswer(invocation ->
+                new TextMessageImpl("<TestRequest><Message>Hello World!</Message></TestRequest>", new HashMap<String, Object>()));
+
+        final ArgumentCaptor<MessageListener> listener = ArgumentCaptor.forClass(MessageListener.class);
+        doAnswer(invocation -> {
+            verify(messageConsumer, atLeastOnce()).setMessageListener(listener.capture());
+            Thread replyThread = new Thread(() -> listener.getValue().onMessage(jmsResponse));
+            replyThread.start();
+            replyThread.join(100L);
+            return null;
+        }).when(messageProducer).send(any(TextMessage.class));
+
+        JmsSyncProducer producer = (JmsSyncProducer) endpoint.createProducer();
+        producer.send(message, context);
+        Assert.assertEquals(producer.receive(context).getPayload(String.class), "<TestResponse>Hello World!</TestResponse>");
+
+        producer.send(message, context);
+        Assert.assertEquals(producer.receive(context).getPayload(String.class), "<TestResponse>Hello World!</TestResponse>");
+
+        verify(connection).start();
+        verify(session, times(1)).createTemporaryQueue();
+        verify(session, times(1)).createConsumer(tempReplyQueue);
+        verify(session, times(1)).createProducer(destination);
+        verify(messageProducer, times(2)).send((TextMessage)any());
+        verify(messageProducer, never()).close();
+        verify(tempReplyQueue, never()).delete();
+
+        producer.destroy();
+
+        verify(messageProducer).close();
+        verify(messageConsumer).close();
+        verify(tempReplyQueue).delete();
+    }
+
+    @Test
+    public void testSharedReplyQueueTimeout() throws JMSException {
+        JmsSyncEndpoint endpoint = new JmsSyncEndpoint();
+        endpoint.getEndpointConfiguration().setConnectionFactory(connectionFactory);
+
+        endpoint.getEndpointConfiguration().setDestination(destination);
+        endpoint.getEndpointConfiguration().setSharedReplyQueue(true);
+        endpoint.getEndpointConfiguration().setTimeout(100L);
+
+        final Message message = new DefaultMessage("<TestRequest><Message>Hello World!</Message></TestRequest>");
+
+        reset(connectionFactory, destination, connection, session, messageConsumer, messageProducer, tempReplyQueue);
+
+        when(connectionFactory.createConnection()).thenReturn(connection);
+        when(connection.createSession(anyBoolean(), anyInt())).thenReturn(session);
+
+        when(session.createTemporaryQueue()).thenReturn(tempReplyQueue);
+        when(session.createConsumer(tempReplyQueue)).thenReturn(messageConsumer);
+        when(session.createProducer(destination)).thenReturn(messageProducer);
+
+        when(session.createTextMessage("<TestRequest><Message>Hello World!</Message></TestRequest>")).thenReturn(
+                new TextMessageImpl("<TestRequest><Message>Hello World!</Message></TestRequest>", new HashMap<String, Object>()));
+
+        try {
+            endpoint.createProducer().send(message, context);
+            Assert.fail("Missing " + ActionTimeoutException.class + " because of reply timeout");
+        } catch (ActionTimeoutException e) {
+            Assert.assertTrue(e.getMessage().startsWith("Reply timed out after 100ms"));
+        }
+
+        verify(session).createTemporaryQueue();
+        verify(messageConsumer).setMessageListener(any(MessageListener.class));
+    }
+
+    @Test
+    public void testSharedReplyQueueWithRequestCorrelationId() throws JMSException {
+        JmsSyncEndpoint endpoint = new JmsSyncEndpoint();
+        endpoint.getEndpointConfiguration().setConnectionFactory(connectionFactory);
+
+        endpoint.getEndpointConfiguration().setDestination(destination);
+        endpoint.getEndpointConfiguration().setSharedReplyQueue(true);
+
+        final Message message = new DefaultMessage("<TestRequest><Message>Hello World!</Message></TestRequest>")
+                .setHeader(JmsMessageHeaders.CORRELATION_ID, "myCorrelationId");
+
+        final TextMessage jmsResponse = new TextMessageImpl("<TestResponse>Hello World!</TestResponse>", new HashMap<String, Object>()) {
+            @Override
+            public String getJMSCorrelationID() throws JMSException {
+                return "myCorrelationId";
+            }
+        };
+
+        reset(connectionFactory, destination, connection, session, messageConsumer, messageProducer, tempReplyQueue);
+
+        when(connectionFactory.createConnection()).thenReturn(connection);
+        when(connection.createSession(anyBoolean(), anyInt())).thenReturn(session);
+
+        when(session.createTemporaryQueue()).thenReturn(tempReplyQueue);
+        when(session.createConsumer(tempReplyQueue)).thenReturn(messageConsumer);
+        when(session.createProducer(destination)).thenReturn(messageProducer);
+
+        when(session.createTextMessage("<TestRequest><Message>Hello World!</Message></TestRequest>")).thenAnswer(invocation ->
+                new TextMessageImpl("<TestRequest><Message>Hello World!</Message></TestRequest>", new HashMap<String, Object>()) {
+                    private String correlationId;
+
+                    @Override
+                    public void setJMSCorrelationID(String correlationID) throws JMSException {
+                        this.correlationId = correlationID;
+                    }
+
+                    @Override
+                    public String getJMSCorrelationID() throws JMSException {
+                        return correlationId;
+                    }
+                });
+
+        final ArgumentCaptor<MessageListener> listener = ArgumentCaptor.forClass(MessageListener.class);
+        doAnswer(invocation -> {
+            verify(messageConsumer).setMessageListener(listener.capture());
+            listener.getValue().onMessage(jmsResponse);
+            return null;
+        }).when(messageProducer).send(any(TextMessage.class));
+
+        JmsSyncProducer producer = (JmsSyncProducer) endpoint.createProducer();
+        producer.send(message, context);
+        Assert.assertEquals(producer.receive(context).getPayload(String.class), "<TestResponse>Hello World!</TestResponse>");
+    }
+
+    @Test
+    public void testSharedReplyQueueIgnoresUnknownReplies() throws JMSException {
+        reset(session, messageConsumer, messageProducer, tempReplyQueue);
+        when(session.createTemporaryQueue()).thenReturn(tempReplyQueue);
+        when(session.createConsumer(tempReplyQueue)).thenReturn(messageConsumer);
+
+        JmsReplyDispatcher dispatcher = new JmsReplyDispatcher(session, false);
+
+        final TextMessage lateResponse = new TextMessageImpl("<TestResponse>Hello World!</TestResponse>", new HashMap<String, Object>()) {
+            @Override
+            public String getJMSCorrelationID() throws JMSException {
+                return "unknown";
+            }
+        };
+
+        for (int i = 0; i < 10; i++) {
+            dispatcher.onMessage(lateResponse);
+        }
+
+        Assert.assertEquals(dispatcher.getPendingReplies(), 0);
+
+        String correlationId = dispatcher.send(new TextMessageImpl("<TestRequest><Message>Hello World!</Message></TestRequest>", new HashMap<String, Object>()), messageProducer);
+        Assert.assertEquals(correlationId, "123456789");
+        Assert.assertEquals(dispatcher.getPendingReplies(), 1);
+
+        Assert.assertNull(dispatcher.receive(correlationId, 10L));
+        Assert.assertEquals(dispatcher.getPendingReplies(), 0);
+
+        dispatcher.onMessage(new TextMessageImpl("<TestResponse>Hello World!</TestResponse>", new HashMap<String, Object>()) {
+            @Override
+            public String getJMSCorrelationID() throws JMSException {
+                return "123456789";
+            }
+        });
+        Assert.assertEquals(dispatcher.getPendingReplies(), 0);
+    }
+
+    @Test
+    public void testSharedReplyQueueWithReplyDestination() throws JMSException {
+        JmsSyncEndpoint endpoint = new JmsSyncEndpoint();
+        endpoint.getEndpointConfiguration().setConnectionFactory(connectionFactory);
+
+        endpoint.getEndpointConfiguration().setDestination(destination);
+        endpoint.getEndpointConfiguration().setReplyDestinationName("replyDestination");
+        endpoint.getEndpointConfiguration().setSharedReplyQueue(true);
+
+        reset(connectionFactory, destination, connection, session, messageConsumer, messageProducer);
+
+        when(connectionFactory.createConnection()).thenReturn(connection);
+        when(connection.createSession(anyBoolean(), anyInt())).thenReturn(session);
+
+        try {
+            endpoint.createProducer().send(new DefaultMessage("<TestRequest><Message>Hello World!</Message></TestRequest>"), context);
+            Assert.fail("Missing exception due to shared reply queue with reply destination");
+        } catch (CitrusRuntimeException e) {
+            Assert.assertTrue(e.getMessage().startsWith("Shared reply queue requires a temporary reply destination"));
+        }
+
+        verify(session, never()).createConsumer(any(Destination.class));
+        verify(messageProducer, never()).send(any(javax.jms.Message.class));
+    }
+
+    @Test
+    public void testSharedReplyQueueClosesLeastRecentlyUsedProducers() throws JMSException {
+        JmsSyncEndpoint endpoint = new JmsSyncEndpoint();
+        endpoint.getEndpointConfiguration().setConnectionFactory(connectionFactory);
+        endpoint.getEndpointConfiguration().setSharedReplyQueue(true);
+
+        final Message message = new DefaultMessage("<TestRequest><Message>Hello World!</Message></TestRequest>");
+
+        final TextMessage jmsResponse = new TextMessageImpl("<TestResponse>Hello World!</TestResponse>", new HashMap<String, Object>()) {
+            @Override
+            public String getJMSCorrelationID() throws JMSException {
+                return "123456789";
+            }
+        };
+
+        reset(connectionFactory, destination, connection, session, messageConsumer, messageProducer, tempReplyQueue);
+
+        when(connectionFactory.createConnection()).thenReturn(connection);
+        when(connection.createSession(anyBoolean(), anyInt())).thenReturn(session);
+
+        when(session.createTemporaryQueue()).thenReturn(tempReplyQueue);
+        when(session.createConsumer(tempReplyQueue)).thenReturn(messageConsumer);
+
+        when(session.createTextMessage("<TestRequest><Message>Hello World!</Message></TestRequest>")).thenAnswer(invocation ->
+                new TextMessageImpl("<TestRequest><Message>Hello World!</Message></TestRequest>", new HashMap<String, Object>()));
+
+        final ArgumentCaptor<MessageListener> listener = ArgumentCaptor.forClass(MessageListener.class);
+        List<MessageProducer> producers = new ArrayList<>();
+        when(session.createProducer(any(Destination.class))).thenAnswer(invocation -> {
+            MessageProducer producer = Mockito.mock(MessageProducer.class);
+            doAnswer(send -> {
+                verify(messageConsumer, atLeastOnce()).setMessageListener(listener.capture());
+                Thread replyThread = new Thread(() -> listener.getValue().onMessage(jmsResponse));
+                replyThread.start();
+                replyThread.join(100L);
+                return null;
+            }).when(producer).send(any(TextMessage.class));
+            producers.add(producer);
+            return producer;
+        });
+
+        JmsSyncProducer producer = (JmsSyncProducer) endpoint.createProducer();
+        for (int i = 0; i < 65; i++) {
+            endpoint.getEndpointConfiguration().setDestination(Mockito.mock(Queue.class));
+            producer.send(message, context);
+            Assert.assertEquals(producer.receive(context).getPayload(String.class), "<TestResponse>Hello World!</TestResponse>");
+        }
+
+        Assert.assertEquals(producers.size(), 65);
+        verify(producers.get(0)).close();
+        for (int i = 1; i < 65; i++) {
+            verify(producers.get(i), never()).close();
+        }
+
+        producer.destroy();
+        verify(producers.get(64)).close();
+    }
 }
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.consol.citrus.kafka.actions;
+
+import com.consol.citrus.actions.AbstractTestAction;
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.kafka.endpoint.KafkaEndpoint;
+
+/**
+ * Action flushes the producer of a Kafka endpoint and waits for all outstanding message deliveries of asynchronous
+ * send operations of the current test to be acknowledged. Action fails when one of the deliveries has failed.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class KafkaFlushAction extends AbstractTestAction {
+
+    /** Kafka endpoint to flush */
+    private KafkaEndpoint endpoint;
+
+    /**
+     * Default constructor.
+     */
+    public KafkaFlushAction() {
+        setName("flush");
+    }
+
+    @Override
+    public void doExecute(TestContext context) {
+        if (endpoint == null) {
+            throw new CitrusRuntimeException("Missing Kafka endpoint to flush - add endpoint to flush action");
+        }
+
+        endpoint.createProducer().flush(context);
+    }
+
+    /**
+     * Gets the endpoint.
+     * @return
+     */
+    public KafkaEndpoint getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * Sets the endpoint.
+     * @param endpoint
+     */
+    public KafkaFlushAction setEndpoint(KafkaEndpoint endpoint) {
+        this.endpoint = endpoint;
+        return this;
+    }
+}
@@ -61,6 +61,36 @@ public @interface KafkaEndpointConfig {
      */
     int autoCommitInterval() default 1000;
 
+    /**
+     * Maximum number of records fetched with a single consumer poll.
+     * @return
+     */
+    int maxPollRecords() default 1;
+
+    /**
+     * Consumer commit mode (sync, async, batch).
+     * @return
+     */
+    String commitMode() default "sync";
+
+    /**
+     * Producer async send mode.
+     * @return
+     */
+    boolean asyncSend() default false;
+
+    /**
+     * Producer linger time in milliseconds.
+     * @return
+     */
+    int lingerMs() default 0;
+
+    /**
+     * Producer batch size in bytes.
+     * @return
+     */
+    int batchSize() default 16384;
+
     /**
      * Topic partition.
      * @return
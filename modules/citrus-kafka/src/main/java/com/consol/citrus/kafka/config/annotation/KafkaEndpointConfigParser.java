@@ -59,6 +59,12 @@ public class KafkaEndpointConfigParser extends AbstractAnnotationConfigParser<Ka
         builder.autoCommit(annotation.autoCommit());
         builder.autoCommitInterval(annotation.autoCommitInterval());
         builder.offsetReset(annotation.offsetReset());
+        builder.maxPollRecords(annotation.maxPollRecords());
+        builder.commitMode(annotation.commitMode());
+
+        builder.asyncSend(annotation.asyncSend());
+        builder.lingerMs(annotation.lingerMs());
+        builder.batchSize(annotation.batchSize());
 
         if (StringUtils.hasText(annotation.clientId())) {
             builder.clientId(annotation.clientId());
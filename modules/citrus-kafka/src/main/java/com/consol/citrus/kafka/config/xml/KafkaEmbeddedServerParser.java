@@ -38,6 +38,8 @@ public class KafkaEmbeddedServerParser extends AbstractBeanDefinitionParser {
 
         BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("log-dir-path"), "logDirPath");
         BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("auto-delete-logs"), "autoDeleteLogs");
+        BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("in-memory-logs"), "inMemoryLogs");
+        BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("shared"), "shared");
         BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("zookeeper-port"), "zookeeperPort");
         BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("kafka-server-port"), "kafkaServerPort");
         BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("topics"), "topics");
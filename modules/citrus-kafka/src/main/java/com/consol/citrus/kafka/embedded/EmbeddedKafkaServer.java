@@ -21,6 +21,8 @@ import kafka.metrics.KafkaMetricsReporter;
 import kafka.server.*;
 import kafka.utils.CoreUtils;
 import org.apache.kafka.clients.admin.*;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.TopicExistsException;
 import org.apache.kafka.common.network.ListenerName;
 import org.apache.kafka.common.security.auth.SecurityProtocol;
 import org.apache.kafka.common.utils.Time;
@@ -38,12 +40,17 @@ import java.net.InetSocketAddress;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
  * Embedded Kafka server with reference to embedded Zookeeper cluster for testing purpose. Starts single Zookeeper instance with logs in Java temp directory. Starts single Kafka server
  * and automatically creates given topics with admin client.
  *
+ * Shared servers are started once per JVM and Kafka server port. Each shared server instance using the same port references the running server and the
+ * server is stopped when the last reference is stopped. Topics can be truncated or recreated between tests instead of restarting the server.
+ *
  * @author Christoph Deppisch
  * @since 2.8
  */
@@ -77,18 +84,73 @@ public class EmbeddedKafkaServer implements InitializingBean, DisposableBean {
     /** Auto delete log dir on exit */
     private boolean autoDeleteLogs = true;
 
+    /** Use in-memory file system (tmpfs) for log directories when available */
+    private boolean inMemoryLogs = false;
+
+    /** Share running server instance with other server instances using the same Kafka server port */
+    private boolean shared = false;
+
     /** Kafka broker server properties */
     private Map<String, String> brokerProperties = Collections.emptyMap();
 
+    /** Running shared server instances by Kafka server port */
+    private static final Map<Integer, SharedServer> SHARED_SERVERS = new HashMap<>();
+
+    /** Shared server instance this server is referencing */
+    private SharedServer sharedServer;
+
+    /** Whether this instance has been started and not yet stopped */
+    private boolean running = false;
+
+    /** Default in-memory file system location */
+    private static final String TMPFS_DIR = "/dev/shm";
+
+    /** Startup and topic reset time metrics in milliseconds */
+    private long startupTime = 0L;
+    private long resetCount = 0L;
+    private long totalResetTime = 0L;
+    private long lastResetTime = 0L;
+
     /**
-     * Start embedded server instances for Kafka and Zookeeper.
+     * Start embedded server instances for Kafka and Zookeeper. Shared servers reuse already running server instance
+     * on the same Kafka server port and only create missing topics.
      */
-    public void start() {
-        if (kafkaServer != null) {
+    public synchronized void start() {
+        if (running) {
             log.warn("Found instance of Kafka server - avoid duplicate Kafka server startup");
             return;
         }
 
+        if (!shared) {
+            startServer();
+            running = true;
+            return;
+        }
+
+        synchronized (SHARED_SERVERS) {
+            SharedServer server = SHARED_SERVERS.get(kafkaServerPort);
+            if (server == null) {
+                startServer();
+                server = new SharedServer(this);
+                SHARED_SERVERS.put(kafkaServerPort, server);
+            } else {
+                server.references++;
+                server.server.createKafkaTopics(StringUtils.commaDelimitedListToSet(topics));
+                log.info(String.format("Using shared embedded Kafka server on port %s (%s references)", kafkaServerPort, server.references));
+            }
+
+            sharedServer = server;
+        }
+
+        running = true;
+    }
+
+    /**
+     * Starts new embedded Kafka and Zookeeper server instances.
+     */
+    protected void startServer() {
+        long started = System.nanoTime();
+
         File logDir = createLogDir();
         zookeeper = createZookeeperServer(logDir);
         serverFactory = createServerFactory();
@@ -115,12 +177,46 @@ public class EmbeddedKafkaServer implements InitializingBean, DisposableBean {
         kafkaServer.boundPort(ListenerName.forSecurityProtocol(SecurityProtocol.PLAINTEXT));
 
         createKafkaTopics(StringUtils.commaDelimitedListToSet(topics));
+
+        startupTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        log.info(String.format("Started embedded Kafka server on port %s in %s ms", kafkaServerPort, startupTime));
+    }
+
+    /**
+     * Shutdown embedded Kafka and Zookeeper server instances. Shared servers are only stopped when
+     * the last reference to the server is stopped. Stopping an instance that is not running has no effect, so each instance releases
+     * its shared server reference only once.
+     */
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+
+        running = false;
+
+        if (sharedServer == null) {
+            stopServer();
+            return;
+        }
+
+        synchronized (SHARED_SERVERS) {
+            sharedServer.references--;
+
+            if (sharedServer.references == 0) {
+                SHARED_SERVERS.remove(kafkaServerPort);
+                sharedServer.server.stopServer();
+            } else {
+                log.info(String.format("Keep shared embedded Kafka server on port %s running (%s references)", kafkaServerPort, sharedServer.references));
+            }
+
+            sharedServer = null;
+        }
     }
 
     /**
-     * Shutdown embedded Kafka and Zookeeper server instances
+     * Shuts down embedded Kafka and Zookeeper server instances.
      */
-    public void stop() {
+    protected void stopServer() {
         if (kafkaServer != null) {
             try {
                 if (kafkaServer.brokerState().currentState() != (NotRunning.state())) {
@@ -145,6 +241,102 @@ public class EmbeddedKafkaServer implements InitializingBean, DisposableBean {
                 log.warn("Failed to shutdown Zookeeper instance", e);
             }
         }
+
+        kafkaServer = null;
+        serverFactory = null;
+    }
+
+    /**
+     * Resets all configured topics by removing all records on the topics.
+     */
+    public void resetTopics() {
+        truncateTopics(StringUtils.commaDelimitedListToStringArray(topics));
+    }
+
+    /**
+     * Removes all records on given topics. Topics stay available and consumer group offsets are not affected. This is much faster than
+     * restarting the embedded server between tests.
+     * @param topics
+     */
+    public void truncateTopics(String ... topics) {
+        long started = System.nanoTime();
+
+        try (AdminClient admin = createAdminClient()) {
+            Map<TopicPartition, RecordsToDelete> records = new HashMap<>();
+            admin.describeTopics(Arrays.asList(topics)).all().get().values()
+                    .forEach(topic -> topic.partitions()
+                            .forEach(partition -> records.put(new TopicPartition(topic.name(), partition.partition()), RecordsToDelete.beforeOffset(-1L))));
+
+            admin.deleteRecords(records).all().get();
+        } catch (InterruptedException | ExecutionException e) {
+            throw new CitrusRuntimeException("Failed to truncate Kafka topics", e);
+        }
+
+        recordReset(started, "Truncated", topics);
+    }
+
+    /**
+     * Deletes and recreates given topics. Other than truncating the topics this also removes all consumer
+     * group offsets on the topics.
+     * @param topics
+     */
+    public void recreateTopics(String ... topics) {
+        long started = System.nanoTime();
+
+        try (AdminClient admin = createAdminClient()) {
+            admin.deleteTopics(Arrays.asList(topics)).all().get();
+
+            List<NewTopic> newTopics = Arrays.stream(topics)
+                    .map(t -> new NewTopic(t, getPartitions(), (short) 1))
+                    .collect(Collectors.toList());
+
+            long deadline = System.currentTimeMillis() + 10000L;
+            while (true) {
+                try {
+                    admin.createTopics(newTopics).all().get();
+                    break;
+                } catch (ExecutionException e) {
+                    if (!(e.getCause() instanceof TopicExistsException) || System.currentTimeMillis() > deadline) {
+                        throw e;
+                    }
+
+                    // topic deletion is still in progress
+                    Thread.sleep(100L);
+                }
+            }
+        } catch (InterruptedException | ExecutionException e) {
+            throw new CitrusRuntimeException("Failed to recreate Kafka topics", e);
+        }
+
+        recordReset(started, "Recreated", topics);
+    }
+
+    /**
+     * Records topic reset time.
+     * @param started
+     * @param action
+     * @param topics
+     */
+    private void recordReset(long started, String action, String ... topics) {
+        long resetTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+        synchronized (this) {
+            resetCount++;
+            totalResetTime += resetTime;
+            lastResetTime = resetTime;
+        }
+
+        log.info(String.format("%s Kafka topics %s in %s ms", action, Arrays.toString(topics), resetTime));
+    }
+
+    /**
+     * Creates new admin client connected to the embedded Kafka server.
+     * @return
+     */
+    protected AdminClient createAdminClient() {
+        Map<String, Object> adminConfigs = new HashMap<>();
+        adminConfigs.put(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, "localhost:" + kafkaServerPort);
+        return AdminClient.create(adminConfigs);
     }
 
     @Override
@@ -179,7 +371,7 @@ public class EmbeddedKafkaServer implements InitializingBean, DisposableBean {
         File logDir = Optional.ofNullable(logDirPath)
                                     .map(Paths::get)
                                     .map(Path::toFile)
-                                    .orElse(new File(System.getProperty("java.io.tmpdir")));
+                                    .orElse(getDefaultLogDir());
 
         if (!logDir.exists()) {
             if (!logDir.mkdirs()) {
@@ -198,6 +390,24 @@ public class EmbeddedKafkaServer implements InitializingBean, DisposableBean {
         return logs;
     }
 
+    /**
+     * Gets default log directory base. Uses in-memory file system when enabled and available on this system,
+     * otherwise Java temp directory.
+     * @return
+     */
+    private File getDefaultLogDir() {
+        if (inMemoryLogs) {
+            File tmpfs = new File(TMPFS_DIR);
+            if (tmpfs.isDirectory() && tmpfs.canWrite()) {
+                return tmpfs;
+            }
+
+            log.warn(String.format("In-memory log directory '%s' is not available - using Java temp directory", TMPFS_DIR));
+        }
+
+        return new File(System.getProperty("java.io.tmpdir"));
+    }
+
     /**
      * Create server factory for embedded Zookeeper server instance.
      * @return
@@ -217,18 +427,15 @@ public class EmbeddedKafkaServer implements InitializingBean, DisposableBean {
      * @param topics
      */
     protected void createKafkaTopics(Set<String> topics) {
-        Map<String, Object> adminConfigs = new HashMap<>();
-        adminConfigs.put(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, "localhost:" + kafkaServerPort);
-        try (AdminClient admin = AdminClient.create(adminConfigs)) {
+        try (AdminClient admin = createAdminClient()) {
+            Set<String> existingTopics = admin.listTopics().names().get();
             List<NewTopic> newTopics = topics.stream()
+                    .filter(t -> !existingTopics.contains(t))
                     .map(t -> new NewTopic(t, partitions, (short) 1))
                     .collect(Collectors.toList());
-            CreateTopicsResult createTopics = admin.createTopics(newTopics);
-            try {
-                createTopics.all().get();
-            } catch (Exception e) {
-                log.warn("Failed to create Kafka topics", e);
-            }
+            admin.createTopics(newTopics).all().get();
+        } catch (Exception e) {
+            log.warn("Failed to create Kafka topics", e);
         }
     }
 
@@ -390,4 +597,88 @@ public class EmbeddedKafkaServer implements InitializingBean, DisposableBean {
     public void setAutoDeleteLogs(boolean autoDeleteLogs) {
         this.autoDeleteLogs = autoDeleteLogs;
     }
+
+    /**
+     * Gets the inMemoryLogs.
+     *
+     * @return
+     */
+    public boolean isInMemoryLogs() {
+        return inMemoryLogs;
+    }
+
+    /**
+     * Sets the inMemoryLogs.
+     *
+     * @param inMemoryLogs
+     */
+    public void setInMemoryLogs(boolean inMemoryLogs) {
+        this.inMemoryLogs = inMemoryLogs;
+    }
+
+    /**
+     * Gets the shared.
+     *
+     * @return
+     */
+    public boolean isShared() {
+        return shared;
+    }
+
+    /**
+     * Sets the shared.
+     *
+     * @param shared
+     */
+    public void setShared(boolean shared) {
+        this.shared = shared;
+    }
+
+    /**
+     * Gets the server startup time in milliseconds. For shared servers this is the startup time of the referenced server.
+     *
+     * @return
+     */
+    public long getStartupTime() {
+        return sharedServer != null ? sharedServer.server.startupTime : startupTime;
+    }
+
+    /**
+     * Gets the number of topic resets.
+     *
+     * @return
+     */
+    public synchronized long getResetCount() {
+        return resetCount;
+    }
+
+    /**
+     * Gets the last topic reset time in milliseconds.
+     *
+     * @return
+     */
+    public synchronized long getLastResetTime() {
+        return lastResetTime;
+    }
+
+    /**
+     * Gets the average topic reset time in milliseconds.
+     *
+     * @return
+     */
+    public synchronized double getAverageResetTime() {
+        return resetCount > 0 ? totalResetTime / (double) resetCount : 0.0D;
+    }
+
+    /**
+     * Running server instance shared by server instances using the same Kafka server port.
+     */
+    private static class SharedServer {
+        private final EmbeddedKafkaServer server;
+        private int references = 1;
+
+        SharedServer(EmbeddedKafkaServer server) {
+            this.server = server;
+        }
+    }
 }
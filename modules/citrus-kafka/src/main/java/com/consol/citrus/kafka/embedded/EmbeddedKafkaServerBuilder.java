@@ -126,6 +126,26 @@ public class EmbeddedKafkaServerBuilder {
         return this;
     }
 
+    /**
+     * Sets the in-memory log directory option.
+     * @param inMemoryLogs
+     * @return
+     */
+    public EmbeddedKafkaServerBuilder inMemoryLogs(boolean inMemoryLogs) {
+        kafkaServer.setInMemoryLogs(inMemoryLogs);
+        return this;
+    }
+
+    /**
+     * Sets the shared server option.
+     * @param shared
+     * @return
+     */
+    public EmbeddedKafkaServerBuilder shared(boolean shared) {
+        kafkaServer.setShared(shared);
+        return this;
+    }
+
     /**
      * Builds the kafkaServer.
      * @return
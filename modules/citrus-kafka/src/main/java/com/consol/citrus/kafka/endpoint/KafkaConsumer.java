@@ -16,14 +16,16 @@
 
 package com.consol.citrus.kafka.endpoint;
 
+import com.consol.citrus.TestCase;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.ActionTimeoutException;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.kafka.message.KafkaMessageHeaders;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.messaging.AbstractMessageConsumer;
-import org.apache.kafka.clients.consumer.ConsumerConfig;
-import org.apache.kafka.clients.consumer.ConsumerRecords;
+import com.consol.citrus.report.AbstractTestListener;
+import org.apache.kafka.clients.consumer.*;
+import org.apache.kafka.common.TopicPartition;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.util.CollectionUtils;
@@ -31,8 +33,17 @@ import org.springframework.util.StringUtils;
 
 import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
+ * Kafka consumer polls records in batches of max poll records and buffers the records locally so subsequent receive operations
+ * are served from that buffer. Consumed offsets are committed according to the commit mode: "sync" commits each consumed record synchronously,
+ * "async" commits each consumed record asynchronously and "batch" commits consumed records before the next poll. Pending offsets
+ * get committed on test finish and when the consumer is stopped.
+ *
+ * The underlying Kafka consumer is not thread safe, so all operations on it are guarded by a single lock. Commits triggered on test
+ * finish of other tests wait for a running poll to complete.
+ *
  * @author Christoph Deppisch
  * @since 2.8
  */
@@ -41,12 +52,30 @@ public class KafkaConsumer extends AbstractMessageConsumer {
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(KafkaConsumer.class);
 
+    /** Supported commit modes */
+    public static final String COMMIT_MODE_SYNC = "sync";
+    public static final String COMMIT_MODE_ASYNC = "async";
+    public static final String COMMIT_MODE_BATCH = "batch";
+
     /** Endpoint configuration */
     protected final KafkaEndpointConfiguration endpointConfiguration;
 
     /** Kafka consumer */
     private org.apache.kafka.clients.consumer.KafkaConsumer<Object, Object> consumer;
 
+    /** Lock guarding the Kafka consumer, the record buffer and pending offsets */
+    private final Object consumerLock = new Object();
+
+    /** Prefetched records not yet served by receive operations */
+    private final Deque<ConsumerRecord<Object, Object>> records = new ArrayDeque<>();
+
+    /** Offsets of consumed records not yet committed */
+    private final Map<TopicPartition, OffsetAndMetadata> pendingOffsets = new HashMap<>();
+
+    /** Test listener committing pending offsets on test finish */
+    private final CommitOnTestFinishListener commitListener = new CommitOnTestFinishListener();
+    private final AtomicBoolean commitListenerRegistered = new AtomicBoolean();
+
     /**
      * Default constructor using endpoint.
      * @param name
@@ -67,38 +96,118 @@ public class KafkaConsumer extends AbstractMessageConsumer {
             log.debug("Receiving Kafka message on topic: '" + topic);
         }
 
+        registerCommitListener(context);
+
+        ConsumerRecord<Object, Object> record;
+        synchronized (consumerLock) {
+            if (records.isEmpty()) {
+                if (COMMIT_MODE_BATCH.equals(endpointConfiguration.getCommitMode())) {
+                    commitPendingOffsets();
+                }
+
+                poll(topic, timeout);
+            }
+
+            record = records.poll();
+            commit(record);
+        }
+
+        Message received = endpointConfiguration.getMessageConverter()
+                                                .convertInbound(record, endpointConfiguration, context);
+        context.onInboundMessage(received);
+
+        log.info("Received Kafka message on topic: '" + topic);
+        return received;
+    }
+
+    /**
+     * Polls next batch of records on given topic and adds all records to the local buffer.
+     * @param topic
+     * @param timeout
+     */
+    private void poll(String topic, long timeout) {
         if (CollectionUtils.isEmpty(consumer.subscription())) {
             consumer.subscribe(Arrays.asList(StringUtils.commaDelimitedListToStringArray(topic)));
         }
 
-        ConsumerRecords<Object, Object> records = consumer.poll(Duration.ofMillis(timeout));
+        ConsumerRecords<Object, Object> polled = consumer.poll(Duration.ofMillis(timeout));
 
-        if (records.isEmpty()) {
+        if (polled.isEmpty()) {
             throw new ActionTimeoutException(String.format("Failed to receive message from Kafka topic '%s' - timeout after %s milliseconds", topic, timeout));
         }
 
-        records.forEach(record -> log.debug("Received message: (" + record.key() + ", " + record.value() + ") at offset " + record.offset()));
+        for (ConsumerRecord<Object, Object> record : polled) {
+            if (log.isDebugEnabled()) {
+                log.debug("Received message: (" + record.key() + ", " + record.value() + ") at offset " + record.offset());
+            }
 
-        Message received = endpointConfiguration.getMessageConverter()
-                                                .convertInbound(records.iterator().next(), endpointConfiguration, context);
-        context.onInboundMessage(received);
+            records.add(record);
+        }
+    }
 
-        consumer.commitSync(Duration.ofMillis(endpointConfiguration.getTimeout()));
+    /**
+     * Marks given record as consumed and commits its offset according to the commit mode. Must be called
+     * while holding the consumer lock.
+     * @param record
+     */
+    private void commit(ConsumerRecord<Object, Object> record) {
+        pendingOffsets.put(new TopicPartition(record.topic(), record.partition()), new OffsetAndMetadata(record.offset() + 1));
 
-        log.info("Received Kafka message on topic: '" + topic);
-        return received;
+        switch (endpointConfiguration.getCommitMode()) {
+            case COMMIT_MODE_SYNC:
+                commitPendingOffsets();
+                break;
+            case COMMIT_MODE_ASYNC:
+                consumer.commitAsync(new HashMap<>(pendingOffsets), (offsets, exception) -> {
+                    if (exception != null) {
+                        log.warn("Failed to commit Kafka consumer offsets " + offsets, exception);
+                    }
+                });
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Synchronously commits all pending offsets of consumed records. In async commit mode this makes sure that the
+     * latest offsets are committed even if one of the asynchronous commits has failed.
+     */
+    public void commitPendingOffsets() {
+        synchronized (consumerLock) {
+            if (pendingOffsets.isEmpty()) {
+                return;
+            }
+
+            consumer.commitSync(new HashMap<>(pendingOffsets), Duration.ofMillis(endpointConfiguration.getTimeout()));
+            pendingOffsets.clear();
+        }
+    }
+
+    /**
+     * Registers test listener that commits pending offsets when the test is finished.
+     * @param context
+     */
+    private void registerCommitListener(TestContext context) {
+        if (context.getTestListeners() != null && commitListenerRegistered.compareAndSet(false, true)) {
+            context.getTestListeners().addTestListener(commitListener);
+        }
     }
 
     /**
      * Stop message listener container.
      */
     public void stop() {
-        try {
-            if (CollectionUtils.isEmpty(consumer.subscription())) {
-                consumer.unsubscribe();
+        synchronized (consumerLock) {
+            try {
+                commitPendingOffsets();
+
+                if (CollectionUtils.isEmpty(consumer.subscription())) {
+                    consumer.unsubscribe();
+                }
+            } finally {
+                consumer.close(Duration.ofMillis(10 * 1000L));
             }
-        } finally {
-            consumer.close(Duration.ofMillis(10 * 1000L));
         }
     }
 
@@ -111,7 +220,7 @@ public class KafkaConsumer extends AbstractMessageConsumer {
         consumerProps.put(ConsumerConfig.CLIENT_ID_CONFIG, Optional.ofNullable(endpointConfiguration.getClientId()).orElse(KafkaMessageHeaders.KAFKA_PREFIX + "consumer_" + UUID.randomUUID().toString()));
         consumerProps.put(ConsumerConfig.GROUP_ID_CONFIG, endpointConfiguration.getConsumerGroup());
         consumerProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, Optional.ofNullable(endpointConfiguration.getServer()).orElse("localhost:9092"));
-        consumerProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 1);
+        consumerProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, Math.max(1, endpointConfiguration.getMaxPollRecords()));
         consumerProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, endpointConfiguration.isAutoCommit());
         consumerProps.put(ConsumerConfig.AUTO_COMMIT_INTERVAL_MS_CONFIG, endpointConfiguration.getAutoCommitInterval());
         consumerProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, endpointConfiguration.getOffsetReset());
@@ -129,6 +238,23 @@ public class KafkaConsumer extends AbstractMessageConsumer {
      * @param consumer
      */
     public void setConsumer(org.apache.kafka.clients.consumer.KafkaConsumer<Object, Object> consumer) {
-        this.consumer = consumer;
+        synchronized (consumerLock) {
+            this.consumer = consumer;
+        }
+    }
+
+    /**
+     * Test listener commits pending offsets of consumed records on test finish. Commit errors are logged and
+     * offsets stay pending for the next commit, so the test and remaining listeners are not interrupted.
+     */
+    private class CommitOnTestFinishListener extends AbstractTestListener {
+        @Override
+        public void onTestFinish(TestCase test) {
+            try {
+                commitPendingOffsets();
+            } catch (RuntimeException e) {
+                log.warn("Failed to commit pending Kafka consumer offsets on test finish", e);
+            }
+        }
     }
 }
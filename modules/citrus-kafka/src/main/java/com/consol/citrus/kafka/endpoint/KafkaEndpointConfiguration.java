@@ -17,9 +17,11 @@
 package com.consol.citrus.kafka.endpoint;
 
 import com.consol.citrus.endpoint.AbstractPollableEndpointConfiguration;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.kafka.message.*;
 import org.apache.kafka.common.serialization.*;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -63,6 +65,19 @@ public class KafkaEndpointConfiguration extends AbstractPollableEndpointConfigur
     private boolean autoCommit = true;
     private int autoCommitInterval = 1000;
 
+    /** Maximum number of records fetched by a single consumer poll, additional records get buffered for subsequent receive operations */
+    private int maxPollRecords = 1;
+
+    /** Commit mode for consumed records (sync, async, batch) */
+    private String commitMode = "sync";
+
+    /** Producer does not wait for broker acknowledge on send operations, outstanding deliveries are verified on flush */
+    private boolean asyncSend = false;
+
+    /** Producer batching settings */
+    private int lingerMs = 0;
+    private int batchSize = 16384;
+
     /** Offset reset setting for consumer  */
     private String offsetReset = "earliest";
 
@@ -352,4 +367,98 @@ public class KafkaEndpointConfiguration extends AbstractPollableEndpointConfigur
     public void setPartition(int partition) {
         this.partition = partition;
     }
+
+    /**
+     * Gets the maxPollRecords.
+     *
+     * @return
+     */
+    public int getMaxPollRecords() {
+        return maxPollRecords;
+    }
+
+    /**
+     * Sets the maxPollRecords.
+     *
+     * @param maxPollRecords
+     */
+    public void setMaxPollRecords(int maxPollRecords) {
+        this.maxPollRecords = maxPollRecords;
+    }
+
+    /**
+     * Gets the commitMode.
+     *
+     * @return
+     */
+    public String getCommitMode() {
+        return commitMode;
+    }
+
+    /**
+     * Sets the commitMode. Supported modes are sync, async and batch.
+     *
+     * @param commitMode
+     */
+    public void setCommitMode(String commitMode) {
+        if (!Arrays.asList(KafkaConsumer.COMMIT_MODE_SYNC, KafkaConsumer.COMMIT_MODE_ASYNC, KafkaConsumer.COMMIT_MODE_BATCH).contains(commitMode)) {
+            throw new CitrusRuntimeException(String.format("Unsupported Kafka commit mode '%s' - use one of sync, async, batch", commitMode));
+        }
+
+        this.commitMode = commitMode;
+    }
+
+    /**
+     * Gets the asyncSend.
+     *
+     * @return
+     */
+    public boolean isAsyncSend() {
+        return asyncSend;
+    }
+
+    /**
+     * Sets the asyncSend.
+     *
+     * @param asyncSend
+     */
+    public void setAsyncSend(boolean asyncSend) {
+        this.asyncSend = asyncSend;
+    }
+
+    /**
+     * Gets the lingerMs.
+     *
+     * @return
+     */
+    public int getLingerMs() {
+        return lingerMs;
+    }
+
+    /**
+     * Sets the lingerMs.
+     *
+     * @param lingerMs
+     */
+    public void setLingerMs(int lingerMs) {
+        this.lingerMs = lingerMs;
+    }
+
+    /**
+     * Gets the batchSize.
+     *
+     * @return
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Sets the batchSize.
+     *
+     * @param batchSize
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
 }
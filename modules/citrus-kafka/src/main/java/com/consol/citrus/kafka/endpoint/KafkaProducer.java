@@ -16,14 +16,16 @@
 
 package com.consol.citrus.kafka.endpoint;
 
+import com.consol.citrus.Citrus;
+import com.consol.citrus.TestCase;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.ActionTimeoutException;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.kafka.message.KafkaMessageHeaders;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.messaging.Producer;
-import org.apache.kafka.clients.producer.ProducerConfig;
-import org.apache.kafka.clients.producer.ProducerRecord;
+import com.consol.citrus.report.AbstractTestListener;
+import org.apache.kafka.clients.producer.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.util.Assert;
@@ -31,8 +33,14 @@ import org.springframework.util.StringUtils;
 
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
+ * Kafka producer sends records to a Kafka topic. By default each send operation waits for the broker to acknowledge the record.
+ * In async send mode the send operation returns immediately and the delivery future is tracked per test context. Failed deliveries are
+ * added as exceptions to the test context of the sending test so the next test action or the test finish fails. Outstanding deliveries of a test
+ * are verified with an explicit flush. When a test is finished the producer is flushed so that all delivery results are known before the test result.
+ *
  * @author Christoph Deppisch
  * @since 2.8
  */
@@ -50,6 +58,16 @@ public class KafkaProducer implements Producer {
     /** Kafka producer */
     private org.apache.kafka.clients.producer.KafkaProducer<Object, Object> producer;
 
+    /** Outstanding deliveries of asynchronous send operations */
+    private final Set<Delivery> deliveries = ConcurrentHashMap.newKeySet();
+
+    /** Send throughput and acknowledge latency metrics per test context */
+    private final Map<TestContext, KafkaProducerMetrics> metrics = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /** Test listener flushing outstanding deliveries on test finish */
+    private final FlushOnTestFinishListener flushListener = new FlushOnTestFinishListener();
+    private final AtomicBoolean flushListenerRegistered = new AtomicBoolean();
+
     /**
      * Default constructor using endpoint configuration.
      * @param name
@@ -58,7 +76,7 @@ public class KafkaProducer implements Producer {
     public KafkaProducer(String name, KafkaEndpointConfiguration endpointConfiguration) {
         this.name = name;
         this.endpointConfiguration = endpointConfiguration;
-        this. producer = createKafkaProducer();
+        this.producer = createKafkaProducer();
     }
 
     @Override
@@ -78,19 +96,107 @@ public class KafkaProducer implements Producer {
             log.debug("Sending Kafka stream message to topic: '" + topic + "'");
         }
 
-        try {
-            ProducerRecord<Object, Object> producerRecord = endpointConfiguration.getMessageConverter().convertOutbound(message, endpointConfiguration, context);
-            producer.send(producerRecord).get(endpointConfiguration.getTimeout(), TimeUnit.MILLISECONDS);
-            log.info("Message was sent to Kafka stream topic: '" + topic + "'");
-        } catch (InterruptedException | ExecutionException e) {
-            throw new CitrusRuntimeException(String.format("Failed to send message to Kafka topic '%s'", topic), e);
-        } catch (TimeoutException e) {
-            throw new ActionTimeoutException(String.format("Failed to send message to Kafka topic '%s' - timeout after %s milliseconds", topic, endpointConfiguration.getTimeout()), e);
+        registerFlushListener(context);
+
+        ProducerRecord<Object, Object> producerRecord = endpointConfiguration.getMessageConverter().convertOutbound(message, endpointConfiguration, context);
+        KafkaProducerMetrics metrics = getMetrics(context);
+        long sendTime = metrics.recordSend();
+
+        if (endpointConfiguration.isAsyncSend()) {
+            Delivery delivery = new Delivery(topic, context);
+            deliveries.add(delivery);
+
+            try {
+                delivery.future = producer.send(producerRecord, (metadata, exception) -> {
+                    deliveries.remove(delivery);
+
+                    if (exception == null) {
+                        metrics.recordAck(sendTime);
+                    } else {
+                        metrics.recordFailure();
+                        delivery.fail(exception);
+                    }
+                });
+            } catch (RuntimeException e) {
+                deliveries.remove(delivery);
+                metrics.recordFailure();
+                throw e;
+            }
+
+            if (log.isDebugEnabled()) {
+                log.debug("Message was handed over to Kafka producer for topic: '" + topic + "'");
+            }
+        } else {
+            try {
+                producer.send(producerRecord).get(endpointConfiguration.getTimeout(), TimeUnit.MILLISECONDS);
+                metrics.recordAck(sendTime);
+                log.info("Message was sent to Kafka stream topic: '" + topic + "'");
+            } catch (InterruptedException | ExecutionException e) {
+                metrics.recordFailure();
+                throw new CitrusRuntimeException(String.format("Failed to send message to Kafka topic '%s'", topic), e);
+            } catch (TimeoutException e) {
+                metrics.recordFailure();
+                throw new ActionTimeoutException(String.format("Failed to send message to Kafka topic '%s' - timeout after %s milliseconds", topic, endpointConfiguration.getTimeout()), e);
+            }
         }
 
         context.onOutboundMessage(message);
     }
 
+    /**
+     * Flushes the Kafka producer and waits for all outstanding deliveries of given test context to be acknowledged. Raises error
+     * when one of the deliveries has failed or has not been acknowledged within the endpoint timeout.
+     * @param context
+     */
+    public void flush(TestContext context) {
+        List<Delivery> pending = new ArrayList<>();
+        for (Delivery delivery : deliveries) {
+            if (delivery.context == context) {
+                pending.add(delivery);
+            }
+        }
+
+        if (!pending.isEmpty()) {
+            producer.flush();
+
+            long deadline = System.currentTimeMillis() + endpointConfiguration.getTimeout();
+            for (Delivery delivery : pending) {
+                try {
+                    if (delivery.future != null) {
+                        delivery.future.get(Math.max(0L, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    delivery.fail(e);
+                } catch (ExecutionException e) {
+                    delivery.fail(e.getCause());
+                } catch (TimeoutException e) {
+                    throw new ActionTimeoutException(String.format("Failed to send message to Kafka topic '%s' - timeout after %s milliseconds", delivery.topic, endpointConfiguration.getTimeout()), e);
+                } finally {
+                    deliveries.remove(delivery);
+                }
+            }
+        }
+
+        synchronized (context) {
+            if (context.hasExceptions()) {
+                throw context.getExceptions().remove(0);
+            }
+        }
+
+        log.info(String.format("Verified %s outstanding message deliveries on Kafka producer '%s'", pending.size(), name));
+    }
+
+    /**
+     * Registers test listener that flushes outstanding deliveries when the test is finished. Listener is registered only once.
+     * @param context
+     */
+    private void registerFlushListener(TestContext context) {
+        if (context.getTestListeners() != null && flushListenerRegistered.compareAndSet(false, true)) {
+            context.getTestListeners().addTestListener(flushListener);
+        }
+    }
+
     /**
      * Creates default KafkaTemplate instance from endpoint configuration.
      */
@@ -100,6 +206,8 @@ public class KafkaProducer implements Producer {
         producerProps.put(ProducerConfig.REQUEST_TIMEOUT_MS_CONFIG, new Long(endpointConfiguration.getTimeout()).intValue());
         producerProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, endpointConfiguration.getKeySerializer());
         producerProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, endpointConfiguration.getValueSerializer());
+        producerProps.put(ProducerConfig.LINGER_MS_CONFIG, endpointConfiguration.getLingerMs());
+        producerProps.put(ProducerConfig.BATCH_SIZE_CONFIG, endpointConfiguration.getBatchSize());
 
         producerProps.put(ProducerConfig.CLIENT_ID_CONFIG, Optional.ofNullable(endpointConfiguration.getClientId()).orElse(KafkaMessageHeaders.KAFKA_PREFIX + "producer_" + UUID.randomUUID().toString()));
 
@@ -122,4 +230,79 @@ public class KafkaProducer implements Producer {
     public void setProducer(org.apache.kafka.clients.producer.KafkaProducer<Object, Object> producer) {
         this.producer = producer;
     }
+
+    /**
+     * Gets the send metrics of given test context.
+     *
+     * @param context
+     * @return
+     */
+    public KafkaProducerMetrics getMetrics(TestContext context) {
+        return metrics.computeIfAbsent(context, key -> new KafkaProducerMetrics());
+    }
+
+    /**
+     * Delivery future of asynchronous send operation with the test context of the sending test.
+     */
+    private static class Delivery {
+        private final String topic;
+        private final TestContext context;
+        private volatile Future<RecordMetadata> future;
+        private final AtomicBoolean failed = new AtomicBoolean();
+
+        Delivery(String topic, TestContext context) {
+            this.topic = topic;
+            this.context = context;
+        }
+
+        /**
+         * Adds delivery error to the test context of the sending test. Error is reported only once.
+         * @param cause
+         */
+        void fail(Throwable cause) {
+            if (failed.compareAndSet(false, true)) {
+                synchronized (context) {
+                    context.addException(new CitrusRuntimeException(String.format("Failed to send message to Kafka topic '%s'", topic), cause));
+                }
+            }
+        }
+    }
+
+    /**
+     * Test listener flushes the Kafka producer and reports the send metrics of the finished test. Metrics are assigned to the test
+     * by the test name of the test context. Failed deliveries have already been
+     * added to the test context of the sending test by the send callback so this listener never raises errors.
+     */
+    private class FlushOnTestFinishListener extends AbstractTestListener {
+        @Override
+        public void onTestFinish(TestCase test) {
+            if (!deliveries.isEmpty()) {
+                try {
+                    producer.flush();
+                } catch (RuntimeException e) {
+                    log.warn(String.format("Failed to flush Kafka producer '%s' on test finish", name), e);
+                }
+            }
+
+            if (test == null) {
+                return;
+            }
+
+            List<KafkaProducerMetrics> testMetrics = new ArrayList<>();
+            synchronized (metrics) {
+                Iterator<Map.Entry<TestContext, KafkaProducerMetrics>> entries = metrics.entrySet().iterator();
+                while (entries.hasNext()) {
+                    Map.Entry<TestContext, KafkaProducerMetrics> entry = entries.next();
+                    if (test.getName() != null && test.getName().equals(entry.getKey().getVariables().get(Citrus.TEST_NAME_VARIABLE))) {
+                        testMetrics.add(entry.getValue());
+                        entries.remove();
+                    }
+                }
+            }
+
+            for (KafkaProducerMetrics finished : testMetrics) {
+                log.info(String.format("Kafka producer '%s' metrics of test '%s': %s", name, test.getName(), finished));
+            }
+        }
+    }
 }
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.kafka.endpoint;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Send throughput and acknowledge latency metrics of a Kafka producer. Acknowledge latency is the time from handing the
+ * record to the Kafka client until the broker has acknowledged the record. Metrics are collected per test. Latency percentiles
+ * are computed from a fixed size uniform sample of all acknowledge latencies so memory use does not grow with the number of records.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class KafkaProducerMetrics {
+
+    /** Maximum number of sampled acknowledge latencies */
+    private static final int SAMPLE_SIZE = 1024;
+
+    private final LongAdder sends = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    /** Sampled acknowledge latencies in nanoseconds */
+    private final long[] latencies = new long[SAMPLE_SIZE];
+    private long acks = 0;
+
+    /** Time of first send and last acknowledge in nanoseconds */
+    private volatile long firstSend = 0L;
+    private volatile long lastAck = 0L;
+
+    /**
+     * Records new send operation.
+     * @return the send start time in nanoseconds.
+     */
+    public synchronized long recordSend() {
+        long now = System.nanoTime();
+        if (sends.sum() == 0) {
+            firstSend = now;
+        }
+
+        sends.increment();
+        return now;
+    }
+
+    /**
+     * Records acknowledge for send operation started at given time.
+     * @param sendTime send start time in nanoseconds.
+     */
+    public synchronized void recordAck(long sendTime) {
+        lastAck = System.nanoTime();
+
+        if (acks < SAMPLE_SIZE) {
+            latencies[(int) acks] = lastAck - sendTime;
+        } else {
+            long index = ThreadLocalRandom.current().nextLong(acks + 1);
+            if (index < SAMPLE_SIZE) {
+                latencies[(int) index] = lastAck - sendTime;
+            }
+        }
+
+        acks++;
+    }
+
+    /**
+     * Records failed send operation.
+     */
+    public void recordFailure() {
+        failures.increment();
+    }
+
+    /**
+     * Gets the number of send operations.
+     * @return
+     */
+    public long getSends() {
+        return sends.sum();
+    }
+
+    /**
+     * Gets the number of acknowledged send operations.
+     * @return
+     */
+    public synchronized long getAcks() {
+        return acks;
+    }
+
+    /**
+     * Gets the number of failed send operations.
+     * @return
+     */
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    /**
+     * Gets the throughput as acknowledged records per second from first send until last acknowledge.
+     * @return
+     */
+    public synchronized double getThroughput() {
+        long elapsed = lastAck - firstSend;
+        return acks > 0 && elapsed > 0 ? acks / (elapsed / (double) TimeUnit.SECONDS.toNanos(1)) : 0.0D;
+    }
+
+    /**
+     * Gets the acknowledge latency percentile in milliseconds.
+     * @param percentile the percentile between 0 and 100.
+     * @return
+     */
+    public double getAckLatency(double percentile) {
+        return percentile(sortedLatencies(), percentile);
+    }
+
+    /**
+     * Gets sorted copy of sampled acknowledge latencies.
+     * @return
+     */
+    private synchronized long[] sortedLatencies() {
+        long[] sorted = Arrays.copyOf(latencies, (int) Math.min(acks, SAMPLE_SIZE));
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    /**
+     * Gets percentile in milliseconds from sorted latencies.
+     * @param sorted
+     * @param percentile
+     * @return
+     */
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0.0D;
+        }
+
+        int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+        return toMillis(sorted[Math.min(Math.max(index, 0), sorted.length - 1)]);
+    }
+
+    /**
+     * Resets all metrics.
+     */
+    public synchronized void reset() {
+        sends.reset();
+        failures.reset();
+        acks = 0;
+        firstSend = 0L;
+        lastAck = 0L;
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    @Override
+    public String toString() {
+        long[] sorted = sortedLatencies();
+        return String.format("sends=%d, acks=%d, failures=%d, throughput=%.2f/s, " +
+                        "ackLatency p50=%.2fms, p95=%.2fms, p99=%.2fms, max=%.2fms",
+                getSends(), getAcks(), getFailures(), getThroughput(),
+                percentile(sorted, 50), percentile(sorted, 95), percentile(sorted, 99), percentile(sorted, 100));
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.consol.citrus.kafka.actions;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.kafka.endpoint.KafkaEndpoint;
+import com.consol.citrus.kafka.message.KafkaMessage;
+import com.consol.citrus.testng.AbstractTestNGUnitTest;
+import org.apache.kafka.clients.producer.*;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class KafkaFlushActionTest extends AbstractTestNGUnitTest {
+
+    private KafkaProducer kafkaProducer = Mockito.mock(KafkaProducer.class);
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testFlush() {
+        KafkaEndpoint endpoint = new KafkaEndpoint();
+        endpoint.createProducer().setProducer(kafkaProducer);
+        endpoint.getEndpointConfiguration().setTopic("test");
+        endpoint.getEndpointConfiguration().setAsyncSend(true);
+
+        reset(kafkaProducer);
+        when(kafkaProducer.send(any(ProducerRecord.class), any(Callback.class))).thenReturn(CompletableFuture.completedFuture(null));
+
+        endpoint.createProducer().send(new KafkaMessage("Hello World!"), context);
+
+        KafkaFlushAction action = new KafkaFlushAction().setEndpoint(endpoint);
+        action.execute(context);
+
+        verify(kafkaProducer).flush();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testFlushFailure() {
+        KafkaEndpoint endpoint = new KafkaEndpoint();
+        endpoint.createProducer().setProducer(kafkaProducer);
+        endpoint.getEndpointConfiguration().setTopic("test");
+        endpoint.getEndpointConfiguration().setAsyncSend(true);
+
+        CompletableFuture<RecordMetadata> delivery = new CompletableFuture<>();
+        delivery.completeExceptionally(new IllegalStateException("Broker not available"));
+
+        reset(kafkaProducer);
+        when(kafkaProducer.send(any(ProducerRecord.class), any(Callback.class))).thenReturn(delivery);
+
+        endpoint.createProducer().send(new KafkaMessage("Hello World!"), context);
+
+        try {
+            new KafkaFlushAction().setEndpoint(endpoint).execute(context);
+            Assert.fail("Missing exception due to failed message delivery");
+        } catch (CitrusRuntimeException e) {
+            Assert.assertEquals(e.getMessage(), "Failed to send message to Kafka topic 'test'");
+        }
+    }
+}
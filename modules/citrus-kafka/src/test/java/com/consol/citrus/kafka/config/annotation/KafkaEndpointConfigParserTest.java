@@ -51,6 +51,11 @@ public class KafkaEndpointConfigParserTest extends AbstractTestNGUnitTest {
             autoCommit = false,
             autoCommitInterval = 500,
             offsetReset = "latest",
+            maxPollRecords = 100,
+            commitMode = "batch",
+            asyncSend = true,
+            lingerMs = 5,
+            batchSize = 65536,
             messageConverter="messageConverter",
             headerMapper = "headerMapper",
             keySerializer = IntegerSerializer.class,
@@ -104,6 +109,11 @@ public class KafkaEndpointConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertEquals(kafkaEndpoint1.getEndpointConfiguration().isAutoCommit(), true);
         Assert.assertEquals(kafkaEndpoint1.getEndpointConfiguration().getAutoCommitInterval(), 1000L);
         Assert.assertEquals(kafkaEndpoint1.getEndpointConfiguration().getOffsetReset(), "earliest");
+        Assert.assertEquals(kafkaEndpoint1.getEndpointConfiguration().getMaxPollRecords(), 1);
+        Assert.assertEquals(kafkaEndpoint1.getEndpointConfiguration().getCommitMode(), "sync");
+        Assert.assertEquals(kafkaEndpoint1.getEndpointConfiguration().isAsyncSend(), false);
+        Assert.assertEquals(kafkaEndpoint1.getEndpointConfiguration().getLingerMs(), 0);
+        Assert.assertEquals(kafkaEndpoint1.getEndpointConfiguration().getBatchSize(), 16384);
         Assert.assertEquals(kafkaEndpoint1.getEndpointConfiguration().getTopic(), "test");
         Assert.assertEquals(kafkaEndpoint1.getEndpointConfiguration().getPartition(), 0);
         Assert.assertEquals(kafkaEndpoint1.getEndpointConfiguration().getConsumerGroup(), KafkaMessageHeaders.KAFKA_PREFIX + "group");
@@ -122,6 +132,11 @@ public class KafkaEndpointConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertEquals(kafkaEndpoint2.getEndpointConfiguration().isAutoCommit(), false);
         Assert.assertEquals(kafkaEndpoint2.getEndpointConfiguration().getAutoCommitInterval(), 500L);
         Assert.assertEquals(kafkaEndpoint2.getEndpointConfiguration().getOffsetReset(), "latest");
+        Assert.assertEquals(kafkaEndpoint2.getEndpointConfiguration().getMaxPollRecords(), 100);
+        Assert.assertEquals(kafkaEndpoint2.getEndpointConfiguration().getCommitMode(), "batch");
+        Assert.assertEquals(kafkaEndpoint2.getEndpointConfiguration().isAsyncSend(), true);
+        Assert.assertEquals(kafkaEndpoint2.getEndpointConfiguration().getLingerMs(), 5);
+        Assert.assertEquals(kafkaEndpoint2.getEndpointConfiguration().getBatchSize(), 65536);
         Assert.assertEquals(kafkaEndpoint2.getEndpointConfiguration().getTopic(), "test");
         Assert.assertEquals(kafkaEndpoint2.getEndpointConfiguration().getPartition(), 1);
         Assert.assertEquals(kafkaEndpoint2.getEndpointConfiguration().getConsumerGroup(), "citrus_group");
@@ -40,6 +40,8 @@ public class KafkaEmbeddedServerParserTest extends AbstractBeanDefinitionParserT
         Assert.assertEquals(kafkaServer.getTopics(), "citrus");
         Assert.assertEquals(kafkaServer.getPartitions(), 1);
         Assert.assertTrue(kafkaServer.isAutoDeleteLogs());
+        Assert.assertFalse(kafkaServer.isInMemoryLogs());
+        Assert.assertFalse(kafkaServer.isShared());
         Assert.assertNull(kafkaServer.getLogDirPath());
         Assert.assertEquals(kafkaServer.getKafkaServerPort(), 9092);
         Assert.assertTrue(kafkaServer.getZookeeperPort() > 0);
@@ -50,6 +52,7 @@ public class KafkaEmbeddedServerParserTest extends AbstractBeanDefinitionParserT
         Assert.assertEquals(kafkaServer.getTopics(), "hello,foo");
         Assert.assertEquals(kafkaServer.getPartitions(), 2);
         Assert.assertFalse(kafkaServer.isAutoDeleteLogs());
+        Assert.assertTrue(kafkaServer.isInMemoryLogs());
         Assert.assertEquals(kafkaServer.getLogDirPath(), "/path/to/logs");
         Assert.assertEquals(kafkaServer.getKafkaServerPort(), 9091);
         Assert.assertEquals(kafkaServer.getZookeeperPort(), 21181);
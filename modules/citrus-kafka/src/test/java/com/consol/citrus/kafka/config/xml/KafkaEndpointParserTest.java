@@ -49,6 +49,11 @@ public class KafkaEndpointParserTest extends AbstractBeanDefinitionParserTest {
         Assert.assertEquals(kafkaEndpoint.getEndpointConfiguration().isAutoCommit(), true);
         Assert.assertEquals(kafkaEndpoint.getEndpointConfiguration().getAutoCommitInterval(), 1000L);
         Assert.assertEquals(kafkaEndpoint.getEndpointConfiguration().getOffsetReset(), "earliest");
+        Assert.assertEquals(kafkaEndpoint.getEndpointConfiguration().getMaxPollRecords(), 1);
+        Assert.assertEquals(kafkaEndpoint.getEndpointConfiguration().getCommitMode(), "sync");
+        Assert.assertEquals(kafkaEndpoint.getEndpointConfiguration().isAsyncSend(), false);
+        Assert.assertEquals(kafkaEndpoint.getEndpointConfiguration().getLingerMs(), 0);
+        Assert.assertEquals(kafkaEndpoint.getEndpointConfiguration().getBatchSize(), 16384);
         Assert.assertEquals(kafkaEndpoint.getEndpointConfiguration().getTopic(), "test");
         Assert.assertEquals(kafkaEndpoint.getEndpointConfiguration().getPartition(), 0);
         Assert.assertEquals(kafkaEndpoint.getEndpointConfiguration().getTimeout(), 5000L);
@@ -71,6 +76,11 @@ public class KafkaEndpointParserTest extends AbstractBeanDefinitionParserTest {
         Assert.assertEquals(kafkaEndpoint.getEndpointConfiguration().isAutoCommit(), false);
         Assert.assertEquals(kafkaEndpoint.getEndpointConfiguration().getAutoCommitInterval(), 500L);
         Assert.assertEquals(kafkaEndpoint.getEndpointConfiguration().getOffsetReset(), "latest");
+        Assert.assertEquals(kafkaEndpoint.getEndpointConfiguration().getMaxPollRecords(), 100);
+        Assert.assertEquals(kafkaEndpoint.getEndpointConfiguration().getCommitMode(), "batch");
+        Assert.assertEquals(kafkaEndpoint.getEndpointConfiguration().isAsyncSend(), true);
+        Assert.assertEquals(kafkaEndpoint.getEndpointConfiguration().getLingerMs(), 5);
+        Assert.assertEquals(kafkaEndpoint.getEndpointConfiguration().getBatchSize(), 65536);
         Assert.assertEquals(kafkaEndpoint.getEndpointConfiguration().getTopic(), "test");
         Assert.assertEquals(kafkaEndpoint.getEndpointConfiguration().getPartition(), 1);
         Assert.assertEquals(kafkaEndpoint.getEndpointConfiguration().getConsumerGroup(), "citrus_group");
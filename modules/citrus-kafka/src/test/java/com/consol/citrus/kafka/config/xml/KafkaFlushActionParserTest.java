@@ -0,0 +1,35 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.consol.citrus.kafka.config.xml;
+
+import com.consol.citrus.kafka.actions.KafkaFlushAction;
+import com.consol.citrus.kafka.endpoint.KafkaEndpoint;
+import com.consol.citrus.testng.AbstractActionParserTest;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class KafkaFlushActionParserTest extends AbstractActionParserTest<KafkaFlushAction> {
+
+    @Test
+    public void testKafkaFlushActionParser() {
+        assertActionCount(1);
+        assertActionClassAndName(KafkaFlushAction.class, "flush");
+
+        KafkaFlushAction action = getNextTestActionFromTest();
+        Assert.assertNotNull(action.getEndpoint());
+        Assert.assertEquals(action.getEndpoint(), beanDefinitionContext.getBean("kafkaEndpoint", KafkaEndpoint.class));
+    }
+}
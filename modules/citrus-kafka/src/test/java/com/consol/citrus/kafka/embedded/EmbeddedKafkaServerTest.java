@@ -0,0 +1,199 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.kafka.embedded;
+
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.producer.*;
+import org.apache.kafka.common.serialization.*;
+import org.springframework.util.SocketUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class EmbeddedKafkaServerTest {
+
+    @Test
+    public void testSharedServer() {
+        TestKafkaServer server1 = new TestKafkaServer(true);
+        TestKafkaServer server2 = new TestKafkaServer(true);
+        TestKafkaServer server3 = new TestKafkaServer(false);
+
+        server1.start();
+        server2.start();
+        server3.start();
+
+        Assert.assertEquals(server1.starts, 1);
+        Assert.assertEquals(server2.starts, 0);
+        Assert.assertEquals(server3.starts, 1);
+        Assert.assertEquals(server1.topicsCreated, 1);
+
+        server1.stop();
+        Assert.assertEquals(server1.stops, 0);
+        Assert.assertEquals(server2.stops, 0);
+
+        server2.stop();
+        Assert.assertEquals(server1.stops, 1);
+        Assert.assertEquals(server2.stops, 0);
+
+        server3.stop();
+        Assert.assertEquals(server3.stops, 1);
+
+        TestKafkaServer server4 = new TestKafkaServer(true);
+        server4.start();
+        Assert.assertEquals(server4.starts, 1);
+        server4.stop();
+        Assert.assertEquals(server4.stops, 1);
+    }
+
+    @Test
+    public void testStopSharedServerTwice() {
+        TestKafkaServer server1 = new TestKafkaServer(true);
+        TestKafkaServer server2 = new TestKafkaServer(true);
+
+        server1.start();
+        server2.start();
+
+        server1.stop();
+        server1.stop();
+        Assert.assertEquals(server1.stops, 0);
+        Assert.assertEquals(server2.stops, 0);
+
+        server2.stop();
+        Assert.assertEquals(server1.stops, 1);
+
+        server2.stop();
+        Assert.assertEquals(server1.stops, 1);
+        Assert.assertEquals(server2.stops, 0);
+    }
+
+    @Test
+    public void testResetTopics() {
+        EmbeddedKafkaServer server = new EmbeddedKafkaServer();
+        server.setKafkaServerPort(SocketUtils.findAvailableTcpPort());
+        server.setTopics("reset,truncate,recreate");
+
+        server.start();
+        try {
+            send(server, "reset", "truncate", "recreate");
+            Assert.assertEquals(receive(server, "reset", "reset-1"), 1);
+            Assert.assertEquals(receive(server, "truncate", "truncate-1"), 1);
+            Assert.assertEquals(receive(server, "recreate", "recreate-1"), 1);
+
+            server.resetTopics();
+            server.truncateTopics("truncate");
+            server.recreateTopics("recreate");
+
+            Assert.assertEquals(receive(server, "reset", "reset-2"), 0);
+            Assert.assertEquals(receive(server, "truncate", "truncate-2"), 0);
+            Assert.assertEquals(receive(server, "recreate", "recreate-2"), 0);
+            Assert.assertEquals(server.getResetCount(), 3L);
+
+            send(server, "reset", "recreate");
+            Assert.assertEquals(receive(server, "reset", "reset-3"), 1);
+            Assert.assertEquals(receive(server, "recreate", "recreate-3"), 1);
+        } finally {
+            server.stop();
+        }
+    }
+
+    /**
+     * Sends single record to each of the given topics.
+     * @param server
+     * @param topics
+     */
+    private void send(EmbeddedKafkaServer server, String ... topics) {
+        Map<String, Object> producerProps = new HashMap<>();
+        producerProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, "localhost:" + server.getKafkaServerPort());
+        producerProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        producerProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+
+        try (KafkaProducer<String, String> producer = new KafkaProducer<>(producerProps)) {
+            for (String topic : topics) {
+                producer.send(new ProducerRecord<>(topic, "Hello " + topic)).get(10, TimeUnit.SECONDS);
+            }
+        } catch (InterruptedException | ExecutionException | TimeoutException e) {
+            throw new AssertionError("Failed to send record", e);
+        }
+    }
+
+    /**
+     * Receives all records on given topic with new consumer group starting at the earliest offset.
+     * @param server
+     * @param topic
+     * @param group
+     * @return number of received records.
+     */
+    private int receive(EmbeddedKafkaServer server, String topic, String group) {
+        Map<String, Object> consumerProps = new HashMap<>();
+        consumerProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, "localhost:" + server.getKafkaServerPort());
+        consumerProps.put(ConsumerConfig.GROUP_ID_CONFIG, group);
+        consumerProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        consumerProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        consumerProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+
+        try (KafkaConsumer<String, String> consumer = new KafkaConsumer<>(consumerProps)) {
+            consumer.subscribe(Collections.singletonList(topic));
+
+            int received = 0;
+            long deadline = System.currentTimeMillis() + 5000L;
+            while (System.currentTimeMillis() < deadline) {
+                received += consumer.poll(Duration.ofMillis(500L)).count();
+                if (received > 0 && !consumer.assignment().isEmpty()) {
+                    break;
+                }
+            }
+
+            return received;
+        }
+    }
+
+    /**
+     * Server implementation records start and stop operations instead of starting real server instances.
+     */
+    private static class TestKafkaServer extends EmbeddedKafkaServer {
+        private int starts = 0;
+        private int stops = 0;
+        private int topicsCreated = 0;
+
+        TestKafkaServer(boolean shared) {
+            setShared(shared);
+            setKafkaServerPort(19092);
+        }
+
+        @Override
+        protected void startServer() {
+            starts++;
+        }
+
+        @Override
+        protected void stopServer() {
+            stops++;
+        }
+
+        @Override
+        protected void createKafkaTopics(Set<String> topics) {
+            topicsCreated++;
+        }
+    }
+}
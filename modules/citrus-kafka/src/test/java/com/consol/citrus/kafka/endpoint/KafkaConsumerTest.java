@@ -17,6 +17,7 @@
 package com.consol.citrus.kafka.endpoint;
 
 import com.consol.citrus.exceptions.ActionTimeoutException;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.message.DefaultMessage;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
@@ -30,8 +31,12 @@ import org.testng.annotations.Test;
 
 import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
-import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 /**
@@ -153,4 +158,195 @@ public class KafkaConsumerTest extends AbstractTestNGUnitTest {
         Assert.assertNotNull(receivedMessage.getHeader("Operation"));
         Assert.assertTrue(receivedMessage.getHeader("Operation").equals("sayHello"));
     }
+
+    @Test
+    public void testReceivePrefetchedMessages() {
+        String topic = "prefetch";
+
+        KafkaEndpoint endpoint = new KafkaEndpoint();
+        endpoint.createConsumer().setConsumer(kafkaConsumer);
+
+        endpoint.getEndpointConfiguration().setTopic(topic);
+        endpoint.getEndpointConfiguration().setMaxPollRecords(10);
+
+        TopicPartition partition = new TopicPartition(topic, 0);
+
+        reset(kafkaConsumer);
+        when(kafkaConsumer.subscription()).thenReturn(Collections.singleton(topic));
+
+        List<ConsumerRecord<Object, Object>> consumerRecords = new ArrayList<>();
+        consumerRecords.add(new ConsumerRecord<>(topic, 0, 0, 1, "<TestRequest><Message>Hello World!</Message></TestRequest>"));
+        consumerRecords.add(new ConsumerRecord<>(topic, 0, 1, 2, "<TestRequest><Message>Hello Citrus!</Message></TestRequest>"));
+        ConsumerRecords<Object, Object> records = new ConsumerRecords<>(Collections.singletonMap(partition, consumerRecords));
+        when(kafkaConsumer.poll(Duration.ofMillis(5000L))).thenReturn(records);
+
+        Message receivedMessage = endpoint.createConsumer().receive(context);
+        Assert.assertEquals(receivedMessage.getPayload(), "<TestRequest><Message>Hello World!</Message></TestRequest>");
+
+        receivedMessage = endpoint.createConsumer().receive(context);
+        Assert.assertEquals(receivedMessage.getPayload(), "<TestRequest><Message>Hello Citrus!</Message></TestRequest>");
+
+        verify(kafkaConsumer, times(1)).poll(Duration.ofMillis(5000L));
+        verify(kafkaConsumer).commitSync(Collections.singletonMap(partition, new OffsetAndMetadata(1L)), Duration.ofMillis(5000L));
+        verify(kafkaConsumer).commitSync(Collections.singletonMap(partition, new OffsetAndMetadata(2L)), Duration.ofMillis(5000L));
+    }
+
+    @Test
+    public void testBatchCommitMode() {
+        String topic = "batch";
+
+        KafkaEndpoint endpoint = new KafkaEndpoint();
+        endpoint.createConsumer().setConsumer(kafkaConsumer);
+
+        endpoint.getEndpointConfiguration().setTopic(topic);
+        endpoint.getEndpointConfiguration().setMaxPollRecords(10);
+        endpoint.getEndpointConfiguration().setCommitMode("batch");
+
+        TopicPartition partition = new TopicPartition(topic, 0);
+
+        reset(kafkaConsumer);
+        when(kafkaConsumer.subscription()).thenReturn(Collections.singleton(topic));
+
+        List<ConsumerRecord<Object, Object>> consumerRecords = new ArrayList<>();
+        consumerRecords.add(new ConsumerRecord<>(topic, 0, 0, 1, "Hello World!"));
+        consumerRecords.add(new ConsumerRecord<>(topic, 0, 1, 2, "Hello Citrus!"));
+        ConsumerRecords<Object, Object> records = new ConsumerRecords<>(Collections.singletonMap(partition, consumerRecords));
+        when(kafkaConsumer.poll(Duration.ofMillis(5000L))).thenReturn(records);
+
+        endpoint.createConsumer().receive(context);
+        endpoint.createConsumer().receive(context);
+
+        verify(kafkaConsumer, never()).commitSync(anyMap(), any(Duration.class));
+        verify(kafkaConsumer, never()).commitAsync(anyMap(), any(OffsetCommitCallback.class));
+
+        context.getTestListeners().onTestFinish(null);
+
+        verify(kafkaConsumer).commitSync(Collections.singletonMap(partition, new OffsetAndMetadata(2L)), Duration.ofMillis(5000L));
+    }
+
+    @Test
+    public void testAsyncCommitMode() {
+        String topic = "async";
+
+        KafkaEndpoint endpoint = new KafkaEndpoint();
+        endpoint.createConsumer().setConsumer(kafkaConsumer);
+
+        endpoint.getEndpointConfiguration().setTopic(topic);
+        endpoint.getEndpointConfiguration().setCommitMode("async");
+
+        TopicPartition partition = new TopicPartition(topic, 0);
+
+        reset(kafkaConsumer);
+        when(kafkaConsumer.subscription()).thenReturn(Collections.singleton(topic));
+
+        ConsumerRecord<Object, Object> consumerRecord = new ConsumerRecord<>(topic, 0, 0, 1, "Hello World!");
+        ConsumerRecords<Object, Object> records = new ConsumerRecords<>(Collections.singletonMap(partition, Collections.singletonList(consumerRecord)));
+        when(kafkaConsumer.poll(Duration.ofMillis(5000L))).thenReturn(records);
+
+        endpoint.createConsumer().receive(context);
+
+        verify(kafkaConsumer).commitAsync(eq(Collections.singletonMap(partition, new OffsetAndMetadata(1L))), any(OffsetCommitCallback.class));
+        verify(kafkaConsumer, never()).commitSync(anyMap(), any(Duration.class));
+
+        endpoint.createConsumer().stop();
+
+        verify(kafkaConsumer).commitSync(Collections.singletonMap(partition, new OffsetAndMetadata(1L)), Duration.ofMillis(5000L));
+    }
+
+    @Test
+    public void testCommitOnTestFinishWhilePolling() throws Exception {
+        String topic = "concurrent";
+
+        KafkaEndpoint endpoint = new KafkaEndpoint();
+        endpoint.createConsumer().setConsumer(kafkaConsumer);
+
+        endpoint.getEndpointConfiguration().setTopic(topic);
+        endpoint.getEndpointConfiguration().setCommitMode("batch");
+
+        TopicPartition partition = new TopicPartition(topic, 0);
+
+        reset(kafkaConsumer);
+        when(kafkaConsumer.subscription()).thenReturn(Collections.singleton(topic));
+
+        final AtomicBoolean polling = new AtomicBoolean();
+        final CountDownLatch pollStarted = new CountDownLatch(1);
+        final AtomicInteger polls = new AtomicInteger();
+        when(kafkaConsumer.poll(Duration.ofMillis(5000L))).thenAnswer(invocation -> {
+            polling.set(true);
+            pollStarted.countDown();
+            try {
+                if (polls.incrementAndGet() > 1) {
+                    Thread.sleep(500L);
+                }
+
+                ConsumerRecord<Object, Object> consumerRecord = new ConsumerRecord<>(topic, 0, polls.get() - 1, 1, "Hello World!");
+                return new ConsumerRecords<>(Collections.singletonMap(partition, Collections.singletonList(consumerRecord)));
+            } finally {
+                polling.set(false);
+            }
+        });
+        doAnswer(invocation -> {
+            if (polling.get()) {
+                throw new ConcurrentModificationException("KafkaConsumer is not safe for multi-threaded access");
+            }
+            return null;
+        }).when(kafkaConsumer).commitSync(anyMap(), any(Duration.class));
+
+        endpoint.createConsumer().receive(context);
+
+        Thread receiver = new Thread(() -> endpoint.createConsumer().receive(context));
+        receiver.start();
+
+        Assert.assertTrue(pollStarted.await(5, TimeUnit.SECONDS));
+        while (!polling.get() && receiver.isAlive()) {
+            Thread.sleep(10L);
+        }
+
+        endpoint.createConsumer().commitPendingOffsets();
+        receiver.join(5000L);
+
+        verify(kafkaConsumer).commitSync(Collections.singletonMap(partition, new OffsetAndMetadata(1L)), Duration.ofMillis(5000L));
+    }
+
+    @Test
+    public void testCommitFailureOnTestFinish() {
+        String topic = "batch";
+
+        KafkaEndpoint endpoint = new KafkaEndpoint();
+        endpoint.createConsumer().setConsumer(kafkaConsumer);
+
+        endpoint.getEndpointConfiguration().setTopic(topic);
+        endpoint.getEndpointConfiguration().setCommitMode("batch");
+
+        TopicPartition partition = new TopicPartition(topic, 0);
+
+        reset(kafkaConsumer);
+        when(kafkaConsumer.subscription()).thenReturn(Collections.singleton(topic));
+
+        ConsumerRecord<Object, Object> consumerRecord = new ConsumerRecord<>(topic, 0, 0, 1, "Hello World!");
+        ConsumerRecords<Object, Object> records = new ConsumerRecords<>(Collections.singletonMap(partition, Collections.singletonList(consumerRecord)));
+        when(kafkaConsumer.poll(Duration.ofMillis(5000L))).thenReturn(records);
+        doThrow(new CommitFailedException()).doNothing().when(kafkaConsumer).commitSync(anyMap(), any(Duration.class));
+
+        endpoint.createConsumer().receive(context);
+
+        context.getTestListeners().onTestFinish(null);
+        endpoint.createConsumer().commitPendingOffsets();
+
+        verify(kafkaConsumer, times(2)).commitSync(Collections.singletonMap(partition, new OffsetAndMetadata(1L)), Duration.ofMillis(5000L));
+    }
+
+    @Test
+    public void testInvalidCommitMode() {
+        KafkaEndpoint endpoint = new KafkaEndpoint();
+
+        try {
+            endpoint.getEndpointConfiguration().setCommitMode("manual");
+            Assert.fail("Missing exception due to unsupported commit mode");
+        } catch (CitrusRuntimeException e) {
+            Assert.assertEquals(e.getMessage(), "Unsupported Kafka commit mode 'manual' - use one of sync, async, batch");
+        }
+
+        Assert.assertEquals(endpoint.getEndpointConfiguration().getCommitMode(), "sync");
+    }
 }
@@ -16,9 +16,16 @@
 
 package com.consol.citrus.kafka.endpoint;
 
+import com.consol.citrus.TestAction;
+import com.consol.citrus.TestCase;
+import com.consol.citrus.actions.SendMessageAction;
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.context.TestContextFactory;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.exceptions.TestCaseFailedException;
 import com.consol.citrus.kafka.message.KafkaMessage;
 import com.consol.citrus.message.Message;
+import com.consol.citrus.validation.builder.StaticMessageContentBuilder;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
 import org.apache.kafka.clients.producer.KafkaProducer;
 import org.apache.kafka.clients.producer.*;
@@ -31,7 +38,8 @@ import org.springframework.util.SocketUtils;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
-import java.util.Collections;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
 
 import static org.mockito.Mockito.*;
@@ -141,4 +149,149 @@ public class KafkaProducerTest extends AbstractTestNGUnitTest {
         Assert.fail("Missing " + CitrusRuntimeException.class + " because of sending empty message");
     }
     
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testAsyncSendAndFlush() {
+        KafkaEndpoint endpoint = new KafkaEndpoint();
+        endpoint.createProducer().setProducer(kafkaProducer);
+
+        endpoint.getEndpointConfiguration().setTopic("async");
+        endpoint.getEndpointConfiguration().setAsyncSend(true);
+
+        final Message message = new KafkaMessage("<TestRequest><Message>Hello World!</Message></TestRequest>");
+
+        reset(kafkaProducer);
+
+        CompletableFuture<RecordMetadata> delivery = new CompletableFuture<>();
+        when(kafkaProducer.send(any(ProducerRecord.class), any(Callback.class))).thenReturn(delivery);
+
+        endpoint.createProducer().send(message, context);
+        endpoint.createProducer().send(message, context);
+
+        verify(kafkaProducer, times(2)).send(any(ProducerRecord.class), any(Callback.class));
+        verify(kafkaProducer, never()).flush();
+        Assert.assertEquals(endpoint.createProducer().getMetrics(context).getSends(), 2L);
+
+        delivery.complete(null);
+        endpoint.createProducer().flush(context);
+
+        verify(kafkaProducer).flush();
+
+        endpoint.createProducer().flush(context);
+        verify(kafkaProducer).flush();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testAsyncSendFailureOnTestFinish() {
+        KafkaEndpoint endpoint = new KafkaEndpoint();
+        endpoint.createProducer().setProducer(kafkaProducer);
+
+        endpoint.getEndpointConfiguration().setTopic("async");
+        endpoint.getEndpointConfiguration().setAsyncSend(true);
+
+        final Message message = new KafkaMessage("<TestRequest><Message>Hello World!</Message></TestRequest>");
+
+        reset(kafkaProducer);
+
+        CompletableFuture<RecordMetadata> delivery = new CompletableFuture<>();
+        delivery.completeExceptionally(new IllegalStateException("Broker not available"));
+        when(kafkaProducer.send(any(ProducerRecord.class), any(Callback.class))).thenAnswer(invocation -> {
+            Callback callback = invocation.getArgument(1);
+            callback.onCompletion(null, new IllegalStateException("Broker not available"));
+            return delivery;
+        });
+
+        TestContext testContext = applicationContext.getBean(TestContextFactory.class).getObject();
+        endpoint.createProducer().send(message, testContext);
+        Assert.assertEquals(endpoint.createProducer().getMetrics(testContext).getFailures(), 1L);
+
+        testContext.getTestListeners().onTestFinish(null);
+
+        Assert.assertEquals(testContext.getExceptions().size(), 1L);
+        Assert.assertEquals(testContext.getExceptions().get(0).getMessage(), "Failed to send message to Kafka topic 'async'");
+        Assert.assertEquals(endpoint.createProducer().getMetrics(testContext).getSends(), 1L);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testAsyncSendFailureRunsFinalActions() {
+        KafkaEndpoint endpoint = new KafkaEndpoint();
+        endpoint.createProducer().setProducer(kafkaProducer);
+
+        endpoint.getEndpointConfiguration().setTopic("async");
+        endpoint.getEndpointConfiguration().setAsyncSend(true);
+
+        reset(kafkaProducer);
+
+        CompletableFuture<RecordMetadata> delivery = new CompletableFuture<>();
+        List<Callback> callbacks = new ArrayList<>();
+        when(kafkaProducer.send(any(ProducerRecord.class), any(Callback.class))).thenAnswer(invocation -> {
+            callbacks.add(invocation.getArgument(1));
+            return delivery;
+        });
+        doAnswer(invocation -> {
+            callbacks.forEach(callback -> callback.onCompletion(null, new IllegalStateException("Broker not available")));
+            return null;
+        }).when(kafkaProducer).flush();
+
+        TestContext testContext = applicationContext.getBean(TestContextFactory.class).getObject();
+        TestAction finalAction = Mockito.mock(TestAction.class);
+
+        TestCase testCase = new TestCase();
+        testCase.setName("KafkaAsyncSendTest");
+        testCase.addFinalAction(finalAction);
+        testCase.addTestAction(new SendMessageAction().setEndpoint(endpoint)
+                .setMessageBuilder(new StaticMessageContentBuilder(new KafkaMessage("Hello World!"))));
+
+        testCase.start(testContext);
+        testCase.executeAction(testCase.getActions().get(0), testContext);
+
+        try {
+            testCase.finish(testContext);
+            Assert.fail("Missing exception due to failed message delivery");
+        } catch (TestCaseFailedException e) {
+            Assert.assertEquals(e.getCause().getMessage(), "Failed to send message to Kafka topic 'async'");
+        }
+
+        verify(finalAction).execute(testContext);
+        Assert.assertEquals(endpoint.createProducer().getMetrics(testContext).getSends(), 0L);
+    }
+
+    @Test
+    public void testProducerMetrics() {
+        KafkaProducerMetrics metrics = new KafkaProducerMetrics();
+
+        for (int i = 1; i <= 100; i++) {
+            metrics.recordAck(metrics.recordSend() - i * 1000000L);
+        }
+
+        Assert.assertEquals(metrics.getSends(), 100L);
+        Assert.assertEquals(metrics.getAcks(), 100L);
+        Assert.assertEquals(metrics.getFailures(), 0L);
+        Assert.assertTrue(metrics.getThroughput() > 0);
+        Assert.assertTrue(metrics.getAckLatency(50) >= 50.0D && metrics.getAckLatency(50) < 51.0D);
+        Assert.assertTrue(metrics.getAckLatency(99) >= 99.0D && metrics.getAckLatency(99) < 100.0D);
+        Assert.assertTrue(metrics.getAckLatency(100) >= 100.0D);
+
+        metrics.reset();
+        Assert.assertEquals(metrics.getSends(), 0L);
+        Assert.assertEquals(metrics.getAckLatency(50), 0.0D);
+    }
+
+    @Test
+    public void testProducerMetricsSample() {
+        KafkaProducerMetrics metrics = new KafkaProducerMetrics();
+
+        for (int i = 1; i <= 100000; i++) {
+            metrics.recordAck(metrics.recordSend() - (i % 100 + 1) * 1000000L);
+        }
+
+        Assert.assertEquals(metrics.getSends(), 100000L);
+        Assert.assertEquals(metrics.getAcks(), 100000L);
+        Assert.assertTrue(metrics.getAckLatency(50) >= 40.0D && metrics.getAckLatency(50) < 61.0D);
+        Assert.assertTrue(metrics.getAckLatency(100) >= 99.0D);
+        Assert.assertTrue(metrics.toString().startsWith("sends=100000, acks=100000, failures=0"));
+    }
 }
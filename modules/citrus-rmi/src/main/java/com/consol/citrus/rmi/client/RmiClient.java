@@ -23,7 +23,7 @@ import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.message.DefaultMessage;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.message.correlation.CorrelationManager;
-import com.consol.citrus.message.correlation.PollingCorrelationManager;
+import com.consol.citrus.message.correlation.SignalingCorrelationManager;
 import com.consol.citrus.messaging.*;
 import com.consol.citrus.rmi.endpoint.RmiEndpointConfiguration;
 import com.consol.citrus.rmi.message.RmiMessageHeaders;
@@ -64,7 +64,7 @@ public class RmiClient extends AbstractEndpoint implements Producer, ReplyConsum
      */
     public RmiClient(RmiEndpointConfiguration endpointConfiguration) {
         super(endpointConfiguration);
-        this.correlationManager = new PollingCorrelationManager<>(endpointConfiguration, "Reply message did not arrive yet");
+        this.correlationManager = new SignalingCorrelationManager<>(endpointConfiguration, "Reply message did not arrive yet");
     }
 
     @Override